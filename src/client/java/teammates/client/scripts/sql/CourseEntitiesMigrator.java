@@ -0,0 +1,538 @@
+package teammates.client.scripts.sql;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.google.cloud.datastore.Cursor;
+import com.google.cloud.datastore.QueryResults;
+import com.googlecode.objectify.Objectify;
+import com.googlecode.objectify.ObjectifyService;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.InstructorPermissionRole;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.DeadlineExtensionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
+import teammates.storage.sqlentity.Account;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.DeadlineExtension;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackResponse;
+import teammates.storage.sqlentity.FeedbackResponseComment;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
+import teammates.storage.sqlentity.User;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Migrates all the entities of a single course from the datastore to the SQL database.
+ *
+ * <p>The migration goes through the {@link Stage}s in order, one committed transaction per step.
+ * A checkpoint is saved after every step so that an interrupted migration continues from where it stopped.
+ */
+@SuppressWarnings("PMD")
+class CourseEntitiesMigrator {
+
+    private static final int DATASTORE_PAGE_SIZE = 500;
+
+    private static final int JDBC_BATCH_SIZE = 100;
+
+    /**
+     * Stages of the migration of a course.
+     */
+    enum Stage {
+        /** The course, its sections, teams, students and instructors. */
+        COURSE,
+        /** The feedback sessions, deadline extensions and feedback questions. */
+        SESSIONS,
+        /** The feedback responses, one datastore page at a time. */
+        RESPONSES,
+        /** The feedback response comments, one datastore page at a time. */
+        COMMENTS,
+        /** Marks the datastore course as migrated so that requests are served from the SQL database. */
+        MARK_MIGRATED,
+        DONE,
+    }
+
+    private final String courseId;
+    private final Path checkpointPath;
+    private final AtomicLong numberOfWrittenEntities;
+    private final Consumer<String> logger;
+
+    // datastore question ID -> key of the question in the SQL database, see getQuestionKey
+    private Map<String, String> questionKeys;
+
+    // true for the first step after continuing from a saved checkpoint, whose entities may already be written
+    private boolean isResuming;
+
+    CourseEntitiesMigrator(String courseId, Path checkpointPath, AtomicLong numberOfWrittenEntities,
+            Consumer<String> logger) {
+        this.courseId = courseId;
+        this.checkpointPath = checkpointPath;
+        this.numberOfWrittenEntities = numberOfWrittenEntities;
+        this.logger = logger;
+    }
+
+    /**
+     * Migrates the course, continuing from the saved checkpoint if there is one.
+     */
+    void migrate() throws IOException {
+        Checkpoint checkpoint = readCheckpoint();
+        isResuming = checkpoint.stage != Stage.COURSE || checkpoint.cursor != null;
+        if (isResuming) {
+            logger.accept(String.format("Resuming %s from stage %s", courseId, checkpoint.stage));
+        }
+
+        while (checkpoint.stage != Stage.DONE) {
+            checkpoint = runStep(checkpoint);
+            isResuming = false;
+            saveCheckpoint(checkpoint);
+        }
+
+        Files.deleteIfExists(checkpointPath);
+    }
+
+    private Checkpoint runStep(Checkpoint checkpoint) {
+        switch (checkpoint.stage) {
+        case COURSE:
+            migrateCourseAndUsers();
+            return new Checkpoint(Stage.SESSIONS, null);
+        case SESSIONS:
+            migrateSessionsAndQuestions();
+            return new Checkpoint(Stage.RESPONSES, null);
+        case RESPONSES:
+            String responsesCursor = migrateResponsesPage(checkpoint.cursor);
+            return responsesCursor == null
+                    ? new Checkpoint(Stage.COMMENTS, null)
+                    : new Checkpoint(Stage.RESPONSES, responsesCursor);
+        case COMMENTS:
+            String commentsCursor = migrateCommentsPage(checkpoint.cursor);
+            return commentsCursor == null
+                    ? new Checkpoint(Stage.MARK_MIGRATED, null)
+                    : new Checkpoint(Stage.COMMENTS, commentsCursor);
+        case MARK_MIGRATED:
+            markCourseAsMigrated();
+            return new Checkpoint(Stage.DONE, null);
+        default:
+            throw new IllegalStateException("Unknown stage " + checkpoint.stage);
+        }
+    }
+
+    private Objectify ofy() {
+        return ObjectifyService.ofy();
+    }
+
+    private void migrateCourseAndUsers() {
+        HibernateUtil.beginTransaction();
+        if (HibernateUtil.get(Course.class, courseId) != null) {
+            // written by a previous run which stopped before saving the checkpoint
+            HibernateUtil.commitTransaction();
+            return;
+        }
+
+        CourseAttributes oldCourse = CourseAttributes.valueOf(
+                ofy().load().type(teammates.storage.entity.Course.class).id(courseId).now());
+
+        HibernateUtil.setJdbcBatchSize(JDBC_BATCH_SIZE);
+
+        Course course = new Course(oldCourse.getId(), oldCourse.getName(), oldCourse.getTimeZone(),
+                oldCourse.getInstitute());
+        course.setCreatedAt(oldCourse.getCreatedAt());
+        course.setDeletedAt(oldCourse.getDeletedAt());
+        persist(course);
+
+        Map<String, Section> sections = new HashMap<>();
+        Map<String, Team> teams = new HashMap<>();
+        List<teammates.storage.entity.CourseStudent> oldStudents = ofy().load()
+                .type(teammates.storage.entity.CourseStudent.class).filter("courseId", courseId).list();
+        for (teammates.storage.entity.CourseStudent oldStudentEntity : oldStudents) {
+            StudentAttributes oldStudent = StudentAttributes.valueOf(oldStudentEntity);
+
+            Section section = sections.computeIfAbsent(oldStudent.getSection(), sectionName -> {
+                Section newSection = new Section(course, sectionName);
+                persist(newSection);
+                return newSection;
+            });
+            Team team = teams.computeIfAbsent(oldStudent.getSection() + '%' + oldStudent.getTeam(), key -> {
+                Team newTeam = new Team(section, oldStudent.getTeam());
+                persist(newTeam);
+                return newTeam;
+            });
+
+            Student student = new Student(course, oldStudent.getName(), oldStudent.getEmail(),
+                    oldStudent.getComments(), team);
+            student.setCreatedAt(oldStudent.getCreatedAt());
+            setRegistrationDetails(student, oldStudent.getKey(), oldStudent.getGoogleId());
+            persist(student);
+        }
+
+        List<teammates.storage.entity.Instructor> oldInstructors = ofy().load()
+                .type(teammates.storage.entity.Instructor.class).filter("courseId", courseId).list();
+        for (teammates.storage.entity.Instructor oldInstructorEntity : oldInstructors) {
+            InstructorAttributes oldInstructor = InstructorAttributes.valueOf(oldInstructorEntity);
+
+            Instructor instructor = new Instructor(course, oldInstructor.getName(), oldInstructor.getEmail(),
+                    oldInstructor.isDisplayedToStudents(), oldInstructor.getDisplayedName(),
+                    InstructorPermissionRole.getEnum(oldInstructor.getRole()), oldInstructor.getPrivileges());
+            instructor.setCreatedAt(oldInstructor.getCreatedAt());
+            setRegistrationDetails(instructor, oldInstructor.getKey(), oldInstructor.getGoogleId());
+            persist(instructor);
+        }
+
+        commitBatch();
+    }
+
+    private void setRegistrationDetails(User user, String registrationKey, String googleId) {
+        user.setRegKey(registrationKey);
+        if (googleId != null && !googleId.isEmpty()) {
+            // accounts are migrated beforehand together with the other non-course entities
+            user.setAccount(HibernateUtil.getBySimpleNaturalId(Account.class, googleId));
+        }
+    }
+
+    private void migrateSessionsAndQuestions() {
+        HibernateUtil.beginTransaction();
+        if (!getSqlEntitiesOfCourse(FeedbackSession.class).isEmpty()) {
+            // written by a previous run which stopped before saving the checkpoint
+            HibernateUtil.commitTransaction();
+            return;
+        }
+
+        HibernateUtil.setJdbcBatchSize(JDBC_BATCH_SIZE);
+
+        Course course = HibernateUtil.get(Course.class, courseId);
+
+        Map<String, FeedbackSession> sessions = new HashMap<>();
+        List<teammates.storage.entity.FeedbackSession> oldSessions = ofy().load()
+                .type(teammates.storage.entity.FeedbackSession.class).filter("courseId", courseId).list();
+        for (teammates.storage.entity.FeedbackSession oldSessionEntity : oldSessions) {
+            FeedbackSessionAttributes oldSession = FeedbackSessionAttributes.valueOf(oldSessionEntity);
+
+            FeedbackSession session = new FeedbackSession(oldSession.getFeedbackSessionName(), course,
+                    oldSession.getCreatorEmail(), oldSession.getInstructions(), oldSession.getStartTime(),
+                    oldSession.getEndTime(), oldSession.getSessionVisibleFromTime(),
+                    oldSession.getResultsVisibleFromTime(), Duration.ofMinutes(oldSession.getGracePeriodMinutes()),
+                    oldSession.isOpeningEmailEnabled(), oldSession.isClosingEmailEnabled(),
+                    oldSession.isPublishedEmailEnabled());
+            session.setOpeningSoonEmailSent(oldSession.isSentOpeningSoonEmail());
+            session.setOpenEmailSent(oldSession.isSentOpenEmail());
+            session.setClosingSoonEmailSent(oldSession.isSentClosingEmail());
+            session.setClosedEmailSent(oldSession.isSentClosedEmail());
+            session.setPublishedEmailSent(oldSession.isSentPublishedEmail());
+            session.setCreatedAt(oldSession.getCreatedTime());
+            session.setDeletedAt(oldSession.getDeletedTime());
+            persist(session);
+            sessions.put(session.getName(), session);
+        }
+
+        Map<String, Student> students = new HashMap<>();
+        getSqlEntitiesOfCourse(Student.class).forEach(student -> students.put(student.getEmail(), student));
+        Map<String, Instructor> instructors = new HashMap<>();
+        getSqlEntitiesOfCourse(Instructor.class)
+                .forEach(instructor -> instructors.put(instructor.getEmail(), instructor));
+
+        List<teammates.storage.entity.DeadlineExtension> oldDeadlineExtensions = ofy().load()
+                .type(teammates.storage.entity.DeadlineExtension.class).filter("courseId", courseId).list();
+        for (teammates.storage.entity.DeadlineExtension oldDeadlineExtensionEntity : oldDeadlineExtensions) {
+            DeadlineExtensionAttributes oldDeadlineExtension =
+                    DeadlineExtensionAttributes.valueOf(oldDeadlineExtensionEntity);
+
+            User user = oldDeadlineExtension.getIsInstructor()
+                    ? instructors.get(oldDeadlineExtension.getUserEmail())
+                    : students.get(oldDeadlineExtension.getUserEmail());
+            FeedbackSession session = sessions.get(oldDeadlineExtension.getFeedbackSessionName());
+            if (user == null || session == null) {
+                logger.accept(String.format("Skipping deadline extension of %s in %s/%s without user or session",
+                        oldDeadlineExtension.getUserEmail(), courseId, oldDeadlineExtension.getFeedbackSessionName()));
+                continue;
+            }
+
+            DeadlineExtension deadlineExtension =
+                    new DeadlineExtension(user, session, oldDeadlineExtension.getEndTime());
+            deadlineExtension.setClosingSoonEmailSent(oldDeadlineExtension.getSentClosingEmail());
+            deadlineExtension.setCreatedAt(oldDeadlineExtension.getCreatedAt());
+            persist(deadlineExtension);
+        }
+
+        for (FeedbackQuestionAttributes oldQuestion : getOldQuestions()) {
+            FeedbackSession session = sessions.get(oldQuestion.getFeedbackSessionName());
+            if (session == null) {
+                logger.accept(String.format("Skipping question %s of missing session %s/%s",
+                        oldQuestion.getId(), courseId, oldQuestion.getFeedbackSessionName()));
+                continue;
+            }
+
+            FeedbackQuestion question = FeedbackQuestion.makeQuestion(session, oldQuestion.getQuestionNumber(),
+                    oldQuestion.getQuestionDescription(), oldQuestion.getGiverType(), oldQuestion.getRecipientType(),
+                    oldQuestion.getNumberOfEntitiesToGiveFeedbackTo(), oldQuestion.getShowResponsesTo(),
+                    oldQuestion.getShowGiverNameTo(), oldQuestion.getShowRecipientNameTo(),
+                    oldQuestion.getQuestionDetailsCopy());
+            question.setCreatedAt(oldQuestion.getCreatedAt());
+            persist(question);
+        }
+
+        commitBatch();
+    }
+
+    /**
+     * Migrates a page of feedback responses.
+     *
+     * @return the cursor of the next page, or null if there are no more responses
+     */
+    private String migrateResponsesPage(String cursor) {
+        Query<teammates.storage.entity.FeedbackResponse> query = ofy().load()
+                .type(teammates.storage.entity.FeedbackResponse.class)
+                .filter("courseId", courseId)
+                .limit(DATASTORE_PAGE_SIZE);
+        if (cursor != null) {
+            query = query.startAt(Cursor.fromUrlSafe(cursor));
+        }
+        QueryResults<teammates.storage.entity.FeedbackResponse> iterator = query.iterator();
+
+        HibernateUtil.beginTransaction();
+        HibernateUtil.setJdbcBatchSize(JDBC_BATCH_SIZE);
+
+        Map<String, FeedbackQuestion> questions = getSqlQuestions();
+        Map<String, Section> sections = getSqlSections();
+
+        boolean hasMoreResponses = false;
+        while (iterator.hasNext()) {
+            hasMoreResponses = true;
+            FeedbackResponseAttributes oldResponse = FeedbackResponseAttributes.valueOf(iterator.next());
+
+            FeedbackQuestion question = questions.get(getQuestionKeys().get(oldResponse.getFeedbackQuestionId()));
+            if (question == null) {
+                logger.accept("Skipping response of missing question " + oldResponse.getId());
+                continue;
+            }
+            if (isResuming && getSqlResponse(question, oldResponse.getGiver(), oldResponse.getRecipient()) != null) {
+                continue;
+            }
+
+            FeedbackResponse response = FeedbackResponse.makeResponse(question,
+                    oldResponse.getGiver(), getSection(sections, oldResponse.getGiverSection()),
+                    oldResponse.getRecipient(), getSection(sections, oldResponse.getRecipientSection()),
+                    oldResponse.getResponseDetailsCopy());
+            response.setCreatedAt(oldResponse.getCreatedAt());
+            persist(response);
+        }
+
+        commitBatch();
+
+        return hasMoreResponses ? iterator.getCursorAfter().toUrlSafe() : null;
+    }
+
+    /**
+     * Migrates a page of feedback response comments.
+     *
+     * @return the cursor of the next page, or null if there are no more comments
+     */
+    private String migrateCommentsPage(String cursor) {
+        Query<teammates.storage.entity.FeedbackResponseComment> query = ofy().load()
+                .type(teammates.storage.entity.FeedbackResponseComment.class)
+                .filter("courseId", courseId)
+                .limit(DATASTORE_PAGE_SIZE);
+        if (cursor != null) {
+            query = query.startAt(Cursor.fromUrlSafe(cursor));
+        }
+        QueryResults<teammates.storage.entity.FeedbackResponseComment> iterator = query.iterator();
+
+        List<FeedbackResponseCommentAttributes> oldComments = new ArrayList<>();
+        while (iterator.hasNext()) {
+            oldComments.add(FeedbackResponseCommentAttributes.valueOf(iterator.next()));
+        }
+        if (oldComments.isEmpty()) {
+            return null;
+        }
+
+        // the comments refer to responses by their datastore ID, which does not exist in the SQL database
+        List<String> oldResponseIds = new ArrayList<>();
+        oldComments.forEach(comment -> oldResponseIds.add(comment.getFeedbackResponseId()));
+        Map<String, teammates.storage.entity.FeedbackResponse> oldResponses = ofy().load()
+                .type(teammates.storage.entity.FeedbackResponse.class).ids(oldResponseIds);
+
+        HibernateUtil.beginTransaction();
+        HibernateUtil.setJdbcBatchSize(JDBC_BATCH_SIZE);
+
+        Map<String, FeedbackQuestion> questions = getSqlQuestions();
+        Map<String, Section> sections = getSqlSections();
+
+        for (FeedbackResponseCommentAttributes oldComment : oldComments) {
+            teammates.storage.entity.FeedbackResponse oldResponse = oldResponses.get(oldComment.getFeedbackResponseId());
+            FeedbackQuestion question = questions.get(getQuestionKeys().get(oldComment.getFeedbackQuestionId()));
+            FeedbackResponse response = oldResponse == null || question == null
+                    ? null
+                    : getSqlResponse(question, oldResponse.getGiverEmail(), oldResponse.getRecipientEmail());
+            if (response == null) {
+                logger.accept("Skipping comment of missing response " + oldComment.getFeedbackResponseId());
+                continue;
+            }
+            if (isResuming && isSqlCommentPresent(response, oldComment)) {
+                continue;
+            }
+
+            FeedbackResponseComment comment = new FeedbackResponseComment(response, oldComment.getCommentGiver(),
+                    oldComment.getCommentGiverType(), getSection(sections, oldComment.getGiverSection()),
+                    getSection(sections, oldComment.getReceiverSection()), oldComment.getCommentText(),
+                    oldComment.isVisibilityFollowingFeedbackQuestion(), oldComment.isCommentFromFeedbackParticipant(),
+                    oldComment.getShowCommentTo(), oldComment.getShowGiverNameTo(), oldComment.getLastEditorEmail());
+            comment.setCreatedAt(oldComment.getCreatedAt());
+            comment.setUpdatedAt(oldComment.getLastEditedAt());
+            persist(comment);
+        }
+
+        commitBatch();
+
+        return iterator.getCursorAfter().toUrlSafe();
+    }
+
+    private void markCourseAsMigrated() {
+        teammates.storage.entity.Course oldCourse =
+                ofy().load().type(teammates.storage.entity.Course.class).id(courseId).now();
+        oldCourse.setMigrated(true);
+        ofy().save().entity(oldCourse).now();
+    }
+
+    private void persist(teammates.storage.sqlentity.BaseEntity entity) {
+        HibernateUtil.persist(entity);
+        numberOfWrittenEntities.incrementAndGet();
+    }
+
+    private void commitBatch() {
+        HibernateUtil.flushSession();
+        HibernateUtil.setJdbcBatchSize(null);
+        HibernateUtil.commitTransaction();
+        // the datastore entities of the step are no longer needed
+        ofy().clear();
+    }
+
+    private static Section getSection(Map<String, Section> sections, String sectionName) {
+        return sections.getOrDefault(sectionName, Const.DEFAULT_SQL_SECTION);
+    }
+
+    private static String getQuestionKey(String sessionName, int questionNumber) {
+        return sessionName + '%' + questionNumber;
+    }
+
+    private List<FeedbackQuestionAttributes> getOldQuestions() {
+        List<FeedbackQuestionAttributes> oldQuestions = new ArrayList<>();
+        ofy().load().type(teammates.storage.entity.FeedbackQuestion.class).filter("courseId", courseId).list()
+                .forEach(question -> oldQuestions.add(FeedbackQuestionAttributes.valueOf(question)));
+        return oldQuestions;
+    }
+
+    private Map<String, String> getQuestionKeys() {
+        if (questionKeys == null) {
+            questionKeys = new HashMap<>();
+            for (FeedbackQuestionAttributes oldQuestion : getOldQuestions()) {
+                questionKeys.put(oldQuestion.getId(),
+                        getQuestionKey(oldQuestion.getFeedbackSessionName(), oldQuestion.getQuestionNumber()));
+            }
+        }
+        return questionKeys;
+    }
+
+    private <E extends teammates.storage.sqlentity.BaseEntity> List<E> getSqlEntitiesOfCourse(Class<E> entityType) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<E> cr = cb.createQuery(entityType);
+        Root<E> root = cr.from(entityType);
+        Join<E, Course> courseJoin = root.join("course");
+        cr.select(root).where(cb.equal(courseJoin.get("id"), courseId));
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
+    private Map<String, Section> getSqlSections() {
+        Map<String, Section> sections = new HashMap<>();
+        getSqlEntitiesOfCourse(Section.class).forEach(section -> sections.put(section.getName(), section));
+        return sections;
+    }
+
+    private Map<String, FeedbackQuestion> getSqlQuestions() {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackQuestion> cr = cb.createQuery(FeedbackQuestion.class);
+        Root<FeedbackQuestion> root = cr.from(FeedbackQuestion.class);
+        Join<FeedbackQuestion, FeedbackSession> sessionJoin = root.join("feedbackSession");
+        Join<FeedbackSession, Course> courseJoin = sessionJoin.join("course");
+        cr.select(root).where(cb.equal(courseJoin.get("id"), courseId));
+
+        Map<String, FeedbackQuestion> questions = new HashMap<>();
+        for (FeedbackQuestion question : HibernateUtil.createQuery(cr).getResultList()) {
+            questions.put(getQuestionKey(question.getFeedbackSession().getName(), question.getQuestionNumber()),
+                    question);
+        }
+        return questions;
+    }
+
+    private FeedbackResponse getSqlResponse(FeedbackQuestion question, String giver, String recipient) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackResponse> cr = cb.createQuery(FeedbackResponse.class);
+        Root<FeedbackResponse> root = cr.from(FeedbackResponse.class);
+        cr.select(root).where(cb.and(
+                cb.equal(root.get("feedbackQuestion"), question),
+                cb.equal(root.get("giver"), giver),
+                cb.equal(root.get("recipient"), recipient)));
+        return HibernateUtil.createQuery(cr).getResultStream().findFirst().orElse(null);
+    }
+
+    private boolean isSqlCommentPresent(FeedbackResponse response, FeedbackResponseCommentAttributes oldComment) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cr = cb.createQuery(Long.class);
+        Root<FeedbackResponseComment> root = cr.from(FeedbackResponseComment.class);
+        cr.select(cb.count(root)).where(cb.and(
+                cb.equal(root.get("feedbackResponse"), response),
+                cb.equal(root.get("giver"), oldComment.getCommentGiver()),
+                cb.equal(root.get("createdAt"), oldComment.getCreatedAt())));
+        return HibernateUtil.createQuery(cr).getSingleResult() > 0;
+    }
+
+    private Checkpoint readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointPath)) {
+            return new Checkpoint(Stage.COURSE, null);
+        }
+        String[] parts = Files.readString(checkpointPath).trim().split(" ", 2);
+        return new Checkpoint(Stage.valueOf(parts[0]), parts.length > 1 ? parts[1] : null);
+    }
+
+    private void saveCheckpoint(Checkpoint checkpoint) throws IOException {
+        String content = checkpoint.cursor == null
+                ? checkpoint.stage.name()
+                : checkpoint.stage.name() + " " + checkpoint.cursor;
+        Files.writeString(checkpointPath, content);
+    }
+
+    /**
+     * Position of the migration of a course: the stage and, for paged stages, the cursor of the next page.
+     */
+    private static final class Checkpoint {
+        private final Stage stage;
+        private final String cursor;
+
+        Checkpoint(Stage stage, String cursor) {
+            this.stage = stage;
+            this.cursor = cursor;
+        }
+    }
+
+}
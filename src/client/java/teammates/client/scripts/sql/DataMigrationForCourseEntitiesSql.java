@@ -0,0 +1,244 @@
+package teammates.client.scripts.sql;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.cloud.datastore.Cursor;
+import com.google.cloud.datastore.QueryResults;
+import com.googlecode.objectify.ObjectifyService;
+import com.googlecode.objectify.cmd.Query;
+import com.googlecode.objectify.util.Closeable;
+
+import teammates.client.connector.DatastoreClient;
+import teammates.client.util.ClientProperties;
+import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
+import teammates.storage.entity.Course;
+
+/**
+ * Migrates the course entities from the datastore to the SQL database.
+ *
+ * <ul>
+ * <li>Each course is a shard migrated by {@link CourseEntitiesMigrator}; the shards are run by a pool of
+ * {@link ClientProperties#SCRIPT_MIGRATION_WORKERS} workers.</li>
+ * <li>Each shard saves a checkpoint after every committed step, so that a rerun continues interrupted
+ * shards where they stopped. Shards of courses already marked as migrated are skipped.</li>
+ * <li>JDBC batching is enabled programmatically for every step; there is no need to modify
+ * {@link HibernateUtil}.</li>
+ * <li>Throughput and lag are logged periodically.</li>
+ * </ul>
+ *
+ * <p>The course IDs to migrate can be given as arguments; all courses are migrated otherwise.
+ * Run {@link VerifyCourseEntityCounts} afterwards to compare the number of entities in both databases.
+ */
+@SuppressWarnings("PMD")
+public class DataMigrationForCourseEntitiesSql extends DatastoreClient {
+
+    // the folder where the checkpoints of the shards and console output are saved
+    private static final String BASE_LOG_URI = "src/client/java/teammates/client/scripts/log/";
+    private static final String CHECKPOINT_URI = BASE_LOG_URI + "DataMigrationForCourseEntitiesSql/";
+
+    private static final int COURSE_PAGE_SIZE = 100;
+
+    private static final long METRICS_INTERVAL_SECONDS = 30;
+
+    static {
+        new File(CHECKPOINT_URI).mkdirs();
+    }
+
+    private final String[] courseIds;
+    private final int numberOfWorkers;
+
+    private final AtomicInteger numberOfQueuedShards = new AtomicInteger();
+    private final AtomicInteger numberOfCompletedShards = new AtomicInteger();
+    private final AtomicInteger numberOfFailedShards = new AtomicInteger();
+    private final AtomicLong numberOfWrittenEntities = new AtomicLong();
+    // course ID -> start time of the shards being migrated
+    private final Map<String, Instant> runningShards = new ConcurrentHashMap<>();
+
+    private Instant startTime;
+    private long numberOfWrittenEntitiesAtLastReport;
+
+    public DataMigrationForCourseEntitiesSql(String[] courseIds, int numberOfWorkers) {
+        this.courseIds = courseIds;
+        this.numberOfWorkers = numberOfWorkers;
+
+        String connectionUrl = ClientProperties.SCRIPT_API_URL;
+        String username = ClientProperties.SCRIPT_API_NAME;
+        String password = ClientProperties.SCRIPT_API_PASSWORD;
+
+        HibernateUtil.buildSessionFactory(connectionUrl, username, password);
+    }
+
+    public static void main(String[] args) {
+        new DataMigrationForCourseEntitiesSql(args, ClientProperties.SCRIPT_MIGRATION_WORKERS).doOperationRemotely();
+    }
+
+    @Override
+    protected void doOperation() {
+        log(String.format("Running %s with %d workers...", getClass().getSimpleName(), numberOfWorkers));
+        startTime = Instant.now();
+
+        ExecutorService workers = Executors.newFixedThreadPool(numberOfWorkers);
+        ScheduledExecutorService metricsReporter = Executors.newSingleThreadScheduledExecutor();
+        metricsReporter.scheduleAtFixedRate(this::logMetrics,
+                METRICS_INTERVAL_SECONDS, METRICS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+        try {
+            if (courseIds.length == 0) {
+                queueAllCourses(workers);
+            } else {
+                Arrays.stream(courseIds).forEach(courseId -> queueShard(workers, courseId));
+            }
+
+            workers.shutdown();
+            workers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+            logError("Migration interrupted, rerun the script to continue from the checkpoints");
+        } finally {
+            metricsReporter.shutdownNow();
+        }
+
+        logMetrics();
+        log(numberOfFailedShards.get() == 0
+                ? "Migration Completed!"
+                : "Migration completed with failed courses, rerun the script to retry them");
+    }
+
+    /**
+     * Queues a shard for every course not migrated yet, reading the courses a page at a time.
+     */
+    private void queueAllCourses(ExecutorService workers) {
+        Cursor cursor = null;
+        boolean hasMoreCourses = true;
+        while (hasMoreCourses) {
+            hasMoreCourses = false;
+            Query<Course> query = ofy().load().type(Course.class).limit(COURSE_PAGE_SIZE);
+            if (cursor != null) {
+                query = query.startAt(cursor);
+            }
+            QueryResults<Course> iterator = query.iterator();
+
+            while (iterator.hasNext()) {
+                hasMoreCourses = true;
+                Course course = iterator.next();
+                if (!course.isMigrated()) {
+                    queueShard(workers, course.getUniqueId());
+                }
+            }
+
+            if (hasMoreCourses) {
+                cursor = iterator.getCursorAfter();
+            }
+            ofy().clear();
+        }
+    }
+
+    private void queueShard(ExecutorService workers, String courseId) {
+        numberOfQueuedShards.incrementAndGet();
+        workers.submit(() -> migrateShard(courseId));
+    }
+
+    /**
+     * Migrates a course in the current worker thread.
+     */
+    private void migrateShard(String courseId) {
+        runningShards.put(courseId, Instant.now());
+        Path checkpointPath = Paths.get(CHECKPOINT_URI + courseId + ".checkpoint");
+
+        // each worker needs its own datastore session; the SQL session is already bound to the thread
+        try (Closeable objectifySession = ObjectifyService.begin()) {
+            new CourseEntitiesMigrator(courseId, checkpointPath, numberOfWrittenEntities, this::log).migrate();
+            numberOfCompletedShards.incrementAndGet();
+            log(String.format("Migrated %s in %d seconds", courseId,
+                    Duration.between(runningShards.get(courseId), Instant.now()).toSeconds()));
+        } catch (Exception e) {
+            numberOfFailedShards.incrementAndGet();
+            logError(String.format("Problem migrating course %s: %s", courseId, e.getMessage()));
+            rollbackIfActive();
+        } finally {
+            runningShards.remove(courseId);
+        }
+    }
+
+    private void rollbackIfActive() {
+        try {
+            HibernateUtil.rollbackTransaction();
+        } catch (Exception e) {
+            // no transaction in progress
+        }
+    }
+
+    /**
+     * Logs the throughput of the migration and how far it is from completion.
+     */
+    private synchronized void logMetrics() {
+        Instant now = Instant.now();
+        long elapsedSeconds = Math.max(1, Duration.between(startTime, now).toSeconds());
+        long writtenEntities = numberOfWrittenEntities.get();
+        long writtenEntitiesSinceLastReport = writtenEntities - numberOfWrittenEntitiesAtLastReport;
+        numberOfWrittenEntitiesAtLastReport = writtenEntities;
+
+        int completedShards = numberOfCompletedShards.get();
+        int failedShards = numberOfFailedShards.get();
+        int remainingShards = numberOfQueuedShards.get() - completedShards - failedShards;
+
+        log(String.format("Shards: %d completed, %d failed, %d running, %d remaining",
+                completedShards, failedShards, runningShards.size(), remainingShards));
+        log(String.format("Entities written: %d (%.1f/s overall, %.1f/s in the last %d seconds)",
+                writtenEntities, (double) writtenEntities / elapsedSeconds,
+                (double) writtenEntitiesSinceLastReport / METRICS_INTERVAL_SECONDS, METRICS_INTERVAL_SECONDS));
+
+        runningShards.entrySet().stream()
+                .min(Map.Entry.comparingByValue())
+                .ifPresent(oldest -> log(String.format("Oldest running shard: %s for %d seconds",
+                        oldest.getKey(), Duration.between(oldest.getValue(), now).toSeconds())));
+        if (completedShards > 0 && remainingShards > 0) {
+            long estimatedSecondsLeft = elapsedSeconds * remainingShards / completedShards;
+            log(String.format("Estimated time remaining: %d minutes", estimatedSecondsLeft / 60));
+        }
+    }
+
+    /**
+     * Logs a line and persists it to the disk.
+     */
+    private synchronized void log(String logLine) {
+        System.out.println(String.format("%s %s", getClass().getSimpleName(), logLine));
+
+        Path logPath = Paths.get(BASE_LOG_URI + getClass().getSimpleName() + ".log");
+        try (OutputStream logFile = Files.newOutputStream(logPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            logFile.write((logLine + System.lineSeparator()).getBytes(Const.ENCODING));
+        } catch (Exception e) {
+            System.err.println("Error writing log line: " + logLine);
+            System.err.println(e.getMessage());
+        }
+    }
+
+    /**
+     * Logs an error and persists it to the disk.
+     */
+    private void logError(String logLine) {
+        System.err.println(logLine);
+
+        log("[ERROR]" + logLine);
+    }
+
+}
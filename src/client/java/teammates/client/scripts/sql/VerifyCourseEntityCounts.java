@@ -0,0 +1,148 @@
+package teammates.client.scripts.sql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.cloud.datastore.Cursor;
+import com.google.cloud.datastore.QueryResults;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.client.connector.DatastoreClient;
+import teammates.client.util.ClientProperties;
+import teammates.common.util.HibernateUtil;
+import teammates.storage.entity.BaseEntity;
+import teammates.storage.entity.Course;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Verifies that every migrated course has the same number of course entities in the datastore and the SQL database.
+ *
+ * <p>The course IDs to verify can be given as arguments; all courses marked as migrated are verified otherwise.
+ */
+@SuppressWarnings("PMD")
+public class VerifyCourseEntityCounts extends DatastoreClient {
+
+    private static final int COURSE_PAGE_SIZE = 100;
+
+    private final String[] courseIds;
+    private int numberOfMismatchedCourses;
+
+    private VerifyCourseEntityCounts(String[] courseIds) {
+        this.courseIds = courseIds;
+
+        String connectionUrl = ClientProperties.SCRIPT_API_URL;
+        String username = ClientProperties.SCRIPT_API_NAME;
+        String password = ClientProperties.SCRIPT_API_PASSWORD;
+
+        HibernateUtil.buildSessionFactory(connectionUrl, username, password);
+    }
+
+    public static void main(String[] args) {
+        new VerifyCourseEntityCounts(args).doOperationRemotely();
+    }
+
+    @Override
+    protected void doOperation() {
+        List<String> courseIdsToVerify = courseIds.length == 0 ? getMigratedCourseIds() : Arrays.asList(courseIds);
+        for (String courseId : courseIdsToVerify) {
+            verifyCourse(courseId);
+        }
+
+        System.out.println("========================================");
+        System.out.println("Courses verified: " + courseIdsToVerify.size());
+        System.out.println("Courses with mismatched counts: " + numberOfMismatchedCourses);
+    }
+
+    private List<String> getMigratedCourseIds() {
+        List<String> migratedCourseIds = new ArrayList<>();
+        Cursor cursor = null;
+        boolean hasMoreCourses = true;
+        while (hasMoreCourses) {
+            hasMoreCourses = false;
+            Query<Course> query = ofy().load().type(Course.class).limit(COURSE_PAGE_SIZE);
+            if (cursor != null) {
+                query = query.startAt(cursor);
+            }
+            QueryResults<Course> iterator = query.iterator();
+
+            while (iterator.hasNext()) {
+                hasMoreCourses = true;
+                Course course = iterator.next();
+                if (course.isMigrated()) {
+                    migratedCourseIds.add(course.getUniqueId());
+                }
+            }
+
+            if (hasMoreCourses) {
+                cursor = iterator.getCursorAfter();
+            }
+            ofy().clear();
+        }
+        return migratedCourseIds;
+    }
+
+    private void verifyCourse(String courseId) {
+        HibernateUtil.beginTransaction();
+        boolean isMatching = verifyCount(courseId, teammates.storage.entity.CourseStudent.class,
+                teammates.storage.sqlentity.Student.class, "course")
+                & verifyCount(courseId, teammates.storage.entity.Instructor.class,
+                        teammates.storage.sqlentity.Instructor.class, "course")
+                & verifyCount(courseId, teammates.storage.entity.FeedbackSession.class,
+                        teammates.storage.sqlentity.FeedbackSession.class, "course")
+                & verifyCount(courseId, teammates.storage.entity.DeadlineExtension.class,
+                        teammates.storage.sqlentity.DeadlineExtension.class, "feedbackSession", "course")
+                & verifyCount(courseId, teammates.storage.entity.FeedbackQuestion.class,
+                        teammates.storage.sqlentity.FeedbackQuestion.class, "feedbackSession", "course")
+                & verifyCount(courseId, teammates.storage.entity.FeedbackResponse.class,
+                        teammates.storage.sqlentity.FeedbackResponse.class,
+                        "feedbackQuestion", "feedbackSession", "course")
+                & verifyCount(courseId, teammates.storage.entity.FeedbackResponseComment.class,
+                        teammates.storage.sqlentity.FeedbackResponseComment.class,
+                        "feedbackResponse", "feedbackQuestion", "feedbackSession", "course");
+        HibernateUtil.commitTransaction();
+        ofy().clear();
+
+        if (!isMatching) {
+            numberOfMismatchedCourses++;
+        }
+    }
+
+    /**
+     * Compares the number of entities of a course in both databases and prints them if they differ.
+     *
+     * @param pathToCourse the associations to follow from the SQL entity to its course
+     */
+    private boolean verifyCount(String courseId, Class<? extends BaseEntity> datastoreClass,
+            Class<? extends teammates.storage.sqlentity.BaseEntity> sqlClass, String... pathToCourse) {
+        int datastoreCount = ofy().load().type(datastoreClass).filter("courseId", courseId).count();
+        long sqlCount = countSqlEntities(courseId, sqlClass, pathToCourse);
+
+        if (datastoreCount == sqlCount) {
+            return true;
+        }
+        System.out.println(String.format("%s %s: datastore count %d, SQL count %d",
+                courseId, sqlClass.getSimpleName(), datastoreCount, sqlCount));
+        return false;
+    }
+
+    private long countSqlEntities(String courseId, Class<? extends teammates.storage.sqlentity.BaseEntity> sqlClass,
+            String... pathToCourse) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cr = cb.createQuery(Long.class);
+        Root<? extends teammates.storage.sqlentity.BaseEntity> root = cr.from(sqlClass);
+
+        From<?, ?> course = root;
+        for (String association : pathToCourse) {
+            course = course.join(association);
+        }
+        cr.select(cb.count(root)).where(cb.equal(course.get("id"), courseId));
+
+        return HibernateUtil.createQuery(cr).getSingleResult();
+    }
+
+}
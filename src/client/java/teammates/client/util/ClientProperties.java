@@ -32,6 +32,9 @@ public final class ClientProperties {
     /** The value of "client.script.api.password" in client.properties file. */
     public static final String SCRIPT_API_PASSWORD;
 
+    /** The value of "client.script.migration.workers" in client.properties file. */
+    public static final int SCRIPT_MIGRATION_WORKERS;
+
     static {
         Properties prop = new Properties();
         try {
@@ -48,6 +51,7 @@ public final class ClientProperties {
             SCRIPT_API_URL = prop.getProperty("client.script.api.url");
             SCRIPT_API_NAME = prop.getProperty("client.script.api.name");
             SCRIPT_API_PASSWORD = prop.getProperty("client.script.api.password");
+            SCRIPT_MIGRATION_WORKERS = Integer.parseInt(prop.getProperty("client.script.migration.workers", "4"));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
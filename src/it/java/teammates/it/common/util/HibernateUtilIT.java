@@ -0,0 +1,174 @@
+package teammates.it.common.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
+import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
+import teammates.storage.sqlapi.CoursesDb;
+import teammates.storage.sqlapi.FeedbackQuestionsDb;
+import teammates.storage.sqlapi.FeedbackSessionsDb;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.Team;
+
+/**
+ * SUT: {@link HibernateUtil}, with the second-level cache enabled.
+ *
+ * <p>Cached entries are only read by sessions other than the one which loaded them,
+ * so the tests commit their changes instead of rolling them back, and remove them afterwards.
+ */
+public class HibernateUtilIT extends BaseTestCaseWithSqlDatabaseAccess {
+
+    private static final String COURSE_ID = "hibernate-util-it-course";
+
+    private final CoursesDb coursesDb = CoursesDb.inst();
+    private final FeedbackSessionsDb fsDb = FeedbackSessionsDb.inst();
+    private final FeedbackQuestionsDb fqDb = FeedbackQuestionsDb.inst();
+
+    private SessionFactory cachingSessionFactory;
+
+    @BeforeClass
+    public void setUpCachingSessionFactory() {
+        cachingSessionFactory = createSessionFactory(true);
+        cachingSessionFactory.getCache().evictAllRegions();
+        HibernateUtil.setSessionFactory(cachingSessionFactory);
+    }
+
+    @AfterClass
+    public void tearDownCachingSessionFactory() {
+        useDefaultSessionFactory();
+        cachingSessionFactory.close();
+    }
+
+    @Override
+    @AfterMethod
+    protected void tearDown() {
+        HibernateUtil.rollbackTransaction();
+
+        HibernateUtil.beginTransaction();
+        coursesDb.deleteCourse(coursesDb.getCourse(COURSE_ID));
+        HibernateUtil.commitTransaction();
+    }
+
+    @Test
+    public void testUpdateCourse_cachedCourse_shouldReadUpdatedCourse() throws Exception {
+        coursesDb.createCourse(new Course(COURSE_ID, "Old name", "UTC", "institute"));
+        commitAndBeginTransaction();
+
+        ______TS("course is cached once read");
+        coursesDb.getCourse(COURSE_ID);
+        assertTrue(cachingSessionFactory.getCache().containsEntity(Course.class, COURSE_ID));
+        commitAndBeginTransaction();
+
+        ______TS("course read after it is updated has the updated name");
+        Course course = coursesDb.getCourse(COURSE_ID);
+        course.setName("New name");
+        coursesDb.updateCourse(course);
+        commitAndBeginTransaction();
+
+        assertEquals("New name", coursesDb.getCourse(COURSE_ID).getName());
+    }
+
+    @Test
+    public void testCreateCacheableQuery_questionAdded_shouldReadAddedQuestion() throws Exception {
+        Course course = coursesDb.createCourse(new Course(COURSE_ID, "Course name", "UTC", "institute"));
+        FeedbackSession session = fsDb.createFeedbackSession(new FeedbackSession("Session name", course,
+                "instr@teammates.tmt", "instructions", Instant.now(), Instant.now().plus(Duration.ofDays(7)),
+                Instant.now(), Const.TIME_REPRESENTS_LATER, Duration.ofMinutes(10), true, true, true));
+        UUID sessionId = session.getId();
+        fqDb.createFeedbackQuestion(createQuestion(session, 1));
+        commitAndBeginTransaction();
+
+        Statistics statistics = cachingSessionFactory.getStatistics();
+
+        ______TS("questions of the session are cached once read");
+        assertEquals(1, fqDb.getFeedbackQuestionsForSession(sessionId).size());
+        commitAndBeginTransaction();
+
+        long hitCount = statistics.getQueryCacheHitCount();
+        assertEquals(1, fqDb.getFeedbackQuestionsForSession(sessionId).size());
+        assertEquals(hitCount + 1, statistics.getQueryCacheHitCount());
+        commitAndBeginTransaction();
+
+        ______TS("questions read after a question is added include the added question");
+        fqDb.createFeedbackQuestion(createQuestion(fsDb.getFeedbackSession(sessionId), 2));
+        commitAndBeginTransaction();
+
+        hitCount = statistics.getQueryCacheHitCount();
+        assertEquals(2, fqDb.getFeedbackQuestionsForSession(sessionId).size());
+        assertEquals(hitCount, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    public void testEvictCachedEntities_teamsDeletedByDatabase_shouldNotReadDeletedTeams() throws Exception {
+        Course course = coursesDb.createCourse(new Course(COURSE_ID, "Course name", "UTC", "institute"));
+        Section section = coursesDb.createSection(new Section(course, "Section name"));
+        UUID teamId = coursesDb.createTeam(new Team(section, "Team name")).getId();
+        commitAndBeginTransaction();
+
+        ______TS("team is cached once read");
+        assertNotNull(HibernateUtil.get(Team.class, teamId));
+        assertTrue(cachingSessionFactory.getCache().containsEntity(Team.class, teamId));
+        commitAndBeginTransaction();
+
+        ______TS("team deleted by the database-level cascade is no longer read");
+        coursesDb.deleteSectionsByCourseId(COURSE_ID);
+        assertFalse(cachingSessionFactory.getCache().containsEntity(Team.class, teamId));
+        commitAndBeginTransaction();
+
+        assertNull(HibernateUtil.get(Team.class, teamId));
+    }
+
+    @Test
+    public void testRunAfterCommit_transactionCommitted_shouldRunAction() {
+        AtomicBoolean hasRun = new AtomicBoolean();
+        HibernateUtil.runAfterCommit(() -> hasRun.set(true));
+        assertFalse(hasRun.get());
+
+        commitAndBeginTransaction();
+
+        assertTrue(hasRun.get());
+    }
+
+    @Test
+    public void testRunAfterCommit_transactionRolledBack_shouldNotRunAction() {
+        AtomicBoolean hasRun = new AtomicBoolean();
+        HibernateUtil.runAfterCommit(() -> hasRun.set(true));
+
+        HibernateUtil.rollbackTransaction();
+        HibernateUtil.beginTransaction();
+
+        assertFalse(hasRun.get());
+    }
+
+    private FeedbackQuestion createQuestion(FeedbackSession session, int questionNumber) {
+        List<FeedbackParticipantType> showTos = new ArrayList<>();
+        showTos.add(FeedbackParticipantType.INSTRUCTORS);
+        return FeedbackQuestion.makeQuestion(session, questionNumber, "Question " + questionNumber,
+                FeedbackParticipantType.STUDENTS, FeedbackParticipantType.SELF, 1,
+                showTos, showTos, showTos, new FeedbackTextQuestionDetails("Question " + questionNumber));
+    }
+
+    private void commitAndBeginTransaction() {
+        HibernateUtil.commitTransaction();
+        HibernateUtil.beginTransaction();
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains test cases for {@link teammates.common.util} package.
+ */
+package teammates.it.common.util;
@@ -1,6 +1,10 @@
 package teammates.it.sqllogic.api;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.testng.annotations.BeforeClass;
@@ -13,11 +17,15 @@ import teammates.common.util.Config;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.HibernateUtil;
+import teammates.common.util.SqlQueryCounter;
 import teammates.common.util.TimeHelper;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
 import teammates.sqllogic.api.SqlEmailGenerator;
+import teammates.storage.sqlentity.DeadlineExtension;
 import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
 import teammates.test.EmailChecker;
 
 /**
@@ -122,6 +130,46 @@ public class EmailGeneratorTestIT extends BaseTestCaseWithSqlDatabaseAccess {
 
     }
 
+    @Test
+    public void testGenerateFeedbackSessionReminderEmails_manyStudents_shouldUseConstantNumberOfQueries() {
+        FeedbackSession session = HibernateUtil.get(FeedbackSession.class,
+                dataBundle.feedbackSessions.get("session1InCourse1").getId());
+        Team team = HibernateUtil.get(Team.class, dataBundle.teams.get("TypicalCourse1With2EvalsSection1").getId());
+        List<Instructor> instructors = List.of(
+                HibernateUtil.get(Instructor.class, dataBundle.instructors.get("instructor1OfCourse1").getId()));
+
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Student student = new Student(session.getCourse(), "Student " + i, "student" + i + "@teammates.tmt", "", team);
+            HibernateUtil.persist(student);
+            students.add(student);
+        }
+        Instant extendedDeadline = session.getEndTime().plus(Duration.ofDays(1));
+        HibernateUtil.persist(new DeadlineExtension(students.get(1), session, extendedDeadline));
+        HibernateUtil.flushSession();
+
+        ______TS("few students");
+
+        SqlQueryCounter.reset();
+        List<EmailWrapper> emails = emailGenerator.generateFeedbackSessionReminderEmails(
+                session, students.subList(0, 2), instructors, null);
+        long numQueriesForFewStudents = SqlQueryCounter.getCount();
+
+        assertEquals(3, emails.size());
+        assertFalse(emails.get(0).getContent().contains("(after extension)"));
+        assertTrue(emails.get(1).getContent().contains("(after extension)"));
+
+        ______TS("many students");
+
+        SqlQueryCounter.reset();
+        emails = emailGenerator.generateFeedbackSessionReminderEmails(session, students, instructors, null);
+        long numQueriesForManyStudents = SqlQueryCounter.getCount();
+
+        assertEquals(51, emails.size());
+        assertEquals(1, emails.stream().filter(email -> email.getContent().contains("(after extension)")).count());
+        assertEquals(numQueriesForFewStudents, numQueriesForManyStudents);
+    }
+
     private void verifyEmail(EmailWrapper email, String recipient, String subject, String emailContentFilePath)
             throws Exception {
         // check recipient
@@ -1,27 +1,49 @@
 package teammates.it.sqllogic.core;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import com.google.gson.JsonObject;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SqlDataBundle;
+import teammates.common.datatransfer.questions.FeedbackMcqQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
+import teammates.common.util.Const;
 import teammates.common.util.HibernateUtil;
+import teammates.common.util.JsonUtils;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
 import teammates.sqllogic.core.FeedbackResponseCommentsLogic;
 import teammates.sqllogic.core.FeedbackResponsesLogic;
+import teammates.storage.sqlapi.CoursesDb;
+import teammates.storage.sqlapi.FeedbackQuestionsDb;
+import teammates.storage.sqlapi.FeedbackSessionsDb;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackResponseComment;
+import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.responses.FeedbackMcqResponse;
 
 /**
  * SUT: {@link FeedbackResponsesLogic}.
  */
 public class FeedbackResponsesLogicIT extends BaseTestCaseWithSqlDatabaseAccess {
+    private static final String STATISTICS_COURSE_ID = "feedback-responses-logic-it-statistics-course";
+
     private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private final CoursesDb coursesDb = CoursesDb.inst();
+    private final FeedbackSessionsDb fsDb = FeedbackSessionsDb.inst();
+    private final FeedbackQuestionsDb fqDb = FeedbackQuestionsDb.inst();
 
     private SqlDataBundle typicalDataBundle;
 
@@ -95,6 +117,89 @@ public class FeedbackResponsesLogicIT extends BaseTestCaseWithSqlDatabaseAccess
         assertEquals(fr.getRecipientSection(), newRecipientSection);
     }
 
+    @Test
+    public void testGetQuestionStatisticsJson_responsesChanged_shouldApplyCommittedChangesOnly() throws Exception {
+        // the statistics kept in memory only take committed changes, so the test commits its own data
+        HibernateUtil.rollbackTransaction();
+        HibernateUtil.beginTransaction();
+        Course course = coursesDb.createCourse(new Course(STATISTICS_COURSE_ID, "Course name", "UTC", "institute"));
+        Section section = coursesDb.createSection(new Section(course, "Section name"));
+        FeedbackSession session = fsDb.createFeedbackSession(new FeedbackSession("Session name", course,
+                "instr@teammates.tmt", "instructions", Instant.now(), Instant.now().plus(Duration.ofDays(7)),
+                Instant.now(), Const.TIME_REPRESENTS_LATER, Duration.ofMinutes(10), true, true, true));
+        FeedbackMcqQuestionDetails questionDetails = new FeedbackMcqQuestionDetails("How do you think you did?");
+        questionDetails.setMcqChoices(List.of("Great", "Perfect"));
+        List<FeedbackParticipantType> showTos = new ArrayList<>(List.of(FeedbackParticipantType.INSTRUCTORS));
+        UUID questionId = fqDb.createFeedbackQuestion(FeedbackQuestion.makeQuestion(session, 1, "description",
+                FeedbackParticipantType.STUDENTS, FeedbackParticipantType.SELF, 1,
+                showTos, showTos, showTos, questionDetails)).getId();
+        commitAndBeginTransaction();
+
+        try {
+            ______TS("statistics are loaded from the responses");
+            assertEquals(0, getStatistics(questionId).get("numResponses").getAsInt());
+
+            ______TS("created response is counted once committed");
+            UUID responseId = frLogic.createFeedbackResponse(new FeedbackMcqResponse(fqDb.getFeedbackQuestion(questionId),
+                    "student1@teammates.tmt", section, "student1@teammates.tmt", section, getMcqAnswer("Great")))
+                    .getId();
+            assertEquals(0, getStatistics(questionId).get("numResponses").getAsInt());
+            commitAndBeginTransaction();
+
+            JsonObject statistics = getStatistics(questionId);
+            assertEquals(1, statistics.get("numResponses").getAsInt());
+            assertEquals(1, statistics.getAsJsonObject("answerFrequency").get("Great").getAsInt());
+
+            ______TS("created response is not counted if rolled back");
+            frLogic.createFeedbackResponse(new FeedbackMcqResponse(fqDb.getFeedbackQuestion(questionId),
+                    "student2@teammates.tmt", section, "student2@teammates.tmt", section, getMcqAnswer("Perfect")));
+            HibernateUtil.rollbackTransaction();
+            HibernateUtil.beginTransaction();
+
+            assertEquals(1, getStatistics(questionId).get("numResponses").getAsInt());
+
+            ______TS("updated response is counted with its new answer once committed");
+            FeedbackMcqResponse response = (FeedbackMcqResponse) frLogic.getFeedbackResponse(responseId);
+            HibernateUtil.clearSession();
+            response.setAnswer(getMcqAnswer("Perfect"));
+            frLogic.updateFeedbackResponseCascade(response);
+            commitAndBeginTransaction();
+
+            statistics = getStatistics(questionId);
+            assertEquals(1, statistics.get("numResponses").getAsInt());
+            assertEquals(0, statistics.getAsJsonObject("answerFrequency").get("Great").getAsInt());
+            assertEquals(1, statistics.getAsJsonObject("answerFrequency").get("Perfect").getAsInt());
+
+            ______TS("deleted response is no longer counted once committed");
+            frLogic.deleteFeedbackResponsesAndCommentsCascade(frLogic.getFeedbackResponse(responseId));
+            commitAndBeginTransaction();
+
+            assertEquals(0, getStatistics(questionId).get("numResponses").getAsInt());
+        } finally {
+            HibernateUtil.rollbackTransaction();
+            HibernateUtil.beginTransaction();
+            fsDb.deleteFeedbackSession(fsDb.getFeedbackSession(session.getId()));
+            coursesDb.deleteCourse(coursesDb.getCourse(STATISTICS_COURSE_ID));
+            commitAndBeginTransaction();
+        }
+    }
+
+    private JsonObject getStatistics(UUID questionId) {
+        String statistics = frLogic.getQuestionStatisticsJson(fqDb.getFeedbackQuestion(questionId), true);
+        return JsonUtils.parse(statistics).getAsJsonObject();
+    }
+
+    private FeedbackMcqResponseDetails getMcqAnswer(String answer) {
+        FeedbackMcqResponseDetails responseDetails = new FeedbackMcqResponseDetails();
+        responseDetails.setAnswer(answer);
+        return responseDetails;
+    }
+
+    private void commitAndBeginTransaction() {
+        HibernateUtil.commitTransaction();
+        HibernateUtil.beginTransaction();
+    }
+
     // TODO: Enable test after fixing automatic persist cascade of feedbackResponse to feedbackResponseComments
     @Test(enabled = false)
     public void testUpdatedFeedbackResponsesAndCommentsCascade_noChangeToResponseSection_shouldNotUpdateComments()
@@ -60,6 +60,35 @@ public class FeedbackSessionsLogicIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertEquals(expectedGivers, givers);
     }
 
+    @Test
+    public void testGetExpectedTotalSubmission() {
+        ______TS("questions for students and instructors: all students and instructors of the course");
+        FeedbackSession fs = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        assertEquals(8, fsLogic.getExpectedTotalSubmission(fs));
+
+        ______TS("questions for students only: all students of the course");
+        fs = typicalDataBundle.feedbackSessions.get("session2InTypicalCourse");
+        assertEquals(5, fsLogic.getExpectedTotalSubmission(fs));
+
+        ______TS("no questions: nobody");
+        fs = typicalDataBundle.feedbackSessions.get("unpublishedSession1InTypicalCourse");
+        assertEquals(0, fsLogic.getExpectedTotalSubmission(fs));
+
+        ______TS("questions for students and the creator: all students and the creator");
+        fs = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        fqLogic.deleteFeedbackQuestionCascade(typicalDataBundle.feedbackQuestions.get("qn4InSession1InCourse1").getId());
+        assertEquals(6, fsLogic.getExpectedTotalSubmission(fs));
+    }
+
+    @Test
+    public void testGetActualTotalSubmission() {
+        FeedbackSession fs = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        assertEquals(3, fsLogic.getActualTotalSubmission(fs));
+
+        fs = typicalDataBundle.feedbackSessions.get("unpublishedSession1InTypicalCourse");
+        assertEquals(0, fsLogic.getActualTotalSubmission(fs));
+    }
+
     @Test
     public void testPublishFeedbackSession()
             throws InvalidParametersException, EntityDoesNotExistException {
@@ -1,9 +1,12 @@
 package teammates.it.sqllogic.core;
 
+import java.util.List;
+
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.StudentEnrollmentResults;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -16,7 +19,9 @@ import teammates.sqllogic.core.UsersLogic;
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
 
 /**
  * SUT: {@link UsersLogic}.
@@ -125,6 +130,55 @@ public class UsersLogicIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertEquals(anotherAccount, accountsLogic.getAccountForGoogleId(googleId));
     }
 
+    @Test
+    public void testEnrollStudents() throws Exception {
+        String courseId = course.getId();
+        Section existingSection = usersLogic.getSectionOrCreate(courseId, "Section A");
+        Team existingTeam = usersLogic.getTeamOrCreate(existingSection, "Team A");
+        Student existingStudent =
+                new Student(course, "Existing Student", "existing@teammates.tmt", "", existingTeam);
+        usersLogic.createStudent(existingStudent);
+
+        Team teamA = new Team(new Section(course, "Section A"), "Team A");
+        Team teamB = new Team(new Section(course, "Section B"), "Team B");
+
+        ______TS("success: new students are created and existing students are updated");
+        List<Student> studentsToEnroll = List.of(
+                new Student(course, "Updated Student", "existing@teammates.tmt", "updated", teamA),
+                new Student(course, "New Student 1", "new1@teammates.tmt", "", teamB),
+                new Student(course, "New Student 2", "new2@teammates.tmt", "", teamA));
+        StudentEnrollmentResults results = usersLogic.enrollStudents(course, studentsToEnroll);
+
+        assertEquals(3, results.getEnrolledStudents().size());
+        assertTrue(results.getEnrollmentErrors().isEmpty());
+        assertEquals(3, usersLogic.getStudentsForCourse(courseId).size());
+
+        Student updatedStudent = usersLogic.getStudentForEmail(courseId, "existing@teammates.tmt");
+        assertEquals(existingStudent.getId(), updatedStudent.getId());
+        assertEquals("Updated Student", updatedStudent.getName());
+        assertEquals("updated", updatedStudent.getComments());
+
+        Student studentInNewTeam = usersLogic.getStudentForEmail(courseId, "new1@teammates.tmt");
+        assertEquals("Section B", studentInNewTeam.getSectionName());
+        assertEquals("Team B", studentInNewTeam.getTeamName());
+
+        Student studentInExistingTeam = usersLogic.getStudentForEmail(courseId, "new2@teammates.tmt");
+        assertEquals(existingTeam, studentInExistingTeam.getTeam());
+
+        ______TS("failure: invalid students are reported without affecting the other students");
+        studentsToEnroll = List.of(
+                new Student(course, "", "new3@teammates.tmt", "", teamA),
+                new Student(course, "New Student 4", "new4@teammates.tmt", "", teamB));
+        results = usersLogic.enrollStudents(course, studentsToEnroll);
+
+        assertEquals(1, results.getEnrolledStudents().size());
+        assertEquals("new4@teammates.tmt", results.getEnrolledStudents().get(0).getEmail());
+        assertEquals(1, results.getEnrollmentErrors().size());
+        assertTrue(results.getEnrollmentErrors().containsKey("new3@teammates.tmt"));
+        assertNull(usersLogic.getStudentForEmail(courseId, "new3@teammates.tmt"));
+        assertNotNull(usersLogic.getStudentForEmail(courseId, "new4@teammates.tmt"));
+    }
+
     @Test
     public void testUpdateToEnsureValidityOfInstructorsForTheCourse() {
         Instructor instructor = getTypicalInstructor();
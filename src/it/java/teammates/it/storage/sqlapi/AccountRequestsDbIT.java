@@ -69,6 +69,24 @@ public class AccountRequestsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertNull(actualAccountRequest);
     }
 
+    @Test
+    public void testGetAccountRequestsForEmails() throws Exception {
+        AccountRequest accountRequest1 = new AccountRequest("test1@gmail.com", "name", "institute");
+        AccountRequest accountRequest2 = new AccountRequest("test2@gmail.com", "name", "institute");
+        AccountRequest accountRequestInOtherInstitute = new AccountRequest("test1@gmail.com", "name", "other");
+        accountRequestDb.createAccountRequest(accountRequest1);
+        accountRequestDb.createAccountRequest(accountRequest2);
+        accountRequestDb.createAccountRequest(accountRequestInOtherInstitute);
+
+        ______TS("Read account requests of the given institute only");
+
+        List<AccountRequest> actual = accountRequestDb.getAccountRequestsForEmails(
+                "institute", List.of("test1@gmail.com", "test2@gmail.com", "test3@gmail.com"));
+        assertEquals(2, actual.size());
+        assertTrue(actual.contains(accountRequest1));
+        assertTrue(actual.contains(accountRequest2));
+    }
+
     @Test
     public void testUpdateAccountRequest() throws Exception {
         ______TS("Update account request, does not exists, exception thrown");
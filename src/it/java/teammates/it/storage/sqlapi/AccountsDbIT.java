@@ -1,6 +1,7 @@
 package teammates.it.storage.sqlapi;
 
 import java.util.List;
+import java.util.Set;
 
 import org.testng.annotations.Test;
 
@@ -9,7 +10,10 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.HibernateUtil;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
 import teammates.storage.sqlapi.AccountsDb;
+import teammates.storage.sqlapi.NotificationsDb;
 import teammates.storage.sqlentity.Account;
+import teammates.storage.sqlentity.Notification;
+import teammates.storage.sqlentity.ReadNotification;
 
 /**
  * SUT: {@link AccountsDb}.
@@ -48,6 +52,32 @@ public class AccountsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertTrue(List.of(firstAccount, secondAccount, thirdAccount).containsAll(accounts));
     }
 
+    @Test
+    public void testGetReadNotificationIds() throws Exception {
+        Account account = getTypicalAccount();
+        accountsDb.createAccount(account);
+        HibernateUtil.flushSession();
+
+        ______TS("No read notifications, returns empty set");
+
+        assertTrue(accountsDb.getReadNotificationIds(account.getGoogleId()).isEmpty());
+
+        ______TS("Some read notifications, returns only their ids");
+
+        Notification readNotification = getTypicalNotificationWithId();
+        Notification unreadNotification = getTypicalNotificationWithId();
+        NotificationsDb.inst().createNotification(readNotification);
+        NotificationsDb.inst().createNotification(unreadNotification);
+        account.addReadNotification(new ReadNotification(account, readNotification));
+        HibernateUtil.flushSession();
+
+        assertEquals(Set.of(readNotification.getId()), accountsDb.getReadNotificationIds(account.getGoogleId()));
+
+        ______TS("Account does not exist, returns empty set");
+
+        assertTrue(accountsDb.getReadNotificationIds("non-existent-google-id").isEmpty());
+    }
+
     @Test
     public void testCreateAccount() throws Exception {
         ______TS("Create account, does not exists, succeeds");
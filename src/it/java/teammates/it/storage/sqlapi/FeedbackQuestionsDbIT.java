@@ -1,6 +1,8 @@
 package teammates.it.storage.sqlapi;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.testng.annotations.BeforeClass;
@@ -126,6 +128,25 @@ public class FeedbackQuestionsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertEquals(0, actualQuestions.size());
     }
 
+    @Test
+    public void testGetGiverTypesForSession() {
+        ______TS("success: typical case, each giver type is returned once");
+        FeedbackSession fs = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+
+        List<FeedbackParticipantType> actualGiverTypes = fqDb.getGiverTypesForSession(fs.getId());
+
+        assertEquals(3, actualGiverTypes.size());
+        assertEquals(Set.of(FeedbackParticipantType.STUDENTS, FeedbackParticipantType.SELF,
+                FeedbackParticipantType.INSTRUCTORS), new HashSet<>(actualGiverTypes));
+
+        ______TS("success: session without questions, returns no giver types");
+        fs = typicalDataBundle.feedbackSessions.get("unpublishedSession1InTypicalCourse");
+        assertTrue(fqDb.getGiverTypesForSession(fs.getId()).isEmpty());
+
+        ______TS("failure: null parameter, assertion error");
+        assertThrows(AssertionError.class, () -> fqDb.getGiverTypesForSession(null));
+    }
+
     @Test
     public void testDeleteFeedbackQuestion() {
         ______TS("success: typical case");
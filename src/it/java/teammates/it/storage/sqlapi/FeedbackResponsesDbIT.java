@@ -12,6 +12,7 @@ import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.SqlDataBundle;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.util.HibernateUtil;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
 import teammates.storage.sqlapi.FeedbackResponseCommentsDb;
@@ -67,6 +68,80 @@ public class FeedbackResponsesDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertTrue(expectedQuestions.containsAll(actualQuestions));
     }
 
+    @Test
+    public void testGetFeedbackResponsesFromGiversForSession() {
+        ______TS("success: typical case");
+        FeedbackSession fs = testDataBundle.feedbackSessions.get("session1InCourse1");
+
+        List<FeedbackResponse> expectedResponses = List.of(
+                testDataBundle.feedbackResponses.get("response1ForQ1"),
+                testDataBundle.feedbackResponses.get("response2ForQ1"),
+                testDataBundle.feedbackResponses.get("response3ForQ1"),
+                testDataBundle.feedbackResponses.get("response1ForQ2"),
+                testDataBundle.feedbackResponses.get("response3ForQ2"),
+                testDataBundle.feedbackResponses.get("response1ForQ3")
+        );
+
+        List<FeedbackResponse> actualResponses = frDb.getFeedbackResponsesFromGiversForSession(
+                fs.getId(), List.of("student1@teammates.tmt", "student2@teammates.tmt"));
+
+        assertEquals(expectedResponses.size(), actualResponses.size());
+        assertTrue(expectedResponses.containsAll(actualResponses));
+
+        ______TS("no givers");
+
+        assertTrue(frDb.getFeedbackResponsesFromGiversForSession(fs.getId(), List.of()).isEmpty());
+    }
+
+    @Test
+    public void testCreateFeedbackResponses() throws Exception {
+        FeedbackQuestion fq1 = testDataBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        FeedbackQuestion fq2 = testDataBundle.feedbackQuestions.get("qn2InSession1InCourse1");
+        Section s = testDataBundle.sections.get("section1InCourse1");
+
+        List<FeedbackResponse> newResponses = List.of(
+                new FeedbackTextResponse(fq1, "student5@teammates.tmt", s, "student5@teammates.tmt", s,
+                        new FeedbackTextResponseDetails("Response to question 1")),
+                new FeedbackTextResponse(fq2, "student5@teammates.tmt", s, "student1@teammates.tmt", s,
+                        new FeedbackTextResponseDetails("Response to question 2")));
+
+        frDb.createFeedbackResponses(newResponses);
+        HibernateUtil.clearSession();
+
+        for (FeedbackResponse newResponse : newResponses) {
+            FeedbackResponse actualResponse = frDb.getFeedbackResponse(newResponse.getId());
+            assertNotNull(actualResponse);
+            assertEquals(newResponse.getRecipient(), actualResponse.getRecipient());
+        }
+    }
+
+    @Test
+    public void testCreateFeedbackResponses_responseAlreadyExists_throwsEntityAlreadyExistsException() {
+        FeedbackResponse existingResponse = testDataBundle.feedbackResponses.get("response1ForQ1");
+        FeedbackQuestion fq = existingResponse.getFeedbackQuestion();
+        Section s = testDataBundle.sections.get("section1InCourse1");
+
+        List<FeedbackResponse> newResponses = List.of(
+                new FeedbackTextResponse(fq, existingResponse.getGiver(), s, existingResponse.getRecipient(), s,
+                        new FeedbackTextResponseDetails("Concurrently submitted response")));
+
+        assertThrows(EntityAlreadyExistsException.class, () -> frDb.createFeedbackResponses(newResponses));
+    }
+
+    @Test
+    public void testUpdateFeedbackResponses() throws Exception {
+        FeedbackResponse fr1 = frDb.getFeedbackResponse(testDataBundle.feedbackResponses.get("response1ForQ1").getId());
+        FeedbackResponse fr2 = frDb.getFeedbackResponse(testDataBundle.feedbackResponses.get("response1ForQ2").getId());
+        fr1.setRecipient("student5@teammates.tmt");
+        fr2.setRecipient("student5@teammates.tmt");
+
+        frDb.updateFeedbackResponses(List.of(fr1, fr2));
+        HibernateUtil.clearSession();
+
+        assertEquals("student5@teammates.tmt", frDb.getFeedbackResponse(fr1.getId()).getRecipient());
+        assertEquals("student5@teammates.tmt", frDb.getFeedbackResponse(fr2.getId()).getRecipient());
+    }
+
     @Test
     public void testDeleteFeedbackResponsesForQuestionCascade() {
         ______TS("success: typical case");
@@ -110,6 +185,28 @@ public class FeedbackResponsesDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertFalse(actualHasReponses2);
     }
 
+    @Test
+    public void testGetGiversForSession() {
+        ______TS("success: typical case");
+        FeedbackSession fs = testDataBundle.feedbackSessions.get("session1InCourse1");
+
+        List<String> expectedGivers = List.of(
+                "student1@teammates.tmt", "student2@teammates.tmt",
+                "student3@teammates.tmt", "student4@teammates.tmt");
+
+        List<String> actualGivers = frDb.getGiversForSession(fs.getId());
+
+        assertEquals(expectedGivers.size(), actualGivers.size());
+        assertTrue(expectedGivers.containsAll(actualGivers));
+        assertEquals(expectedGivers.size(), frDb.getNumGiversForSession(fs.getId()));
+
+        ______TS("session with no responses");
+        FeedbackSession fsWithNoResponses = testDataBundle.feedbackSessions.get("unpublishedSession1InTypicalCourse");
+
+        assertTrue(frDb.getGiversForSession(fsWithNoResponses.getId()).isEmpty());
+        assertEquals(0, frDb.getNumGiversForSession(fsWithNoResponses.getId()));
+    }
+
     @Test
     public void testAreThereResponsesForQuestion() {
         ______TS("success: typical case");
@@ -11,12 +11,16 @@ import org.testng.annotations.Test;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
 import teammates.common.util.SanitizationHelper;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
 import teammates.storage.sqlapi.CoursesDb;
 import teammates.storage.sqlapi.FeedbackSessionsDb;
+import teammates.storage.sqlapi.UsersDb;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Student;
 
 /**
  * SUT: {@link FeedbackSessionsDb}.
@@ -25,6 +29,7 @@ public class FeedbackSessionsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
 
     private final CoursesDb coursesDb = CoursesDb.inst();
     private final FeedbackSessionsDb fsDb = FeedbackSessionsDb.inst();
+    private final UsersDb usersDb = UsersDb.inst();
 
     @Test
     public void testGetFeedbackSessionByFeedbackSessionNameAndCourseId()
@@ -92,6 +97,128 @@ public class FeedbackSessionsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertEquals(expectedUniqueOngoingSessions, actualUniqueOngoingSessions);
     }
 
+    @Test
+    public void testGetFeedbackSessionsForCourses()
+            throws EntityAlreadyExistsException, InvalidParametersException, EntityDoesNotExistException {
+        Instant instantNow = Instant.now();
+        Course course1 = new Course("test-id1", "test-name1", "UTC", "NUS");
+        coursesDb.createCourse(course1);
+        Course course2 = new Course("test-id2", "test-name2", "UTC", "NUS");
+        coursesDb.createCourse(course2);
+        Course deletedCourse = new Course("test-id3", "test-name3", "UTC", "NUS");
+        deletedCourse.setDeletedAt(instantNow);
+        coursesDb.createCourse(deletedCourse);
+        FeedbackSession c1Fs1 = createSessionVisibleFrom("name1-1", course1, instantNow.minus(Duration.ofDays(1)),
+                instantNow.minus(Duration.ofDays(1)));
+        FeedbackSession c1Fs2 = createSessionVisibleFrom("name1-2", course1, instantNow.minus(Duration.ofDays(1)),
+                instantNow.minus(Duration.ofDays(1)));
+        fsDb.softDeleteFeedbackSession(c1Fs2.getName(), course1.getId());
+        FeedbackSession c2Fs1 = createSessionVisibleFrom("name2-1", course2, instantNow.minus(Duration.ofDays(1)),
+                instantNow.minus(Duration.ofDays(1)));
+        createSessionVisibleFrom("name3-1", deletedCourse, instantNow.minus(Duration.ofDays(1)),
+                instantNow.minus(Duration.ofDays(1)));
+
+        ______TS("sessions not in Recycle Bin of courses not in Recycle Bin");
+        List<FeedbackSession> actualSessions =
+                fsDb.getFeedbackSessionsForCourses(List.of(course1.getId(), course2.getId(), deletedCourse.getId()), false);
+        assertEquals(Set.of(c1Fs1, c2Fs1), new HashSet<>(actualSessions));
+
+        ______TS("sessions in Recycle Bin of courses not in Recycle Bin");
+        actualSessions =
+                fsDb.getFeedbackSessionsForCourses(List.of(course1.getId(), course2.getId(), deletedCourse.getId()), true);
+        assertEquals(List.of(c1Fs2), actualSessions);
+
+        ______TS("no courses");
+        assertTrue(fsDb.getFeedbackSessionsForCourses(List.of(), false).isEmpty());
+    }
+
+    @Test
+    public void testGetVisibleFeedbackSessionsForCourses()
+            throws EntityAlreadyExistsException, InvalidParametersException, EntityDoesNotExistException {
+        Instant instantNow = Instant.now();
+        Course course1 = new Course("test-id1", "test-name1", "UTC", "NUS");
+        coursesDb.createCourse(course1);
+        Course course2 = new Course("test-id2", "test-name2", "UTC", "NUS");
+        coursesDb.createCourse(course2);
+        Course otherCourse = new Course("test-id3", "test-name3", "UTC", "NUS");
+        coursesDb.createCourse(otherCourse);
+        FeedbackSession visibleFs = createSessionVisibleFrom("visible", course1,
+                instantNow.minus(Duration.ofDays(2)), instantNow.plus(Duration.ofDays(1)));
+        createSessionVisibleFrom("not-visible", course1,
+                instantNow.plus(Duration.ofDays(1)), instantNow.plus(Duration.ofDays(2)));
+        FeedbackSession visibleFollowingOpeningFs = createSessionVisibleFrom("visible-following-opening", course2,
+                Const.TIME_REPRESENTS_FOLLOW_OPENING, instantNow.minus(Duration.ofDays(1)));
+        createSessionVisibleFrom("not-visible-following-opening", course2,
+                Const.TIME_REPRESENTS_FOLLOW_OPENING, instantNow.plus(Duration.ofDays(1)));
+        createSessionVisibleFrom("deleted", course2,
+                instantNow.minus(Duration.ofDays(2)), instantNow.minus(Duration.ofDays(1)));
+        fsDb.softDeleteFeedbackSession("deleted", course2.getId());
+        createSessionVisibleFrom("other-course", otherCourse,
+                instantNow.minus(Duration.ofDays(2)), instantNow.minus(Duration.ofDays(1)));
+
+        List<FeedbackSession> actualSessions =
+                fsDb.getVisibleFeedbackSessionsForCourses(List.of(course1.getId(), course2.getId()), instantNow);
+
+        assertEquals(Set.of(visibleFs, visibleFollowingOpeningFs), new HashSet<>(actualSessions));
+        for (FeedbackSession session : actualSessions) {
+            assertTrue(session.isVisible());
+        }
+        assertTrue(fsDb.getVisibleFeedbackSessionsForCourses(List.of(), instantNow).isEmpty());
+    }
+
+    private FeedbackSession createSessionVisibleFrom(String name, Course course, Instant sessionVisibleFromTime,
+            Instant startTime) throws EntityAlreadyExistsException, InvalidParametersException {
+        FeedbackSession session = new FeedbackSession(name, course, "test@test.com", "test-instruction",
+                startTime, startTime.plus(Duration.ofDays(7)), sessionVisibleFromTime,
+                Const.TIME_REPRESENTS_LATER, Duration.ofMinutes(10), true, true, true);
+        return fsDb.createFeedbackSession(session);
+    }
+
+    @Test
+    public void testGetSessionResultsVersion()
+            throws EntityAlreadyExistsException, InvalidParametersException {
+        Course course1 = new Course("test-id1", "test-name1", "UTC", "NUS");
+        coursesDb.createCourse(course1);
+        FeedbackSession fs1 = new FeedbackSession("name1", course1, "test1@test.com", "test-instruction",
+                Instant.now().plus(Duration.ofDays(1)), Instant.now().plus(Duration.ofDays(7)), Instant.now(),
+                Instant.now().plus(Duration.ofDays(7)), Duration.ofMinutes(10), true, true, true);
+        fsDb.createFeedbackSession(fs1);
+
+        ______TS("version does not change if nothing changes");
+        String version = fsDb.getSessionResultsVersion(fs1);
+        assertEquals(version, fsDb.getSessionResultsVersion(fs1));
+
+        ______TS("version changes when the course roster changes");
+        usersDb.createStudent(new Student(course1, "student-name", "student@test.com", ""));
+        assertNotEquals(version, fsDb.getSessionResultsVersion(fs1));
+    }
+
+    @Test
+    public void testUpdateOpenEmailCheckpoint()
+            throws EntityAlreadyExistsException, InvalidParametersException {
+        Course course1 = new Course("test-id1", "test-name1", "UTC", "NUS");
+        coursesDb.createCourse(course1);
+        FeedbackSession fs1 = new FeedbackSession("name1", course1, "test1@test.com", "test-instruction",
+                Instant.now().plus(Duration.ofDays(1)), Instant.now().plus(Duration.ofDays(7)), Instant.now(),
+                Instant.now().plus(Duration.ofDays(7)), Duration.ofMinutes(10), true, true, true);
+        fs1.setOpenEmailCheckpoint("");
+        fsDb.createFeedbackSession(fs1);
+
+        ______TS("checkpoint as expected: checkpoint moved");
+        assertTrue(fsDb.updateOpenEmailCheckpoint(fs1.getId(), "", "1:student@test.com"));
+
+        ______TS("checkpoint moved already: checkpoint unchanged");
+        assertFalse(fsDb.updateOpenEmailCheckpoint(fs1.getId(), "", "1:other@test.com"));
+
+        ______TS("closing soon email checkpoint never set: checkpoint unchanged");
+        assertFalse(fsDb.updateClosingSoonEmailCheckpoint(fs1.getId(), "", "1:student@test.com"));
+
+        HibernateUtil.clearSession();
+        FeedbackSession actualFs = fsDb.getFeedbackSession(fs1.getId());
+        assertEquals("1:student@test.com", actualFs.getOpenEmailCheckpoint());
+        assertNull(actualFs.getClosingSoonEmailCheckpoint());
+    }
+
     @Test
     public void testSoftDeleteFeedbackSession()
             throws EntityAlreadyExistsException, InvalidParametersException, EntityDoesNotExistException {
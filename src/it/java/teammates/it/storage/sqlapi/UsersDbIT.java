@@ -286,6 +286,40 @@ public class UsersDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertTrue(expectedStudents.containsAll(actualStudents));
     }
 
+    @Test
+    public void testGetNumUsersForCourse()
+            throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
+        ______TS("success: counts only the users of the course");
+        Course otherCourse = new Course("other-course-id", "course-name", Const.DEFAULT_TIME_ZONE, "institute");
+        coursesDb.createCourse(otherCourse);
+        Instructor otherInstructor = getTypicalInstructor();
+        otherInstructor.setCourse(otherCourse);
+        usersDb.createInstructor(otherInstructor);
+        Student otherStudent = getTypicalStudent();
+        otherStudent.setCourse(otherCourse);
+        usersDb.createStudent(otherStudent);
+
+        Student secondStudent = getTypicalStudent();
+        secondStudent.setEmail("valid-student-2@email.tmt");
+        secondStudent.setCourse(course);
+        secondStudent.setTeam(student.getTeam());
+        usersDb.createStudent(secondStudent);
+
+        assertEquals(1, usersDb.getNumInstructorsForCourse(course.getId()));
+        assertEquals(2, usersDb.getNumStudentsForCourse(course.getId()));
+        assertEquals(1, usersDb.getNumInstructorsForCourse(otherCourse.getId()));
+        assertEquals(1, usersDb.getNumStudentsForCourse(otherCourse.getId()));
+
+        ______TS("success: counts the instructors of the course with the email");
+        assertEquals(1, usersDb.getNumInstructorsForEmail(course.getId(), instructor.getEmail()));
+        assertEquals(0, usersDb.getNumInstructorsForEmail(course.getId(), "non-existent@email.tmt"));
+        assertEquals(0, usersDb.getNumInstructorsForEmail(course.getId(), student.getEmail()));
+
+        ______TS("success: course without users");
+        assertEquals(0, usersDb.getNumInstructorsForCourse("non-existent-course-id"));
+        assertEquals(0, usersDb.getNumStudentsForCourse("non-existent-course-id"));
+    }
+
     @Test
     public void testSqlInjectionInCreateInstructor() throws Exception {
         ______TS("SQL Injection test in createInstructor email field");
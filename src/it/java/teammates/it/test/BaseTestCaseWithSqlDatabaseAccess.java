@@ -2,6 +2,7 @@ package teammates.it.test;
 
 import java.util.UUID;
 
+import org.hibernate.SessionFactory;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
@@ -22,6 +23,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
+import teammates.common.util.Config;
 import teammates.common.util.HibernateUtil;
 import teammates.common.util.JsonUtils;
 import teammates.sqllogic.api.Logic;
@@ -63,6 +65,8 @@ public class BaseTestCaseWithSqlDatabaseAccess extends BaseTestCase {
             .setStoreOnDisk(false)
             .build();
 
+    private static SessionFactory sessionFactory;
+
     private final Logic logic = Logic.inst();
 
     private Closeable closeable;
@@ -73,7 +77,8 @@ public class BaseTestCaseWithSqlDatabaseAccess extends BaseTestCase {
         // Temporarily disable migration utility
         // DbMigrationUtil.resetDb(PGSQL.getJdbcUrl(), PGSQL.getUsername(),
         // PGSQL.getPassword());
-        HibernateUtil.buildSessionFactory(PGSQL.getJdbcUrl(), PGSQL.getUsername(), PGSQL.getPassword());
+        sessionFactory = createSessionFactory(Config.DB_CACHE_ENABLED);
+        HibernateUtil.setSessionFactory(sessionFactory);
 
         LogicStarter.initializeDependencies();
 
@@ -132,6 +137,23 @@ public class BaseTestCaseWithSqlDatabaseAccess extends BaseTestCase {
         HibernateUtil.rollbackTransaction();
     }
 
+    /**
+     * Creates a session factory for the test database, with or without the second-level cache.
+     * The session factory is used in place of the default one once passed to
+     * {@link HibernateUtil#setSessionFactory(SessionFactory)}.
+     */
+    protected static SessionFactory createSessionFactory(boolean isCacheEnabled) {
+        return HibernateUtil.createSessionFactory(
+                PGSQL.getJdbcUrl(), PGSQL.getUsername(), PGSQL.getPassword(), isCacheEnabled);
+    }
+
+    /**
+     * Switches back to the session factory shared by all tests.
+     */
+    protected static void useDefaultSessionFactory() {
+        HibernateUtil.setSessionFactory(sessionFactory);
+    }
+
     @Override
     protected String getTestDataFolder() {
         return TestProperties.TEST_DATA_FOLDER;
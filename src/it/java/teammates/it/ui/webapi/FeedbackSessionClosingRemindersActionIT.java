@@ -81,10 +81,10 @@ public class FeedbackSessionClosingRemindersActionIT extends BaseActionIT<Feedba
     protected void testExecute() throws Exception {
         loginAsAdmin();
 
-        ______TS("Typical Success Case 1: email tasks added for 1 all users of 1 session");
+        ______TS("Typical Success Case 1: email chunk task added for 1 session");
         textExecute_typicalSuccess1();
 
-        ______TS("Typical Success Case 2: email tasks added for 1 all users of 1 session and 1 deadline extension");
+        ______TS("Typical Success Case 2: email chunk task added for 1 session and email task for 1 deadline extension");
         textExecute_typicalSuccess2();
 
         ______TS("Typical Success Case 3: Only 1 email task queued -- "
@@ -118,12 +118,12 @@ public class FeedbackSessionClosingRemindersActionIT extends BaseActionIT<Feedba
 
         assertEquals("Successful", response1.getMessage());
         assertTrue(session.isClosingSoonEmailSent());
+        assertEquals("", session.getClosingSoonEmailCheckpoint());
         assertTrue(session.getDeadlineExtensions().stream().allMatch(de -> !de.isClosingSoonEmailSent()));
 
-        // 7 email tasks queued:
-        // 1 co-owner, 5 students and 3 instructors,
-        // but 1 student and 1 instructor have deadline extensions (should not receive email)
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 7);
+        // 1 chunk task queued, which sends the emails of the session starting from the first recipient
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_REMINDER_EMAILS_CHUNK_QUEUE_NAME, 1);
+        assertEquals(1, mockTaskQueuer.getNumberOfTasksAdded().size());
     }
 
     private void textExecute_typicalSuccess2() {
@@ -149,11 +149,10 @@ public class FeedbackSessionClosingRemindersActionIT extends BaseActionIT<Feedba
         assertTrue(session.isClosingSoonEmailSent());
         assertTrue(de.isClosingSoonEmailSent());
 
-        // 8 email tasks queued:
-        // - 7 emails: 1 co-owner, 5 students and 3 instructors,
-        //             but 1 student and 1 instructor have deadline extensions (should not receive email)
-        // - 1 email:  1 student deadline extension
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 8);
+        // 1 chunk task queued for the emails of the session
+        // 1 email task queued for the student deadline extension
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_REMINDER_EMAILS_CHUNK_QUEUE_NAME, 1);
+        assertEquals(1, mockTaskQueuer.getEmailsScheduled().size());
     }
 
     private void textExecute_typicalSuccess3() {
@@ -183,7 +182,7 @@ public class FeedbackSessionClosingRemindersActionIT extends BaseActionIT<Feedba
         // 1 email tasks queued:
         // - 0 emails: session already sent closing-soon emails
         // - 1 email:  1 student deadline extension where closing-soon email not sent yet
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+        assertEquals(1, mockTaskQueuer.getEmailsScheduled().size());
     }
 
     private void textExecute_typicalSuccess4() {
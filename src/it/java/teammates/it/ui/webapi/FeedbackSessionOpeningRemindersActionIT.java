@@ -10,14 +10,12 @@ import org.testng.annotations.Test;
 
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
-import teammates.common.util.EmailWrapper;
 import teammates.common.util.HibernateUtil;
-import teammates.common.util.TaskWrapper;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.ui.output.MessageOutput;
-import teammates.ui.request.SendEmailRequest;
+import teammates.ui.request.FeedbackSessionReminderEmailsChunkRequest;
 import teammates.ui.webapi.FeedbackSessionOpeningRemindersAction;
 import teammates.ui.webapi.JsonResult;
 
@@ -76,7 +74,7 @@ public class FeedbackSessionOpeningRemindersActionIT extends BaseActionIT<Feedba
     protected void testExecute() throws Exception {
         loginAsAdmin();
 
-        ______TS("Typical Success Case 1: Email tasks added for co-owner, students and instructors of 1 session");
+        ______TS("Typical Success Case 1: Email chunk task added for 1 session");
         testExecute_typicalSuccess1();
 
         ______TS("Typical Success Case 2: No email tasks added for session -- already sent opening emails");
@@ -106,23 +104,17 @@ public class FeedbackSessionOpeningRemindersActionIT extends BaseActionIT<Feedba
 
         assertEquals("Successful", response1.getMessage());
         assertTrue(session.isOpenEmailSent());
+        assertEquals("", session.getOpenEmailCheckpoint());
 
-        // # of email to send =
-        //    # emails sent to instructorsToNotify (ie co-owner), 1 +
-        //    # emails sent to students, 5 +
-        //    # emails sent to instructors, 3 (including instructorsToNotify)
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 9);
-
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
-
-            String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
-                    + String.format(EmailType.FEEDBACK_OPENING.getSubject(),
-                    session.getCourse().getName(), session.getName());
-            assertEquals(expectedSubject, email.getSubject());
-        }
+        // the emails are sent by the chunk workers, starting from the first recipient
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_REMINDER_EMAILS_CHUNK_QUEUE_NAME, 1);
+
+        FeedbackSessionReminderEmailsChunkRequest requestBody =
+                (FeedbackSessionReminderEmailsChunkRequest) mockTaskQueuer.getTasksAdded().get(0).getRequestBody();
+        assertEquals(session.getCourse().getId(), requestBody.getCourseId());
+        assertEquals(session.getName(), requestBody.getFeedbackSessionName());
+        assertEquals(EmailType.FEEDBACK_OPENING, requestBody.getEmailType());
+        assertEquals("", requestBody.getLastRecipientKey());
     }
 
     private void testExecute_typicalSuccess2() {
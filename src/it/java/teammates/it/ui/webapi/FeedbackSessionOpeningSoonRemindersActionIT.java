@@ -2,7 +2,6 @@ package teammates.it.ui.webapi;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.List;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -11,11 +10,9 @@ import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.HibernateUtil;
-import teammates.common.util.TaskWrapper;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.ui.output.MessageOutput;
-import teammates.ui.request.SendEmailRequest;
 import teammates.ui.webapi.FeedbackSessionOpeningSoonRemindersAction;
 import teammates.ui.webapi.JsonResult;
 
@@ -85,15 +82,12 @@ public class FeedbackSessionOpeningSoonRemindersActionIT extends BaseActionIT<Fe
         assertTrue(session.isOpeningSoonEmailSent());
 
         // Notify only co-owner (1 instructor only for session1InCourse1)
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+        assertEquals(1, mockTaskQueuer.getEmailsScheduled().size());
 
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
         String emailSubjectFormat = EmailType.FEEDBACK_OPENING_SOON.getSubject();
         String courseName = session.getCourse().getName();
         String sessionName = session.getName();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : mockTaskQueuer.getEmailsScheduled()) {
             assertEquals(
                     String.format(emailSubjectFormat, courseName, sessionName),
                     email.getSubject());
@@ -0,0 +1,150 @@
+package teammates.it.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.HibernateUtil;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Student;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.request.FeedbackSessionReminderEmailsChunkRequest;
+import teammates.ui.webapi.FeedbackSessionReminderEmailsChunkWorkerAction;
+import teammates.ui.webapi.JsonResult;
+
+/**
+ * SUT: {@link FeedbackSessionReminderEmailsChunkWorkerAction}.
+ */
+public class FeedbackSessionReminderEmailsChunkWorkerActionIT
+        extends BaseActionIT<FeedbackSessionReminderEmailsChunkWorkerAction> {
+
+    @Override
+    @BeforeMethod
+    protected void setUp() throws Exception {
+        super.setUp();
+        persistDataBundle(typicalBundle);
+        HibernateUtil.flushSession();
+        prepareSession();
+    }
+
+    private void prepareSession() {
+        String[] fqKeys = {
+                "qn1InSession1InCourse1",
+                "qn2InSession1InCourse1",
+                "qn3InSession1InCourse1",
+                "qn4InSession1InCourse1",
+                "qn5InSession1InCourse1",
+                "qn6InSession1InCourse1NoResponses",
+        };
+        List<FeedbackQuestion> qns = new ArrayList<>();
+        for (String fqKey : fqKeys) {
+            qns.add(typicalBundle.feedbackQuestions.get(fqKey));
+        }
+
+        FeedbackSession session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        session.setFeedbackQuestions(qns);
+    }
+
+    @Override
+    String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_REMINDER_EMAILS_CHUNK_WORKER_URL;
+    }
+
+    @Override
+    String getRequestMethod() {
+        return POST;
+    }
+
+    @Test
+    @Override
+    protected void testAccessControl() throws Exception {
+        Course course = typicalBundle.courses.get("course1");
+        verifyOnlyAdminCanAccess(course);
+    }
+
+    @Test
+    @Override
+    protected void testExecute() throws Exception {
+        FeedbackSession session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        String courseId = session.getCourse().getId();
+
+        ______TS("Checkpoint not saved yet: task is retried later");
+
+        FeedbackSessionReminderEmailsChunkRequest request = new FeedbackSessionReminderEmailsChunkRequest(
+                courseId, session.getName(), EmailType.FEEDBACK_OPENING, "");
+
+        FeedbackSessionReminderEmailsChunkWorkerAction action = getAction(request);
+        getJsonResult(action, HttpStatus.SC_BAD_GATEWAY);
+
+        verifyNoEmailsSent();
+        verifyNoTasksAdded();
+
+        ______TS("First chunk: emails sent to all recipients and checkpoint saved");
+
+        session.setOpenEmailCheckpoint("");
+
+        action = getAction(request);
+        JsonResult actionOutput = getJsonResult(action);
+        MessageOutput response = (MessageOutput) actionOutput.getOutput();
+
+        assertEquals("Successful", response.getMessage());
+
+        // # of emails sent =
+        //    # emails sent to instructorsToNotify (ie co-owner), 1 +
+        //    # emails sent to students, 5 +
+        //    # emails sent to instructors, 3 (including instructorsToNotify)
+        verifyNumberOfEmailsSent(9);
+        for (EmailWrapper email : getEmailsSent()) {
+            String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
+                    + String.format(EmailType.FEEDBACK_OPENING.getSubject(),
+                    session.getCourse().getName(), session.getName());
+            assertEquals(expectedSubject, email.getSubject());
+        }
+
+        // all recipients fit in one chunk, so no further chunk is scheduled
+        verifyNoTasksAdded();
+        String checkpointAfterFirstChunk = session.getOpenEmailCheckpoint();
+        assertFalse(checkpointAfterFirstChunk.isEmpty());
+        assertNull(session.getClosingSoonEmailCheckpoint());
+
+        ______TS("Retried chunk: no emails sent again");
+
+        action = getAction(request);
+        actionOutput = getJsonResult(action);
+        response = (MessageOutput) actionOutput.getOutput();
+
+        assertEquals("Successful", response.getMessage());
+        verifyNoEmailsSent();
+        verifyNoTasksAdded();
+        assertEquals(checkpointAfterFirstChunk, session.getOpenEmailCheckpoint());
+
+        ______TS("Resumed chunk: only recipients after the checkpoint are emailed");
+
+        String lastStudentEmail = logic.getStudentsForCourse(courseId).stream()
+                .map(Student::getEmail)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+        // students are ordered first, so every student has been emailed
+        String lastStudentRecipientKey = "1:" + lastStudentEmail;
+        session.setOpenEmailCheckpoint(lastStudentRecipientKey);
+
+        request = new FeedbackSessionReminderEmailsChunkRequest(
+                courseId, session.getName(), EmailType.FEEDBACK_OPENING, lastStudentRecipientKey);
+        action = getAction(request);
+        getJsonResult(action);
+
+        // 3 instructors and 1 co-owner copy
+        verifyNumberOfEmailsSent(4);
+        assertEquals(checkpointAfterFirstChunk, session.getOpenEmailCheckpoint());
+    }
+
+}
@@ -12,6 +12,7 @@ import teammates.common.util.Const;
 import teammates.common.util.HibernateUtil;
 import teammates.common.util.JsonUtils;
 import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Section;
@@ -107,6 +108,30 @@ public class GetSessionResultsActionIT extends BaseActionIT<GetSessionResultsAct
             }
         }
 
+        ______TS("Typical: Instructor accesses results of a question of their course");
+
+        FeedbackQuestion question = typicalBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, accessibleFeedbackSession.getName(),
+                Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourse().getId(),
+                Const.ParamsNames.INTENT, Intent.FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, question.getId().toString(),
+        };
+
+        a = getAction(submissionParams);
+        r = getJsonResult(a);
+
+        output = (SessionResultsData) r.getOutput();
+
+        expectedResults = SessionResultsData.initForInstructor(
+                logic.getSessionResultsForCourse(accessibleFeedbackSession,
+                        accessibleFeedbackSession.getCourse().getId(),
+                        instructor.getEmail(),
+                        question.getId(), null, FeedbackResultFetchType.BOTH));
+
+        assertEquals(1, output.getQuestions().size());
+        assertTrue(isSessionResultsDataEqual(expectedResults, output));
+
         ______TS("Typical: Instructor previews session results as student");
 
         Student student = typicalBundle.students.get("student1InCourse1");
@@ -0,0 +1,79 @@
+package teammates.it.ui.webapi;
+
+import java.util.List;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.HibernateUtil;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlsearch.SearchManagerFactory;
+import teammates.test.TestProperties;
+import teammates.ui.request.StudentsSearchIndexingRequest;
+import teammates.ui.webapi.StudentsSearchIndexingWorkerAction;
+
+/**
+ * SUT: {@link StudentsSearchIndexingWorkerAction}.
+ */
+public class StudentsSearchIndexingWorkerActionIT extends BaseActionIT<StudentsSearchIndexingWorkerAction> {
+
+    private final Student student1 = typicalBundle.students.get("student1InCourse1");
+    private final Student student2 = typicalBundle.students.get("student2InCourse1");
+
+    @Override
+    @BeforeMethod
+    protected void setUp() throws Exception {
+        super.setUp();
+        persistDataBundle(typicalBundle);
+        HibernateUtil.flushSession();
+        SearchManagerFactory.getStudentSearchManager().resetCollections();
+    }
+
+    @Override
+    protected String getActionUri() {
+        return TaskQueue.STUDENTS_SEARCH_INDEXING_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    protected void testExecute() throws Exception {
+        // See test cases below
+    }
+
+    @Test
+    protected void testExecute_studentsIndexed_shouldBeSearchable() throws Exception {
+        if (!TestProperties.isSearchServiceActive()) {
+            return;
+        }
+
+        assertEquals(0, logic.searchStudentsInWholeSystem(student1.getEmail()).size());
+        assertEquals(0, logic.searchStudentsInWholeSystem(student2.getEmail()).size());
+
+        StudentsSearchIndexingRequest request = new StudentsSearchIndexingRequest(student1.getCourseId(),
+                new String[] { student1.getEmail(), student2.getEmail() });
+
+        StudentsSearchIndexingWorkerAction action = getAction(request);
+        getJsonResult(action);
+
+        List<Student> studentList = logic.searchStudentsInWholeSystem(student1.getEmail());
+        assertTrue(studentList.stream().anyMatch(s -> s.getEmail().equals(student1.getEmail())));
+
+        studentList = logic.searchStudentsInWholeSystem(student2.getEmail());
+        assertTrue(studentList.stream().anyMatch(s -> s.getEmail().equals(student2.getEmail())));
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws InvalidParametersException, EntityAlreadyExistsException {
+        Course course = typicalBundle.courses.get("course1");
+        verifyOnlyAdminCanAccess(course);
+    }
+}
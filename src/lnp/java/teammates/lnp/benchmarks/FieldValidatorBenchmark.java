@@ -0,0 +1,83 @@
+package teammates.lnp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.FieldValidator;
+
+/**
+ * Benchmarks the validation of the rows of a large enrollment.
+ *
+ * <p>Run with {@code ./gradlew benchmarks -Pbenchmark=FieldValidatorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FieldValidatorBenchmark {
+
+    private static final int NUM_ENROLL_ROWS = 10_000;
+
+    private List<StudentAttributes> enrollRows;
+
+    @Setup
+    public void setUp() {
+        enrollRows = new ArrayList<>();
+        for (int i = 0; i < NUM_ENROLL_ROWS; i++) {
+            // every hundredth row has an invalid email
+            String email = i % 100 == 0 ? "student" + i + "@invalid" : "student" + i + "@university.tmt";
+            enrollRows.add(StudentAttributes.builder("CS1101S-AY2324.Sem1", email)
+                    .withName("Student Ñame " + i)
+                    .withSectionName("Section " + i / 1000)
+                    .withTeamName("Team " + i / 5)
+                    .withComment("")
+                    .build());
+        }
+    }
+
+    /**
+     * Validates every row with the precompiled patterns.
+     */
+    @Benchmark
+    public Map<Integer, List<String>> validateEnrollRows() {
+        return FieldValidator.getInvalidityInfoForEach(enrollRows, StudentAttributes::getInvalidityInfo);
+    }
+
+    /**
+     * Matches every row against the patterns compiled on every match, as was done before they were precompiled.
+     */
+    @Benchmark
+    public void matchEnrollRowsCompilingOnEveryMatch(Blackhole blackhole) {
+        for (StudentAttributes row : enrollRows) {
+            blackhole.consume(Pattern.compile(FieldValidator.REGEX_EMAIL, Pattern.CANON_EQ)
+                    .matcher(row.getEmail()).matches());
+            blackhole.consume(Pattern.compile(FieldValidator.REGEX_COURSE_ID, Pattern.CANON_EQ)
+                    .matcher(row.getCourse()).matches());
+            blackhole.consume(Pattern.compile(FieldValidator.REGEX_NAME, Pattern.CANON_EQ)
+                    .matcher(row.getName()).matches());
+            blackhole.consume(Pattern.compile(FieldValidator.REGEX_NAME, Pattern.CANON_EQ)
+                    .matcher(row.getSection()).matches());
+            blackhole.consume(Pattern.compile(FieldValidator.REGEX_NAME, Pattern.CANON_EQ)
+                    .matcher(row.getTeam()).matches());
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package teammates.lnp.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Benchmarks the serialization of a large response body to JSON.
+ *
+ * <p>The shared Gson instances are used by all requests at once, so the serialization is also measured
+ * with several threads to show any contention between them.
+ *
+ * <p>Run with {@code ./gradlew benchmarks -Pbenchmark=JsonUtilsBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonUtilsBenchmark {
+
+    private static final int NUM_SESSIONS = 500;
+    private static final int NUM_DEADLINE_EXTENSIONS = 20;
+
+    private List<FeedbackSessionAttributes> sessions;
+    private String sessionsJson;
+
+    @Setup
+    public void setUp() {
+        Instant startTime = Instant.parse("2024-01-01T00:00:00Z");
+        sessions = new ArrayList<>();
+        for (int i = 0; i < NUM_SESSIONS; i++) {
+            Map<String, Instant> studentDeadlines = new HashMap<>();
+            for (int j = 0; j < NUM_DEADLINE_EXTENSIONS; j++) {
+                studentDeadlines.put("student" + j + "@course.tmt", startTime.plus(Duration.ofDays(8 + j)));
+            }
+            sessions.add(FeedbackSessionAttributes.builder("Session " + i, "course-id")
+                    .withCreatorEmail("instructor@course.tmt")
+                    .withInstructions("<p>Please answer all questions.</p>")
+                    .withStartTime(startTime)
+                    .withEndTime(startTime.plus(Duration.ofDays(7)))
+                    .withSessionVisibleFromTime(startTime.minus(Duration.ofDays(1)))
+                    .withResultsVisibleFromTime(startTime.plus(Duration.ofDays(14)))
+                    .withTimeZone("Asia/Singapore")
+                    .withGracePeriod(Duration.ofMinutes(15))
+                    .withStudentDeadlines(studentDeadlines)
+                    .build());
+        }
+        sessionsJson = JsonUtils.toCompactJson(sessions);
+    }
+
+    /**
+     * Serializes the sessions in a single thread.
+     */
+    @Benchmark
+    public String serialize() {
+        return JsonUtils.toCompactJson(sessions);
+    }
+
+    /**
+     * Serializes the sessions in several threads at once, as concurrent requests do.
+     */
+    @Benchmark
+    @Threads(4)
+    public String serializeConcurrently() {
+        return JsonUtils.toCompactJson(sessions);
+    }
+
+    /**
+     * Deserializes the sessions in several threads at once.
+     */
+    @Benchmark
+    @Threads(4)
+    public FeedbackSessionAttributes[] deserializeConcurrently() {
+        return JsonUtils.fromJson(sessionsJson, FeedbackSessionAttributes[].class);
+    }
+
+}
@@ -0,0 +1,178 @@
+package teammates.lnp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.SqlMissingResponseList;
+
+/**
+ * Benchmarks the generation of the missing responses of a question where each student gives feedback
+ * to every student of the course, as done when building the course-wide results of a session.
+ *
+ * <p>The missing responses which used to be created eagerly are modelled by a holder with the same fields
+ * as a missing response, as the benchmarks cannot depend on the storage entities.
+ * Allocation rates can be compared with the GC profiler of JMH.
+ *
+ * <p>Run with {@code ./gradlew benchmarks -Pbenchmark=MissingResponsesBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MissingResponsesBenchmark {
+
+    private static final int NUM_SECTIONS = 5;
+
+    @Param({ "50", "200", "500" })
+    private int numStudents;
+
+    private Map<String, String> studentSectionNames;
+    private Map<String, Set<String>> existingRecipientsOfGivers;
+
+    @Setup
+    public void setUp() {
+        studentSectionNames = new LinkedHashMap<>();
+        for (int i = 0; i < numStudents; i++) {
+            studentSectionNames.put("student" + i + "@teammates.tmt", "Section " + i % NUM_SECTIONS);
+        }
+
+        // half of the students have responded to every other student
+        existingRecipientsOfGivers = new HashMap<>();
+        List<String> students = new ArrayList<>(studentSectionNames.keySet());
+        for (int i = 0; i < numStudents; i += 2) {
+            Set<String> recipients = new HashSet<>();
+            for (int j = 0; j < numStudents; j += 2) {
+                recipients.add(students.get(j));
+            }
+            existingRecipientsOfGivers.put(students.get(i), recipients);
+        }
+    }
+
+    /**
+     * Builds the complete map of givers to recipients, removes the existing responses from it,
+     * and creates a missing response with a random ID for each remaining pair, as was done before.
+     */
+    @Benchmark
+    public List<MissingResponse> buildEagerly() {
+        Map<String, Set<String>> giverRecipientMap = new HashMap<>();
+        for (String giver : studentSectionNames.keySet()) {
+            giverRecipientMap.put(giver, new HashSet<>(studentSectionNames.keySet()));
+        }
+        for (Map.Entry<String, Set<String>> existing : existingRecipientsOfGivers.entrySet()) {
+            giverRecipientMap.get(existing.getKey()).removeAll(existing.getValue());
+        }
+
+        List<MissingResponse> missingResponses = new ArrayList<>();
+        Map<MissingResponse, Boolean> giverNameVisibility = new HashMap<>();
+        Map<MissingResponse, Boolean> recipientNameVisibility = new HashMap<>();
+        for (Map.Entry<String, Set<String>> giverRecipients : giverRecipientMap.entrySet()) {
+            String giver = giverRecipients.getKey();
+            for (String recipient : giverRecipients.getValue()) {
+                MissingResponse missingResponse = new MissingResponse(UUID.randomUUID(),
+                        giver, studentSectionNames.get(giver), recipient, studentSectionNames.get(recipient));
+                giverNameVisibility.put(missingResponse, true);
+                recipientNameVisibility.put(missingResponse, true);
+                missingResponses.add(missingResponse);
+            }
+        }
+        return missingResponses;
+    }
+
+    /**
+     * Adds the missing responses one giver at a time to a {@link SqlMissingResponseList},
+     * which only keeps the ordinals of their givers and recipients.
+     */
+    @Benchmark
+    public SqlMissingResponseList buildCompactly() {
+        Map<String, Integer> participantOrdinals = new HashMap<>();
+        List<String> participants = new ArrayList<>();
+        List<String> participantSectionNames = new ArrayList<>();
+        for (Map.Entry<String, String> student : studentSectionNames.entrySet()) {
+            participantOrdinals.put(student.getKey(), participants.size());
+            participants.add(student.getKey());
+            participantSectionNames.add(student.getValue());
+        }
+
+        Map<String, BitSet> existingRecipientOrdinals = new HashMap<>();
+        for (Map.Entry<String, Set<String>> existing : existingRecipientsOfGivers.entrySet()) {
+            BitSet recipientOrdinals = new BitSet();
+            for (String recipient : existing.getValue()) {
+                recipientOrdinals.set(participantOrdinals.get(recipient));
+            }
+            existingRecipientOrdinals.put(existing.getKey(), recipientOrdinals);
+        }
+
+        // the question is only needed when the missing responses are read, which is not measured
+        SqlMissingResponseList missingResponses =
+                new SqlMissingResponseList(null, participants, participantSectionNames);
+        for (String giver : studentSectionNames.keySet()) {
+            int giverOrdinal = participantOrdinals.get(giver);
+            BitSet existingRecipients = existingRecipientOrdinals.get(giver);
+            for (String recipient : studentSectionNames.keySet()) {
+                int recipientOrdinal = participantOrdinals.get(recipient);
+                if (existingRecipients != null && existingRecipients.get(recipientOrdinal)) {
+                    continue;
+                }
+                missingResponses.add(giverOrdinal, recipientOrdinal, true, true);
+            }
+        }
+        return missingResponses;
+    }
+
+    /**
+     * Holds the same data as a missing response created eagerly.
+     */
+    public static class MissingResponse {
+        private final UUID id;
+        private final String giver;
+        private final String giverSectionName;
+        private final String recipient;
+        private final String recipientSectionName;
+
+        MissingResponse(UUID id, String giver, String giverSectionName, String recipient, String recipientSectionName) {
+            this.id = id;
+            this.giver = giver;
+            this.giverSectionName = giverSectionName;
+            this.recipient = recipient;
+            this.recipientSectionName = recipientSectionName;
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof MissingResponse && id.equals(((MissingResponse) other).id);
+        }
+
+        @Override
+        public String toString() {
+            return giver + " (" + giverSectionName + ") to " + recipient + " (" + recipientSectionName + ")";
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+package teammates.lnp.benchmarks;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import teammates.common.util.Const;
+
+/**
+ * Benchmarks the loading of the students matching the documents returned by a search, as done by
+ * the SQL search managers.
+ *
+ * <p>The students are kept in a PostgreSQL container, so Docker is needed to run the benchmark.
+ *
+ * <p>Run with {@code ./gradlew benchmarks -Pbenchmark=SearchResultsHydrationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchResultsHydrationBenchmark {
+
+    private static final int NUM_COURSES = 200;
+    private static final int NUM_STUDENTS_PER_COURSE = 100;
+
+    /** Number of distinct courses among the search hits. */
+    @Param({ "1", "5", "50" })
+    private int numCoursesOfHits;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private Map<String, List<String>> hitEmailsByCourse;
+
+    @Setup
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:15.1-alpine");
+        postgres.start();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id SERIAL PRIMARY KEY, course_id VARCHAR(255) NOT NULL, "
+                    + "email VARCHAR(255) NOT NULL, name VARCHAR(255) NOT NULL, UNIQUE (course_id, email))");
+        }
+        try (PreparedStatement insert =
+                connection.prepareStatement("INSERT INTO users (course_id, email, name) VALUES (?, ?, ?)")) {
+            for (int c = 0; c < NUM_COURSES; c++) {
+                for (int s = 0; s < NUM_STUDENTS_PER_COURSE; s++) {
+                    insert.setString(1, "course-" + c);
+                    insert.setString(2, "student" + s + "@course" + c + ".tmt");
+                    insert.setString(3, "Student " + s);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE users");
+        }
+
+        // a full page of hits, spread evenly across the courses
+        hitEmailsByCourse = new LinkedHashMap<>();
+        for (int i = 0; i < Const.SEARCH_QUERY_SIZE_LIMIT; i++) {
+            int course = i % numCoursesOfHits;
+            hitEmailsByCourse.computeIfAbsent("course-" + course, k -> new ArrayList<>())
+                    .add("student" + i + "@course" + course + ".tmt");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+        postgres.stop();
+    }
+
+    /**
+     * Loads the student of each hit with a query of its own, as was done before the hits were batched.
+     */
+    @Benchmark
+    public List<String> loadPerHit() throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (PreparedStatement query =
+                connection.prepareStatement("SELECT name FROM users WHERE course_id = ? AND email = ?")) {
+            for (Map.Entry<String, List<String>> courseHits : hitEmailsByCourse.entrySet()) {
+                for (String email : courseHits.getValue()) {
+                    query.setString(1, courseHits.getKey());
+                    query.setString(2, email);
+                    readNames(query, names);
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Loads the students of the hits with one query per course.
+     */
+    @Benchmark
+    public List<String> loadPerCourse() throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (PreparedStatement query =
+                connection.prepareStatement("SELECT name FROM users WHERE course_id = ? AND email = ANY (?)")) {
+            for (Map.Entry<String, List<String>> courseHits : hitEmailsByCourse.entrySet()) {
+                Array emails = connection.createArrayOf("varchar", courseHits.getValue().toArray());
+                query.setString(1, courseHits.getKey());
+                query.setArray(2, emails);
+                readNames(query, names);
+                emails.free();
+            }
+        }
+        return names;
+    }
+
+    private static void readNames(PreparedStatement query, List<String> names) throws SQLException {
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                names.add(resultSet.getString(1));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package teammates.lnp.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.datatransfer.TeamEvalResultsCalculator;
+import teammates.common.util.Const;
+
+/**
+ * Benchmarks the calculation of contribution question results of a course.
+ *
+ * <p>Run with {@code ./gradlew benchmarks -Pbenchmark=TeamEvalResultBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TeamEvalResultBenchmark {
+
+    @Param({ "4", "8", "16" })
+    private int teamSize;
+
+    @Param({ "10", "100", "500" })
+    private int numTeams;
+
+    private Map<String, String> teamResponsesVersions;
+    private Map<String, int[][]> teamSubmissions;
+    private String questionId;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(teamSize * 1000L + numTeams);
+        teamResponsesVersions = new LinkedHashMap<>();
+        teamSubmissions = new LinkedHashMap<>();
+        for (int t = 0; t < numTeams; t++) {
+            String team = "Team " + t;
+            int[][] submissions = new int[teamSize][teamSize];
+            for (int i = 0; i < teamSize; i++) {
+                for (int j = 0; j < teamSize; j++) {
+                    // about one in ten students does not submit
+                    submissions[i][j] = random.nextInt(10) == 0
+                            ? Const.POINTS_NOT_SUBMITTED
+                            : Const.POINTS_EQUAL_SHARE + 5 * (random.nextInt(21) - 10);
+                }
+            }
+            teamResponsesVersions.put(team, teamSize + "@" + t);
+            teamSubmissions.put(team, submissions);
+        }
+
+        // unique per trial so that every trial starts with a cold cache
+        questionId = "question-" + System.nanoTime();
+        TeamEvalResultsCalculator.inst().calculate(questionId, teamResponsesVersions, teamSubmissions::get);
+    }
+
+    /**
+     * Calculates the results of one team after another, as was done before the results were cached.
+     */
+    @Benchmark
+    public void sequentialUncached(Blackhole blackhole) {
+        for (int[][] submissions : teamSubmissions.values()) {
+            blackhole.consume(new TeamEvalResult(submissions));
+        }
+    }
+
+    /**
+     * Calculates the results of the teams in parallel, without using any cached result.
+     */
+    @Benchmark
+    public Map<String, TeamEvalResult> parallelUncached() {
+        return TeamEvalResultsCalculator.inst().calculate(null, teamResponsesVersions, teamSubmissions::get);
+    }
+
+    /**
+     * Gets the results of the teams when none of the responses has changed since the last view.
+     */
+    @Benchmark
+    public Map<String, TeamEvalResult> cached() {
+        return TeamEvalResultsCalculator.inst().calculate(questionId, teamResponsesVersions, teamSubmissions::get);
+    }
+
+}
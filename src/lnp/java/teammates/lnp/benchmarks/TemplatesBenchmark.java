@@ -0,0 +1,92 @@
+package teammates.lnp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.util.Templates;
+import teammates.common.util.Templates.EmailTemplates;
+
+/**
+ * Benchmarks the population of an email template, as done for every recipient of a session email,
+ * and of the sample data given to new instructors.
+ *
+ * <p>Run with {@code ./gradlew benchmarks -Pbenchmark=TemplatesBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplatesBenchmark {
+
+    private static final String[] EMAIL_KEY_VALUE_PAIRS = {
+            "${userName}", "Alice",
+            "${courseName}", "Software Engineering",
+            "${courseId}", "CS2103",
+            "${feedbackSessionName}", "Peer Review",
+            "${deadline}", "Sun, 01 Jan 2023, 11:59 PM",
+            "${instructorPreamble}", "",
+            "${sessionInstructions}", "<p>Please answer all questions.</p>",
+            "${submitUrl}", "http://submit.url",
+            "${reportUrl}", "http://report.url",
+            "${feedbackAction}", "submit",
+            "${additionalContactInformation}", "contact us",
+            "${status}", "is now open",
+    };
+
+    private static final String[] SAMPLE_DATA_KEY_VALUE_PAIRS = {
+            "teammates.demo.instructor@demo.course", "instructor@university.tmt",
+            "Demo_Instructor", "Instructor Name",
+            "demo.course", "instructor.uni-demo",
+            "demo.institute", "University",
+            "demo.timezone", "Asia/Singapore",
+            "demo.date1", "2023-01-01T00:00:00Z",
+            "demo.date2", "2023-01-02T00:00:00Z",
+            "demo.date3", "2023-01-03T00:00:00Z",
+            "demo.date4", "2023-01-04T00:00:00Z",
+            "demo.date5", "2023-01-05T00:00:00Z",
+    };
+
+    /**
+     * Populates the email template in a single pass over its precompiled form.
+     */
+    @Benchmark
+    public String populateEmailTemplate() {
+        return Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION, EMAIL_KEY_VALUE_PAIRS);
+    }
+
+    /**
+     * Populates the email template by replacing one key at a time, as was done before templates were compiled.
+     */
+    @Benchmark
+    public String replaceEmailTemplateByKey() {
+        return replaceByKey(EmailTemplates.USER_FEEDBACK_SESSION, EMAIL_KEY_VALUE_PAIRS);
+    }
+
+    /**
+     * Populates the sample data, whose keys are plain text and are therefore replaced one key at a time.
+     */
+    @Benchmark
+    public String populateSampleData() {
+        return Templates.populateTemplate(Templates.INSTRUCTOR_SAMPLE_DATA, SAMPLE_DATA_KEY_VALUE_PAIRS);
+    }
+
+    private static String replaceByKey(String template, String... keyValuePairs) {
+        String populatedTemplate = template;
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        return populatedTemplate;
+    }
+
+}
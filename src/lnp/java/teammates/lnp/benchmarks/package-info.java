@@ -0,0 +1,4 @@
+/**
+ * Contains JMH micro-benchmarks of performance-sensitive computations.
+ */
+package teammates.lnp.benchmarks;
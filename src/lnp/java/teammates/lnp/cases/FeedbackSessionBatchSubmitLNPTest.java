@@ -0,0 +1,33 @@
+package teammates.lnp.cases;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.jorphan.collections.HashTree;
+
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.lnp.util.JMeterElements;
+import teammates.ui.request.FeedbackSessionResponsesRequest;
+
+/**
+ * L&P Test Case for students submitting the responses to all feedback questions in a single request.
+ *
+ * <p>Uses the same data as {@link FeedbackSessionSubmitLNPTest} so that the results of both can be compared.
+ */
+public class FeedbackSessionBatchSubmitLNPTest extends FeedbackSessionSubmitLNPTest {
+
+    @Override
+    void addSubmissionSamplers(HashTree threadGroup) {
+        FeedbackSessionResponsesRequest sessionResponsesRequest = new FeedbackSessionResponsesRequest();
+        for (int i = 1; i <= NUMBER_OF_QUESTIONS; i++) {
+            sessionResponsesRequest.getQuestionResponses().put("${question" + i + "id}", getResponsesRequest());
+        }
+
+        String path = Const.ResourceURIs.SESSION_RESPONSES + "?courseid=" + COURSE_ID
+                + "&fsname=" + URLEncoder.encode(FEEDBACK_SESSION_NAME, StandardCharsets.UTF_8)
+                + "&intent=STUDENT_SUBMISSION";
+        threadGroup.add(JMeterElements.httpSampler(path, PUT, JsonUtils.toJson(sessionResponsesRequest)));
+    }
+
+}
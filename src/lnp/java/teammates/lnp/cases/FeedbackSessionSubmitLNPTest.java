@@ -47,10 +47,10 @@ public class FeedbackSessionSubmitLNPTest extends BaseLNPTestCase {
 
     private static final String INSTRUCTOR_EMAIL = "tmms.test@gmail.tmt";
 
-    private static final String COURSE_ID = "TestData.CS101";
-    private static final String FEEDBACK_SESSION_NAME = "Test Feedback Session";
+    static final String COURSE_ID = "TestData.CS101";
+    static final String FEEDBACK_SESSION_NAME = "Test Feedback Session";
 
-    private static final int NUMBER_OF_QUESTIONS = 20;
+    static final int NUMBER_OF_QUESTIONS = 20;
 
     private static final double ERROR_RATE_LIMIT = 0.01;
     private static final double MEAN_RESP_TIME_LIMIT = 2;
@@ -242,21 +242,35 @@ public class FeedbackSessionSubmitLNPTest extends BaseLNPTestCase {
         HeaderManager headerManager = JMeterElements.headerManager(getRequestHeaders());
         threadGroup.add(headerManager);
 
-        for (int i = 1; i <= NUMBER_OF_QUESTIONS; i++) {
-            FeedbackResponsesRequest responsesRequest = new FeedbackResponsesRequest();
+        addSubmissionSamplers(threadGroup);
 
-            FeedbackTextResponseDetails responseDetails = new FeedbackTextResponseDetails();
-            responseDetails.setAnswer("<p>test</p>");
-            FeedbackResponsesRequest.FeedbackResponseRequest responseRequest =
-                    new FeedbackResponsesRequest.FeedbackResponseRequest("${studentEmail}", responseDetails);
+        return testPlan;
+    }
 
-            responsesRequest.setResponses(Collections.singletonList(responseRequest));
+    /**
+     * Adds the requests submitting the responses of a student to all the questions.
+     */
+    void addSubmissionSamplers(HashTree threadGroup) {
+        for (int i = 1; i <= NUMBER_OF_QUESTIONS; i++) {
             String path = Const.ResourceURIs.RESPONSES + "?questionid=${question" + i + "id}"
                     + "&intent=STUDENT_SUBMISSION";
-            threadGroup.add(JMeterElements.httpSampler(path, PUT, JsonUtils.toJson(responsesRequest)));
+            threadGroup.add(JMeterElements.httpSampler(path, PUT, JsonUtils.toJson(getResponsesRequest())));
         }
+    }
 
-        return testPlan;
+    /**
+     * Returns the request of a student's response to a single question.
+     */
+    static FeedbackResponsesRequest getResponsesRequest() {
+        FeedbackResponsesRequest responsesRequest = new FeedbackResponsesRequest();
+
+        FeedbackTextResponseDetails responseDetails = new FeedbackTextResponseDetails();
+        responseDetails.setAnswer("<p>test</p>");
+        FeedbackResponsesRequest.FeedbackResponseRequest responseRequest =
+                new FeedbackResponsesRequest.FeedbackResponseRequest("${studentEmail}", responseDetails);
+
+        responsesRequest.setResponses(Collections.singletonList(responseRequest));
+        return responsesRequest;
     }
 
     @Override
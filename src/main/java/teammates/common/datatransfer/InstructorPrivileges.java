@@ -323,6 +323,13 @@ public final class InstructorPrivileges {
         return isAllowedInSessionLevelAnySection(sessionName, privilegeName);
     }
 
+    /**
+     * Returns true if privilege for session is present for every section.
+     */
+    public boolean isAllowedForPrivilegeAllSections(String sessionName, String privilegeName) {
+        return isAllowedInSessionLevelAllSections(sessionName, privilegeName);
+    }
+
     /**
      * Returns true if co-owner privilege exists.
      */
@@ -395,6 +402,25 @@ public final class InstructorPrivileges {
         return false;
     }
 
+    private boolean isAllowedInSessionLevelAllSections(String sessionName, String privilegeName) {
+
+        assert isPrivilegeNameValid(privilegeName);
+
+        // sections without specific privileges follow the course level privileges
+        if (!isAllowedInCourseLevel(privilegeName)) {
+            return false;
+        }
+
+        Set<String> sections = new LinkedHashSet<>(this.sessionLevel.keySet());
+        sections.addAll(this.sectionLevel.keySet());
+        for (String sectionName : sections) {
+            if (!isAllowedInSessionLevel(sectionName, sessionName, privilegeName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Validates the privileges in course level, section level and session level.
      *
@@ -0,0 +1,79 @@
+package teammates.common.datatransfer;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackResponse;
+import teammates.storage.sqlentity.responses.FeedbackMissingResponse;
+
+/**
+ * Represents the missing responses of a feedback question in a compact form.
+ *
+ * <p>Each missing response is stored as the ordinals of its giver and recipient in a list of participants
+ * shared by all questions, together with the visibility of their names to the current user.
+ * The {@link FeedbackMissingResponse} is only created when the response is read from the list;
+ * its ID is derived from the question, giver and recipient, so reading the same response again gives an equal one.
+ */
+public class SqlMissingResponseList extends AbstractList<FeedbackResponse> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final FeedbackQuestion question;
+    private final List<String> participants;
+    private final List<String> participantSectionNames;
+    private final BitSet giverNameVisibility = new BitSet();
+    private final BitSet recipientNameVisibility = new BitSet();
+    private int[] giverOrdinals = new int[INITIAL_CAPACITY];
+    private int[] recipientOrdinals = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Creates an empty list of missing responses for the question.
+     *
+     * @param question the question of the missing responses
+     * @param participants the identifiers of the participants, indexed by their ordinals
+     * @param participantSectionNames the section names of the participants, indexed by their ordinals
+     */
+    public SqlMissingResponseList(
+            FeedbackQuestion question, List<String> participants, List<String> participantSectionNames) {
+        this.question = question;
+        this.participants = participants;
+        this.participantSectionNames = participantSectionNames;
+    }
+
+    /**
+     * Adds a missing response from the giver to the recipient with the given ordinals.
+     */
+    public void add(int giverOrdinal, int recipientOrdinal,
+                    boolean isGiverNameVisible, boolean isRecipientNameVisible) {
+        if (size == giverOrdinals.length) {
+            giverOrdinals = Arrays.copyOf(giverOrdinals, size * 2);
+            recipientOrdinals = Arrays.copyOf(recipientOrdinals, size * 2);
+        }
+        giverOrdinals[size] = giverOrdinal;
+        recipientOrdinals[size] = recipientOrdinal;
+        giverNameVisibility.set(size, isGiverNameVisible);
+        recipientNameVisibility.set(size, isRecipientNameVisible);
+        size++;
+    }
+
+    @Override
+    public FeedbackResponse get(int index) {
+        Objects.checkIndex(index, size);
+        int giverOrdinal = giverOrdinals[index];
+        int recipientOrdinal = recipientOrdinals[index];
+        return new FeedbackMissingResponse(question,
+                participants.get(giverOrdinal), participantSectionNames.get(giverOrdinal),
+                participants.get(recipientOrdinal), participantSectionNames.get(recipientOrdinal),
+                giverNameVisibility.get(index), recipientNameVisibility.get(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -11,6 +11,7 @@ import teammates.common.util.StringHelper;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackResponseComment;
+import teammates.storage.sqlentity.responses.FeedbackMissingResponse;
 
 /**
  * Represents detailed results for a feedback session.
@@ -38,6 +39,27 @@ public class SqlSessionResultsBundle {
                                 Map<FeedbackResponse, List<FeedbackResponseComment>> responseCommentsMap,
                                 Map<Long, Boolean> commentGiverVisibilityTable,
                                 SqlCourseRoster roster) {
+        this(questions, questionsNotVisibleForPreviewSet, questionsWithCommentNotVisibleForPreviewSet, responses,
+                buildQuestionToResponseMap(questions, missingResponses), responseGiverVisibilityTable,
+                responseRecipientVisibilityTable, responseCommentsMap, commentGiverVisibilityTable, roster);
+    }
+
+    /**
+     * Creates a bundle with the missing responses already grouped by question.
+     *
+     * <p>The visibility of the giver and recipient names of a {@link FeedbackMissingResponse}
+     * is taken from the response itself, so they need not be in the visibility tables.
+     */
+    public SqlSessionResultsBundle(List<FeedbackQuestion> questions,
+                                Set<FeedbackQuestion> questionsNotVisibleForPreviewSet,
+                                Set<FeedbackQuestion> questionsWithCommentNotVisibleForPreviewSet,
+                                List<FeedbackResponse> responses,
+                                Map<FeedbackQuestion, List<FeedbackResponse>> questionMissingResponseMap,
+                                Map<FeedbackResponse, Boolean> responseGiverVisibilityTable,
+                                Map<FeedbackResponse, Boolean> responseRecipientVisibilityTable,
+                                Map<FeedbackResponse, List<FeedbackResponseComment>> responseCommentsMap,
+                                Map<Long, Boolean> commentGiverVisibilityTable,
+                                SqlCourseRoster roster) {
 
         this.questions = questions;
         this.questionsNotVisibleForPreviewSet = questionsNotVisibleForPreviewSet;
@@ -47,12 +69,16 @@ public class SqlSessionResultsBundle {
         this.responseRecipientVisibilityTable = responseRecipientVisibilityTable;
         this.commentGiverVisibilityTable = commentGiverVisibilityTable;
         this.roster = roster;
-        this.questionResponseMap = buildQuestionToResponseMap(responses);
-        this.questionMissingResponseMap = buildQuestionToResponseMap(missingResponses);
+        this.questionResponseMap = buildQuestionToResponseMap(questions, responses);
+        this.questionMissingResponseMap = new LinkedHashMap<>();
+        for (FeedbackQuestion question : questions) {
+            this.questionMissingResponseMap.put(question,
+                    questionMissingResponseMap.getOrDefault(question, new ArrayList<>()));
+        }
     }
 
-    private Map<FeedbackQuestion, List<FeedbackResponse>> buildQuestionToResponseMap(
-            List<FeedbackResponse> responses) {
+    private static Map<FeedbackQuestion, List<FeedbackResponse>> buildQuestionToResponseMap(
+            List<FeedbackQuestion> questions, List<FeedbackResponse> responses) {
         // build question to response map
         Map<FeedbackQuestion, List<FeedbackResponse>> questionToResponseMap = new LinkedHashMap<>();
         for (FeedbackQuestion question : questions) {
@@ -90,13 +116,15 @@ public class SqlSessionResultsBundle {
         FeedbackParticipantType participantType;
 
         boolean isVisible;
-        if (isGiver) {
+        if (response instanceof FeedbackMissingResponse) {
+            FeedbackMissingResponse missingResponse = (FeedbackMissingResponse) response;
+            isVisible = isGiver ? missingResponse.isGiverNameVisible() : missingResponse.isRecipientNameVisible();
+        } else if (isGiver) {
             isVisible = responseGiverVisibilityTable.get(response);
-            participantType = question.getGiverType();
         } else {
             isVisible = responseRecipientVisibilityTable.get(response);
-            participantType = question.getRecipientType();
         }
+        participantType = isGiver ? question.getGiverType() : question.getRecipientType();
         boolean isTypeNone = participantType == FeedbackParticipantType.NONE;
 
         return isVisible || isTypeNone;
@@ -0,0 +1,45 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.storage.sqlentity.Student;
+
+/**
+ * Represents the results of enrolling a list of students in a course.
+ */
+public class StudentEnrollmentResults {
+
+    private final List<Student> enrolledStudents = new ArrayList<>();
+    private final Map<String, String> enrollmentErrors = new LinkedHashMap<>();
+
+    /**
+     * Records a student who is successfully created or updated.
+     */
+    public void addEnrolledStudent(Student student) {
+        enrolledStudents.add(student);
+    }
+
+    /**
+     * Records the error of a student who cannot be enrolled.
+     */
+    public void addEnrollmentError(String studentEmail, String errorMessage) {
+        enrollmentErrors.put(studentEmail, errorMessage);
+    }
+
+    /**
+     * Gets the successfully enrolled students, in the order they are enrolled.
+     */
+    public List<Student> getEnrolledStudents() {
+        return enrolledStudents;
+    }
+
+    /**
+     * Gets the error messages of the students who cannot be enrolled, keyed by their emails.
+     */
+    public Map<String, String> getEnrollmentErrors() {
+        return enrollmentErrors;
+    }
+}
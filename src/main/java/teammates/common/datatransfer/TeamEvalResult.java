@@ -37,7 +37,7 @@ public class TeamEvalResult {
          * other methods are set as public for the ease of testing.
          */
 
-        log.fine("==================\n" + "starting result calculation for\n"
+        log.fine(() -> "==================\n" + "starting result calculation for\n"
                 + pointsToString(submissionValues));
 
         claimed = submissionValues;
@@ -45,43 +45,43 @@ public class TeamEvalResult {
         normalizedClaimed = normalizeValues(claimed);
 
         int[][] claimedSanitized = sanitizeInput(submissionValues);
-        log.fine("claimed values sanitized :\n"
+        log.fine(() -> "claimed values sanitized :\n"
                 + pointsToString(claimedSanitized));
 
         double[][] claimedSanitizedNormalized = normalizeValues(intToDouble(claimedSanitized));
-        log.fine("claimed values sanitized and normalized :\n"
+        log.fine(() -> "claimed values sanitized and normalized :\n"
                 + pointsToString(claimedSanitizedNormalized));
 
         double[][] peerContributionRatioAsDouble = calculatePeerContributionRatio(claimedSanitizedNormalized);
-        log.fine("peerContributionRatio as double :\n"
+        log.fine(() -> "peerContributionRatio as double :\n"
                 + pointsToString(peerContributionRatioAsDouble));
 
         double[] averagePerceivedAsDouble = averageColumns(peerContributionRatioAsDouble);
-        log.fine("averagePerceived as double:\n"
+        log.fine(() -> "averagePerceived as double:\n"
                 + replaceMagicNumbers(Arrays.toString(averagePerceivedAsDouble)));
 
         double[] normalizedAveragePerceivedAsDouble = normalizeValues(averagePerceivedAsDouble);
-        log.fine("normalizedAveragePerceivedAsDouble as double:\n"
+        log.fine(() -> "normalizedAveragePerceivedAsDouble as double:\n"
                 + replaceMagicNumbers(Arrays
                         .toString(normalizedAveragePerceivedAsDouble)));
 
         double[][] normalizedPeerContributionRatioAsDouble =
                 adjustPeerContributionRatioToTallyNormalizedAveragePerceived(peerContributionRatioAsDouble);
-        log.fine("normalizedPeerContributionRatio as double :\n"
+        log.fine(() -> "normalizedPeerContributionRatio as double :\n"
                 + pointsToString(peerContributionRatioAsDouble));
 
         normalizedPeerContributionRatio = doubleToInt(normalizedPeerContributionRatioAsDouble);
-        log.fine("normalizedUnbiasedClaimed as int :\n"
+        log.fine(() -> "normalizedUnbiasedClaimed as int :\n"
                 + pointsToString(normalizedPeerContributionRatio));
 
         denormalizedAveragePerceived = calculatePerceivedForStudents(
                 claimedSanitized, normalizedAveragePerceivedAsDouble);
-        log.fine("perceived to students :\n"
+        log.fine(() -> "perceived to students :\n"
                 + pointsToString(denormalizedAveragePerceived));
 
         normalizedAveragePerceived = doubleToInt(normalizedAveragePerceivedAsDouble);
 
-        log.fine("Final result:\n" + this.toString());
+        log.fine(() -> "Final result:\n" + this.toString());
 
         log.fine("==================");
     }
@@ -282,10 +282,14 @@ public class TeamEvalResult {
 
         double idealSum = count * Const.POINTS_EQUAL_SHARE * 1.0;
         double factor = actualSum == 0 ? 0 : idealSum / actualSum;
-        log.fine("Factor = " + idealSum + "/" + actualSum + " = " + factor);
+        logFactor(idealSum, actualSum, factor);
         return factor;
     }
 
+    private static void logFactor(double idealSum, double actualSum, double factor) {
+        log.fine(() -> "Factor = " + idealSum + "/" + actualSum + " = " + factor);
+    }
+
     private static double[] intToDouble(int[] input) {
         return Arrays.stream(input).mapToDouble(value -> value).toArray();
     }
@@ -310,7 +314,7 @@ public class TeamEvalResult {
                     isSanitized(doubleToInt(input[i])));
             output[i] = averageColumn(input, i);
         }
-        log.fine("Column averages: "
+        log.fine(() -> "Column averages: "
                 + replaceMagicNumbers(Arrays.toString(output)));
         return output;
     }
@@ -318,11 +322,9 @@ public class TeamEvalResult {
     private static double averageColumn(double[][] arrayOfArrays, int columnIndex) {
         double sum = 0;
         int count = 0;
-        StringBuilder values = new StringBuilder();
         for (double[] array : arrayOfArrays) {
             double value = array[columnIndex];
 
-            values.append(value).append(' ');
             if (isValidSpecialValue(value)) {
                 continue;
             }
@@ -332,12 +334,19 @@ public class TeamEvalResult {
         // omit calculation if no data points
         double average = count == 0 ? NA : (double) (sum / count);
 
-        String logMessage = "Average(" + values.toString().trim() + ") = " + average;
-        log.fine(replaceMagicNumbers(logMessage));
+        log.fine(() -> replaceMagicNumbers("Average(" + columnToString(arrayOfArrays, columnIndex) + ") = " + average));
 
         return average;
     }
 
+    private static String columnToString(double[][] arrayOfArrays, int columnIndex) {
+        StringBuilder values = new StringBuilder();
+        for (double[] array : arrayOfArrays) {
+            values.append(array[columnIndex]).append(' ');
+        }
+        return values.toString().trim();
+    }
+
     static String pointsToString(int[][] array) {
         return pointsToString(intToDouble(array)).replace(".0", "");
     }
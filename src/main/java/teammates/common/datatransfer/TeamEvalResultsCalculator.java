@@ -0,0 +1,169 @@
+package teammates.common.datatransfer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Calculates the {@link TeamEvalResult} of every team for contribution questions.
+ *
+ * <p>The results are kept in memory per question, together with the version of the responses of the
+ * team they were calculated from. A result is recalculated only when the version given for its team changes,
+ * so repeated views of the same responses neither build the submissions of the team nor calculate anything.
+ * The results of the least recently used questions are discarded once there are more than
+ * {@link #MAX_CACHED_QUESTIONS} of them.
+ *
+ * <p>Teams are independent of one another, so they are calculated by a small pool of worker threads
+ * when there are many of them. If all workers are busy and {@link #MAX_PENDING_TEAMS} teams are waiting
+ * for them, further teams are calculated in the requesting thread.
+ */
+public final class TeamEvalResultsCalculator {
+
+    /** Maximum number of questions whose results are kept in memory. */
+    static final int MAX_CACHED_QUESTIONS = 1000;
+
+    /** Minimum number of teams to calculate before the calculation is done in parallel. */
+    static final int MIN_TEAMS_FOR_PARALLEL_CALCULATION = 8;
+
+    /** Maximum number of teams which can be calculated concurrently by the worker threads. */
+    static final int MAX_CONCURRENT_CALCULATIONS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    /** Maximum number of teams which can wait for a worker thread. */
+    static final int MAX_PENDING_TEAMS = 256;
+
+    private static final TeamEvalResultsCalculator instance = new TeamEvalResultsCalculator(MAX_CACHED_QUESTIONS);
+
+    private final Map<String, Map<String, CachedTeamEvalResult>> cachedResults;
+    private final ThreadPoolExecutor executor;
+
+    TeamEvalResultsCalculator(int maxCachedQuestions) {
+        this.cachedResults = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, CachedTeamEvalResult>> eldest) {
+                return size() > maxCachedQuestions;
+            }
+        };
+        this.executor = new ThreadPoolExecutor(MAX_CONCURRENT_CALCULATIONS, MAX_CONCURRENT_CALCULATIONS,
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(MAX_PENDING_TEAMS), createThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public static TeamEvalResultsCalculator inst() {
+        return instance;
+    }
+
+    /**
+     * Calculates the results of the teams of a contribution question.
+     *
+     * @param questionId the ID of the question, or null if the results should not be cached
+     * @param teamResponsesVersions the version of the responses of each team, which changes whenever
+     *                              the members of the team or the points they submitted change
+     * @param teamSubmissionsBuilder builds the points submitted within a team, where {@code [i][j]} refers to
+     *                               the points from member {@code i} to member {@code j}; it is only called
+     *                               in the requesting thread, for the teams whose results are not cached
+     * @return the result of each team, in the order of {@code teamResponsesVersions}
+     */
+    public Map<String, TeamEvalResult> calculate(String questionId, Map<String, String> teamResponsesVersions,
+            Function<String, int[][]> teamSubmissionsBuilder) {
+        Map<String, CachedTeamEvalResult> questionResults = getCachedQuestionResults(questionId);
+
+        Map<String, TeamEvalResult> teamResults = new LinkedHashMap<>();
+        Map<String, int[][]> teamsToCalculate = new LinkedHashMap<>();
+        teamResponsesVersions.forEach((team, version) -> {
+            CachedTeamEvalResult cachedResult = questionResults.get(team);
+            if (cachedResult != null && cachedResult.version.equals(version)) {
+                teamResults.put(team, cachedResult.result);
+            } else {
+                // placeholder to keep the order of the teams
+                teamResults.put(team, null);
+                teamsToCalculate.put(team, teamSubmissionsBuilder.apply(team));
+            }
+        });
+
+        calculateAll(teamsToCalculate).forEach((team, result) -> {
+            teamResults.put(team, result);
+            questionResults.put(team, new CachedTeamEvalResult(teamResponsesVersions.get(team), result));
+        });
+        return teamResults;
+    }
+
+    private Map<String, TeamEvalResult> calculateAll(Map<String, int[][]> teamSubmissions) {
+        Map<String, TeamEvalResult> results = new LinkedHashMap<>();
+        if (teamSubmissions.size() < MIN_TEAMS_FOR_PARALLEL_CALCULATION) {
+            teamSubmissions.forEach((team, submissions) -> results.put(team, new TeamEvalResult(submissions)));
+            return results;
+        }
+
+        Map<String, Future<TeamEvalResult>> futures = new LinkedHashMap<>();
+        teamSubmissions.forEach((team, submissions) ->
+                futures.put(team, executor.submit(() -> new TeamEvalResult(submissions))));
+        futures.forEach((team, future) -> results.put(team, await(future)));
+        return results;
+    }
+
+    private static TeamEvalResult await(Future<TeamEvalResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private Map<String, CachedTeamEvalResult> getCachedQuestionResults(String questionId) {
+        if (questionId == null) {
+            return new ConcurrentHashMap<>();
+        }
+        synchronized (cachedResults) {
+            return cachedResults.computeIfAbsent(questionId, k -> new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Returns the number of questions whose results are kept in memory.
+     */
+    int size() {
+        synchronized (cachedResults) {
+            return cachedResults.size();
+        }
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "team-eval-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class CachedTeamEvalResult {
+        private final String version;
+        private final TeamEvalResult result;
+
+        private CachedTeamEvalResult(String version, TeamEvalResult result) {
+            this.version = version;
+            this.result = result;
+        }
+    }
+
+}
@@ -76,6 +76,11 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         this.minPoint = null;
     }
 
+    @Override
+    public FeedbackQuestionStatistics createQuestionStatistics() {
+        return new FeedbackConstantSumQuestionStatistics(isDistributeToRecipients() ? null : getConstSumOptions());
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(
             FeedbackQuestionDetails newDetails) {
@@ -0,0 +1,65 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregated statistics of the responses to a constant sum question:
+ * the total and average points given to each option, or to each recipient if the points are distributed
+ * among recipients.
+ */
+public class FeedbackConstantSumQuestionStatistics extends FeedbackQuestionStatistics {
+
+    private final List<String> options;
+    private final Map<String, Integer> totalPoints = new TreeMap<>();
+    private final Map<String, Integer> numAnswers = new TreeMap<>();
+
+    /**
+     * Creates the statistics of a question distributing points among {@code options},
+     * or among recipients if {@code options} is null.
+     */
+    FeedbackConstantSumQuestionStatistics(List<String> options) {
+        this.options = options;
+    }
+
+    @Override
+    void updateResponse(String recipient, FeedbackResponseDetails responseDetails, int delta) {
+        List<Integer> answers = ((FeedbackConstantSumResponseDetails) responseDetails).getAnswers();
+        if (options == null) {
+            if (!answers.isEmpty()) {
+                updatePoints(recipient, answers.get(0), delta);
+            }
+            return;
+        }
+        for (int i = 0; i < answers.size() && i < options.size(); i++) {
+            updatePoints(options.get(i), answers.get(i), delta);
+        }
+    }
+
+    private void updatePoints(String key, int points, int delta) {
+        updateCount(numAnswers, key, delta);
+        totalPoints.merge(key, points * delta, Integer::sum);
+        if (!numAnswers.containsKey(key)) {
+            totalPoints.remove(key);
+        }
+    }
+
+    @Override
+    void putStatistics(Map<String, Object> output, boolean isRecipientVisible) {
+        if (options == null && !isRecipientVisible) {
+            return;
+        }
+
+        Map<String, Object> points = new LinkedHashMap<>();
+        totalPoints.forEach((key, total) -> {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("total", total);
+            summary.put("average", (double) total / numAnswers.get(key));
+            points.put(key, summary);
+        });
+        output.put(options == null ? "perRecipient" : "perOption", points);
+    }
+
+}
@@ -1,5 +1,6 @@
 package teammates.common.datatransfer.questions;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -8,12 +9,14 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.datatransfer.TeamEvalResultsCalculator;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -40,9 +43,6 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
                     + "\"Shown anonymously to recipient and team members, visible to instructors\" "
                     + "option will be used instead.";
 
-    private static final int SUMMARY_INDEX_CLAIMED = 0;
-    private static final int SUMMARY_INDEX_PERCEIVED = 1;
-
     private static final Logger log = Logger.getLogger();
 
     private boolean isZeroSum;
@@ -90,13 +90,17 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         // Each team's responses
         Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(responses, bundle, teamNames);
 
-        // Get each team's submission array. -> int[teamSize][teamSize]
-        // Where int[0][1] refers points from student 0 to student 1
-        // Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(teamNames, teamMembersEmail, teamResponses);
+        // Each team's version of its members and responses, so that unchanged teams are not recalculated
+        Map<String, String> teamResponsesVersions = new LinkedHashMap<>();
+        for (String team : teamNames) {
+            teamResponsesVersions.put(team, getTeamResponsesVersion(bundle, team, teamResponses.get(team)));
+        }
 
         // Each team's contribution question results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray);
+        // The submission array of a team is only built if its results have to be calculated.
+        Map<String, TeamEvalResult> teamResults = TeamEvalResultsCalculator.inst().calculate(
+                question.getId(), teamResponsesVersions,
+                team -> getTeamSubmissionArray(teamMembersEmail.get(team), teamResponses.get(team)));
         ContributionStatistics output = new ContributionStatistics();
 
         if (isStudent) {
@@ -135,91 +139,85 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
                         perceivedOthers.stream().mapToInt(i -> i).toArray()));
             }
         } else {
-            Map<String, int[]> studentResults = getStudentResults(teamMembersEmail, teamResults);
-
-            for (Map.Entry<String, int[]> entry : studentResults.entrySet()) {
-                int[] summary = entry.getValue();
-                String email = entry.getKey();
-                String team = bundle.getRoster().getStudentForEmail(email).getTeam();
+            teamResults.forEach((team, teamResult) -> {
                 List<String> teamEmails = teamMembersEmail.get(team);
-                TeamEvalResult teamResult = teamResults.get(team);
-                int studentIndex = teamEmails.indexOf(email);
-                Map<String, Integer> claimedOthers = new HashMap<>();
-                List<Integer> perceivedOthers = new ArrayList<>();
-                for (int i = 0; i < teamResult.normalizedPeerContributionRatio.length; i++) {
-                    if (i != studentIndex) {
-                        claimedOthers.put(teamEmails.get(i), teamResult.normalizedPeerContributionRatio[studentIndex][i]);
-                        perceivedOthers.add(teamResult.normalizedPeerContributionRatio[i][studentIndex]);
+                for (int studentIndex = 0; studentIndex < teamEmails.size(); studentIndex++) {
+                    Map<String, Integer> claimedOthers = new HashMap<>();
+                    List<Integer> perceivedOthers = new ArrayList<>();
+                    for (int i = 0; i < teamResult.normalizedPeerContributionRatio.length; i++) {
+                        if (i != studentIndex) {
+                            claimedOthers.put(teamEmails.get(i),
+                                    teamResult.normalizedPeerContributionRatio[studentIndex][i]);
+                            perceivedOthers.add(teamResult.normalizedPeerContributionRatio[i][studentIndex]);
+                        }
                     }
-                }
-                perceivedOthers.sort(Comparator.reverseOrder());
+                    perceivedOthers.sort(Comparator.reverseOrder());
 
-                output.results.put(email, new ContributionStatisticsEntry(summary[SUMMARY_INDEX_CLAIMED],
-                        summary[SUMMARY_INDEX_PERCEIVED],
-                        claimedOthers, perceivedOthers.stream().mapToInt(i -> i).toArray()));
-            }
+                    output.results.put(teamEmails.get(studentIndex), new ContributionStatisticsEntry(
+                            teamResult.normalizedClaimed[studentIndex][studentIndex],
+                            teamResult.normalizedAveragePerceived[studentIndex],
+                            claimedOthers, perceivedOthers.stream().mapToInt(i -> i).toArray()));
+                }
+            });
         }
 
-        return JsonUtils.toJson(output);
+        return JsonUtils.toCompactJson(output);
     }
 
-    private Map<String, int[]> getStudentResults(
-            Map<String, List<String>> teamMembersEmail,
-            Map<String, TeamEvalResult> teamResults) {
-        Map<String, int[]> studentResults = new LinkedHashMap<>();
-        teamResults.forEach((key, teamResult) -> {
-            List<String> teamEmails = teamMembersEmail.get(key);
-            for (int i = 0; i < teamEmails.size(); i++) {
-                String studentEmail = teamEmails.get(i);
-                int[] summary = new int[2];
-                summary[SUMMARY_INDEX_CLAIMED] = teamResult.normalizedClaimed[i][i];
-                summary[SUMMARY_INDEX_PERCEIVED] = teamResult.normalizedAveragePerceived[i];
-
-                studentResults.put(studentEmail, summary);
-            }
-        });
-        return studentResults;
-    }
-
-    private Map<String, TeamEvalResult> getTeamResults(List<String> teamNames,
-            Map<String, int[][]> teamSubmissionArray) {
-        Map<String, TeamEvalResult> teamResults = new LinkedHashMap<>();
-        for (String team : teamNames) {
-            TeamEvalResult teamEvalResult = new TeamEvalResult(teamSubmissionArray.get(team));
-            teamResults.put(team, teamEvalResult);
+    /**
+     * Gets the submission array of a team. -> int[teamSize][teamSize]
+     * Where int[0][1] refers points from student 0 to student 1
+     * Where student 0 is the 0th student in {@code memberEmailList}
+     */
+    private int[][] getTeamSubmissionArray(List<String> memberEmailList,
+            List<FeedbackResponseAttributes> teamResponseList) {
+        int teamSize = memberEmailList.size();
+        int[][] teamSubmissionArray = new int[teamSize][teamSize];
+        //Initialize all as not submitted.
+        for (int i = 0; i < teamSize; i++) {
+            Arrays.fill(teamSubmissionArray[i], Const.POINTS_NOT_SUBMITTED);
         }
-        return teamResults;
-    }
-
-    private Map<String, int[][]> getTeamSubmissionArray(List<String> teamNames,
-            Map<String, List<String>> teamMembersEmail,
-            Map<String, List<FeedbackResponseAttributes>> teamResponses) {
-        Map<String, int[][]> teamSubmissionArray = new LinkedHashMap<>();
-        for (String team : teamNames) {
-            int teamSize = teamMembersEmail.get(team).size();
-            teamSubmissionArray.put(team, new int[teamSize][teamSize]);
-            //Initialize all as not submitted.
-            for (int i = 0; i < teamSize; i++) {
-                for (int j = 0; j < teamSize; j++) {
-                    teamSubmissionArray.get(team)[i][j] = Const.POINTS_NOT_SUBMITTED;
-                }
-            }
-            //Fill in submitted points
-            List<FeedbackResponseAttributes> teamResponseList = teamResponses.get(team);
-            List<String> memberEmailList = teamMembersEmail.get(team);
-            for (FeedbackResponseAttributes response : teamResponseList) {
-                int giverIndx = memberEmailList.indexOf(response.getGiver());
-                int recipientIndx = memberEmailList.indexOf(response.getRecipient());
-                if (giverIndx == -1 || recipientIndx == -1) {
-                    continue;
-                }
-                int points = ((FeedbackContributionResponseDetails) response.getResponseDetailsCopy()).getAnswer();
-                teamSubmissionArray.get(team)[giverIndx][recipientIndx] = points;
+        //Fill in submitted points
+        Map<String, Integer> memberIndexes = new HashMap<>();
+        for (int i = 0; i < teamSize; i++) {
+            memberIndexes.put(memberEmailList.get(i), i);
+        }
+        for (FeedbackResponseAttributes response : teamResponseList) {
+            Integer giverIndx = memberIndexes.get(response.getGiver());
+            Integer recipientIndx = memberIndexes.get(response.getRecipient());
+            if (giverIndx == null || recipientIndx == null) {
+                continue;
             }
+            int points = ((FeedbackContributionResponseDetails) response.getResponseDetailsCopy()).getAnswer();
+            teamSubmissionArray[giverIndx][recipientIndx] = points;
         }
         return teamSubmissionArray;
     }
 
+    /**
+     * Gets a version of the members of a team and of their responses, which changes whenever a member joins,
+     * leaves or is updated, or a response of the team is given, updated or deleted.
+     *
+     * <p>It follows the version of the session results in the SQL database, i.e. the number of entities and
+     * the time the latest of them was updated, with the member emails in order as they index the submissions.
+     */
+    private String getTeamResponsesVersion(SessionResultsBundle bundle, String team,
+            List<FeedbackResponseAttributes> teamResponseList) {
+        List<StudentAttributes> members = bundle.getRoster().getTeamToMembersTable().get(team);
+        Instant latestMemberUpdate = members.stream()
+                .map(StudentAttributes::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        Instant latestResponseUpdate = teamResponseList.stream()
+                .map(FeedbackResponseAttributes::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        String memberEmails = members.stream().map(StudentAttributes::getEmail).collect(Collectors.joining(","));
+        return memberEmails + "@" + latestMemberUpdate + "|" + teamResponseList.size() + "@" + latestResponseUpdate;
+    }
+
     private Map<String, List<FeedbackResponseAttributes>> getTeamResponses(
             List<FeedbackResponseAttributes> responses, SessionResultsBundle bundle, List<String> teamNames) {
         Map<String, List<FeedbackResponseAttributes>> teamResponses = new LinkedHashMap<>();
@@ -48,6 +48,11 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         this.generateOptionsFor = FeedbackParticipantType.NONE;
     }
 
+    @Override
+    public FeedbackQuestionStatistics createQuestionStatistics() {
+        return new FeedbackMcqQuestionStatistics(getMcqChoices());
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackMcqQuestionDetails newMcqDetails = (FeedbackMcqQuestionDetails) newDetails;
@@ -0,0 +1,38 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregated statistics of the responses to a MCQ question: the number of times each choice was selected.
+ */
+public class FeedbackMcqQuestionStatistics extends FeedbackQuestionStatistics {
+
+    // choices of the question come first, followed by any other answer given before the choices were edited
+    final Map<String, Integer> answerFrequency = new LinkedHashMap<>();
+    int otherFrequency;
+
+    FeedbackMcqQuestionStatistics(List<String> choices) {
+        for (String choice : choices) {
+            answerFrequency.put(choice, 0);
+        }
+    }
+
+    @Override
+    void updateResponse(String recipient, FeedbackResponseDetails responseDetails, int delta) {
+        FeedbackMcqResponseDetails details = (FeedbackMcqResponseDetails) responseDetails;
+        if (details.isOther()) {
+            otherFrequency += delta;
+        } else {
+            answerFrequency.merge(details.getAnswer(), delta, Integer::sum);
+        }
+    }
+
+    @Override
+    void putStatistics(Map<String, Object> output, boolean isRecipientVisible) {
+        output.put("answerFrequency", answerFrequency);
+        output.put("otherFrequency", otherFrequency);
+    }
+
+}
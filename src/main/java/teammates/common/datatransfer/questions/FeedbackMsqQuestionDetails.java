@@ -68,6 +68,11 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         this.msqOtherWeight = 0;
     }
 
+    @Override
+    public FeedbackQuestionStatistics createQuestionStatistics() {
+        return new FeedbackMsqQuestionStatistics(getMsqChoices());
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackMsqQuestionDetails newMsqDetails = (FeedbackMsqQuestionDetails) newDetails;
@@ -0,0 +1,27 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.List;
+
+/**
+ * Aggregated statistics of the responses to a MSQ question: the number of times each choice was selected.
+ */
+public class FeedbackMsqQuestionStatistics extends FeedbackMcqQuestionStatistics {
+
+    FeedbackMsqQuestionStatistics(List<String> choices) {
+        super(choices);
+    }
+
+    @Override
+    void updateResponse(String recipient, FeedbackResponseDetails responseDetails, int delta) {
+        FeedbackMsqResponseDetails details = (FeedbackMsqResponseDetails) responseDetails;
+        for (String answer : details.getAnswers()) {
+            if (details.isOther() && answer.equals(details.getOtherFieldContent())) {
+                otherFrequency += delta;
+            } else if (!answer.isEmpty()) {
+                // an empty answer stands for "none of the above"
+                answerFrequency.merge(answer, delta, Integer::sum);
+            }
+        }
+    }
+
+}
@@ -33,6 +33,11 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
         this.step = 0.5;
     }
 
+    @Override
+    public FeedbackQuestionStatistics createQuestionStatistics() {
+        return new FeedbackNumericalScaleQuestionStatistics();
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(
             FeedbackQuestionDetails newDetails) {
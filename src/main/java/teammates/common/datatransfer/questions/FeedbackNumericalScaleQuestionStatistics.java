@@ -0,0 +1,59 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregated statistics of the responses to a numerical scale question:
+ * the mean, minimum and maximum of the answers, overall and for each recipient.
+ */
+public class FeedbackNumericalScaleQuestionStatistics extends FeedbackQuestionStatistics {
+
+    // the number of times each answer was given, so that the minimum and maximum survive removals
+    private final TreeMap<Double, Integer> answerFrequency = new TreeMap<>();
+    private final Map<String, TreeMap<Double, Integer>> answerFrequencyPerRecipient = new TreeMap<>();
+
+    @Override
+    void updateResponse(String recipient, FeedbackResponseDetails responseDetails, int delta) {
+        double answer = ((FeedbackNumericalScaleResponseDetails) responseDetails).getAnswer();
+        updateCount(answerFrequency, answer, delta);
+
+        TreeMap<Double, Integer> recipientAnswerFrequency =
+                answerFrequencyPerRecipient.computeIfAbsent(recipient, k -> new TreeMap<>());
+        updateCount(recipientAnswerFrequency, answer, delta);
+        if (recipientAnswerFrequency.isEmpty()) {
+            answerFrequencyPerRecipient.remove(recipient);
+        }
+    }
+
+    @Override
+    void putStatistics(Map<String, Object> output, boolean isRecipientVisible) {
+        output.put("overall", getSummary(answerFrequency));
+        if (isRecipientVisible) {
+            Map<String, Object> perRecipient = new LinkedHashMap<>();
+            answerFrequencyPerRecipient.forEach((recipient, frequency) ->
+                    perRecipient.put(recipient, getSummary(frequency)));
+            output.put("perRecipient", perRecipient);
+        }
+    }
+
+    private static Map<String, Object> getSummary(TreeMap<Double, Integer> answerFrequency) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        if (answerFrequency.isEmpty()) {
+            return summary;
+        }
+
+        double sum = 0;
+        int count = 0;
+        for (Map.Entry<Double, Integer> entry : answerFrequency.entrySet()) {
+            sum += entry.getKey() * entry.getValue();
+            count += entry.getValue();
+        }
+        summary.put("mean", sum / count);
+        summary.put("min", answerFrequency.firstKey());
+        summary.put("max", answerFrequency.lastKey());
+        return summary;
+    }
+
+}
@@ -55,6 +55,16 @@ public abstract class FeedbackQuestionDetails {
         return "";
     }
 
+    /**
+     * Creates empty statistics for the responses to the question, to which the responses can be added.
+     * Override for question types whose statistics can be aggregated independently of the viewer.
+     *
+     * @return the statistics, or null if the statistics of the question type are not aggregated.
+     */
+    public FeedbackQuestionStatistics createQuestionStatistics() {
+        return null;
+    }
+
     /**
      * Checks whether the changes to the question details require deletion of corresponding responses.
      */
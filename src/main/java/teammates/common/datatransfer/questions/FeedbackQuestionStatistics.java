@@ -0,0 +1,74 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import teammates.common.util.JsonUtils;
+
+/**
+ * Aggregated statistics of the responses to a question.
+ *
+ * <p>This abstract class is inherited by concrete Feedback*QuestionStatistics classes, one for each
+ * question type whose statistics are aggregated. The statistics are maintained incrementally,
+ * i.e. a response can be added or removed without going through the other responses again.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @see FeedbackQuestionDetails#createQuestionStatistics()
+ */
+public abstract class FeedbackQuestionStatistics {
+
+    private int numResponses;
+
+    /**
+     * Adds a response to the statistics.
+     */
+    public void addResponse(String recipient, FeedbackResponseDetails responseDetails) {
+        numResponses++;
+        updateResponse(recipient, responseDetails, 1);
+    }
+
+    /**
+     * Removes a response previously added to the statistics.
+     */
+    public void removeResponse(String recipient, FeedbackResponseDetails responseDetails) {
+        numResponses--;
+        updateResponse(recipient, responseDetails, -1);
+    }
+
+    /**
+     * Adds the response to the statistics if {@code delta} is 1, or removes it if {@code delta} is -1.
+     */
+    abstract void updateResponse(String recipient, FeedbackResponseDetails responseDetails, int delta);
+
+    /**
+     * Puts the statistics into {@code output}.
+     *
+     * @param isRecipientVisible whether the statistics of individual recipients can be included
+     */
+    abstract void putStatistics(Map<String, Object> output, boolean isRecipientVisible);
+
+    public int getNumResponses() {
+        return numResponses;
+    }
+
+    /**
+     * Gets the statistics as JSON string.
+     *
+     * @param isRecipientVisible whether the statistics of individual recipients can be included
+     */
+    public String toJson(boolean isRecipientVisible) {
+        Map<String, Object> output = new LinkedHashMap<>();
+        output.put("numResponses", numResponses);
+        putStatistics(output, isRecipientVisible);
+        return JsonUtils.toJson(output);
+    }
+
+    /**
+     * Adds {@code delta} to the count of {@code key}, removing the key once its count drops to zero.
+     */
+    static <K> void updateCount(Map<K, Integer> counts, K key, int delta) {
+        counts.merge(key, delta, (count, d) -> count + d == 0 ? null : count + d);
+    }
+
+}
@@ -37,6 +37,11 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
         this.options = new ArrayList<>();
     }
 
+    @Override
+    public FeedbackQuestionStatistics createQuestionStatistics() {
+        return new FeedbackRankOptionsQuestionStatistics(getOptions());
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackRankOptionsQuestionDetails newRankQuestionDetails = (FeedbackRankOptionsQuestionDetails) newDetails;
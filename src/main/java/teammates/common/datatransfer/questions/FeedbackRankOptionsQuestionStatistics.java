@@ -0,0 +1,35 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.util.Const;
+
+/**
+ * Aggregated statistics of the responses to a rank options question.
+ */
+public class FeedbackRankOptionsQuestionStatistics extends FeedbackRankQuestionStatistics {
+
+    private final List<String> options;
+
+    FeedbackRankOptionsQuestionStatistics(List<String> options) {
+        this.options = options;
+    }
+
+    @Override
+    void updateResponse(String recipient, FeedbackResponseDetails responseDetails, int delta) {
+        List<Integer> answers = ((FeedbackRankOptionsResponseDetails) responseDetails).getAnswers();
+        for (int i = 0; i < answers.size() && i < options.size(); i++) {
+            int rank = answers.get(i);
+            if (rank != Const.POINTS_NOT_SUBMITTED) {
+                updateRank(options.get(i), rank, delta);
+            }
+        }
+    }
+
+    @Override
+    void putStatistics(Map<String, Object> output, boolean isRecipientVisible) {
+        putRankFrequency(output, "perOption");
+    }
+
+}
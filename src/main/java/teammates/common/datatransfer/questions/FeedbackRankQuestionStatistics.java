@@ -0,0 +1,45 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregated statistics of the responses to a rank question:
+ * the number of times each rank was given to each option or recipient, and the average rank.
+ */
+public abstract class FeedbackRankQuestionStatistics extends FeedbackQuestionStatistics {
+
+    // option or recipient -> rank -> number of times the rank was given
+    private final Map<String, TreeMap<Integer, Integer>> rankFrequency = new TreeMap<>();
+
+    void updateRank(String rankedItem, int rank, int delta) {
+        TreeMap<Integer, Integer> itemRankFrequency = rankFrequency.computeIfAbsent(rankedItem, k -> new TreeMap<>());
+        updateCount(itemRankFrequency, rank, delta);
+        if (itemRankFrequency.isEmpty()) {
+            rankFrequency.remove(rankedItem);
+        }
+    }
+
+    /**
+     * Puts the rank distribution of every ranked option or recipient into {@code output} under {@code key}.
+     */
+    void putRankFrequency(Map<String, Object> output, String key) {
+        Map<String, Object> ranks = new LinkedHashMap<>();
+        rankFrequency.forEach((rankedItem, itemRankFrequency) -> {
+            int sum = 0;
+            int count = 0;
+            for (Map.Entry<Integer, Integer> entry : itemRankFrequency.entrySet()) {
+                sum += entry.getKey() * entry.getValue();
+                count += entry.getValue();
+            }
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("rankFrequency", itemRankFrequency);
+            summary.put("averageRank", (double) sum / count);
+            ranks.put(rankedItem, summary);
+        });
+        output.put(key, ranks);
+    }
+
+}
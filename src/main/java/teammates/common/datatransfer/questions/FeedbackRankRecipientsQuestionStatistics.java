@@ -0,0 +1,27 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.Map;
+
+import teammates.common.util.Const;
+
+/**
+ * Aggregated statistics of the responses to a rank recipients question.
+ */
+public class FeedbackRankRecipientsQuestionStatistics extends FeedbackRankQuestionStatistics {
+
+    @Override
+    void updateResponse(String recipient, FeedbackResponseDetails responseDetails, int delta) {
+        int rank = ((FeedbackRankRecipientsResponseDetails) responseDetails).getAnswer();
+        if (rank != Const.POINTS_NOT_SUBMITTED) {
+            updateRank(recipient, rank, delta);
+        }
+    }
+
+    @Override
+    void putStatistics(Map<String, Object> output, boolean isRecipientVisible) {
+        if (isRecipientVisible) {
+            putRankFrequency(output, "perRecipient");
+        }
+    }
+
+}
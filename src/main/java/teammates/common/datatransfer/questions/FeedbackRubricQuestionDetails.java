@@ -75,6 +75,11 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         return rubricWeightsForEachCell.stream().allMatch(x -> x.size() == rubricChoices.size());
     }
 
+    @Override
+    public FeedbackQuestionStatistics createQuestionStatistics() {
+        return new FeedbackRubricQuestionStatistics(getNumOfRubricSubQuestions(), getNumOfRubricChoices());
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackRubricQuestionDetails newRubricDetails = (FeedbackRubricQuestionDetails) newDetails;
@@ -0,0 +1,36 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregated statistics of the responses to a rubric question:
+ * the number of times each choice was selected for each sub-question.
+ */
+public class FeedbackRubricQuestionStatistics extends FeedbackQuestionStatistics {
+
+    // answerFrequency[i][j] is the number of times choice j was selected for sub-question i
+    private final int[][] answerFrequency;
+
+    FeedbackRubricQuestionStatistics(int numOfSubQuestions, int numOfChoices) {
+        this.answerFrequency = new int[numOfSubQuestions][numOfChoices];
+    }
+
+    @Override
+    void updateResponse(String recipient, FeedbackResponseDetails responseDetails, int delta) {
+        List<Integer> answer = ((FeedbackRubricResponseDetails) responseDetails).getAnswer();
+        for (int subQuestion = 0; subQuestion < answer.size() && subQuestion < answerFrequency.length; subQuestion++) {
+            int choice = answer.get(subQuestion);
+            // choices not chosen, or removed after the response was given, are not counted
+            if (choice >= 0 && choice < answerFrequency[subQuestion].length) {
+                answerFrequency[subQuestion][choice] += delta;
+            }
+        }
+    }
+
+    @Override
+    void putStatistics(Map<String, Object> output, boolean isRecipientVisible) {
+        output.put("answerFrequency", answerFrequency);
+    }
+
+}
@@ -0,0 +1,154 @@
+package teammates.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates the {@link RequestMetrics} of the requests served by each action into histograms.
+ */
+public final class ActionMetrics {
+
+    private static final ActionMetrics instance = new ActionMetrics();
+
+    private static final long[] LATENCY_MILLIS_BOUNDS = { 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000 };
+    private static final long[] CALL_COUNT_BOUNDS = { 0, 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000 };
+    private static final long[] BYTES_BOUNDS = { 1024, 4096, 16384, 65536, 262144, 1048576, 4194304, 16777216 };
+
+    private final Map<String, Statistics> statisticsByAction = new ConcurrentHashMap<>();
+
+    private ActionMetrics() {
+        // prevent initialization
+    }
+
+    public static ActionMetrics inst() {
+        return instance;
+    }
+
+    /**
+     * Records a request served by the given action.
+     */
+    public void record(String actionName, int statusCode, long latencyMillis, RequestMetrics metrics) {
+        statisticsByAction.computeIfAbsent(actionName, k -> new Statistics())
+                .record(statusCode, latencyMillis, metrics);
+    }
+
+    /**
+     * Returns the statistics of every action, accumulated since the server was started.
+     */
+    public Map<String, Map<String, Object>> getStatistics() {
+        Map<String, Map<String, Object>> statistics = new TreeMap<>();
+        statisticsByAction.forEach((actionName, actionStatistics) ->
+                statistics.put(actionName, actionStatistics.getSnapshot()));
+        return statistics;
+    }
+
+    /**
+     * Clears the statistics of all actions.
+     */
+    public void reset() {
+        statisticsByAction.clear();
+    }
+
+    private static final class Statistics {
+        private final LongAdder numRequests = new LongAdder();
+        private final LongAdder numServerErrors = new LongAdder();
+        private final Histogram latencyMillis = new Histogram(LATENCY_MILLIS_BOUNDS);
+        private final Histogram sqlStatements = new Histogram(CALL_COUNT_BOUNDS);
+        private final Histogram sqlTimeMillis = new Histogram(LATENCY_MILLIS_BOUNDS);
+        private final Histogram datastoreRpcs = new Histogram(CALL_COUNT_BOUNDS);
+        private final Histogram solrCalls = new Histogram(CALL_COUNT_BOUNDS);
+        private final Histogram solrTimeMillis = new Histogram(LATENCY_MILLIS_BOUNDS);
+        private final Histogram tasksEnqueued = new Histogram(CALL_COUNT_BOUNDS);
+        private final Histogram responseBytes = new Histogram(BYTES_BOUNDS);
+        private final Histogram serializationTimeMillis = new Histogram(LATENCY_MILLIS_BOUNDS);
+        private final Histogram responseWriteTimeMillis = new Histogram(LATENCY_MILLIS_BOUNDS);
+
+        void record(int statusCode, long latency, RequestMetrics metrics) {
+            numRequests.increment();
+            if (statusCode >= 500) {
+                numServerErrors.increment();
+            }
+            latencyMillis.record(latency);
+            sqlStatements.record(metrics.getSqlStatements());
+            sqlTimeMillis.record(metrics.getSqlTimeMillis());
+            datastoreRpcs.record(metrics.getDatastoreRpcs());
+            solrCalls.record(metrics.getSolrCalls());
+            solrTimeMillis.record(metrics.getSolrTimeMillis());
+            tasksEnqueued.record(metrics.getTasksEnqueued());
+            responseBytes.record(metrics.getResponseBytes());
+            serializationTimeMillis.record(metrics.getSerializationTimeMillis());
+            responseWriteTimeMillis.record(metrics.getResponseWriteTimeMillis());
+        }
+
+        Map<String, Object> getSnapshot() {
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("requests", numRequests.sum());
+            snapshot.put("serverErrors", numServerErrors.sum());
+            snapshot.put("latencyMillis", latencyMillis.getSnapshot());
+            snapshot.put("sqlStatements", sqlStatements.getSnapshot());
+            snapshot.put("sqlTimeMillis", sqlTimeMillis.getSnapshot());
+            snapshot.put("datastoreRpcs", datastoreRpcs.getSnapshot());
+            snapshot.put("solrCalls", solrCalls.getSnapshot());
+            snapshot.put("solrTimeMillis", solrTimeMillis.getSnapshot());
+            snapshot.put("tasksEnqueued", tasksEnqueued.getSnapshot());
+            snapshot.put("responseBytes", responseBytes.getSnapshot());
+            snapshot.put("serializationTimeMillis", serializationTimeMillis.getSnapshot());
+            snapshot.put("responseWriteTimeMillis", responseWriteTimeMillis.getSnapshot());
+            return snapshot;
+        }
+    }
+
+    /**
+     * Counts the recorded values falling into each bucket, where a bucket holds the values
+     * up to and including its bound and above the bound of the previous bucket.
+     */
+    private static final class Histogram {
+        private final long[] bounds;
+        // the last count is for the values above the largest bound
+        private final LongAdder[] counts;
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Long::max, 0L);
+
+        Histogram(long[] bounds) {
+            this.bounds = bounds;
+            this.counts = new LongAdder[bounds.length + 1];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+
+        void record(long value) {
+            int bucket = 0;
+            while (bucket < bounds.length && value > bounds[bucket]) {
+                bucket++;
+            }
+            counts[bucket].increment();
+            sum.add(value);
+            max.accumulate(value);
+        }
+
+        Map<String, Object> getSnapshot() {
+            Map<String, Long> buckets = new LinkedHashMap<>();
+            long total = 0;
+            for (int i = 0; i < bounds.length; i++) {
+                long count = counts[i].sum();
+                buckets.put("<=" + bounds[i], count);
+                total += count;
+            }
+            long overflowCount = counts[bounds.length].sum();
+            buckets.put(">" + bounds[bounds.length - 1], overflowCount);
+            total += overflowCount;
+
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("mean", total == 0 ? 0.0 : sum.sum() / (double) total);
+            snapshot.put("max", max.get());
+            snapshot.put("buckets", buckets);
+            return snapshot;
+        }
+    }
+
+}
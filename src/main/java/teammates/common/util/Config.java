@@ -88,9 +88,69 @@ public final class Config {
     /** The value of the "app.mailjet.secretkey" in build.properties file. */
     public static final String MAILJET_SECRETKEY;
 
+    /** The value of the "app.email.ratelimit" in build.properties file. */
+    public static final int EMAIL_RATE_LIMIT;
+
     /** The value of the "app.search.service.host" in build.properties file. */
     public static final String SEARCH_SERVICE_HOST;
 
+    /** The value of the "app.search.commitwithin" in build.properties file. */
+    public static final int SEARCH_COMMIT_WITHIN;
+
+    /** The value of the "app.db.pool.size" in build.properties file. */
+    public static final int DB_POOL_SIZE;
+
+    /** The value of the "app.db.pool.minidle" in build.properties file. */
+    public static final int DB_POOL_MIN_IDLE;
+
+    /** The value of the "app.db.pool.idletimeout" in build.properties file. */
+    public static final long DB_POOL_IDLE_TIMEOUT;
+
+    /** The value of the "app.db.pool.leakdetectionthreshold" in build.properties file. */
+    public static final long DB_POOL_LEAK_DETECTION_THRESHOLD;
+
+    /** The value of the "app.db.statementcache.size" in build.properties file. */
+    public static final int DB_STATEMENT_CACHE_SIZE;
+
+    /** The value of the "app.db.jdbc.batchsize" in build.properties file. */
+    public static final int DB_JDBC_BATCH_SIZE;
+
+    /** The value of the "app.db.jdbc.fetchsize" in build.properties file. */
+    public static final int DB_JDBC_FETCH_SIZE;
+
+    /** The value of the "app.db.showsql" in build.properties file. */
+    public static final boolean DB_SHOW_SQL;
+
+    /** The value of the "app.db.cache.enabled" in build.properties file. */
+    public static final boolean DB_CACHE_ENABLED;
+
+    /** The value of the "app.db.cache.maxentries" in build.properties file. */
+    public static final long DB_CACHE_MAX_ENTRIES;
+
+    /** The value of the "app.db.cache.ttl" in build.properties file. */
+    public static final long DB_CACHE_TTL;
+
+    /** The value of the "app.sessionresults.snapshot.maxsizemb" in build.properties file. */
+    public static final int SESSION_RESULTS_SNAPSHOT_MAX_SIZE_MB;
+
+    /** The value of the "app.migrationstatus.refreshinterval" in build.properties file. */
+    public static final long MIGRATION_STATUS_REFRESH_INTERVAL;
+
+    /** The value of the "app.userroles.cache.maxentries" in build.properties file. */
+    public static final long USER_ROLES_CACHE_MAX_ENTRIES;
+
+    /** The value of the "app.userroles.cache.ttl" in build.properties file. */
+    public static final long USER_ROLES_CACHE_TTL;
+
+    /** The value of the "app.slowrequest.threshold" in build.properties file. */
+    public static final long SLOW_REQUEST_THRESHOLD;
+
+    /** The value of the "app.taskqueue.service" in build.properties file. */
+    public static final String TASKQUEUE_SERVICE;
+
+    /** The value of the "app.taskqueue.backlogsize" in build.properties file. */
+    public static final int TASKQUEUE_BACKLOG_SIZE;
+
     /** The value of the "app.enable.datastore.backup" in build.properties file. */
     public static final boolean ENABLE_DATASTORE_BACKUP;
 
@@ -178,7 +238,35 @@ public final class Config {
         MAILGUN_DOMAINNAME = getProperty(properties, devProperties, "app.mailgun.domainname");
         MAILJET_APIKEY = getProperty(properties, devProperties, "app.mailjet.apikey");
         MAILJET_SECRETKEY = getProperty(properties, devProperties, "app.mailjet.secretkey");
+        EMAIL_RATE_LIMIT = Integer.parseInt(getProperty(properties, devProperties, "app.email.ratelimit", "10"));
         SEARCH_SERVICE_HOST = getProperty(properties, devProperties, "app.search.service.host");
+        SEARCH_COMMIT_WITHIN = Integer.parseInt(getProperty(properties, devProperties, "app.search.commitwithin", "1000"));
+        DB_POOL_SIZE = Integer.parseInt(getProperty(properties, devProperties, "app.db.pool.size", "10"));
+        DB_POOL_MIN_IDLE = Integer.parseInt(getProperty(properties, devProperties, "app.db.pool.minidle", "2"));
+        DB_POOL_IDLE_TIMEOUT = Long.parseLong(
+                getProperty(properties, devProperties, "app.db.pool.idletimeout", "600000"));
+        DB_POOL_LEAK_DETECTION_THRESHOLD = Long.parseLong(
+                getProperty(properties, devProperties, "app.db.pool.leakdetectionthreshold", "0"));
+        DB_STATEMENT_CACHE_SIZE = Integer.parseInt(
+                getProperty(properties, devProperties, "app.db.statementcache.size", "256"));
+        DB_JDBC_BATCH_SIZE = Integer.parseInt(getProperty(properties, devProperties, "app.db.jdbc.batchsize", "0"));
+        DB_JDBC_FETCH_SIZE = Integer.parseInt(getProperty(properties, devProperties, "app.db.jdbc.fetchsize", "0"));
+        DB_SHOW_SQL = Boolean.parseBoolean(getProperty(properties, devProperties, "app.db.showsql", "false"));
+        DB_CACHE_ENABLED = Boolean.parseBoolean(getProperty(properties, devProperties, "app.db.cache.enabled", "false"));
+        DB_CACHE_MAX_ENTRIES = Long.parseLong(getProperty(properties, devProperties, "app.db.cache.maxentries", "10000"));
+        DB_CACHE_TTL = Long.parseLong(getProperty(properties, devProperties, "app.db.cache.ttl", "300"));
+        SESSION_RESULTS_SNAPSHOT_MAX_SIZE_MB = Integer.parseInt(
+                getProperty(properties, devProperties, "app.sessionresults.snapshot.maxsizemb", "50"));
+        MIGRATION_STATUS_REFRESH_INTERVAL = Long.parseLong(
+                getProperty(properties, devProperties, "app.migrationstatus.refreshinterval", "60"));
+        USER_ROLES_CACHE_MAX_ENTRIES = Long.parseLong(
+                getProperty(properties, devProperties, "app.userroles.cache.maxentries", "10000"));
+        USER_ROLES_CACHE_TTL = Long.parseLong(getProperty(properties, devProperties, "app.userroles.cache.ttl", "30"));
+        SLOW_REQUEST_THRESHOLD = Long.parseLong(
+                getProperty(properties, devProperties, "app.slowrequest.threshold", "0"));
+        TASKQUEUE_SERVICE = getProperty(properties, devProperties, "app.taskqueue.service", "");
+        TASKQUEUE_BACKLOG_SIZE = Integer.parseInt(
+                getProperty(properties, devProperties, "app.taskqueue.backlogsize", "1000"));
         ENABLE_DATASTORE_BACKUP = Boolean.parseBoolean(
                 getProperty(properties, devProperties, "app.enable.datastore.backup", "false"));
         MAINTENANCE = Boolean.parseBoolean(getProperty(properties, devProperties, "app.maintenance", "false"));
@@ -319,4 +407,12 @@ public final class Config {
                 && MAILJET_SECRETKEY != null && !MAILJET_SECRETKEY.isEmpty();
     }
 
+    /**
+     * Returns true if the in-process task queue is used, which is never the case on Google App Engine
+     * as the tasks of the in-process task queue are lost when an instance stops.
+     */
+    public static boolean isUsingInProcessTaskQueue() {
+        return IS_DEV_SERVER && "inprocess".equalsIgnoreCase(TASKQUEUE_SERVICE);
+    }
+
 }
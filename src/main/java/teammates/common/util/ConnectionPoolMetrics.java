@@ -0,0 +1,86 @@
+package teammates.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * Collects the usage statistics of the SQL database connection pool.
+ */
+public final class ConnectionPoolMetrics implements MetricsTrackerFactory {
+
+    private static final ConnectionPoolMetrics instance = new ConnectionPoolMetrics();
+
+    private final LongAdder numAcquisitions = new LongAdder();
+    private final LongAdder totalAcquisitionNanos = new LongAdder();
+    private final LongAccumulator maxAcquisitionNanos = new LongAccumulator(Long::max, 0L);
+    private final LongAdder totalUsageMillis = new LongAdder();
+    private final LongAdder numTimeouts = new LongAdder();
+
+    private volatile PoolStats poolStats;
+
+    private ConnectionPoolMetrics() {
+        // prevent initialization
+    }
+
+    public static ConnectionPoolMetrics inst() {
+        return instance;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolStats = poolStats;
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                numAcquisitions.increment();
+                totalAcquisitionNanos.add(elapsedAcquiredNanos);
+                maxAcquisitionNanos.accumulate(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                totalUsageMillis.add(elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                numTimeouts.increment();
+            }
+        };
+    }
+
+    /**
+     * Returns a snapshot of the connection pool statistics.
+     *
+     * <p>Wait and usage times are accumulated since the pool was started.
+     */
+    public Map<String, Object> getSnapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        PoolStats stats = poolStats;
+        if (stats != null) {
+            snapshot.put("activeConnections", stats.getActiveConnections());
+            snapshot.put("idleConnections", stats.getIdleConnections());
+            snapshot.put("totalConnections", stats.getTotalConnections());
+            snapshot.put("maxConnections", stats.getMaxConnections());
+            snapshot.put("pendingThreads", stats.getPendingThreads());
+        }
+
+        long acquisitions = numAcquisitions.sum();
+        long acquisitionNanos = totalAcquisitionNanos.sum();
+        snapshot.put("acquisitions", acquisitions);
+        snapshot.put("timeouts", numTimeouts.sum());
+        snapshot.put("averageWaitMillis",
+                acquisitions == 0 ? 0.0 : acquisitionNanos / (double) TimeUnit.MILLISECONDS.toNanos(1) / acquisitions);
+        snapshot.put("maxWaitMillis", TimeUnit.NANOSECONDS.toMillis(maxAcquisitionNanos.get()));
+        snapshot.put("averageUsageMillis", acquisitions == 0 ? 0.0 : (double) totalUsageMillis.sum() / acquisitions);
+        return snapshot;
+    }
+
+}
@@ -142,6 +142,8 @@ public final class Const {
 
         public static final String FEEDBACK_RESULTS_SECTION_BY_GIVER_RECEIVER = "frsessionbygiverreceiver";
 
+        public static final String FEEDBACK_RESULTS_STATISTICS_ONLY = "frstatisticsonly";
+
         public static final String PREVIEWAS = "previewas";
 
         public static final String STUDENT_ID = "googleid";
@@ -230,6 +232,13 @@ public final class Const {
 
     }
 
+    /**
+     * Represents the second-level cache regions for query results.
+     */
+    public static class CacheRegions {
+        public static final String FEEDBACK_QUESTIONS_FOR_SESSION = "FeedbackQuestionsForSession";
+    }
+
     /**
      * Represents security-related configuration.
      */
@@ -357,6 +366,7 @@ public final class Const {
         public static final String SESSION_REMIND_SUBMISSION = URI_PREFIX + "/session/remind/submission";
         public static final String SESSION_REMIND_RESULT = URI_PREFIX + "/session/remind/result";
         public static final String SESSION_STATS = URI_PREFIX + "/session/stats";
+        public static final String SESSION_RESPONSES = URI_PREFIX + "/session/responses";
         public static final String SESSION_SUBMITTED_GIVER_SET = URI_PREFIX + "/session/submitted/giverset";
         public static final String SESSIONS = URI_PREFIX + "/sessions";
         public static final String SEARCH_ACCOUNT_REQUESTS = URI_PREFIX + "/search/accountrequests";
@@ -427,6 +437,11 @@ public final class Const {
         public static final String FEEDBACK_SESSION_REMIND_PARTICULAR_USERS_EMAIL_WORKER_URL =
                 URI_PREFIX + "/feedbackSessionRemindParticularUsersEmail";
 
+        public static final String FEEDBACK_SESSION_REMINDER_EMAILS_CHUNK_QUEUE_NAME =
+                "feedback-session-reminder-emails-chunk-queue";
+        public static final String FEEDBACK_SESSION_REMINDER_EMAILS_CHUNK_WORKER_URL =
+                URI_PREFIX + "/feedbackSessionReminderEmailsChunk";
+
         public static final String FEEDBACK_SESSION_UNPUBLISHED_EMAIL_QUEUE_NAME =
                 "feedback-session-unpublished-email-queue";
         public static final String FEEDBACK_SESSION_UNPUBLISHED_EMAIL_WORKER_URL =
@@ -437,6 +452,7 @@ public final class Const {
 
         public static final String SEND_EMAIL_QUEUE_NAME = "send-email-queue";
         public static final String SEND_EMAIL_WORKER_URL = URI_PREFIX + "/sendEmail";
+        public static final String SEND_EMAILS_WORKER_URL = URI_PREFIX + "/sendEmails";
 
         public static final String STUDENT_COURSE_JOIN_EMAIL_QUEUE_NAME = "student-course-join-email-queue";
         public static final String STUDENT_COURSE_JOIN_EMAIL_WORKER_URL = URI_PREFIX + "/studentCourseJoinEmail";
@@ -446,6 +462,7 @@ public final class Const {
         public static final String ACCOUNT_REQUEST_SEARCH_INDEXING_WORKER_URL =
                 URI_PREFIX + "/accountRequestSearchIndexing";
         public static final String STUDENT_SEARCH_INDEXING_WORKER_URL = URI_PREFIX + "/studentSearchIndexing";
+        public static final String STUDENTS_SEARCH_INDEXING_WORKER_URL = URI_PREFIX + "/studentsSearchIndexing";
     }
 
 }
@@ -8,11 +8,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
@@ -268,6 +271,13 @@ public final class FieldValidator {
      */
     public static final String REGEX_GOOGLE_ID_NON_EMAIL = "[a-zA-Z0-9_.-]+";
 
+    // The patterns are compiled once as they are matched against for every entity validated
+    private static final Pattern PATTERN_NAME = StringHelper.compileCanonicalPattern(REGEX_NAME);
+    private static final Pattern PATTERN_COURSE_ID = StringHelper.compileCanonicalPattern(REGEX_COURSE_ID);
+    private static final Pattern PATTERN_EMAIL = StringHelper.compileCanonicalPattern(REGEX_EMAIL);
+    private static final Pattern PATTERN_GOOGLE_ID_NON_EMAIL =
+            StringHelper.compileCanonicalPattern(REGEX_GOOGLE_ID_NON_EMAIL);
+
     private FieldValidator() {
         // utility class
         // Intentional private constructor to prevent instantiation.
@@ -325,9 +335,6 @@ public final class FieldValidator {
 
         assert googleId != null;
 
-        boolean isValidFullEmail = isValidEmailAddress(googleId);
-        boolean isValidEmailWithoutDomain = StringHelper.isMatching(googleId, REGEX_GOOGLE_ID_NON_EMAIL);
-
         if (googleId.isEmpty()) {
             return getPopulatedEmptyStringErrorMessage(GOOGLE_ID_ERROR_MESSAGE_EMPTY_STRING,
                                             GOOGLE_ID_FIELD_NAME, GOOGLE_ID_MAX_LENGTH);
@@ -336,7 +343,7 @@ public final class FieldValidator {
         } else if (googleId.length() > GOOGLE_ID_MAX_LENGTH) {
             return getPopulatedErrorMessage(GOOGLE_ID_ERROR_MESSAGE, googleId, GOOGLE_ID_FIELD_NAME,
                                             REASON_TOO_LONG, GOOGLE_ID_MAX_LENGTH);
-        } else if (!(isValidFullEmail || isValidEmailWithoutDomain)) {
+        } else if (!StringHelper.isMatching(googleId, PATTERN_GOOGLE_ID_NON_EMAIL) && !isValidEmailAddress(googleId)) {
             return getPopulatedErrorMessage(GOOGLE_ID_ERROR_MESSAGE, googleId, GOOGLE_ID_FIELD_NAME,
                                             REASON_INCORRECT_FORMAT, GOOGLE_ID_MAX_LENGTH);
         }
@@ -365,7 +372,7 @@ public final class FieldValidator {
             return getPopulatedErrorMessage(COURSE_ID_ERROR_MESSAGE, courseId, COURSE_ID_FIELD_NAME,
                                             REASON_TOO_LONG, COURSE_ID_MAX_LENGTH);
         }
-        if (!StringHelper.isMatching(courseId, REGEX_COURSE_ID)) {
+        if (!StringHelper.isMatching(courseId, PATTERN_COURSE_ID)) {
             return getPopulatedErrorMessage(COURSE_ID_ERROR_MESSAGE, courseId, COURSE_ID_FIELD_NAME,
                                             REASON_INCORRECT_FORMAT, COURSE_ID_MAX_LENGTH);
         }
@@ -530,13 +537,13 @@ public final class FieldValidator {
                 return getPopulatedErrorMessage(INVALID_NAME_ERROR_MESSAGE, value,
                                                 fieldName, REASON_START_WITH_NON_ALPHANUMERIC_CHAR);
             }
-            if (!StringHelper.isMatching(value.substring(1), REGEX_NAME)) {
+            if (!StringHelper.isMatching(value.substring(1), PATTERN_NAME)) {
                 return getPopulatedErrorMessage(INVALID_NAME_ERROR_MESSAGE, value, fieldName,
                                                 REASON_CONTAINS_INVALID_CHAR);
             }
             return "";
         }
-        if (!StringHelper.isMatching(value, REGEX_NAME)) {
+        if (!StringHelper.isMatching(value, PATTERN_NAME)) {
             return getPopulatedErrorMessage(INVALID_NAME_ERROR_MESSAGE, value, fieldName,
                                             REASON_CONTAINS_INVALID_CHAR);
         }
@@ -994,6 +1001,25 @@ public final class FieldValidator {
         return value == null ? NON_NULL_FIELD_ERROR_MESSAGE.replace("${fieldName}", fieldName) : "";
     }
 
+    /**
+     * Validates each of the given entities with {@code validator}, e.g. the rows of an enrollment.
+     *
+     * @param validator returns the error messages of an entity, or an empty list if the entity is valid
+     * @return the error messages of the invalid entities, keyed by their indexes in {@code entities};
+     *         an empty map if all the entities are valid.
+     */
+    public static <T> Map<Integer, List<String>> getInvalidityInfoForEach(
+            List<T> entities, Function<? super T, List<String>> validator) {
+        Map<Integer, List<String>> invalidityInfo = new LinkedHashMap<>();
+        for (int i = 0; i < entities.size(); i++) {
+            List<String> errors = validator.apply(entities.get(i));
+            if (!errors.isEmpty()) {
+                invalidityInfo.put(i, errors);
+            }
+        }
+        return invalidityInfo;
+    }
+
     private static boolean isUntrimmed(String value) {
         return value.length() != value.trim().length();
     }
@@ -1004,7 +1030,7 @@ public final class FieldValidator {
      * @return true if it is a valid email address, else false.
      */
     private static boolean isValidEmailAddress(String email) {
-        return StringHelper.isMatching(email, REGEX_EMAIL);
+        return StringHelper.isMatching(email, PATTERN_EMAIL);
     }
 
     /**
@@ -1,14 +1,36 @@
 package teammates.common.util;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.Cache;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
 import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hikaricp.internal.HikariCPConnectionProvider;
+import org.hibernate.jpa.HibernateHints;
 import org.hibernate.query.MutationQuery;
 import org.hibernate.resource.transaction.spi.TransactionStatus;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import com.zaxxer.hikari.HikariDataSource;
 
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.AccountRequest;
@@ -50,6 +72,9 @@ import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
 
 /**
  * Utility class for Hibernate related methods.
@@ -93,6 +118,28 @@ public final class HibernateUtil {
             FeedbackTextResponse.class,
             FeedbackResponseComment.class);
 
+    /**
+     * Cache regions of the second-level cache, which are bounded in size and expire after a while.
+     * Entity regions are named after the entity type in their {@code @Cache} annotation.
+     *
+     * <p>The cache is local to each instance, so changes made through one instance are only seen by the other
+     * instances once their cached entries expire. Feedback sessions are not cached for this reason, as a
+     * changed deadline must be enforced by all instances at once.
+     */
+    private static final List<String> CACHE_REGIONS = List.of(
+            "Course",
+            "FeedbackQuestion",
+            "Section",
+            "Team",
+            Const.CacheRegions.FEEDBACK_QUESTIONS_FOR_SESSION,
+            "default-query-results-region");
+
+    /**
+     * Cache region holding the last update time of each table, which is used to invalidate cached query results.
+     * Entries of this region must not expire before the query results they guard.
+     */
+    private static final String UPDATE_TIMESTAMPS_CACHE_REGION = "default-update-timestamps-region";
+
     private HibernateUtil() {
         // Utility class
         // Intentional private constructor to prevent instantiation.
@@ -108,28 +155,102 @@ public final class HibernateUtil {
             }
         }
 
+        setSessionFactory(createSessionFactory(dbUrl, username, password, Config.DB_CACHE_ENABLED));
+        registerConnectionPoolMetrics();
+    }
+
+    /**
+     * Creates a new session factory, with or without the second-level cache.
+     *
+     * <p>The created session factory is not used until it is passed to {@link #setSessionFactory(SessionFactory)}.
+     */
+    public static SessionFactory createSessionFactory(String dbUrl, String username, String password,
+            boolean isCacheEnabled) {
         Configuration config = new Configuration()
                 .setProperty("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect")
+                .setProperty("hibernate.connection.provider_class", HikariCPConnectionProvider.class.getName())
                 .setProperty("hibernate.connection.driver_class", "org.postgresql.Driver")
                 .setProperty("hibernate.connection.username", username)
                 .setProperty("hibernate.connection.password", password)
                 .setProperty("hibernate.connection.url", dbUrl)
+                .setProperty("hibernate.hikari.maximumPoolSize", String.valueOf(Config.DB_POOL_SIZE))
+                .setProperty("hibernate.hikari.minimumIdle", String.valueOf(Config.DB_POOL_MIN_IDLE))
+                .setProperty("hibernate.hikari.idleTimeout", String.valueOf(Config.DB_POOL_IDLE_TIMEOUT))
+                .setProperty("hibernate.hikari.leakDetectionThreshold",
+                        String.valueOf(Config.DB_POOL_LEAK_DETECTION_THRESHOLD))
+                .setProperty("hibernate.hikari.dataSource.preparedStatementCacheQueries",
+                        String.valueOf(Config.DB_STATEMENT_CACHE_SIZE))
                 .setProperty("hibernate.hbm2ddl.auto", "update")
-                .setProperty("show_sql", "true")
+                .setProperty("hibernate.show_sql", String.valueOf(Config.DB_SHOW_SQL))
                 .setProperty("hibernate.current_session_context_class", "thread")
-                // Uncomment only during migration for optimized batch-insertion, batch-update, and batch-fetch.
-                // .setProperty("hibernate.jdbc.batch_size", "50")
-                // .setProperty("hibernate.order_updates", "true")
-                // .setProperty("hibernate.batch_versioned_data", "true")
-                // .setProperty("hibernate.jdbc.fetch_size", "50")
+                .setProperty("hibernate.order_inserts", "true")
+                .setProperty("hibernate.order_updates", "true")
+                .setProperty("hibernate.batch_versioned_data", "true")
+                .setProperty("hibernate.session_factory.statement_inspector", SqlQueryCounter.class.getName())
+                .setProperty("hibernate.session.events.auto", SqlStatementTimer.class.getName())
                 .addPackage("teammates.storage.sqlentity");
 
+        if (Config.DB_JDBC_BATCH_SIZE > 0) {
+            config.setProperty("hibernate.jdbc.batch_size", String.valueOf(Config.DB_JDBC_BATCH_SIZE));
+        }
+        if (Config.DB_JDBC_FETCH_SIZE > 0) {
+            config.setProperty("hibernate.jdbc.fetch_size", String.valueOf(Config.DB_JDBC_FETCH_SIZE));
+        }
+        if (isCacheEnabled) {
+            config.setProperty("hibernate.cache.use_second_level_cache", "true")
+                    .setProperty("hibernate.cache.use_query_cache", "true")
+                    .setProperty("hibernate.cache.region.factory_class", "jcache")
+                    .setProperty("hibernate.javax.cache.missing_cache_strategy", "fail")
+                    .setProperty("hibernate.generate_statistics", "true");
+            config.getProperties().put("hibernate.javax.cache.cache_manager", createCacheManager());
+        }
+
         for (Class<? extends BaseEntity> cls : ANNOTATED_CLASSES) {
             config = config.addAnnotatedClass(cls);
         }
         config.setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy());
 
-        setSessionFactory(config.buildSessionFactory());
+        return config.buildSessionFactory();
+    }
+
+    /**
+     * Registers {@link ConnectionPoolMetrics} as the metrics tracker of the connection pool.
+     */
+    private static void registerConnectionPoolMetrics() {
+        ConnectionProvider connectionProvider = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(ConnectionProvider.class);
+        if (connectionProvider != null && connectionProvider.isUnwrappableAs(HikariDataSource.class)) {
+            connectionProvider.unwrap(HikariDataSource.class).setMetricsTrackerFactory(ConnectionPoolMetrics.inst());
+        }
+    }
+
+    /**
+     * Creates the in-process cache manager backing the second-level cache, with all cache regions configured.
+     */
+    private static CacheManager createCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(EhcacheCachingProvider.class.getName()).getCacheManager();
+
+        CacheConfiguration<Object, Object> regionConfig = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class,
+                        ResourcePoolsBuilder.heap(Config.DB_CACHE_MAX_ENTRIES))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(Config.DB_CACHE_TTL)))
+                .build();
+        for (String region : CACHE_REGIONS) {
+            if (cacheManager.getCache(region) == null) {
+                cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(regionConfig));
+            }
+        }
+
+        // There is one entry per table, so the size bound is never reached
+        CacheConfiguration<Object, Object> timestampsConfig = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(1000))
+                .build();
+        if (cacheManager.getCache(UPDATE_TIMESTAMPS_CACHE_REGION) == null) {
+            cacheManager.createCache(UPDATE_TIMESTAMPS_CACHE_REGION,
+                    Eh107Configuration.fromEhcacheCacheConfiguration(timestampsConfig));
+        }
+
+        return cacheManager;
     }
 
     /**
@@ -165,6 +286,17 @@ public final class HibernateUtil {
         return getCurrentSession().createQuery(cr);
     }
 
+    /**
+     * Returns a generic typed TypedQuery object whose results are stored in the given query cache region.
+     * The results are not cached if the second-level cache is not enabled.
+     * @see Session#createQuery(CriteriaQuery)
+     */
+    public static <T> TypedQuery<T> createCacheableQuery(CriteriaQuery<T> cr, String cacheRegion) {
+        return getCurrentSession().createQuery(cr)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, cacheRegion);
+    }
+
     /**
      * Returns a MutationQuery object.
      * @see Session#createMutationQuery(CriteriaDelete)
@@ -207,6 +339,56 @@ public final class HibernateUtil {
         transaction.commit();
     }
 
+    /**
+     * Runs {@code action} once the current resource transaction is committed, or right away if there is
+     * no active transaction. The action is not run if the transaction is rolled back.
+     *
+     * <p>This should be used to keep state held outside the database in line with committed changes only.
+     * @see #runAfterCompletion(Consumer)
+     */
+    public static void runAfterCommit(Runnable action) {
+        runAfterCompletion(isCommitted -> {
+            if (isCommitted) {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Runs {@code action} once the current resource transaction is committed or rolled back, or right away
+     * if there is no active transaction. The action is given whether the changes were committed.
+     * @see Transaction#registerSynchronization(Synchronization)
+     */
+    public static void runAfterCompletion(Consumer<Boolean> action) {
+        Transaction transaction = HibernateUtil.getCurrentSession().getTransaction();
+        if (transaction.getStatus() != TransactionStatus.ACTIVE) {
+            action.accept(true);
+            return;
+        }
+        transaction.registerSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // nothing to do before the transaction completes
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == Status.STATUS_COMMITTED);
+            }
+        });
+    }
+
+    /**
+     * Sets the JDBC batch size of the current session, overriding the configured default.
+     * Passing {@code null} reverts to the configured default.
+     *
+     * <p>This should be used for units of work that insert or update many entities of the same type.
+     * @see Session#setJdbcBatchSize(Integer)
+     */
+    public static void setJdbcBatchSize(Integer batchSize) {
+        HibernateUtil.getCurrentSession().setJdbcBatchSize(batchSize);
+    }
+
     /**
      * Force this session to flush. Must be called at the end of a unit of work, before the transaction is committed.
      * @see Session#flush()
@@ -265,6 +447,55 @@ public final class HibernateUtil {
         HibernateUtil.getCurrentSession().remove(entity);
     }
 
+    /**
+     * Remove this instance from the session cache. Changes to the instance will not be synchronized with the database.
+     * @see Session#detach(Object)
+     */
+    public static void detach(BaseEntity entity) {
+        HibernateUtil.getCurrentSession().detach(entity);
+    }
+
+    /**
+     * Evicts all second-level cache entries of the given entity types, along with all cached query results.
+     *
+     * <p>This must be called after rows of cached entities are removed without going through Hibernate,
+     * e.g. by a database-level cascade delete.
+     * @see Cache#evictEntityData(Class)
+     */
+    public static void evictCachedEntities(Class<?>... entityTypes) {
+        Cache cache = getSessionFactory().getCache();
+        for (Class<?> entityType : entityTypes) {
+            cache.evictEntityData(entityType);
+        }
+        cache.evictQueryRegions();
+    }
+
+    /**
+     * Returns the hit and miss statistics of each second-level cache region.
+     * Returns an empty map if the second-level cache is not enabled.
+     */
+    public static Map<String, Object> getCacheStatistics() {
+        Map<String, Object> regionStatistics = new LinkedHashMap<>();
+        Statistics statistics = getSessionFactory().getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return regionStatistics;
+        }
+
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics stats = statistics.getCacheRegionStatistics(regionName);
+            if (stats == null) {
+                continue;
+            }
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("hits", stats.getHitCount());
+            snapshot.put("misses", stats.getMissCount());
+            snapshot.put("puts", stats.getPutCount());
+            snapshot.put("entriesInMemory", stats.getElementCountInMemory());
+            regionStatistics.put(regionName, snapshot);
+        }
+        return regionStatistics;
+    }
+
     /**
      * Create and execute a {@code MutationQuery} for the given delete criteria tree.
      */
@@ -272,4 +503,13 @@ public final class HibernateUtil {
         HibernateUtil.getCurrentSession().createMutationQuery(cd).executeUpdate();
     }
 
+    /**
+     * Create and execute a {@code MutationQuery} for the given update criteria tree.
+     *
+     * @return the number of entities updated
+     */
+    public static <T> int executeUpdate(CriteriaUpdate<T> cu) {
+        return HibernateUtil.getCurrentSession().createMutationQuery(cu).executeUpdate();
+    }
+
 }
@@ -55,6 +55,14 @@ import jakarta.persistence.OneToMany;
  */
 public final class JsonUtils {
 
+    /**
+     * Gson instances are immutable and thread-safe; they are built once and shared
+     * as building them (with all the type adapters registered) is relatively expensive.
+     * The registered adapters keep no state, so they need no synchronization either.
+     */
+    private static final Gson COMPACT_GSON = createGsonInstance(false);
+    private static final Gson PRETTY_GSON = createGsonInstance(true);
+
     private JsonUtils() {
         // utility class
     }
@@ -63,7 +71,7 @@ public final class JsonUtils {
      * This creates a Gson object that can handle the Date format we use in the
      * Json file and also reformat the Json string in pretty-print format.
      */
-    private static Gson getGsonInstance(boolean prettyPrint) {
+    private static Gson createGsonInstance(boolean prettyPrint) {
         GsonBuilder builder = new GsonBuilder()
                 .setExclusionStrategies(new HibernateExclusionStrategy())
                 .registerTypeAdapter(User.class, new UserAdapter())
@@ -88,7 +96,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object, Type)
      */
     public static String toJson(Object src, Type typeOfSrc) {
-        return getGsonInstance(true).toJson(src, typeOfSrc);
+        return PRETTY_GSON.toJson(src, typeOfSrc);
     }
 
     /**
@@ -97,7 +105,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object)
      */
     public static String toJson(Object src) {
-        return getGsonInstance(true).toJson(src);
+        return PRETTY_GSON.toJson(src);
     }
 
     /**
@@ -106,7 +114,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object)
      */
     public static String toCompactJson(Object src) {
-        return getGsonInstance(false).toJson(src);
+        return COMPACT_GSON.toJson(src);
     }
 
     /**
@@ -116,7 +124,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object, Appendable)
      */
     public static void toCompactJson(Object src, Appendable writer) {
-        getGsonInstance(false).toJson(src, writer);
+        COMPACT_GSON.toJson(src, writer);
     }
 
     /**
@@ -125,7 +133,7 @@ public final class JsonUtils {
      * @see Gson#fromJson(String, Type)
      */
     public static <T> T fromJson(String json, Type typeOfT) {
-        return getGsonInstance(false).fromJson(json, typeOfT);
+        return COMPACT_GSON.fromJson(json, typeOfT);
     }
 
     /**
@@ -134,7 +142,7 @@ public final class JsonUtils {
      * @see Gson#fromJson(String, Class)
      */
     public static <T> T fromJson(String json, Class<T> classOfT) {
-        return getGsonInstance(false).fromJson(json, classOfT);
+        return COMPACT_GSON.fromJson(json, classOfT);
     }
 
     /**
@@ -193,16 +201,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
-            }
+            return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
         }
 
         @Override
         public Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Instant.parse(element.getAsString());
-            }
+            return Instant.parse(element.getAsString());
         }
     }
 
@@ -210,16 +214,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(zoneId.getId());
-            }
+            return new JsonPrimitive(zoneId.getId());
         }
 
         @Override
         public ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return ZoneId.of(element.getAsString());
-            }
+            return ZoneId.of(element.getAsString());
         }
     }
 
@@ -227,16 +227,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(duration.toMinutes());
-            }
+            return new JsonPrimitive(duration.toMinutes());
         }
 
         @Override
         public Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Duration.ofMinutes(element.getAsLong());
-            }
+            return Duration.ofMinutes(element.getAsLong());
         }
     }
 
@@ -7,6 +7,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Level;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -50,6 +52,15 @@ public final class Logger {
         standardLog.fine(formatLogMessage(message, LogSeverity.DEBUG));
     }
 
+    /**
+     * Logs a message at FINE level, building the message only if the level is enabled.
+     */
+    public void fine(Supplier<String> messageSupplier) {
+        if (standardLog.isLoggable(Level.FINE)) {
+            fine(messageSupplier.get());
+        }
+    }
+
     /**
      * Logs a message at INFO level.
      */
@@ -0,0 +1,160 @@
+package teammates.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the work done by the back-end services while serving the current HTTP request.
+ *
+ * <p>Measurements are only recorded between {@link #start()} and {@link #finish()} in the same thread;
+ * work done in other threads, e.g. background tasks, is not attributed to any request.
+ */
+public final class RequestMetrics {
+
+    private static final ThreadLocal<RequestMetrics> THREAD_LOCAL = new ThreadLocal<>();
+
+    private final long initialSqlStatements;
+    private long sqlStatements;
+    private long sqlTimeNanos;
+    private long datastoreRpcs;
+    private long solrCalls;
+    private long solrTimeNanos;
+    private long tasksEnqueued;
+    private long responseBytes;
+    private long serializationTimeNanos;
+    private long responseWriteTimeNanos;
+
+    private RequestMetrics() {
+        this.initialSqlStatements = SqlQueryCounter.getCount();
+    }
+
+    /**
+     * Starts measuring the current request.
+     */
+    public static void start() {
+        THREAD_LOCAL.set(new RequestMetrics());
+    }
+
+    /**
+     * Stops measuring the current request.
+     *
+     * @return the measurements of the request, or null if it was not being measured
+     */
+    public static RequestMetrics finish() {
+        RequestMetrics metrics = THREAD_LOCAL.get();
+        THREAD_LOCAL.remove();
+        if (metrics != null) {
+            metrics.sqlStatements = SqlQueryCounter.getCount() - metrics.initialSqlStatements;
+        }
+        return metrics;
+    }
+
+    /**
+     * Records the time spent executing a SQL statement or batch.
+     */
+    public static void recordSqlTime(long nanos) {
+        RequestMetrics metrics = THREAD_LOCAL.get();
+        if (metrics != null) {
+            metrics.sqlTimeNanos += nanos;
+        }
+    }
+
+    /**
+     * Records a call to Datastore.
+     */
+    public static void recordDatastoreRpc() {
+        RequestMetrics metrics = THREAD_LOCAL.get();
+        if (metrics != null) {
+            metrics.datastoreRpcs++;
+        }
+    }
+
+    /**
+     * Records a call to Solr which took the given time.
+     */
+    public static void recordSolrCall(long nanos) {
+        RequestMetrics metrics = THREAD_LOCAL.get();
+        if (metrics != null) {
+            metrics.solrCalls++;
+            metrics.solrTimeNanos += nanos;
+        }
+    }
+
+    /**
+     * Records a task added to the task queue.
+     */
+    public static void recordTaskEnqueued() {
+        RequestMetrics metrics = THREAD_LOCAL.get();
+        if (metrics != null) {
+            metrics.tasksEnqueued++;
+        }
+    }
+
+    /**
+     * Records the size of the response body, the time spent serializing it
+     * and the time spent writing it to the client.
+     */
+    public static void recordResponse(long bytes, long serializationNanos, long writeNanos) {
+        RequestMetrics metrics = THREAD_LOCAL.get();
+        if (metrics != null) {
+            metrics.responseBytes += bytes;
+            metrics.serializationTimeNanos += serializationNanos;
+            metrics.responseWriteTimeNanos += writeNanos;
+        }
+    }
+
+    public long getSqlStatements() {
+        return sqlStatements;
+    }
+
+    public long getSqlTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(sqlTimeNanos);
+    }
+
+    public long getDatastoreRpcs() {
+        return datastoreRpcs;
+    }
+
+    public long getSolrCalls() {
+        return solrCalls;
+    }
+
+    public long getSolrTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(solrTimeNanos);
+    }
+
+    public long getTasksEnqueued() {
+        return tasksEnqueued;
+    }
+
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    public long getSerializationTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(serializationTimeNanos);
+    }
+
+    public long getResponseWriteTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(responseWriteTimeNanos);
+    }
+
+    /**
+     * Returns the measurements in a form suitable for logging.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("sqlStatements", sqlStatements);
+        map.put("sqlTimeMillis", getSqlTimeMillis());
+        map.put("datastoreRpcs", datastoreRpcs);
+        map.put("solrCalls", solrCalls);
+        map.put("solrTimeMillis", getSolrTimeMillis());
+        map.put("tasksEnqueued", tasksEnqueued);
+        map.put("responseBytes", responseBytes);
+        map.put("serializationTimeMillis", getSerializationTimeMillis());
+        map.put("responseWriteTimeMillis", getResponseWriteTimeMillis());
+        return map;
+    }
+
+}
@@ -2,6 +2,7 @@ package teammates.common.util;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
 
 import teammates.common.exception.DeadlineExceededException;
 
@@ -39,12 +40,13 @@ public final class RequestTracer {
     }
 
     /**
-     * Returns the remaining time (in millis) until the current request times out.
+     * Returns the remaining time (in millis) until the current request times out, which is negative once it has,
+     * or {@link Long#MAX_VALUE} if the current thread is not serving a request.
      */
-    private static long getRemainingTimeMillis() {
+    public static long getRemainingTimeMillis() {
         RequestTrace trace = THREAD_LOCAL.get();
         if (trace == null) {
-            return 1L;
+            return Long.MAX_VALUE;
         }
         return trace.timeoutTimestamp - Instant.now().toEpochMilli();
     }
@@ -60,6 +62,13 @@ public final class RequestTracer {
         }
     }
 
+    /**
+     * Returns true if the current request has at least the given time (in millis) left before it times out.
+     */
+    public static boolean hasRemainingTimeMillis(long millis) {
+        return getRemainingTimeMillis() >= millis;
+    }
+
     /**
      * Returns the remaining time (in millis) until the current request times out.
      */
@@ -78,6 +87,30 @@ public final class RequestTracer {
         THREAD_LOCAL.set(new RequestTrace(traceId, spanId, timeoutInSeconds));
     }
 
+    /**
+     * Clears the information of the request served by the current thread.
+     */
+    public static void clear() {
+        THREAD_LOCAL.remove();
+    }
+
+    /**
+     * Wraps the given work so that it runs as part of the current request when invoked from another thread,
+     * i.e. with the same trace ID, span ID and timeout.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> work) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        return () -> {
+            RequestTrace previousTrace = THREAD_LOCAL.get();
+            THREAD_LOCAL.set(trace);
+            try {
+                return work.get();
+            } finally {
+                THREAD_LOCAL.set(previousTrace);
+            }
+        };
+    }
+
     private static class RequestTrace {
         private final String traceId;
         private final String spanId;
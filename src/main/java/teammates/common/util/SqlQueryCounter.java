@@ -0,0 +1,36 @@
+package teammates.common.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements prepared by Hibernate in the current thread.
+ *
+ * <p>This is registered as the statement inspector of the session factory in {@link HibernateUtil}.
+ */
+public final class SqlQueryCounter implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Returns the number of SQL statements prepared in the current thread since the last reset.
+     */
+    public static long getCount() {
+        return COUNT.get()[0];
+    }
+
+    /**
+     * Resets the number of SQL statements prepared in the current thread to zero.
+     */
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+}
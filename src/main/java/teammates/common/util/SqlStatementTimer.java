@@ -0,0 +1,37 @@
+package teammates.common.util;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Measures the time spent executing SQL statements and batches, and records it in {@link RequestMetrics}.
+ *
+ * <p>This is registered in {@link HibernateUtil} so that an instance is attached to every session.
+ */
+public class SqlStatementTimer implements SessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private long statementStartNanos;
+    private long batchStartNanos;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestMetrics.recordSqlTime(System.nanoTime() - statementStartNanos);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestMetrics.recordSqlTime(System.nanoTime() - batchStartNanos);
+    }
+
+}
@@ -15,6 +15,8 @@ import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
 import com.google.common.base.CharMatcher;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import teammates.common.exception.InvalidParametersException;
 
@@ -25,6 +27,17 @@ import teammates.common.exception.InvalidParametersException;
 public final class StringHelper {
     private static final Logger log = Logger.getLogger();
 
+    /** Maximum number of compiled patterns kept in memory. */
+    static final int MAX_CANONICAL_PATTERNS = 100;
+
+    /**
+     * Compiled patterns of the regexes matched against, as compiling with CANON_EQ is expensive.
+     * Only the most recently used ones are kept, as callers may pass regexes built from user input.
+     */
+    private static final Cache<String, Pattern> CANONICAL_PATTERNS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CANONICAL_PATTERNS)
+            .build();
+
     private StringHelper() {
         // utility class
     }
@@ -51,9 +64,29 @@ public final class StringHelper {
      * @param regex The regex  used for the matching
      */
     public static boolean isMatching(String input, String regex) {
+        return isMatching(input, getCanonicalPattern(regex));
+    }
+
+    /**
+     * Checks whether the input string matches the pattern.
+     * @param input The string to be matched
+     * @param pattern The pattern used for the matching, compiled with {@link #compileCanonicalPattern(String)}
+     */
+    public static boolean isMatching(String input, Pattern pattern) {
+        return pattern.matcher(input).matches();
+    }
+
+    /**
+     * Compiles the regex into a pattern that matches canonically equivalent characters.
+     */
+    public static Pattern compileCanonicalPattern(String regex) {
         // Important to use the CANON_EQ flag to make sure that canonical characters
         // such as é is correctly matched regardless of single/double code point encoding
-        return Pattern.compile(regex, Pattern.CANON_EQ).matcher(input).matches();
+        return Pattern.compile(regex, Pattern.CANON_EQ);
+    }
+
+    private static Pattern getCanonicalPattern(String regex) {
+        return CANONICAL_PATTERNS.asMap().computeIfAbsent(regex, StringHelper::compileCanonicalPattern);
     }
 
     /**
@@ -210,9 +243,10 @@ public final class StringHelper {
         }
 
         char[] charArray = str.toCharArray();
+        Pattern pattern = getCanonicalPattern(regex);
 
         IntStream.range(0, charArray.length)
-                .filter(i -> !isMatching(Character.toString(charArray[i]), regex))
+                .filter(i -> !isMatching(Character.toString(charArray[i]), pattern))
                 .forEach(i -> charArray[i] = replacement);
 
         return String.valueOf(charArray);
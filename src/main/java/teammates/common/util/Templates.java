@@ -1,5 +1,12 @@
 package teammates.common.util;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Contains utility methods for creating strings from given templates.
  */
@@ -14,6 +21,12 @@ public final class Templates {
     /**
      * Populates the HTML templates by replacing variables in the template string
      * with the given value strings.
+     *
+     * <p>Variables that are not given are left untouched so that they can be populated later.
+     * If any of the values itself contains a variable, the variables are replaced one key at a time
+     * in the given order so that the nested variables can be populated by the later keys.
+     * Keys which are not <code>${...}</code> variables, e.g. plain text to be replaced in sample data,
+     * are also replaced one key at a time.
      * @param template The template html to be populated
      * @param keyValuePairs Array of a variable, even number of key-value pairs:
      *                   { "key1", "val1", "key2", "val2", ... }
@@ -21,6 +34,16 @@ public final class Templates {
      */
     public static String populateTemplate(String template, String... keyValuePairs) {
         assert keyValuePairs.length % 2 == 0 : "The number of elements in keyValuePairs passed in must be even";
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            if (!CompiledTemplate.isPlaceholder(keyValuePairs[i])
+                    || keyValuePairs[i + 1].contains(CompiledTemplate.PLACEHOLDER_START)) {
+                return populateTemplateByKey(template, keyValuePairs);
+            }
+        }
+        return compile(template).render(false, keyValuePairs);
+    }
+
+    private static String populateTemplateByKey(String template, String... keyValuePairs) {
         String populatedTemplate = template;
         for (int i = 0; i < keyValuePairs.length; i += 2) {
             populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
@@ -28,6 +51,129 @@ public final class Templates {
         return populatedTemplate;
     }
 
+    /**
+     * Parses the given template into a {@link CompiledTemplate}.
+     *
+     * <p>Compiling a template once and rendering it for every recipient avoids scanning
+     * the whole template for every variable of every email.
+     */
+    public static CompiledTemplate compile(String template) {
+        CompiledTemplate compiledTemplate = EmailTemplates.COMPILED_TEMPLATES.get(template);
+        return compiledTemplate == null ? new CompiledTemplate(template) : compiledTemplate;
+    }
+
+    /**
+     * A template parsed into its literal text and its <code>${...}</code> variables,
+     * which can be populated in a single pass over the template.
+     */
+    public static final class CompiledTemplate {
+
+        private static final String PLACEHOLDER_START = "${";
+        private static final String PLACEHOLDER_END = "}";
+
+        // rendered emails are a few kilobytes long; anything much larger is not kept for reuse
+        private static final int MAX_REUSED_BUILDER_CAPACITY = 64 * 1024;
+
+        private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+
+        // literals.length == placeholders.length + 1; the template is
+        // literals[0] + placeholders[0] + literals[1] + ... + placeholders[n - 1] + literals[n]
+        private final String[] literals;
+        private final String[] placeholders;
+        private final int literalsLength;
+
+        private CompiledTemplate(String template) {
+            List<String> literalList = new ArrayList<>();
+            List<String> placeholderList = new ArrayList<>();
+            int literalStart = 0;
+            int placeholderStart = template.indexOf(PLACEHOLDER_START);
+            while (placeholderStart != -1) {
+                int placeholderEnd = template.indexOf(PLACEHOLDER_END, placeholderStart + PLACEHOLDER_START.length());
+                if (placeholderEnd == -1) {
+                    break;
+                }
+                int nextPlaceholderStart = template.indexOf(PLACEHOLDER_START, placeholderStart + 1);
+                if (nextPlaceholderStart != -1 && nextPlaceholderStart < placeholderEnd) {
+                    // the variable is only the innermost one, e.g. "${b}" in "${a ${b}"
+                    placeholderStart = nextPlaceholderStart;
+                    continue;
+                }
+                placeholderEnd += PLACEHOLDER_END.length();
+                literalList.add(template.substring(literalStart, placeholderStart));
+                placeholderList.add(template.substring(placeholderStart, placeholderEnd));
+                literalStart = placeholderEnd;
+                placeholderStart = template.indexOf(PLACEHOLDER_START, literalStart);
+            }
+            literalList.add(template.substring(literalStart));
+
+            this.literals = literalList.toArray(new String[0]);
+            this.placeholders = placeholderList.toArray(new String[0]);
+            this.literalsLength = template.length()
+                    - placeholderList.stream().mapToInt(String::length).sum();
+        }
+
+        /**
+         * Populates the template with the given values in a single pass.
+         *
+         * <p>Unlike {@link Templates#populateTemplate(String, String...)}, every variable in the template
+         * must be given a value and values are inserted as-is without being searched for further variables.
+         * @param keyValuePairs Array of a variable, even number of key-value pairs:
+         *                   { "key1", "val1", "key2", "val2", ... }
+         * @return The populated template
+         * @throws IllegalArgumentException if a variable in the template is not given a value
+         */
+        public String render(String... keyValuePairs) {
+            return render(true, keyValuePairs);
+        }
+
+        private String render(boolean isStrict, String... keyValuePairs) {
+            assert keyValuePairs.length % 2 == 0 : "The number of elements in keyValuePairs passed in must be even";
+            if (placeholders.length == 0) {
+                return literals[0];
+            }
+
+            StringBuilder builder = BUILDER.get();
+            builder.setLength(0);
+            builder.ensureCapacity(literalsLength + 64 * placeholders.length);
+            builder.append(literals[0]);
+            for (int i = 0; i < placeholders.length; i++) {
+                String value = getValue(placeholders[i], keyValuePairs);
+                if (value == null) {
+                    if (isStrict) {
+                        throw new IllegalArgumentException("No value is given for " + placeholders[i]);
+                    }
+                    value = placeholders[i];
+                }
+                builder.append(value).append(literals[i + 1]);
+            }
+            String rendered = builder.toString();
+            if (builder.capacity() > MAX_REUSED_BUILDER_CAPACITY) {
+                BUILDER.remove();
+            }
+            return rendered;
+        }
+
+        /**
+         * Returns true if the key is a single <code>${...}</code> variable, as found when parsing a template.
+         */
+        private static boolean isPlaceholder(String key) {
+            return key.startsWith(PLACEHOLDER_START) && key.endsWith(PLACEHOLDER_END)
+                    && key.indexOf(PLACEHOLDER_START, 1) == -1
+                    && key.indexOf(PLACEHOLDER_END) == key.length() - PLACEHOLDER_END.length();
+        }
+
+        private static String getValue(String placeholder, String... keyValuePairs) {
+            // the templates have around ten variables each, so a linear search is cheaper than building a map
+            for (int i = 0; i < keyValuePairs.length; i += 2) {
+                if (placeholder.equals(keyValuePairs[i])) {
+                    return keyValuePairs[i + 1];
+                }
+            }
+            return null;
+        }
+
+    }
+
     /**
      * Collection of templates of emails to be sent by the system.
      */
@@ -92,6 +238,24 @@ public final class Templates {
                 FileHelper.readResourceFile("ownerEmailFragment-viewResponses.html");
         public static final String USER_DEADLINE_EXTENSION =
                 FileHelper.readResourceFile("userEmailTemplate-deadlineExtension.html");
+
+        // keyed by identity so that looking up a template does not require hashing its content
+        private static final Map<String, CompiledTemplate> COMPILED_TEMPLATES = compileTemplates();
+
+        private static Map<String, CompiledTemplate> compileTemplates() {
+            Map<String, CompiledTemplate> compiledTemplates = new IdentityHashMap<>();
+            for (Field field : EmailTemplates.class.getFields()) {
+                if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                    try {
+                        String template = (String) field.get(null);
+                        compiledTemplates.put(template, new CompiledTemplate(template));
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+            return compiledTemplates;
+        }
     }
 
 }
@@ -0,0 +1,152 @@
+package teammates.common.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+/**
+ * Keeps the course roles of users in memory for a short time, so that the roles do not need to be
+ * looked up in the databases on every authenticated request.
+ *
+ * <p>The roles of a user are evicted whenever a student or instructor linked to the user's Google ID
+ * is created, deleted, joined or reset. Changes made in a SQL transaction evict the roles again once the
+ * transaction is committed, so that roles loaded before the commit are not kept. Changes made through other
+ * instances are only seen once the roles expire after {@link Config#USER_ROLES_CACHE_TTL} seconds.
+ */
+public final class UserRolesCache {
+
+    private static final UserRolesCache instance =
+            new UserRolesCache(Config.USER_ROLES_CACHE_MAX_ENTRIES, Config.USER_ROLES_CACHE_TTL);
+
+    private final Cache<String, UserRoles> cache;
+
+    // incremented on every eviction, so that roles loaded before an eviction are not stored after it
+    private final AtomicLong generation = new AtomicLong();
+
+    UserRolesCache(long maxEntries, long ttlInSeconds) {
+        if (maxEntries <= 0 || ttlInSeconds <= 0) {
+            this.cache = null;
+            return;
+        }
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlInSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public static UserRolesCache inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the roles of the user with the given {@code googleId},
+     * looking them up with {@code rolesLoader} if they are not in the cache.
+     */
+    public UserRoles getOrLoad(String googleId, Supplier<UserRoles> rolesLoader) {
+        if (cache == null) {
+            return rolesLoader.get();
+        }
+
+        UserRoles roles = cache.getIfPresent(googleId);
+        if (roles != null) {
+            return roles;
+        }
+
+        long generationBeforeLoad = generation.get();
+        roles = rolesLoader.get();
+        synchronized (this) {
+            if (generation.get() == generationBeforeLoad) {
+                cache.put(googleId, roles);
+            }
+        }
+        return roles;
+    }
+
+    /**
+     * Evicts the roles of the user with the given {@code googleId}.
+     */
+    public void invalidate(String googleId) {
+        if (cache == null || googleId == null) {
+            return;
+        }
+        synchronized (this) {
+            generation.incrementAndGet();
+            cache.invalidate(googleId);
+        }
+    }
+
+    /**
+     * Evicts the roles of the user with the given {@code googleId}, both now and once the current SQL transaction
+     * is committed, as other requests may load the roles from the database until then.
+     *
+     * @see HibernateUtil#runAfterCommit(Runnable)
+     */
+    public void invalidateOnCommit(String googleId) {
+        if (cache == null || googleId == null) {
+            return;
+        }
+        invalidate(googleId);
+        HibernateUtil.runAfterCommit(() -> invalidate(googleId));
+    }
+
+    /**
+     * Evicts the roles of all users, e.g. after a change affecting the users of a whole course.
+     */
+    public void invalidateAll() {
+        if (cache == null) {
+            return;
+        }
+        synchronized (this) {
+            generation.incrementAndGet();
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Gets the usage statistics of the cache.
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", cache != null);
+        if (cache == null) {
+            return statistics;
+        }
+
+        CacheStats stats = cache.stats();
+        statistics.put("size", cache.size());
+        statistics.put("hits", stats.hitCount());
+        statistics.put("misses", stats.missCount());
+        statistics.put("hitRate", stats.hitRate());
+        statistics.put("evictions", stats.evictionCount());
+        return statistics;
+    }
+
+    /**
+     * The course roles of a user.
+     */
+    public static final class UserRoles {
+        private final boolean isInstructor;
+        private final boolean isStudent;
+
+        public UserRoles(boolean isInstructor, boolean isStudent) {
+            this.isInstructor = isInstructor;
+            this.isStudent = isStudent;
+        }
+
+        public boolean isInstructor() {
+            return isInstructor;
+        }
+
+        public boolean isStudent() {
+            return isStudent;
+        }
+    }
+
+}
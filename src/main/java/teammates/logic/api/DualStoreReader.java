@@ -0,0 +1,97 @@
+package teammates.logic.api;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import teammates.common.exception.DeadlineExceededException;
+import teammates.common.util.RequestTracer;
+import teammates.logic.core.LogicStarter;
+
+/**
+ * Runs Datastore reads concurrently with the SQL reads of the current request.
+ *
+ * <p>During the migration, some requests read the same kind of data from both databases. As the
+ * reads are independent of each other, the Datastore read is started in a worker thread before the
+ * SQL read is done in the request thread, so that the request takes as long as the slower read
+ * instead of the sum of both. SQL reads stay in the request thread as the Hibernate session is bound to it.
+ *
+ * <p>The worker threads run the reads as part of the current request, i.e. with its trace ID and timeout.
+ * If all workers are busy, the read waits for one of them; only when {@link #MAX_PENDING_READS} reads
+ * are already waiting is the read done in the request thread instead.
+ */
+public class DualStoreReader {
+
+    /** Maximum number of Datastore reads which can be run concurrently by the worker threads. */
+    static final int MAX_CONCURRENT_READS = 16;
+
+    /** Maximum number of Datastore reads which can wait for a worker thread. */
+    static final int MAX_PENDING_READS = 64;
+
+    private static final DualStoreReader instance = new DualStoreReader();
+
+    private final ThreadPoolExecutor executor;
+
+    DualStoreReader() {
+        this.executor = new ThreadPoolExecutor(MAX_CONCURRENT_READS, MAX_CONCURRENT_READS,
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(MAX_PENDING_READS), createThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public static DualStoreReader inst() {
+        return instance;
+    }
+
+    /**
+     * Starts the given Datastore read in a worker thread.
+     *
+     * @return the result of the read; getting it waits for the read to complete, for no longer than
+     *         the current request is allowed to run
+     * @throws DeadlineExceededException when getting the result, if the request times out before the read completes
+     */
+    public <T> Supplier<T> startDatastoreRead(Supplier<T> datastoreRead) {
+        Supplier<T> read = RequestTracer.propagate(() -> LogicStarter.runWithDatastoreSession(datastoreRead));
+        Future<T> future = executor.submit(read::get);
+        return () -> await(future);
+    }
+
+    @SuppressWarnings("PMD.PreserveStackTrace") // the deadline is what the request failed on
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get(Math.max(RequestTracer.getRemainingTimeMillis(), 0L), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new DeadlineExceededException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new DeadlineExceededException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "datastore-read-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
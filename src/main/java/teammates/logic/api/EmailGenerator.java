@@ -21,6 +21,7 @@ import teammates.common.util.EmailWrapper;
 import teammates.common.util.RequestTracer;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.Templates;
+import teammates.common.util.Templates.CompiledTemplate;
 import teammates.common.util.Templates.EmailTemplates;
 import teammates.common.util.TimeHelper;
 import teammates.logic.core.CoursesLogic;
@@ -687,6 +688,7 @@ public final class EmailGenerator {
                         TimeHelper.formatInstant(oldEndTimeFormatted, session.getTimeZone(), DATETIME_DISPLAY_FORMAT)))
                 .replace("${newEndTime}", SanitizationHelper.sanitizeForHtml(
                         TimeHelper.formatInstant(newEndTimeFormatted, session.getTimeZone(), DATETIME_DISPLAY_FORMAT)));
+        CompiledTemplate compiledTemplate = Templates.compile(template);
         String feedbackAction = FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW;
 
         if (isInstructor) {
@@ -695,14 +697,14 @@ public final class EmailGenerator {
                 return null;
             }
             return generateFeedbackSessionEmailBaseForInstructors(
-                    course, session, instructor, template, emailType, feedbackAction, additionalContactInformation);
+                    course, session, instructor, compiledTemplate, emailType, feedbackAction, additionalContactInformation);
         } else {
             StudentAttributes student = studentsLogic.getStudentForEmail(course.getId(), userEmail);
             if (student == null) {
                 return null;
             }
             return generateFeedbackSessionEmailBaseForStudents(
-                    course, session, student, template, emailType, feedbackAction, additionalContactInformation);
+                    course, session, student, compiledTemplate, emailType, feedbackAction, additionalContactInformation);
         }
     }
 
@@ -715,24 +717,25 @@ public final class EmailGenerator {
         studentAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, false));
         instructorAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, true));
 
+        CompiledTemplate compiledTemplate = Templates.compile(template);
         List<EmailWrapper> emails = new ArrayList<>();
         for (StudentAttributes student : students) {
             emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
-                    template, type, feedbackAction, studentAdditionalContactBuilder.toString()));
+                    compiledTemplate, type, feedbackAction, studentAdditionalContactBuilder.toString()));
         }
         for (InstructorAttributes instructor : instructors) {
             emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
-                    template, type, feedbackAction, instructorAdditionalContactBuilder.toString()));
+                    compiledTemplate, type, feedbackAction, instructorAdditionalContactBuilder.toString()));
         }
         for (InstructorAttributes instructor : instructorsToNotify) {
             emails.add(generateFeedbackSessionEmailBaseForNotifiedInstructors(course, session, instructor,
-                    template, type, feedbackAction, studentAdditionalContactBuilder.toString()));
+                    compiledTemplate, type, feedbackAction, studentAdditionalContactBuilder.toString()));
         }
         return emails;
     }
 
     private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
-            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student, String template,
+            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student, CompiledTemplate template,
             EmailType type, String feedbackAction, String additionalContactInformation) {
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
@@ -748,7 +751,7 @@ public final class EmailGenerator {
 
         Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
                 session.getDeadline(), session.getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
+        String emailBody = template.render(
                 "${userName}", SanitizationHelper.sanitizeForHtml(student.getName()),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
@@ -772,7 +775,7 @@ public final class EmailGenerator {
 
     private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(
             CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, EmailType type, String feedbackAction, String additionalContactInformation) {
+            CompiledTemplate template, EmailType type, String feedbackAction, String additionalContactInformation) {
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
                 .withSessionName(session.getFeedbackSessionName())
@@ -789,7 +792,7 @@ public final class EmailGenerator {
 
         Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
                 session.getDeadline(), session.getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
+        String emailBody = template.render(
                 "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
@@ -813,10 +816,10 @@ public final class EmailGenerator {
 
     private EmailWrapper generateFeedbackSessionEmailBaseForNotifiedInstructors(
             CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, EmailType type, String feedbackAction, String additionalContactInformation) {
+            CompiledTemplate template, EmailType type, String feedbackAction, String additionalContactInformation) {
         Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
                 session.getEndTime(), session.getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
+        String emailBody = template.render(
                 "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
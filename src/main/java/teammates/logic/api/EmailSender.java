@@ -1,7 +1,12 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.http.HttpStatus;
 
+import com.google.common.util.concurrent.RateLimiter;
+
 import teammates.common.datatransfer.logs.EmailSentLogDetails;
 import teammates.common.exception.EmailSendingException;
 import teammates.common.util.Config;
@@ -24,8 +29,11 @@ public class EmailSender {
 
     private static final EmailSender instance = new EmailSender();
     private final EmailSenderService service;
+    // only limits the emails sent through this instance of the application
+    private final RateLimiter rateLimiter;
 
     EmailSender() {
+        rateLimiter = RateLimiter.create(Math.max(1, Config.EMAIL_RATE_LIMIT));
         if (Config.IS_DEV_SERVER) {
             service = new EmptyEmailService();
         } else {
@@ -41,6 +49,11 @@ public class EmailSender {
         }
     }
 
+    EmailSender(EmailSenderService service, double emailsPerSecond) {
+        this.service = service;
+        this.rateLimiter = RateLimiter.create(emailsPerSecond);
+    }
+
     public static EmailSender inst() {
         return instance;
     }
@@ -55,6 +68,7 @@ public class EmailSender {
             return new EmailSendingStatus(HttpStatus.SC_OK, "Not sending email to test account");
         }
 
+        rateLimiter.acquire();
         EmailSendingStatus status;
         EmailSendingException caughtE = null;
         try {
@@ -71,6 +85,50 @@ public class EmailSender {
             }
         }
 
+        logEmailSent(message, status);
+        return status;
+    }
+
+    /**
+     * Sends the given {@code messages} in as few requests to the email service as possible
+     * and generates a log report for each of them.
+     *
+     * <p>The emails are sent no faster than the rate configured for the email service.
+     *
+     * @return The status of sending each email, in the same order as {@code messages}.
+     */
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> messages) {
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        List<EmailWrapper> emailsToSend = new ArrayList<>();
+        List<Integer> emailIndexes = new ArrayList<>();
+        for (EmailWrapper message : messages) {
+            if (isTestingAccount(message.getRecipient())) {
+                statuses.add(new EmailSendingStatus(HttpStatus.SC_OK, "Not sending email to test account"));
+            } else {
+                statuses.add(null);
+                emailsToSend.add(message);
+                emailIndexes.add(statuses.size() - 1);
+            }
+        }
+
+        int batchSize = Math.max(1, service.getMaxBatchSize());
+        for (int i = 0; i < emailsToSend.size(); i += batchSize) {
+            List<EmailWrapper> batch = emailsToSend.subList(i, Math.min(i + batchSize, emailsToSend.size()));
+            rateLimiter.acquire(batch.size());
+            List<EmailSendingStatus> batchStatuses = service.sendEmails(batch);
+            for (int j = 0; j < batch.size(); j++) {
+                EmailSendingStatus status = batchStatuses.get(j);
+                if (!status.isSuccess()) {
+                    log.severe("Email failed to send: " + status.getMessage());
+                }
+                logEmailSent(batch.get(j), status);
+                statuses.set(emailIndexes.get(i + j), status);
+            }
+        }
+        return statuses;
+    }
+
+    private void logEmailSent(EmailWrapper message, EmailSendingStatus status) {
         EmailSentLogDetails details = new EmailSentLogDetails();
         details.setEmailRecipient(message.getRecipient());
         details.setEmailSubject(message.getSubject());
@@ -82,8 +140,6 @@ public class EmailSender {
             details.setEmailStatusMessage(status.getMessage());
         }
         log.event("Email sent: " + message.getType(), details);
-
-        return status;
     }
 
     private boolean isTestingAccount(String email) {
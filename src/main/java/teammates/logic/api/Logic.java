@@ -5,9 +5,11 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackQuestionRecipient;
 import teammates.common.datatransfer.FeedbackResultFetchType;
@@ -41,6 +43,8 @@ import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.LogicStarter;
+import teammates.logic.core.MigrationStatusLogic;
 import teammates.logic.core.NotificationsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.logic.core.UsageStatisticsLogic;
@@ -67,6 +71,7 @@ public class Logic {
     final FeedbackResponseCommentsLogic feedbackResponseCommentsLogic = FeedbackResponseCommentsLogic.inst();
     final UsageStatisticsLogic usageStatisticsLogic = UsageStatisticsLogic.inst();
     final DataBundleLogic dataBundleLogic = DataBundleLogic.inst();
+    final MigrationStatusLogic migrationStatusLogic = MigrationStatusLogic.inst();
 
     Logic() {
         // prevent initialization
@@ -452,6 +457,45 @@ public class Logic {
         return coursesLogic.getCourse(courseId);
     }
 
+    /**
+     * Returns true if the course has been migrated or does not exist in the datastore.
+     *
+     * <p>The migration status may be up to the configured refresh interval out of date.
+     *
+     * <br/> Preconditions: <br/>
+     * * All parameters are non-null.
+     */
+    public boolean isCourseMigrated(String courseId) {
+        assert courseId != null;
+
+        return migrationStatusLogic.isCourseMigrated(courseId);
+    }
+
+    /**
+     * Returns the IDs among {@code courseIds} of the courses which have been migrated or do not exist
+     * in the datastore.
+     *
+     * <br/> Preconditions: <br/>
+     * * All parameters are non-null.
+     */
+    public Set<String> getMigratedCourseIds(Collection<String> courseIds) {
+        assert courseIds != null;
+
+        return migrationStatusLogic.getMigratedCourseIds(courseIds);
+    }
+
+    /**
+     * Returns true if the account has been migrated or does not exist in the datastore.
+     *
+     * <br/> Preconditions: <br/>
+     * * All parameters are non-null.
+     */
+    public boolean isAccountMigrated(String googleId) {
+        assert googleId != null;
+
+        return migrationStatusLogic.isAccountMigrated(googleId);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1011,6 +1055,32 @@ public class Logic {
         return feedbackQuestionsLogic.getRecipientsOfQuestion(question, instructorGiver, studentGiver, null);
     }
 
+    /**
+     * Gets the recipients of a feedback question, using the given roster instead of fetching the course's
+     * students and instructors again.
+     *
+     * @see FeedbackQuestionsLogic#getRecipientsOfQuestion
+     */
+    public Map<String, FeedbackQuestionRecipient> getRecipientsOfQuestion(
+            FeedbackQuestionAttributes question,
+            @Nullable InstructorAttributes instructorGiver, @Nullable StudentAttributes studentGiver,
+            CourseRoster courseRoster) {
+        assert question != null;
+        assert courseRoster != null;
+
+        return feedbackQuestionsLogic.getRecipientsOfQuestion(question, instructorGiver, studentGiver, courseRoster);
+    }
+
+    /**
+     * Gets the roster of all the students and instructors of a course.
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+        assert courseId != null;
+
+        return new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
+                instructorsLogic.getInstructorsForCourse(courseId));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null. <br>
@@ -1680,4 +1750,13 @@ public class Logic {
         return deadlineExtensionsLogic.getDeadlineExtensionsPossiblyNeedingClosingEmail();
     }
 
+    /**
+     * Runs the given work with access to the datastore.
+     *
+     * <p>This is only needed by threads which do not serve an HTTP request, e.g. in-process task queue workers.
+     */
+    public <T> T runWithDatastoreSession(Supplier<T> work) {
+        return LogicStarter.runWithDatastoreSession(work);
+    }
+
 }
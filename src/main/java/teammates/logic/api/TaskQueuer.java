@@ -1,33 +1,54 @@
 package teammates.logic.api;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
 import teammates.common.util.Config;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestMetrics;
 import teammates.common.util.TaskWrapper;
 import teammates.logic.external.GoogleCloudTasksService;
+import teammates.logic.external.InProcessTaskQueueService;
 import teammates.logic.external.LocalTaskQueueService;
 import teammates.logic.external.TaskQueueService;
 import teammates.ui.request.FeedbackSessionRemindRequest;
+import teammates.ui.request.FeedbackSessionReminderEmailsChunkRequest;
 import teammates.ui.request.SendEmailRequest;
+import teammates.ui.request.SendEmailsRequest;
+import teammates.ui.request.StudentsSearchIndexingRequest;
 
 /**
  * Allows for adding specific type of tasks to the task queue.
  */
 public class TaskQueuer {
 
+    /** The maximum number of entities to be indexed by a single search indexing task. */
+    static final int SEARCH_INDEXING_BATCH_SIZE = 100;
+
+    /** The maximum number of emails to be sent by a single email sending task. */
+    static final int EMAIL_BATCH_SIZE = 25;
+
+    /** The maximum total size of the content of the emails sent by a single email sending task, in UTF-8 bytes. */
+    static final int EMAIL_BATCH_CONTENT_SIZE = 500_000;
+
     private static final Logger log = Logger.getLogger();
 
     private static final TaskQueuer instance = new TaskQueuer();
     private final TaskQueueService service;
 
     TaskQueuer() {
-        if (Config.IS_DEV_SERVER) {
+        if (Config.isUsingInProcessTaskQueue()) {
+            service = InProcessTaskQueueService.inst();
+        } else if (Config.IS_DEV_SERVER) {
             service = new LocalTaskQueueService();
         } else {
             service = new GoogleCloudTasksService();
@@ -50,6 +71,7 @@ public class TaskQueuer {
                          long countdownTime) {
         TaskWrapper task = new TaskWrapper(queueName, workerUrl, paramMap, requestBody);
         service.addDeferredTask(task, countdownTime);
+        RequestMetrics.recordTaskEnqueued();
     }
 
     // The following methods are the actual API methods to be used by the client classes
@@ -127,6 +149,23 @@ public class TaskQueuer {
                 TaskQueue.FEEDBACK_SESSION_RESEND_PUBLISHED_EMAIL_WORKER_URL, new HashMap<>(), remindRequest);
     }
 
+    /**
+     * Schedules for the feedback session opening or closing emails to be sent to the next chunk of recipients.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     * @param emailType either {@link EmailType#FEEDBACK_OPENING} or {@link EmailType#FEEDBACK_CLOSING}
+     * @param lastRecipientKey the key of the last recipient already emailed; empty to start from the first recipient
+     */
+    public void scheduleFeedbackSessionReminderEmailsChunk(String courseId, String feedbackSessionName,
+                                                           EmailType emailType, String lastRecipientKey) {
+        FeedbackSessionReminderEmailsChunkRequest chunkRequest =
+                new FeedbackSessionReminderEmailsChunkRequest(courseId, feedbackSessionName, emailType, lastRecipientKey);
+
+        addTask(TaskQueue.FEEDBACK_SESSION_REMINDER_EMAILS_CHUNK_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_REMINDER_EMAILS_CHUNK_WORKER_URL, new HashMap<>(), chunkRequest);
+    }
+
     /**
      * Schedules for feedback session unpublished email to be sent.
      *
@@ -182,6 +221,11 @@ public class TaskQueuer {
     /**
      * Schedules for the given list of emails to be sent.
      *
+     * <p>Emails of the same type and subject, e.g. the reminders of a feedback session, are grouped into batches
+     * of up to {@value #EMAIL_BATCH_SIZE} emails, each sent by a single task through the batch sending API
+     * of the email service. The tasks are spread out so that the emails are sent no faster than
+     * the configured email rate limit.
+     *
      * @param emails the list of emails to be sent
      */
     public void scheduleEmailsForSending(List<EmailWrapper> emails) {
@@ -189,16 +233,31 @@ public class TaskQueuer {
             return;
         }
 
-        // Equally spread out the emails to be sent over 1 hour
-        // Sets interval to a maximum of 5 seconds if the interval is too large
-        int oneHourInMillis = 60 * 60 * 1000;
-        int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
-
-        int numberOfEmailsSent = 0;
+        Map<String, List<EmailWrapper>> emailsByGroup = new LinkedHashMap<>();
         for (EmailWrapper email : emails) {
-            long emailDelayTimer = (long) numberOfEmailsSent * (long) emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
-            numberOfEmailsSent++;
+            String group = email.getType() + "|" + email.getSubject();
+            emailsByGroup.computeIfAbsent(group, key -> new ArrayList<>()).add(email);
+        }
+
+        int numberOfEmailsScheduled = 0;
+        for (List<EmailWrapper> groupEmails : emailsByGroup.values()) {
+            List<EmailWrapper> batch = new ArrayList<>();
+            int batchContentSize = 0;
+            for (EmailWrapper email : groupEmails) {
+                int contentSize = email.getContent() == null
+                        ? 0 : email.getContent().getBytes(StandardCharsets.UTF_8).length;
+                if (!batch.isEmpty() && (batch.size() == EMAIL_BATCH_SIZE
+                        || batchContentSize + contentSize > EMAIL_BATCH_CONTENT_SIZE)) {
+                    scheduleEmailBatchForSending(batch, getEmailDelayMillis(numberOfEmailsScheduled));
+                    numberOfEmailsScheduled += batch.size();
+                    batch = new ArrayList<>();
+                    batchContentSize = 0;
+                }
+                batch.add(email);
+                batchContentSize += contentSize;
+            }
+            scheduleEmailBatchForSending(batch, getEmailDelayMillis(numberOfEmailsScheduled));
+            numberOfEmailsScheduled += batch.size();
         }
     }
 
@@ -247,6 +306,50 @@ public class TaskQueuer {
                 paramMap, null);
     }
 
+    /**
+     * Schedules for the search indexing of the students identified by {@code courseId} and {@code emails}.
+     *
+     * <p>The students are indexed in batches of up to {@value #SEARCH_INDEXING_BATCH_SIZE}, one task per batch.
+     *
+     * @param courseId the course ID of the students
+     * @param emails the emails of the students
+     */
+    public void scheduleStudentsForSearchIndexing(String courseId, List<String> emails) {
+        List<String> distinctEmails = new ArrayList<>(new LinkedHashSet<>(emails));
+        for (int i = 0; i < distinctEmails.size(); i += SEARCH_INDEXING_BATCH_SIZE) {
+            List<String> batch = distinctEmails.subList(i, Math.min(i + SEARCH_INDEXING_BATCH_SIZE, distinctEmails.size()));
+            StudentsSearchIndexingRequest indexingRequest =
+                    new StudentsSearchIndexingRequest(courseId, batch.toArray(new String[0]));
+
+            addTask(TaskQueue.SEARCH_INDEXING_QUEUE_NAME, TaskQueue.STUDENTS_SEARCH_INDEXING_WORKER_URL,
+                    new HashMap<>(), indexingRequest);
+        }
+    }
+
+    private long getEmailDelayMillis(int numberOfEmailsScheduled) {
+        return (long) numberOfEmailsScheduled * 1000L / Math.max(1, Config.EMAIL_RATE_LIMIT);
+    }
+
+    private void scheduleEmailBatchForSending(List<EmailWrapper> emails, long emailDelayTimer) {
+        if (emails.size() == 1) {
+            scheduleEmailForSending(emails.get(0), emailDelayTimer);
+            return;
+        }
+
+        try {
+            SendEmailsRequest request = new SendEmailsRequest(emails.toArray(new EmailWrapper[0]));
+
+            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAILS_WORKER_URL,
+                            new HashMap<>(), request, emailDelayTimer);
+        } catch (Exception e) {
+            log.severe("Error when adding batch of " + emails.size() + " emails to task queue: " + e.getMessage());
+            // falls back to sending the emails individually
+            for (EmailWrapper email : emails) {
+                scheduleEmailForSending(email, emailDelayTimer);
+            }
+        }
+    }
+
     private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
         try {
             SendEmailRequest request = new SendEmailRequest(email);
@@ -1,8 +1,12 @@
 package teammates.logic.api;
 
+import java.util.function.Supplier;
+
 import teammates.common.datatransfer.UserInfo;
 import teammates.common.datatransfer.UserInfoCookie;
 import teammates.common.util.Config;
+import teammates.common.util.UserRolesCache;
+import teammates.common.util.UserRolesCache.UserRoles;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.sqllogic.core.UsersLogic;
@@ -17,6 +21,8 @@ public class UserProvision {
     private final UsersLogic usersLogic = UsersLogic.inst();
     private final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private final UserRolesCache userRolesCache = UserRolesCache.inst();
+    private final DualStoreReader dualStoreReader = DualStoreReader.inst();
 
     @SuppressWarnings("PMD.UnnecessaryConstructor")
     public UserProvision() {
@@ -39,11 +45,10 @@ public class UserProvision {
         }
 
         String userId = user.id;
+        UserRoles roles = getRoles(userId);
         user.isAdmin = Config.APP_ADMINS.contains(userId);
-        user.isInstructor = usersLogic.isInstructorInAnyCourse(userId)
-                || instructorsLogic.isInstructorInAnyCourse(userId);
-        user.isStudent = usersLogic.isStudentInAnyCourse(userId)
-                || studentsLogic.isStudentInAnyCourse(userId);
+        user.isInstructor = roles.isInstructor();
+        user.isStudent = roles.isStudent();
         user.isMaintainer = Config.APP_MAINTAINERS.contains(user.getId());
         return user;
     }
@@ -65,15 +70,25 @@ public class UserProvision {
      */
     public UserInfo getMasqueradeUser(String googleId) {
         UserInfo userInfo = new UserInfo(googleId);
+        UserRoles roles = getRoles(googleId);
         userInfo.isAdmin = false;
-        userInfo.isInstructor = usersLogic.isInstructorInAnyCourse(googleId)
-                || instructorsLogic.isInstructorInAnyCourse(googleId);
-        userInfo.isStudent = usersLogic.isInstructorInAnyCourse(googleId)
-                || studentsLogic.isStudentInAnyCourse(googleId);
+        userInfo.isInstructor = roles.isInstructor();
+        userInfo.isStudent = roles.isStudent();
         userInfo.isMaintainer = Config.APP_MAINTAINERS.contains(googleId);
         return userInfo;
     }
 
+    private UserRoles getRoles(String googleId) {
+        return userRolesCache.getOrLoad(googleId, () -> {
+            Supplier<UserRoles> dataStoreRolesRead = dualStoreReader.startDatastoreRead(() -> new UserRoles(
+                    instructorsLogic.isInstructorInAnyCourse(googleId), studentsLogic.isStudentInAnyCourse(googleId)));
+            boolean isInstructor = usersLogic.isInstructorInAnyCourse(googleId);
+            boolean isStudent = usersLogic.isStudentInAnyCourse(googleId);
+            UserRoles dataStoreRoles = dataStoreRolesRead.get();
+            return new UserRoles(isInstructor || dataStoreRoles.isInstructor(), isStudent || dataStoreRoles.isStudent());
+        });
+    }
+
     /**
      * Gets the information of a user who has administrator role only.
      */
@@ -14,6 +14,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InstructorUpdateException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.UserRolesCache;
 import teammates.storage.api.AccountsDb;
 import teammates.storage.sqlentity.Account;
 
@@ -59,7 +60,9 @@ public final class AccountsLogic {
      */
     AccountAttributes createAccount(AccountAttributes accountData)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return accountsDb.createEntity(accountData);
+        AccountAttributes createdAccount = accountsDb.createEntity(accountData);
+        MigrationStatusLogic.inst().updateAccount(createdAccount);
+        return createdAccount;
     }
 
     /**
@@ -116,6 +119,7 @@ public final class AccountsLogic {
         if (sqlAccountsDb.getAccountByGoogleId(googleId) == null) {
             createStudentAccount(student);
         }
+        UserRolesCache.inst().invalidate(googleId);
 
         return student;
     }
@@ -130,6 +134,7 @@ public final class AccountsLogic {
 
         // Register the instructor
         instructor.setGoogleId(googleId);
+        UserRolesCache.inst().invalidate(googleId);
         try {
             instructorsLogic.updateInstructorByEmail(
                     InstructorAttributes.updateOptionsWithEmailBuilder(instructor.getCourseId(), instructor.getEmail())
@@ -266,6 +271,8 @@ public final class AccountsLogic {
         instructorsLogic.deleteInstructorsForGoogleIdCascade(googleId);
         studentsLogic.deleteStudentsForGoogleIdCascade(googleId);
         accountsDb.deleteAccount(googleId);
+        UserRolesCache.inst().invalidate(googleId);
+        MigrationStatusLogic.inst().removeAccount(googleId);
     }
 
     /**
@@ -88,7 +88,9 @@ public final class CoursesLogic {
      */
     CourseAttributes createCourse(CourseAttributes courseToCreate)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return coursesDb.createEntity(courseToCreate);
+        CourseAttributes createdCourse = coursesDb.createEntity(courseToCreate);
+        MigrationStatusLogic.inst().updateCourse(createdCourse);
+        return createdCourse;
     }
 
     /**
@@ -121,6 +123,7 @@ public final class CoursesLogic {
         } catch (EntityAlreadyExistsException | InvalidParametersException e) {
             // roll back the transaction
             coursesDb.deleteCourse(createdCourse.getId());
+            MigrationStatusLogic.inst().removeCourse(createdCourse.getId());
             String errorMessage = "Unexpected exception while trying to create instructor for a new course "
                                   + System.lineSeparator() + instructor.toString();
             assert false : errorMessage;
@@ -293,6 +296,7 @@ public final class CoursesLogic {
             throws InvalidParametersException, EntityDoesNotExistException {
         CourseAttributes oldCourse = coursesDb.getCourse(updateOptions.getCourseId());
         CourseAttributes updatedCourse = coursesDb.updateCourse(updateOptions);
+        MigrationStatusLogic.inst().updateCourse(updatedCourse);
 
         if (!updatedCourse.getTimeZone().equals(oldCourse.getTimeZone())) {
             feedbackSessionsLogic
@@ -324,6 +328,7 @@ public final class CoursesLogic {
         deadlineExtensionsLogic.deleteDeadlineExtensions(query);
 
         coursesDb.deleteCourse(courseId);
+        MigrationStatusLogic.inst().removeCourse(courseId);
     }
 
     /**
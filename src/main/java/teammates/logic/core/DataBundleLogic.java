@@ -26,6 +26,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
+import teammates.common.util.UserRolesCache;
 import teammates.storage.api.AccountRequestsDb;
 import teammates.storage.api.AccountsDb;
 import teammates.storage.api.CoursesDb;
@@ -83,6 +84,7 @@ public final class DataBundleLogic {
         if (dataBundle == null) {
             throw new InvalidParametersException("Null data bundle");
         }
+        UserRolesCache.inst().invalidateAll();
 
         Collection<AccountAttributes> accounts = dataBundle.accounts.values();
         Collection<AccountRequestAttributes> accountRequests = dataBundle.accountRequests.values();
@@ -110,6 +112,8 @@ public final class DataBundleLogic {
         List<AccountRequestAttributes> newAccountRequests = accountRequestsDb.putEntities(accountRequests);
 
         List<CourseAttributes> newCourses = coursesDb.putEntities(courses);
+        newAccounts.forEach(MigrationStatusLogic.inst()::updateAccount);
+        newCourses.forEach(MigrationStatusLogic.inst()::updateCourse);
         List<InstructorAttributes> newInstructors = instructorsDb.putEntities(instructors);
         List<StudentAttributes> newStudents = studentsDb.putEntities(students);
         List<FeedbackSessionAttributes> newFeedbackSessions = fbDb.putEntities(sessions);
@@ -368,13 +372,16 @@ public final class DataBundleLogic {
      * Removes the items in the data bundle from the database.
      */
     public void removeDataBundle(DataBundle dataBundle) {
+        UserRolesCache.inst().invalidateAll();
 
         // Questions, responses and deadline extensions will be deleted automatically.
         // We don't attempt to delete them again, to save time.
         deleteCourses(dataBundle.courses.values());
+        dataBundle.courses.values().forEach(course -> MigrationStatusLogic.inst().removeCourse(course.getId()));
 
         dataBundle.accounts.values().forEach(account -> {
             accountsDb.deleteAccount(account.getGoogleId());
+            MigrationStatusLogic.inst().removeAccount(account.getGoogleId());
         });
         dataBundle.accountRequests.values().forEach(accountRequest -> {
             accountRequestsDb.deleteAccountRequest(accountRequest.getEmail(), accountRequest.getInstitute());
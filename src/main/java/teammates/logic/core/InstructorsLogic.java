@@ -18,6 +18,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
+import teammates.common.util.UserRolesCache;
 import teammates.storage.api.InstructorsDb;
 
 /**
@@ -85,6 +86,7 @@ public final class InstructorsLogic {
      */
     public InstructorAttributes createInstructor(InstructorAttributes instructorToAdd)
             throws InvalidParametersException, EntityAlreadyExistsException {
+        UserRolesCache.inst().invalidate(instructorToAdd.getGoogleId());
         return instructorsDb.createEntity(instructorToAdd);
     }
 
@@ -307,6 +309,7 @@ public final class InstructorsLogic {
      * Deletes instructors using {@link AttributesDeletionQuery}.
      */
     public void deleteInstructors(AttributesDeletionQuery query) {
+        UserRolesCache.inst().invalidateAll();
         instructorsDb.deleteInstructors(query);
     }
 
@@ -323,6 +326,7 @@ public final class InstructorsLogic {
 
         frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(courseId, email);
         instructorsDb.deleteInstructor(courseId, email);
+        UserRolesCache.inst().invalidate(instructorAttributes.getGoogleId());
         fsLogic.deleteFeedbackSessionsDeadlinesForInstructor(courseId, email);
         deLogic.deleteDeadlineExtensions(courseId, email, true);
     }
@@ -359,6 +363,10 @@ public final class InstructorsLogic {
      * Resets the associated googleId of an instructor.
      */
     public void resetInstructorGoogleId(String originalEmail, String courseId) throws EntityDoesNotExistException {
+        InstructorAttributes instructor = getInstructorForEmail(courseId, originalEmail);
+        if (instructor != null) {
+            UserRolesCache.inst().invalidate(instructor.getGoogleId());
+        }
         try {
             instructorsDb.updateInstructorByEmail(
                     InstructorAttributes.updateOptionsWithEmailBuilder(courseId, originalEmail)
@@ -1,9 +1,12 @@
 package teammates.logic.core;
 
+import java.util.function.Supplier;
+
 import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
 
 import teammates.common.util.Logger;
+import teammates.storage.api.OfyHelper;
 
 /**
  * Setup in web.xml to register logic classes at application startup.
@@ -43,6 +46,13 @@ public class LogicStarter implements ServletContextListener {
         log.info("Initialized dependencies between logic classes");
     }
 
+    /**
+     * Runs the given work with access to the datastore, for threads which do not serve a request.
+     */
+    public static <T> T runWithDatastoreSession(Supplier<T> work) {
+        return OfyHelper.runInSession(work);
+    }
+
     @Override
     public void contextInitialized(ServletContextEvent event) {
         // Invoked by Jetty at application startup.
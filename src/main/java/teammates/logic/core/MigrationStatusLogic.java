@@ -0,0 +1,251 @@
+package teammates.logic.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.util.Config;
+import teammates.storage.api.AccountsDb;
+import teammates.storage.api.CoursesDb;
+
+/**
+ * Handles operations related to the migration status of courses and accounts from Datastore to the SQL database.
+ *
+ * <p>A course or account is considered migrated if it has been marked as migrated or does not exist in Datastore.
+ * The status of each course and account is looked up from Datastore by its ID the first time it is needed,
+ * and kept in memory afterwards:
+ * <ul>
+ * <li>Courses and accounts marked as migrated are never unmarked by the migration, so they are kept
+ * until they are evicted to make room for others.</li>
+ * <li>The status of the other courses and accounts is looked up again after
+ * {@link Config#MIGRATION_STATUS_REFRESH_INTERVAL} seconds, as they may be migrated through
+ * other instances in the meantime.</li>
+ * </ul>
+ *
+ * <p>Changes made through this instance update the statuses kept in memory as they are made.
+ */
+public final class MigrationStatusLogic {
+
+    /** Maximum number of courses, and of accounts, whose migration status is kept in memory. */
+    static final int MAX_ENTRIES = 100_000;
+
+    private static final MigrationStatusLogic instance =
+            new MigrationStatusLogic(Config.MIGRATION_STATUS_REFRESH_INTERVAL);
+
+    private final CoursesDb coursesDb = CoursesDb.inst();
+    private final AccountsDb accountsDb = AccountsDb.inst();
+
+    private final MigrationStatuses courseStatuses;
+    private final MigrationStatuses accountStatuses;
+
+    private MigrationStatusLogic(long refreshIntervalInSeconds) {
+        this.courseStatuses = new MigrationStatuses(refreshIntervalInSeconds);
+        this.accountStatuses = new MigrationStatuses(refreshIntervalInSeconds);
+    }
+
+    public static MigrationStatusLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Returns true if the course has been migrated or does not exist in Datastore.
+     */
+    public boolean isCourseMigrated(String courseId) {
+        return getMigratedCourseIds(List.of(courseId)).contains(courseId);
+    }
+
+    /**
+     * Gets the IDs of the courses among {@code courseIds} which have been migrated or do not exist in Datastore.
+     *
+     * <p>The courses whose status is not kept in memory are looked up from Datastore together.
+     */
+    public Set<String> getMigratedCourseIds(Collection<String> courseIds) {
+        return courseStatuses.getMigratedIds(courseIds, idsToLoad -> {
+            Map<String, Status> loadedStatuses = new HashMap<>();
+            for (CourseAttributes course : coursesDb.getCourses(idsToLoad)) {
+                loadedStatuses.put(course.getId(), Status.of(course.isMigrated()));
+            }
+            return loadedStatuses;
+        });
+    }
+
+    /**
+     * Returns true if the account has been migrated or does not exist in Datastore.
+     */
+    public boolean isAccountMigrated(String googleId) {
+        return accountStatuses.getMigratedIds(List.of(googleId), idsToLoad -> {
+            Map<String, Status> loadedStatuses = new HashMap<>();
+            AccountAttributes account = accountsDb.getAccount(googleId);
+            if (account != null) {
+                loadedStatuses.put(googleId, Status.of(account.isMigrated()));
+            }
+            return loadedStatuses;
+        }).contains(googleId);
+    }
+
+    /**
+     * Updates the migration status kept in memory after the course is created or updated in Datastore.
+     */
+    public void updateCourse(CourseAttributes course) {
+        courseStatuses.put(course.getId(), Status.of(course.isMigrated()));
+    }
+
+    /**
+     * Updates the migration status kept in memory after the course is deleted from Datastore.
+     */
+    public void removeCourse(String courseId) {
+        courseStatuses.put(courseId, Status.NOT_IN_DATASTORE);
+    }
+
+    /**
+     * Updates the migration status kept in memory after the account is created or updated in Datastore.
+     */
+    public void updateAccount(AccountAttributes account) {
+        accountStatuses.put(account.getGoogleId(), Status.of(account.isMigrated()));
+    }
+
+    /**
+     * Updates the migration status kept in memory after the account is deleted from Datastore.
+     */
+    public void removeAccount(String googleId) {
+        accountStatuses.put(googleId, Status.NOT_IN_DATASTORE);
+    }
+
+    /**
+     * Discards the migration statuses kept in memory, so that they are looked up again on the next lookup.
+     *
+     * <p>This is only needed if courses or accounts are changed in Datastore without going through the logic layer.
+     */
+    public void invalidate() {
+        courseStatuses.clear();
+        accountStatuses.clear();
+    }
+
+    /**
+     * Migration status of a course or account.
+     */
+    private enum Status {
+        MIGRATED,
+        NOT_MIGRATED,
+        NOT_IN_DATASTORE;
+
+        private static Status of(boolean isMigrated) {
+            return isMigrated ? MIGRATED : NOT_MIGRATED;
+        }
+    }
+
+    /**
+     * Migration statuses of one kind of entity kept in memory, by ID.
+     */
+    private static final class MigrationStatuses {
+        // statuses which cannot change through other instances are kept apart from those which can
+        private final Cache<String, Status> finalStatuses;
+        private final Cache<String, Status> refreshedStatuses;
+
+        // incremented on every change, so that statuses loaded before a change are not kept after it
+        private final AtomicLong generation = new AtomicLong();
+
+        private MigrationStatuses(long refreshIntervalInSeconds) {
+            if (refreshIntervalInSeconds <= 0) {
+                this.finalStatuses = null;
+                this.refreshedStatuses = null;
+                return;
+            }
+            this.finalStatuses = CacheBuilder.newBuilder()
+                    .maximumSize(MAX_ENTRIES)
+                    .build();
+            this.refreshedStatuses = CacheBuilder.newBuilder()
+                    .maximumSize(MAX_ENTRIES)
+                    .expireAfterWrite(Duration.ofSeconds(refreshIntervalInSeconds))
+                    .build();
+        }
+
+        /**
+         * Gets the IDs among {@code ids} which have been migrated or do not exist in Datastore, looking up the
+         * statuses not kept in memory with {@code statusesLoader}. The loader returns the status of each ID
+         * found in Datastore.
+         */
+        private Set<String> getMigratedIds(Collection<String> ids,
+                Function<List<String>, Map<String, Status>> statusesLoader) {
+            Set<String> migratedIds = new LinkedHashSet<>(ids);
+            List<String> idsToLoad = new ArrayList<>();
+            for (String id : ids) {
+                Status status = getIfPresent(id);
+                if (status == null) {
+                    idsToLoad.add(id);
+                } else if (status == Status.NOT_MIGRATED) {
+                    migratedIds.remove(id);
+                }
+            }
+            if (idsToLoad.isEmpty()) {
+                return migratedIds;
+            }
+
+            long generationBeforeLoad = generation.get();
+            Map<String, Status> loadedStatuses = statusesLoader.apply(idsToLoad);
+            for (String id : idsToLoad) {
+                Status status = loadedStatuses.getOrDefault(id, Status.NOT_IN_DATASTORE);
+                if (status == Status.NOT_MIGRATED) {
+                    migratedIds.remove(id);
+                }
+                synchronized (this) {
+                    if (generation.get() == generationBeforeLoad) {
+                        store(id, status);
+                    }
+                }
+            }
+            return migratedIds;
+        }
+
+        private Status getIfPresent(String id) {
+            if (finalStatuses == null) {
+                return null;
+            }
+            Status status = finalStatuses.getIfPresent(id);
+            return status == null ? refreshedStatuses.getIfPresent(id) : status;
+        }
+
+        private synchronized void put(String id, Status status) {
+            generation.incrementAndGet();
+            if (finalStatuses == null) {
+                return;
+            }
+            finalStatuses.invalidate(id);
+            refreshedStatuses.invalidate(id);
+            store(id, status);
+        }
+
+        private void store(String id, Status status) {
+            if (finalStatuses == null) {
+                return;
+            }
+            if (status == Status.MIGRATED) {
+                finalStatuses.put(id, status);
+            } else {
+                refreshedStatuses.put(id, status);
+            }
+        }
+
+        private synchronized void clear() {
+            generation.incrementAndGet();
+            if (finalStatuses == null) {
+                return;
+            }
+            finalStatuses.invalidateAll();
+            refreshedStatuses.invalidateAll();
+        }
+    }
+
+}
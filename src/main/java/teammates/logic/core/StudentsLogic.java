@@ -16,6 +16,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
 import teammates.common.util.RequestTracer;
+import teammates.common.util.UserRolesCache;
 import teammates.storage.api.StudentsDb;
 
 /**
@@ -66,6 +67,7 @@ public final class StudentsLogic {
      */
     public StudentAttributes createStudent(StudentAttributes studentData)
             throws InvalidParametersException, EntityAlreadyExistsException {
+        UserRolesCache.inst().invalidate(studentData.getGoogleId());
         return studentsDb.createEntity(studentData);
     }
 
@@ -270,6 +272,10 @@ public final class StudentsLogic {
      */
     public void resetStudentGoogleId(String originalEmail, String courseId)
             throws EntityDoesNotExistException {
+        StudentAttributes student = getStudentForEmail(courseId, originalEmail);
+        if (student != null) {
+            UserRolesCache.inst().invalidate(student.getGoogleId());
+        }
         try {
             updateStudentCascade(
                     StudentAttributes.updateOptionsBuilder(courseId, originalEmail)
@@ -445,6 +451,7 @@ public final class StudentsLogic {
             frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(student.getCourse(), student.getTeam());
         }
         studentsDb.deleteStudent(courseId, studentEmail);
+        UserRolesCache.inst().invalidate(student.getGoogleId());
         fsLogic.deleteFeedbackSessionsDeadlinesForStudent(courseId, studentEmail);
         deLogic.deleteDeadlineExtensions(courseId, studentEmail, false);
 
@@ -472,6 +479,7 @@ public final class StudentsLogic {
      * Deletes students using {@link AttributesDeletionQuery}.
      */
     public void deleteStudents(AttributesDeletionQuery query) {
+        UserRolesCache.inst().invalidateAll();
         studentsDb.deleteStudents(query);
         updateStudentResponsesAfterDeletion(query.getCourseId());
     }
@@ -1,5 +1,8 @@
 package teammates.logic.external;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import teammates.common.exception.EmailSendingException;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
@@ -20,4 +23,30 @@ public interface EmailSenderService {
      */
     EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException;
 
+    /**
+     * Sends the emails packaged as {@code wrappers}, in as few requests to the service as possible.
+     *
+     * <p>The default implementation sends the emails one by one.
+     *
+     * @return the status of sending each email, in the same order as {@code wrappers}
+     */
+    default List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            try {
+                statuses.add(sendEmail(wrapper));
+            } catch (EmailSendingException e) {
+                statuses.add(new EmailSendingStatus(e.getStatusCode(), e.getMessage()));
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * Gets the maximum number of emails that can be given to {@link #sendEmails(List)} at once.
+     */
+    default int getMaxBatchSize() {
+        return 1;
+    }
+
 }
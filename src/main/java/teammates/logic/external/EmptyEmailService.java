@@ -20,4 +20,9 @@ public class EmptyEmailService implements EmailSenderService {
         return new EmailSendingStatus(HttpStatus.SC_OK, null);
     }
 
+    @Override
+    public int getMaxBatchSize() {
+        return Integer.MAX_VALUE;
+    }
+
 }
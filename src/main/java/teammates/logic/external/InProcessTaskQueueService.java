@@ -0,0 +1,333 @@
+package teammates.logic.external;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.exception.DeadlineExceededException;
+import teammates.common.util.Config;
+import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
+import teammates.common.util.TaskWrapper;
+
+/**
+ * Holds functions for operations related to the in-process task queue,
+ * which runs tasks on pools of worker threads within the application instead of an external task queue service.
+ *
+ * <p>Each queue in {@link TaskQueue} has its own worker pool, with the concurrency and retry settings
+ * following the ones in queue.yaml. Tasks are handed over to the {@link TaskDispatcher} registered
+ * at application startup.
+ *
+ * <p>Tasks are kept in memory only, so tasks which have not succeeded yet are lost when the instance stops.
+ * Hence this is only used outside of Google App Engine, where Cloud Tasks is used instead.
+ */
+public final class InProcessTaskQueueService implements TaskQueueService {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final QueueSettings DEFAULT_QUEUE_SETTINGS = new QueueSettings(5, 5, 1000, 60_000);
+
+    private static final Map<String, QueueSettings> QUEUE_SETTINGS = new HashMap<>();
+
+    static {
+        QUEUE_SETTINGS.put(TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME,
+                new QueueSettings(1, 5, 1000, 60_000));
+        QUEUE_SETTINGS.put(TaskQueue.FEEDBACK_SESSION_RESEND_PUBLISHED_EMAIL_QUEUE_NAME,
+                new QueueSettings(5, 3, 1000, 60_000));
+        QUEUE_SETTINGS.put(TaskQueue.FEEDBACK_SESSION_REMIND_EMAIL_QUEUE_NAME,
+                new QueueSettings(5, 3, 1000, 60_000));
+        QUEUE_SETTINGS.put(TaskQueue.FEEDBACK_SESSION_REMIND_PARTICULAR_USERS_EMAIL_QUEUE_NAME,
+                new QueueSettings(5, 3, 1000, 60_000));
+        QUEUE_SETTINGS.put(TaskQueue.FEEDBACK_SESSION_REMINDER_EMAILS_CHUNK_QUEUE_NAME,
+                new QueueSettings(5, 6, 10_000, 300_000));
+        QUEUE_SETTINGS.put(TaskQueue.FEEDBACK_SESSION_UNPUBLISHED_EMAIL_QUEUE_NAME,
+                new QueueSettings(1, 5, 1000, 60_000));
+        QUEUE_SETTINGS.put(TaskQueue.INSTRUCTOR_COURSE_JOIN_EMAIL_QUEUE_NAME,
+                new QueueSettings(5, 4, 5000, 40_000));
+        QUEUE_SETTINGS.put(TaskQueue.SEND_EMAIL_QUEUE_NAME,
+                new QueueSettings(10, 6, 30_000, 300_000));
+        QUEUE_SETTINGS.put(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_QUEUE_NAME,
+                new QueueSettings(5, 4, 5000, 40_000));
+        QUEUE_SETTINGS.put(TaskQueue.SEARCH_INDEXING_QUEUE_NAME,
+                new QueueSettings(10, 5, 1000, 60_000));
+    }
+
+    /** The queue whose task is being run by the current thread, if any. */
+    private static final ThreadLocal<WorkerQueue> CURRENT_QUEUE = new ThreadLocal<>();
+
+    private static final InProcessTaskQueueService instance =
+            new InProcessTaskQueueService(Config.TASKQUEUE_BACKLOG_SIZE, QUEUE_SETTINGS, DEFAULT_QUEUE_SETTINGS);
+
+    private final int backlogSize;
+    private final Map<String, QueueSettings> queueSettings;
+    private final QueueSettings defaultQueueSettings;
+    private final Map<String, WorkerQueue> queues = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(createThreadFactory("taskqueue-scheduler"));
+
+    private volatile TaskDispatcher dispatcher;
+
+    InProcessTaskQueueService(int backlogSize, Map<String, QueueSettings> queueSettings,
+                              QueueSettings defaultQueueSettings) {
+        this.backlogSize = backlogSize;
+        this.queueSettings = queueSettings;
+        this.defaultQueueSettings = defaultQueueSettings;
+    }
+
+    public static InProcessTaskQueueService inst() {
+        return instance;
+    }
+
+    /**
+     * Sets the dispatcher which runs the tasks taken from the queues.
+     */
+    public void setDispatcher(TaskDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the queue is full, this waits until there is space in the queue, for no longer than the current
+     * request is allowed to run. Tasks added while running a task of the same queue are added without waiting.
+     *
+     * @throws DeadlineExceededException if there is still no space in the queue when the request times out,
+     *         or the caller is interrupted while waiting, in which case the task is not added
+     */
+    @Override
+    public void addDeferredTask(TaskWrapper task, long countdownTime) {
+        queues.computeIfAbsent(task.getQueueName(), WorkerQueue::new).add(task, countdownTime);
+    }
+
+    /**
+     * Returns a snapshot of the statistics of each queue, keyed by the queue name.
+     *
+     * <p>Counts and times are accumulated since the queue received its first task.
+     */
+    public Map<String, Map<String, Object>> getStatistics() {
+        Map<String, Map<String, Object>> statistics = new TreeMap<>();
+        queues.forEach((name, queue) -> statistics.put(name, queue.getStatistics()));
+        return statistics;
+    }
+
+    /**
+     * Stops accepting tasks and terminates the worker threads.
+     *
+     * <p>Tasks which are not started yet are discarded.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+        queues.values().forEach(queue -> queue.executor.shutdownNow());
+    }
+
+    private static ThreadFactory createThreadFactory(String namePrefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private int dispatch(TaskWrapper task) {
+        TaskDispatcher currentDispatcher = dispatcher;
+        if (currentDispatcher == null) {
+            log.severe("No dispatcher is registered to run the task for " + task.getWorkerUrl());
+            return HttpStatus.SC_SERVICE_UNAVAILABLE;
+        }
+        try {
+            return currentDispatcher.dispatch(task);
+        } catch (RuntimeException e) {
+            log.severe("Error when running the task for " + task.getWorkerUrl(), e);
+            return HttpStatus.SC_INTERNAL_SERVER_ERROR;
+        }
+    }
+
+    /**
+     * Represents the concurrency and retry settings of a queue.
+     */
+    static final class QueueSettings {
+        private final int maxConcurrentTasks;
+        private final int maxAttempts;
+        private final long minBackoffMillis;
+        private final long maxBackoffMillis;
+
+        QueueSettings(int maxConcurrentTasks, int maxAttempts, long minBackoffMillis, long maxBackoffMillis) {
+            this.maxConcurrentTasks = maxConcurrentTasks;
+            this.maxAttempts = maxAttempts;
+            this.minBackoffMillis = minBackoffMillis;
+            this.maxBackoffMillis = maxBackoffMillis;
+        }
+
+        /**
+         * Returns the time to wait before the next attempt, which doubles after every failed attempt.
+         */
+        long getBackoffMillis(int failedAttempts) {
+            int doublings = Math.min(failedAttempts - 1, 30);
+            return Math.min(minBackoffMillis << doublings, maxBackoffMillis);
+        }
+    }
+
+    /**
+     * Represents a task waiting in a queue, together with the number of times it has been attempted.
+     */
+    private static final class QueuedTask {
+        private final TaskWrapper task;
+        private boolean holdsPermit = true;
+        private int numAttempts;
+        private long readyTimeMillis;
+
+        private QueuedTask(TaskWrapper task) {
+            this.task = task;
+        }
+
+        private void releasePermit(Semaphore backlog) {
+            if (holdsPermit) {
+                backlog.release();
+            }
+        }
+    }
+
+    /**
+     * Represents a queue with its own bounded backlog and pool of worker threads.
+     */
+    private final class WorkerQueue {
+        private final String name;
+        private final QueueSettings settings;
+        private final ThreadPoolExecutor executor;
+
+        // every task holds a permit from the time it is added until it succeeds or runs out of attempts,
+        // except tasks added by a task of the same queue when the queue is full
+        private final Semaphore backlog;
+
+        private final AtomicInteger numWaiting = new AtomicInteger();
+        private final AtomicInteger numRunning = new AtomicInteger();
+        private final LongAdder numAdded = new LongAdder();
+        private final LongAdder numBlockedAdds = new LongAdder();
+        private final LongAdder numSucceeded = new LongAdder();
+        private final LongAdder numFailed = new LongAdder();
+        private final LongAdder numRetries = new LongAdder();
+        private final LongAdder numAttempts = new LongAdder();
+        private final LongAdder totalLatencyMillis = new LongAdder();
+        private final LongAccumulator maxLatencyMillis = new LongAccumulator(Long::max, 0L);
+        private final LongAdder totalRunMillis = new LongAdder();
+
+        private WorkerQueue(String name) {
+            this.name = name;
+            this.settings = queueSettings.getOrDefault(name, defaultQueueSettings);
+            this.executor = new ThreadPoolExecutor(settings.maxConcurrentTasks, settings.maxConcurrentTasks,
+                    0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), createThreadFactory("taskqueue-" + name));
+            this.backlog = new Semaphore(backlogSize);
+        }
+
+        @SuppressWarnings("PMD.PreserveStackTrace") // the request is interrupted when it times out
+        private void add(TaskWrapper task, long countdownTime) {
+            QueuedTask queuedTask = new QueuedTask(task);
+            if (CURRENT_QUEUE.get() == this) {
+                // a task of this queue adding another one cannot wait for space, as the space may only be freed
+                // by the workers of this queue, which may all be waiting; the backlog is exceeded instead
+                queuedTask.holdsPermit = backlog.tryAcquire();
+            } else if (!backlog.tryAcquire()) {
+                numBlockedAdds.increment();
+                log.warning("Task queue " + name + " is full, waiting for space to add the task for "
+                        + task.getWorkerUrl());
+                boolean hasSpace;
+                try {
+                    hasSpace = backlog.tryAcquire(Math.max(RequestTracer.getRemainingTimeMillis(), 0L),
+                            TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new DeadlineExceededException();
+                }
+                if (!hasSpace) {
+                    log.severe("Task queue " + name + " is still full when the request times out, the task for "
+                            + task.getWorkerUrl() + " is not added");
+                    throw new DeadlineExceededException();
+                }
+            }
+
+            numAdded.increment();
+            schedule(queuedTask, countdownTime);
+        }
+
+        private void schedule(QueuedTask queuedTask, long delayMillis) {
+            numWaiting.incrementAndGet();
+            queuedTask.readyTimeMillis = System.currentTimeMillis() + Math.max(delayMillis, 0);
+            if (delayMillis > 0) {
+                scheduler.schedule(() -> executor.execute(() -> run(queuedTask)), delayMillis, TimeUnit.MILLISECONDS);
+            } else {
+                executor.execute(() -> run(queuedTask));
+            }
+        }
+
+        private void run(QueuedTask queuedTask) {
+            numWaiting.decrementAndGet();
+            numRunning.incrementAndGet();
+            numAttempts.increment();
+            long startTimeMillis = System.currentTimeMillis();
+            long latencyMillis = Math.max(startTimeMillis - queuedTask.readyTimeMillis, 0);
+            totalLatencyMillis.add(latencyMillis);
+            maxLatencyMillis.accumulate(latencyMillis);
+
+            int statusCode;
+            CURRENT_QUEUE.set(this);
+            try {
+                statusCode = dispatch(queuedTask.task);
+            } finally {
+                CURRENT_QUEUE.remove();
+                totalRunMillis.add(System.currentTimeMillis() - startTimeMillis);
+                numRunning.decrementAndGet();
+            }
+            queuedTask.numAttempts++;
+
+            if (statusCode >= 200 && statusCode < 300) {
+                numSucceeded.increment();
+                queuedTask.releasePermit(backlog);
+                return;
+            }
+            if (queuedTask.numAttempts >= settings.maxAttempts) {
+                numFailed.increment();
+                queuedTask.releasePermit(backlog);
+                log.severe("Task for " + queuedTask.task.getWorkerUrl() + " in queue " + name + " failed after "
+                        + queuedTask.numAttempts + " attempts with status " + statusCode);
+                return;
+            }
+
+            numRetries.increment();
+            schedule(queuedTask, settings.getBackoffMillis(queuedTask.numAttempts));
+        }
+
+        private Map<String, Object> getStatistics() {
+            Map<String, Object> statistics = new LinkedHashMap<>();
+            long attempts = numAttempts.sum();
+            statistics.put("waitingTasks", numWaiting.get());
+            statistics.put("runningTasks", numRunning.get());
+            statistics.put("maxConcurrentTasks", settings.maxConcurrentTasks);
+            statistics.put("addedTasks", numAdded.sum());
+            statistics.put("blockedAdds", numBlockedAdds.sum());
+            statistics.put("succeededTasks", numSucceeded.sum());
+            statistics.put("failedTasks", numFailed.sum());
+            statistics.put("retries", numRetries.sum());
+            statistics.put("averageLatencyMillis", attempts == 0 ? 0.0 : (double) totalLatencyMillis.sum() / attempts);
+            statistics.put("maxLatencyMillis", maxLatencyMillis.get());
+            statistics.put("averageRunMillis", attempts == 0 ? 0.0 : (double) totalRunMillis.sum() / attempts);
+            return statistics;
+        }
+    }
+
+}
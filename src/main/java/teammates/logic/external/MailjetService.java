@@ -1,5 +1,8 @@
 package teammates.logic.external;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.http.HttpStatus;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -11,6 +14,7 @@ import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.MailjetResponse;
 import com.mailjet.client.errors.MailjetException;
 import com.mailjet.client.resource.Email;
+import com.mailjet.client.resource.Emailv31;
 
 import teammates.common.exception.EmailSendingException;
 import teammates.common.util.Config;
@@ -27,6 +31,9 @@ import teammates.common.util.EmailWrapper;
  */
 public class MailjetService implements EmailSenderService {
 
+    // the Send API v3.1 accepts up to 50 messages per request
+    private static final int MAX_BATCH_SIZE = 50;
+
     /**
      * {@inheritDoc}
      */
@@ -53,14 +60,82 @@ public class MailjetService implements EmailSenderService {
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException {
         MailjetRequest email = parseToEmail(wrapper);
-        MailjetClient mailjet = new MailjetClient(
-                ClientOptions.builder().apiKey(Config.MAILJET_APIKEY).apiSecretKey(Config.MAILJET_SECRETKEY).build());
         try {
-            MailjetResponse response = mailjet.post(email);
+            MailjetResponse response = getClient().post(email);
             return new EmailSendingStatus(response.getStatus(), response.getData().toString());
         } catch (MailjetException e) {
             throw new EmailSendingException(e, HttpStatus.SC_BAD_GATEWAY);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The emails are sent in a single request as separate messages of the Send API v3.1.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        if (wrappers.size() <= 1) {
+            return EmailSenderService.super.sendEmails(wrappers);
+        }
+
+        JSONArray messages = new JSONArray();
+        for (EmailWrapper wrapper : wrappers) {
+            messages.put(parseToMessage(wrapper));
+        }
+        MailjetRequest request = new MailjetRequest(Emailv31.resource).property(Emailv31.MESSAGES, messages);
+
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        try {
+            MailjetResponse response = getClient().post(request);
+            JSONArray results = new JSONObject(response.getRawResponseContent()).optJSONArray("Messages");
+            for (int i = 0; i < wrappers.size(); i++) {
+                JSONObject result = results == null ? null : results.optJSONObject(i);
+                if (result == null) {
+                    statuses.add(new EmailSendingStatus(response.getStatus(), response.getRawResponseContent()));
+                } else if ("success".equals(result.optString("Status"))) {
+                    statuses.add(new EmailSendingStatus(HttpStatus.SC_OK, result.toString()));
+                } else {
+                    statuses.add(new EmailSendingStatus(HttpStatus.SC_BAD_REQUEST, result.toString()));
+                }
+            }
+        } catch (MailjetException e) {
+            for (int i = 0; i < wrappers.size(); i++) {
+                statuses.add(new EmailSendingStatus(HttpStatus.SC_BAD_GATEWAY, e.getMessage()));
+            }
+        }
+        return statuses;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    private JSONObject parseToMessage(EmailWrapper wrapper) {
+        JSONObject sender = new JSONObject().put(Emailv31.Message.EMAIL, wrapper.getSenderEmail());
+        if (wrapper.getSenderName() != null && !wrapper.getSenderName().isEmpty()) {
+            sender.put(Emailv31.Message.NAME, wrapper.getSenderName());
+        }
+
+        JSONObject message = new JSONObject()
+                .put(Emailv31.Message.FROM, sender)
+                .put(Emailv31.Message.TO, new JSONArray()
+                        .put(new JSONObject().put(Emailv31.Message.EMAIL, wrapper.getRecipient())))
+                .put(Emailv31.Message.REPLYTO, new JSONObject().put(Emailv31.Message.EMAIL, wrapper.getReplyTo()))
+                .put(Emailv31.Message.SUBJECT, wrapper.getSubject())
+                .put(Emailv31.Message.HTMLPART, wrapper.getContent())
+                .put(Emailv31.Message.TEXTPART, Jsoup.parse(wrapper.getContent()).text());
+        if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
+            message.put(Emailv31.Message.BCC, new JSONArray()
+                    .put(new JSONObject().put(Emailv31.Message.EMAIL, wrapper.getBcc())));
+        }
+        return message;
+    }
+
+    private MailjetClient getClient() {
+        return new MailjetClient(
+                ClientOptions.builder().apiKey(Config.MAILJET_APIKEY).apiSecretKey(Config.MAILJET_SECRETKEY).build());
+    }
+
 }
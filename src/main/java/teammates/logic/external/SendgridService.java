@@ -1,6 +1,12 @@
 package teammates.logic.external;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import org.apache.http.HttpStatus;
 import org.jsoup.Jsoup;
@@ -27,20 +33,21 @@ import teammates.common.util.EmailWrapper;
  */
 public class SendgridService implements EmailSenderService {
 
+    // SendGrid accepts up to 1000 personalizations per request
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    // SendGrid limits the total size of the substitutions of each personalization to 10000 bytes
+    private static final int MAX_SUBSTITUTIONS_SIZE = 10000;
+
+    private static final String HTML_CONTENT_TAG = "-htmlContent-";
+    private static final String TEXT_CONTENT_TAG = "-textContent-";
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Mail parseToEmail(EmailWrapper wrapper) {
-        Mail email = new Mail();
-        Email sender;
-        if (wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()) {
-            sender = new Email(wrapper.getSenderEmail());
-        } else {
-            sender = new Email(wrapper.getSenderEmail(), wrapper.getSenderName());
-        }
-        email.setFrom(sender);
-        email.setReplyTo(new Email(wrapper.getReplyTo()));
+        Mail email = parseToEmailWithoutContent(wrapper);
         Personalization personalization = new Personalization();
         personalization.addTo(new Email(wrapper.getRecipient()));
         if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
@@ -55,7 +62,92 @@ public class SendgridService implements EmailSenderService {
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException {
-        Mail email = parseToEmail(wrapper);
+        return send(parseToEmail(wrapper));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Emails sharing the same sender and reply-to address are sent in a single request,
+     * with one personalization per email carrying its recipient, subject and content.
+     * Emails which cannot be personalized this way are sent individually.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        if (wrappers.size() <= 1 || !canBeSentTogether(wrappers)) {
+            return EmailSenderService.super.sendEmails(wrappers);
+        }
+
+        EmailSendingStatus status;
+        try {
+            status = send(parseToBatchEmail(wrappers));
+        } catch (EmailSendingException e) {
+            status = new EmailSendingStatus(e.getStatusCode(), e.getMessage());
+        }
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (int i = 0; i < wrappers.size(); i++) {
+            // the request is accepted or rejected as a whole
+            statuses.add(status);
+        }
+        return statuses;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    private boolean canBeSentTogether(List<EmailWrapper> wrappers) {
+        EmailWrapper first = wrappers.get(0);
+        Set<String> recipients = new HashSet<>();
+        for (EmailWrapper wrapper : wrappers) {
+            boolean isSameSender = Objects.equals(first.getSenderEmail(), wrapper.getSenderEmail())
+                    && Objects.equals(first.getSenderName(), wrapper.getSenderName())
+                    && Objects.equals(first.getReplyTo(), wrapper.getReplyTo());
+            boolean hasBcc = wrapper.getBcc() != null && !wrapper.getBcc().isEmpty();
+            // each recipient can only appear in one personalization of a request
+            boolean isNewRecipient = recipients.add(wrapper.getRecipient().toLowerCase());
+            if (!isSameSender || hasBcc || !isNewRecipient || getSubstitutionsSize(wrapper) > MAX_SUBSTITUTIONS_SIZE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int getSubstitutionsSize(EmailWrapper wrapper) {
+        // the plain text content is never longer than the HTML content it is extracted from
+        return wrapper.getContent().getBytes(StandardCharsets.UTF_8).length * 2;
+    }
+
+    private Mail parseToEmailWithoutContent(EmailWrapper wrapper) {
+        Mail email = new Mail();
+        Email sender;
+        if (wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()) {
+            sender = new Email(wrapper.getSenderEmail());
+        } else {
+            sender = new Email(wrapper.getSenderEmail(), wrapper.getSenderName());
+        }
+        email.setFrom(sender);
+        email.setReplyTo(new Email(wrapper.getReplyTo()));
+        return email;
+    }
+
+    private Mail parseToBatchEmail(List<EmailWrapper> wrappers) {
+        Mail email = parseToEmailWithoutContent(wrappers.get(0));
+        for (EmailWrapper wrapper : wrappers) {
+            Personalization personalization = new Personalization();
+            personalization.addTo(new Email(wrapper.getRecipient()));
+            personalization.setSubject(wrapper.getSubject());
+            personalization.addSubstitution(TEXT_CONTENT_TAG, Jsoup.parse(wrapper.getContent()).text());
+            personalization.addSubstitution(HTML_CONTENT_TAG, wrapper.getContent());
+            email.addPersonalization(personalization);
+        }
+        email.addContent(new Content("text/plain", TEXT_CONTENT_TAG));
+        email.addContent(new Content("text/html", HTML_CONTENT_TAG));
+        return email;
+    }
+
+    private EmailSendingStatus send(Mail email) throws EmailSendingException {
         SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
         Request request = new Request();
         request.setMethod(Method.POST);
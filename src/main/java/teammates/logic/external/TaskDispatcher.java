@@ -0,0 +1,18 @@
+package teammates.logic.external;
+
+import teammates.common.util.TaskWrapper;
+
+/**
+ * Runs tasks taken from the in-process task queue.
+ */
+public interface TaskDispatcher {
+
+    /**
+     * Runs the given task with the worker mapped to its worker URL.
+     *
+     * @param task the task to be run
+     * @return the HTTP status code of the worker's response; the task is retried if the code is not in the 2xx range
+     */
+    int dispatch(TaskWrapper task);
+
+}
@@ -1,6 +1,7 @@
 package teammates.sqllogic.api;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -12,8 +13,10 @@ import teammates.common.datatransfer.FeedbackQuestionRecipient;
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.NotificationStyle;
 import teammates.common.datatransfer.NotificationTargetUser;
+import teammates.common.datatransfer.SqlCourseRoster;
 import teammates.common.datatransfer.SqlDataBundle;
 import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.datatransfer.StudentEnrollmentResults;
 import teammates.common.exception.EnrollException;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -21,6 +24,7 @@ import teammates.common.exception.InstructorUpdateException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.exception.StudentUpdateException;
+import teammates.common.util.EmailType;
 import teammates.sqllogic.core.AccountRequestsLogic;
 import teammates.sqllogic.core.AccountsLogic;
 import teammates.sqllogic.core.CoursesLogic;
@@ -496,6 +500,26 @@ public class Logic {
         return feedbackSessionsLogic.getGiverSetThatAnsweredFeedbackSession(feedbackSessionName, courseId);
     }
 
+    /**
+     * Claims the chunk of opening or closing email recipients of the session that starts after
+     * {@code lastRecipientKey} and ends at {@code chunkEndRecipientKey}.
+     *
+     * <p>Preconditions:</p>
+     * All parameters are non-null.
+     *
+     * @return true if the chunk is claimed, false if it has been claimed already
+     * @see FeedbackSessionsLogic#claimOpeningOrClosingEmailsChunk(FeedbackSession, EmailType, String, String)
+     */
+    public boolean claimOpeningOrClosingEmailsChunk(FeedbackSession session, EmailType emailType,
+            String lastRecipientKey, String chunkEndRecipientKey) {
+        assert session != null;
+        assert lastRecipientKey != null;
+        assert chunkEndRecipientKey != null;
+
+        return feedbackSessionsLogic.claimOpeningOrClosingEmailsChunk(session, emailType, lastRecipientKey,
+                chunkEndRecipientKey);
+    }
+
     /**
      * Updates a feedback session.
      *
@@ -533,6 +557,19 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Gets the feedback sessions of the given courses that are visible to students,
+     * except those that are soft-deleted.
+     *
+     * <p>Preconditions:</p>
+     * All parameters are non-null.
+     */
+    public List<FeedbackSession> getVisibleFeedbackSessionsForCourses(List<String> courseIds) {
+        assert courseIds != null;
+
+        return feedbackSessionsLogic.getVisibleFeedbackSessionsForCourses(courseIds);
+    }
+
     /**
      * Creates a new feedback question.
      *
@@ -747,6 +784,16 @@ public class Logic {
         return accountsLogic.getReadNotificationsId(id);
     }
 
+    /**
+     * Gets the set of IDs of the read notifications of the account.
+     * Cheaper than {@link #getReadNotificationsId(String)} when only membership checks are needed.
+     */
+    public Set<UUID> getReadNotificationIds(String googleId) {
+        assert googleId != null;
+
+        return accountsLogic.getReadNotificationIds(googleId);
+    }
+
     /**
      * Updates user read status for notification with ID {@code notificationId} and expiry time {@code endTime}.
      *
@@ -923,6 +970,13 @@ public class Logic {
         return usersLogic.getStudent(id);
     }
 
+    /**
+     * Gets students associated with {@code courseId} and any of the {@code emails}.
+     */
+    public List<Student> getStudentsForEmails(String courseId, List<String> emails) {
+        return usersLogic.getStudentsForEmails(courseId, emails);
+    }
+
     /**
      * Gets student associated with {@code courseId} and {@code email}.
      */
@@ -1010,6 +1064,22 @@ public class Logic {
         return usersLogic.createStudent(student);
     }
 
+    /**
+     * Enrolls students in a course in bulk.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the enrolled students and the errors of the students who cannot be enrolled
+     * @see UsersLogic#enrollStudents(Course, List)
+     */
+    public StudentEnrollmentResults enrollStudents(Course course, List<Student> studentsToEnroll) {
+        assert course != null;
+        assert studentsToEnroll != null;
+
+        return usersLogic.enrollStudents(course, studentsToEnroll);
+    }
+
     /**
      * Search for students. Preconditions: all parameters are non-null.
      * @param instructors   a list of Instructors associated to a googleId,
@@ -1197,6 +1267,30 @@ public class Logic {
         return notificationsLogic.getActiveNotificationsByTargetUser(targetUser);
     }
 
+    /**
+     * Returns active notification for general users and the specified {@code targetUser}, from a snapshot kept in memory.
+     * The notifications returned must not be modified.
+     *
+     * @see NotificationsLogic#getActiveNotificationsSnapshot(NotificationTargetUser)
+     */
+    public List<Notification> getActiveNotificationsSnapshot(NotificationTargetUser targetUser) {
+        assert targetUser != null;
+
+        return notificationsLogic.getActiveNotificationsSnapshot(targetUser);
+    }
+
+    /**
+     * Marks the notifications with the given IDs as shown to users.
+     *
+     * <p>Preconditions:</p>
+     * * All parameters are non-null.
+     */
+    public void markNotificationsShown(Collection<UUID> notificationIds) {
+        assert notificationIds != null;
+
+        notificationsLogic.markNotificationsShown(notificationIds);
+    }
+
     /**
      * Gets all questions for a feedback session.<br>
      * Returns an empty list if they are no questions
@@ -1264,6 +1358,17 @@ public class Logic {
                 feedbackSession, courseId, userEmail, isInstructor, questionId, isPreviewResults);
     }
 
+    /**
+     * Gets the version of the results of a feedback session, which changes whenever the results may have changed.
+     *
+     * @see FeedbackSessionsLogic#getSessionResultsVersion(FeedbackSession)
+     */
+    public String getSessionResultsVersion(FeedbackSession feedbackSession) {
+        assert feedbackSession != null;
+
+        return feedbackSessionsLogic.getSessionResultsVersion(feedbackSession);
+    }
+
     /**
      * Persists the given data bundle to the database.
      */
@@ -1360,6 +1465,30 @@ public class Logic {
         return feedbackQuestionsLogic.getRecipientsOfQuestion(question, instructorGiver, studentGiver, null);
     }
 
+    /**
+     * Gets the recipients of a feedback question, using the given roster instead of fetching the course's
+     * students and instructors again.
+     *
+     * @see FeedbackQuestionsLogic#getRecipientsOfQuestion
+     */
+    public Map<String, FeedbackQuestionRecipient> getRecipientsOfQuestion(
+            FeedbackQuestion question,
+            @Nullable Instructor instructorGiver, @Nullable Student studentGiver, SqlCourseRoster courseRoster) {
+        assert question != null;
+        assert courseRoster != null;
+
+        return feedbackQuestionsLogic.getRecipientsOfQuestion(question, instructorGiver, studentGiver, courseRoster);
+    }
+
+    /**
+     * Gets the roster of all the students and instructors of a course.
+     */
+    public SqlCourseRoster getCourseRoster(String courseId) {
+        assert courseId != null;
+
+        return new SqlCourseRoster(usersLogic.getStudentsForCourse(courseId), usersLogic.getInstructorsForCourse(courseId));
+    }
+
     /**
      * Gets a feedbackResponse or null if it does not exist.
      */
@@ -1383,6 +1512,23 @@ public class Logic {
         return feedbackResponsesLogic.createFeedbackResponse(feedbackResponse);
     }
 
+    /**
+     * Creates feedback responses in JDBC batches.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return created feedback responses
+     * @throws InvalidParametersException if any of the responses is not valid
+     * @throws EntityAlreadyExistsException if a response from the same giver to the same recipient
+     *         for the same question already exists
+     */
+    public List<FeedbackResponse> createFeedbackResponses(List<FeedbackResponse> feedbackResponses)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        assert feedbackResponses != null;
+        return feedbackResponsesLogic.createFeedbackResponses(feedbackResponses);
+    }
+
     /**
      * Deletes a feedback response and cascades its associated comments.
      *
@@ -1413,6 +1559,24 @@ public class Logic {
                 question, student);
     }
 
+    /**
+     * Gets existing feedback responses from instructor for the questions of a session, grouped by question ID.
+     */
+    public Map<UUID, List<FeedbackResponse>> getFeedbackResponsesFromInstructorForSession(
+            FeedbackSession feedbackSession, Instructor instructor) {
+        return feedbackResponsesLogic.getFeedbackResponsesFromInstructorForSession(feedbackSession, instructor);
+    }
+
+    /**
+     * Gets existing feedback responses from student or their team for the questions of a session,
+     * grouped by question ID.
+     */
+    public Map<UUID, List<FeedbackResponse>> getFeedbackResponsesFromStudentOrTeamForSession(
+            FeedbackSession feedbackSession, Student student, SqlCourseRoster courseRoster) {
+        return feedbackResponsesLogic.getFeedbackResponsesFromStudentOrTeamForSession(
+                feedbackSession, student, courseRoster);
+    }
+
     /**
      * Gets an feedback response comment by feedback response comment id.
      * @param id of feedback response comment.
@@ -1451,6 +1615,23 @@ public class Logic {
         return feedbackResponsesLogic.updateFeedbackResponseCascade(feedbackResponse);
     }
 
+    /**
+     * Updates feedback responses in JDBC batches and cascades section changes to their comments.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return updated feedback responses
+     * @throws InvalidParametersException if any of the responses is not valid
+     * @throws EntityDoesNotExistException if any of the responses cannot be found
+     */
+    public List<FeedbackResponse> updateFeedbackResponsesCascade(List<FeedbackResponse> feedbackResponses)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        assert feedbackResponses != null;
+
+        return feedbackResponsesLogic.updateFeedbackResponsesCascade(feedbackResponses);
+    }
+
     /**
      * Checks whether there are responses for a question.
      */
@@ -1458,6 +1639,20 @@ public class Logic {
         return feedbackResponsesLogic.areThereResponsesForQuestion(questionId);
     }
 
+    /**
+     * Gets the aggregated statistics of all the responses to a question as JSON string.
+     *
+     * <p>Preconditions:</p>
+     * All parameters are non-null.
+     *
+     * @see FeedbackResponsesLogic#getQuestionStatisticsJson(FeedbackQuestion, boolean)
+     */
+    public String getQuestionStatisticsJson(FeedbackQuestion question, boolean isRecipientVisible) {
+        assert question != null;
+
+        return feedbackResponsesLogic.getQuestionStatisticsJson(question, isRecipientVisible);
+    }
+
     /**
      * Checks whether there are responses for a course.
      */
@@ -1570,6 +1765,15 @@ public class Logic {
         usersLogic.putStudentDocument(student);
     }
 
+    /**
+     * Creates or updates search documents for the given students.
+     *
+     * @see UsersLogic#putStudentDocuments(List)
+     */
+    public void putStudentDocuments(List<Student> students) throws SearchServiceException {
+        usersLogic.putStudentDocuments(students);
+    }
+
     /**
      * This is used by admin to search account requests in the whole system.
      *
@@ -3,7 +3,9 @@ package teammates.sqllogic.api;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -19,6 +21,7 @@ import teammates.common.util.EmailWrapper;
 import teammates.common.util.RequestTracer;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.Templates;
+import teammates.common.util.Templates.CompiledTemplate;
 import teammates.common.util.Templates.EmailTemplates;
 import teammates.common.util.TimeHelper;
 import teammates.sqllogic.core.CoursesLogic;
@@ -31,6 +34,7 @@ import teammates.storage.sqlentity.DeadlineExtension;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.User;
 
 /**
  * Handles operations related to generating emails to be sent from provided templates.
@@ -60,6 +64,10 @@ public final class SqlEmailGenerator {
 
     private static final long SESSION_LINK_RECOVERY_DURATION_IN_DAYS = 90;
 
+    private static final String STUDENT_RECIPIENT_KEY_PREFIX = "1:";
+    private static final String INSTRUCTOR_RECIPIENT_KEY_PREFIX = "2:";
+    private static final String NOTIFIED_INSTRUCTOR_RECIPIENT_KEY_PREFIX = "3:";
+
     private static final SqlEmailGenerator instance = new SqlEmailGenerator();
 
     private final CoursesLogic coursesLogic = CoursesLogic.inst();
@@ -84,6 +92,91 @@ public final class SqlEmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionOpeningOrClosingEmails(
             FeedbackSession session, EmailType emailType) {
+        OpeningOrClosingEmailRecipients recipients = getOpeningOrClosingEmailRecipients(session, emailType);
+        return generateFeedbackSessionOpeningOrClosingEmailBases(session, emailType,
+                recipients.students, recipients.instructors, recipients.instructorsToNotify);
+    }
+
+    /**
+     * Generates the feedback session opening or closing emails for the recipients of the given {@code session}
+     * that come after {@code lastRecipientKey}, so that the emails can be sent a chunk of recipients at a time.
+     *
+     * <p>Recipients are identified by recipient keys made up of the type of recipient followed by their email,
+     * and are ordered by type, then by email as ordered by the database. Only the recipients of the chunk
+     * are loaded. An empty {@code lastRecipientKey} starts from the first recipient.
+     *
+     * @param emailType either {@link EmailType#FEEDBACK_OPENING} or {@link EmailType#FEEDBACK_CLOSING}
+     * @return the emails for at most {@code maxRecipients} recipients in recipient order, keyed by their recipient keys
+     */
+    public Map<String, EmailWrapper> generateFeedbackSessionOpeningOrClosingEmails(
+            FeedbackSession session, EmailType emailType, String lastRecipientKey, int maxRecipients) {
+        assert emailType == EmailType.FEEDBACK_OPENING || emailType == EmailType.FEEDBACK_CLOSING;
+        String courseId = session.getCourse().getId();
+        boolean isEmailNeededForStudents = fsLogic.isFeedbackSessionForUserTypeToAnswer(session, false);
+        boolean isEmailNeededForInstructors = fsLogic.isFeedbackSessionForUserTypeToAnswer(session, true);
+        Set<UUID> usersWithDeadlineExtensions = emailType == EmailType.FEEDBACK_CLOSING
+                ? session.getDeadlineExtensions().stream()
+                        .map(d -> d.getUser().getId())
+                        .collect(Collectors.toSet())
+                : Collections.emptySet();
+
+        List<Student> students = new ArrayList<>();
+        if (isEmailNeededForStudents && !isAfterRecipientType(lastRecipientKey, STUDENT_RECIPIENT_KEY_PREFIX)) {
+            students = usersLogic.getStudentsForCourseAfterEmail(courseId,
+                    getLastRecipientEmail(lastRecipientKey, STUDENT_RECIPIENT_KEY_PREFIX),
+                    usersWithDeadlineExtensions, maxRecipients);
+        }
+
+        List<Instructor> instructors = new ArrayList<>();
+        int remainingRecipients = maxRecipients - students.size();
+        if (isEmailNeededForInstructors && remainingRecipients > 0
+                && !isAfterRecipientType(lastRecipientKey, INSTRUCTOR_RECIPIENT_KEY_PREFIX)) {
+            instructors = usersLogic.getInstructorsForCourseAfterEmail(courseId,
+                    getLastRecipientEmail(lastRecipientKey, INSTRUCTOR_RECIPIENT_KEY_PREFIX),
+                    usersWithDeadlineExtensions, remainingRecipients);
+        }
+
+        List<Instructor> instructorsToNotify = new ArrayList<>();
+        remainingRecipients -= instructors.size();
+        if (isEmailNeededForStudents && remainingRecipients > 0
+                && !isAfterRecipientType(lastRecipientKey, NOTIFIED_INSTRUCTOR_RECIPIENT_KEY_PREFIX)) {
+            String lastEmail = getLastRecipientEmail(lastRecipientKey, NOTIFIED_INSTRUCTOR_RECIPIENT_KEY_PREFIX);
+            // a course only has a few co-owners, so they are not paged in the database
+            instructorsToNotify = usersLogic.getCoOwnersForCourse(courseId).stream()
+                    .filter(instructor -> lastEmail == null || instructor.getEmail().compareTo(lastEmail) > 0)
+                    .sorted(Comparator.comparing(User::getEmail))
+                    .limit(remainingRecipients)
+                    .collect(Collectors.toList());
+        }
+
+        List<String> recipientKeys = new ArrayList<>();
+        students.forEach(student -> recipientKeys.add(STUDENT_RECIPIENT_KEY_PREFIX + student.getEmail()));
+        instructors.forEach(instructor -> recipientKeys.add(INSTRUCTOR_RECIPIENT_KEY_PREFIX + instructor.getEmail()));
+        instructorsToNotify.forEach(instructor ->
+                recipientKeys.add(NOTIFIED_INSTRUCTOR_RECIPIENT_KEY_PREFIX + instructor.getEmail()));
+
+        // one email is generated for every recipient, in the same order as the recipients are given
+        List<EmailWrapper> emails = generateFeedbackSessionOpeningOrClosingEmailBases(session, emailType,
+                students, instructors, instructorsToNotify);
+        Map<String, EmailWrapper> emailsByRecipientKey = new LinkedHashMap<>();
+        for (int i = 0; i < emails.size(); i++) {
+            emailsByRecipientKey.put(recipientKeys.get(i), emails.get(i));
+        }
+        return emailsByRecipientKey;
+    }
+
+    private boolean isAfterRecipientType(String lastRecipientKey, String recipientKeyPrefix) {
+        return lastRecipientKey.compareTo(recipientKeyPrefix) > 0 && !lastRecipientKey.startsWith(recipientKeyPrefix);
+    }
+
+    private String getLastRecipientEmail(String lastRecipientKey, String recipientKeyPrefix) {
+        return lastRecipientKey.startsWith(recipientKeyPrefix)
+                ? lastRecipientKey.substring(recipientKeyPrefix.length())
+                : null;
+    }
+
+    private OpeningOrClosingEmailRecipients getOpeningOrClosingEmailRecipients(
+            FeedbackSession session, EmailType emailType) {
         Course course = session.getCourse();
         boolean isEmailNeededForStudents = fsLogic.isFeedbackSessionForUserTypeToAnswer(session, false);
         boolean isEmailNeededForInstructors = fsLogic.isFeedbackSessionForUserTypeToAnswer(session, true);
@@ -114,6 +207,12 @@ public final class SqlEmailGenerator {
                     .collect(Collectors.toList());
         }
 
+        return new OpeningOrClosingEmailRecipients(students, instructors, instructorsToNotify);
+    }
+
+    private List<EmailWrapper> generateFeedbackSessionOpeningOrClosingEmailBases(
+            FeedbackSession session, EmailType emailType, List<Student> students, List<Instructor> instructors,
+            List<Instructor> instructorsToNotify) {
         String status = emailType == EmailType.FEEDBACK_OPENING
                 ? FEEDBACK_STATUS_SESSION_OPENING
                 : FEEDBACK_STATUS_SESSION_CLOSING;
@@ -122,8 +221,8 @@ public final class SqlEmailGenerator {
                 ? EmailTemplates.USER_FEEDBACK_SESSION_OPENING.replace("${status}", status)
                 : EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", status);
 
-        return generateFeedbackSessionEmailBases(course, session, students, instructors, instructorsToNotify, template,
-                emailType, FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW);
+        return generateFeedbackSessionEmailBases(session.getCourse(), session, students, instructors,
+                instructorsToNotify, template, emailType, FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW);
     }
 
     /**
@@ -564,16 +663,8 @@ public final class SqlEmailGenerator {
         String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSING);
         EmailType type = EmailType.FEEDBACK_CLOSING;
         String feedbackAction = FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW;
-        List<EmailWrapper> emails = new ArrayList<>();
-        for (Student student : students) {
-            emails.addAll(generateFeedbackSessionEmailBases(course, session, Collections.singletonList(student),
-                    Collections.emptyList(), Collections.emptyList(), template, type, feedbackAction));
-        }
-        for (Instructor instructor : instructors) {
-            emails.addAll(generateFeedbackSessionEmailBases(course, session, Collections.emptyList(),
-                    Collections.singletonList(instructor), Collections.emptyList(), template, type, feedbackAction));
-        }
-        return emails;
+        return generateFeedbackSessionEmailBases(course, session, students, instructors, Collections.emptyList(),
+                template, type, feedbackAction);
     }
 
     /**
@@ -711,6 +802,7 @@ public final class SqlEmailGenerator {
                 .replace("${newEndTime}", SanitizationHelper.sanitizeForHtml(
                         TimeHelper.formatInstant(newEndTimeFormatted,
                                 session.getCourse().getTimeZone(), DATETIME_DISPLAY_FORMAT)));
+        CompiledTemplate compiledTemplate = Templates.compile(template);
         String feedbackAction = FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW;
 
         if (isInstructor) {
@@ -718,15 +810,17 @@ public final class SqlEmailGenerator {
             if (instructor == null) {
                 return null;
             }
-            return generateFeedbackSessionEmailBaseForInstructors(
-                    course, session, instructor, template, emailType, feedbackAction, additionalContactInformation);
+            return generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
+                    deLogic.getDeadlineForUser(session, instructor), compiledTemplate, emailType, feedbackAction,
+                    additionalContactInformation);
         } else {
             Student student = usersLogic.getStudentForEmail(course.getId(), userEmail);
             if (student == null) {
                 return null;
             }
-            return generateFeedbackSessionEmailBaseForStudents(
-                    course, session, student, template, emailType, feedbackAction, additionalContactInformation);
+            return generateFeedbackSessionEmailBaseForStudents(course, session, student,
+                    deLogic.getDeadlineForUser(session, student), compiledTemplate, emailType, feedbackAction,
+                    additionalContactInformation);
         }
     }
 
@@ -739,24 +833,32 @@ public final class SqlEmailGenerator {
         studentAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, false));
         instructorAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, true));
 
+        // load the deadline extensions of the whole session at once instead of querying them for every user
+        Map<UUID, Instant> extendedDeadlines = students.isEmpty() && instructors.isEmpty()
+                ? Collections.emptyMap()
+                : deLogic.getExtendedDeadlinesForSession(session);
+
+        CompiledTemplate compiledTemplate = Templates.compile(template);
         List<EmailWrapper> emails = new ArrayList<>();
         for (Student student : students) {
-            emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
-                    template, type, feedbackAction, studentAdditionalContactBuilder.toString()));
+            Instant deadline = extendedDeadlines.getOrDefault(student.getId(), session.getEndTime());
+            emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student, deadline,
+                    compiledTemplate, type, feedbackAction, studentAdditionalContactBuilder.toString()));
         }
         for (Instructor instructor : instructors) {
-            emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
-                    template, type, feedbackAction, instructorAdditionalContactBuilder.toString()));
+            Instant deadline = extendedDeadlines.getOrDefault(instructor.getId(), session.getEndTime());
+            emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor, deadline,
+                    compiledTemplate, type, feedbackAction, instructorAdditionalContactBuilder.toString()));
         }
         for (Instructor instructor : instructorsToNotify) {
             emails.add(generateFeedbackSessionEmailBaseForNotifiedInstructors(course, session, instructor,
-                    template, type, feedbackAction, studentAdditionalContactBuilder.toString()));
+                    compiledTemplate, type, feedbackAction, studentAdditionalContactBuilder.toString()));
         }
         return emails;
     }
 
     private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
-            Course course, FeedbackSession session, Student student, String template,
+            Course course, FeedbackSession session, Student student, Instant deadline, CompiledTemplate template,
             EmailType type, String feedbackAction, String additionalContactInformation) {
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
@@ -770,11 +872,9 @@ public final class SqlEmailGenerator {
                 .withRegistrationKey(student.getRegKey())
                 .toAbsoluteString();
 
-        Instant deadline = deLogic.getDeadlineForUser(session, student);
-
         Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
                 deadline, session.getCourse().getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
+        String emailBody = template.render(
                 "${userName}", SanitizationHelper.sanitizeForHtml(student.getName()),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
@@ -797,8 +897,8 @@ public final class SqlEmailGenerator {
     }
 
     private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(
-            Course course, FeedbackSession session, Instructor instructor,
-            String template, EmailType type, String feedbackAction, String additionalContactInformation) {
+            Course course, FeedbackSession session, Instructor instructor, Instant deadline,
+            CompiledTemplate template, EmailType type, String feedbackAction, String additionalContactInformation) {
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
                 .withSessionName(session.getName())
@@ -813,11 +913,9 @@ public final class SqlEmailGenerator {
                 .withEntityType(Const.EntityType.INSTRUCTOR)
                 .toAbsoluteString();
 
-        Instant deadline = deLogic.getDeadlineForUser(session, instructor);
-
         Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
                 deadline, session.getCourse().getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
+        String emailBody = template.render(
                 "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
@@ -841,11 +939,11 @@ public final class SqlEmailGenerator {
 
     private EmailWrapper generateFeedbackSessionEmailBaseForNotifiedInstructors(
             Course course, FeedbackSession session, Instructor instructor,
-            String template, EmailType type, String feedbackAction, String additionalContactInformation) {
+            CompiledTemplate template, EmailType type, String feedbackAction, String additionalContactInformation) {
 
         Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
                 session.getEndTime(), session.getCourse().getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
+        String emailBody = template.render(
                 "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()),
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
@@ -1101,4 +1199,20 @@ public final class SqlEmailGenerator {
                 "${coOwnersEmails}", generateCoOwnersEmailsLine(course.getId()),
                 "${supportEmail}", Config.SUPPORT_EMAIL);
     }
+
+    /**
+     * The recipients of the feedback session opening or closing emails of a session.
+     */
+    private static class OpeningOrClosingEmailRecipients {
+        private final List<Student> students;
+        private final List<Instructor> instructors;
+        private final List<Instructor> instructorsToNotify;
+
+        OpeningOrClosingEmailRecipients(List<Student> students, List<Instructor> instructors,
+                List<Instructor> instructorsToNotify) {
+            this.students = students;
+            this.instructors = instructors;
+            this.instructorsToNotify = instructorsToNotify;
+        }
+    }
 }
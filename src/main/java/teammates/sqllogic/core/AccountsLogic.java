@@ -2,12 +2,14 @@ package teammates.sqllogic.core;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.UserRolesCache;
 import teammates.storage.sqlapi.AccountsDb;
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.Course;
@@ -164,6 +166,13 @@ public final class AccountsLogic {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets the set of ids of read notifications in an account.
+     */
+    public Set<UUID> getReadNotificationIds(String googleId) {
+        return accountsDb.getReadNotificationIds(googleId);
+    }
+
     /**
      * Joins the user as a student.
      */
@@ -181,6 +190,7 @@ public final class AccountsLogic {
         if (student.getAccount() == null) {
             student.setAccount(account);
         }
+        UserRolesCache.inst().invalidateOnCommit(googleId);
 
         return student;
     }
@@ -210,6 +220,7 @@ public final class AccountsLogic {
             student.setAccount(account);
             usersLogic.updateStudentCascade(student);
         }
+        UserRolesCache.inst().invalidateOnCommit(googleId);
 
         return instructor;
     }
@@ -11,6 +11,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.UserRolesCache;
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.AccountRequest;
 import teammates.storage.sqlentity.Course;
@@ -255,6 +256,7 @@ public final class DataBundleLogic {
         }
 
         linkEntities(dataBundle);
+        UserRolesCache.inst().invalidateAll();
 
         Collection<Account> accounts = dataBundle.accounts.values();
         Collection<AccountRequest> accountRequests = dataBundle.accountRequests.values();
@@ -341,6 +343,7 @@ public final class DataBundleLogic {
         }
 
         linkEntities(dataBundle);
+        UserRolesCache.inst().invalidateAll();
         dataBundle.courses.values().forEach(course -> {
             coursesLogic.deleteCourseCascade(course.getId());
         });
@@ -2,6 +2,8 @@ package teammates.sqllogic.core;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -53,6 +55,17 @@ public final class DeadlineExtensionsLogic {
         return extendedDeadline;
     }
 
+    /**
+     * Gets the extended deadlines of all users with deadline extensions in the session, keyed by the user ID.
+     *
+     * <p>The extensions are loaded in a single query, so this should be used instead of
+     * {@link #getDeadlineForUser(FeedbackSession, User)} when the deadlines of many users are needed.
+     */
+    public Map<UUID, Instant> getExtendedDeadlinesForSession(FeedbackSession session) {
+        return deadlineExtensionsDb.getDeadlineExtensionsForFeedbackSession(session.getId()).stream()
+                .collect(Collectors.toMap(de -> de.getUser().getId(), DeadlineExtension::getEndTime));
+    }
+
     /**
      * Get extended deadline for this session and user if it exists, otherwise return null.
      */
@@ -113,6 +113,15 @@ public final class FeedbackQuestionsLogic {
         return questions;
     }
 
+    /**
+     * Gets the distinct giver types of all questions in the given session.
+     */
+    public Set<FeedbackParticipantType> getGiverTypesForSession(FeedbackSession feedbackSession) {
+        assert feedbackSession != null;
+
+        return new HashSet<>(fqDb.getGiverTypesForSession(feedbackSession.getId()));
+    }
+
     /**
      * Checks if there are any questions for the given session that instructors can view/submit.
      */
@@ -658,53 +667,64 @@ public final class FeedbackQuestionsLogic {
 
         List<String> possibleGiverEmails = getPossibleGivers(relatedQuestion, courseRoster);
         for (String possibleGiverEmail : possibleGiverEmails) {
-            switch (relatedQuestion.getGiverType()) {
-            case STUDENTS:
-                Student studentGiver = courseRoster.getStudentForEmail(possibleGiverEmail);
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiverEmail, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, studentGiver, courseRoster).keySet());
-                break;
-            case TEAMS:
-                Student oneTeamMember =
-                        courseRoster.getTeamToMembersTable().get(possibleGiverEmail).iterator().next();
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiverEmail, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, oneTeamMember, courseRoster).keySet());
-                break;
-            case INSTRUCTORS:
-            case SELF:
-                Instructor instructorGiver = courseRoster.getInstructorForEmail(possibleGiverEmail);
-
-                // only happens when a session creator quits their course
-                if (instructorGiver == null) {
-                    instructorGiver = new Instructor(
-                            relatedQuestion.getCourse(),
-                            USER_NAME_FOR_SELF,
-                            possibleGiverEmail,
-                            false,
-                            USER_NAME_FOR_SELF,
-                            null,
-                            null
-                            );
-                }
-
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiverEmail, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, instructorGiver, null, courseRoster).keySet());
-                break;
-            default:
-                log.severe("Invalid giver type specified");
-                break;
+            Set<String> possibleRecipients =
+                    getPossibleRecipientsForGiver(relatedQuestion, possibleGiverEmail, courseRoster);
+            if (possibleRecipients != null) {
+                completeGiverRecipientMap.put(possibleGiverEmail, new HashSet<>(possibleRecipients));
             }
         }
 
         return completeGiverRecipientMap;
     }
 
+    /**
+     * Gets the possible recipient identifiers of a giver for a {@code relatedQuestion}.
+     *
+     * <p>This allows the giver to recipient pairs of a question to be processed one giver at a time,
+     * without building the complete giver to recipient map.
+     *
+     * @param relatedQuestion the question to be considered
+     * @param giverIdentifier the identifier of the giver, which must be one of the possible givers of the question
+     * @param courseRoster the roster in the course
+     * @return the set of recipient identifiers, or null if the giver type of the question is invalid
+     */
+    Set<String> getPossibleRecipientsForGiver(
+            FeedbackQuestion relatedQuestion, String giverIdentifier, SqlCourseRoster courseRoster) {
+        switch (relatedQuestion.getGiverType()) {
+        case STUDENTS:
+            Student studentGiver = courseRoster.getStudentForEmail(giverIdentifier);
+            return getRecipientsOfQuestion(
+                    relatedQuestion, null, studentGiver, courseRoster).keySet();
+        case TEAMS:
+            Student oneTeamMember =
+                    courseRoster.getTeamToMembersTable().get(giverIdentifier).iterator().next();
+            return getRecipientsOfQuestion(
+                    relatedQuestion, null, oneTeamMember, courseRoster).keySet();
+        case INSTRUCTORS:
+        case SELF:
+            Instructor instructorGiver = courseRoster.getInstructorForEmail(giverIdentifier);
+
+            // only happens when a session creator quits their course
+            if (instructorGiver == null) {
+                instructorGiver = new Instructor(
+                        relatedQuestion.getCourse(),
+                        USER_NAME_FOR_SELF,
+                        giverIdentifier,
+                        false,
+                        USER_NAME_FOR_SELF,
+                        null,
+                        null
+                        );
+            }
+
+            return getRecipientsOfQuestion(
+                    relatedQuestion, instructorGiver, null, courseRoster).keySet();
+        default:
+            log.severe("Invalid giver type specified");
+            return null;
+        }
+    }
+
     /**
      * Gets possible giver identifiers for a feedback question.
      *
@@ -712,7 +732,7 @@ public final class FeedbackQuestionsLogic {
      * @param courseRoster roster of all students and instructors
      * @return a list of giver identifier
      */
-    private List<String> getPossibleGivers(
+    List<String> getPossibleGivers(
             FeedbackQuestion fq, SqlCourseRoster courseRoster) {
         FeedbackParticipantType giverType = fq.getGiverType();
         List<String> possibleGivers = new ArrayList<>();
@@ -1,26 +1,37 @@
 package teammates.sqllogic.core;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
 
 import javax.annotation.Nullable;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.datatransfer.SqlMissingResponseList;
 import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.datatransfer.questions.FeedbackQuestionStatistics;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackRankRecipientsResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
 import teammates.common.util.RequestTracer;
 import teammates.storage.sqlapi.FeedbackResponsesDb;
 import teammates.storage.sqlentity.Course;
@@ -32,7 +43,6 @@ import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
 import teammates.storage.sqlentity.Team;
-import teammates.storage.sqlentity.responses.FeedbackMissingResponse;
 import teammates.storage.sqlentity.responses.FeedbackRankRecipientsResponse;
 
 /**
@@ -45,6 +55,17 @@ public final class FeedbackResponsesLogic {
 
     private static final FeedbackResponsesLogic instance = new FeedbackResponsesLogic();
 
+    // responses may also be changed through other instances of the application
+    private static final Duration QUESTION_STATISTICS_MAX_AGE = Duration.ofMinutes(1);
+
+    private final Map<UUID, QuestionStatisticsSnapshot> questionStatisticsSnapshots = new ConcurrentHashMap<>();
+
+    // number of changes to the statistics of each question which are not committed or rolled back yet
+    private final Map<UUID, Integer> pendingQuestionStatisticsChanges = new ConcurrentHashMap<>();
+
+    // incremented whenever a change to the statistics is committed or rolled back
+    private final AtomicLong questionStatisticsGeneration = new AtomicLong();
+
     private FeedbackResponsesDb frDb;
     private UsersLogic usersLogic;
     private FeedbackQuestionsLogic fqLogic;
@@ -67,6 +88,7 @@ public final class FeedbackResponsesLogic {
         this.usersLogic = usersLogic;
         this.fqLogic = fqLogic;
         this.frcLogic = frcLogic;
+        questionStatisticsSnapshots.clear();
     }
 
     /**
@@ -110,6 +132,24 @@ public final class FeedbackResponsesLogic {
         return question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS);
     }
 
+    /**
+     * Gets the set of givers that have at least one response in a session.
+     */
+    public Set<String> getGiversForSession(FeedbackSession feedbackSession) {
+        assert feedbackSession != null;
+
+        return new HashSet<>(frDb.getGiversForSession(feedbackSession.getId()));
+    }
+
+    /**
+     * Gets the number of givers that have at least one response in a session.
+     */
+    public int getNumGiversForSession(FeedbackSession feedbackSession) {
+        assert feedbackSession != null;
+
+        return Math.toIntExact(frDb.getNumGiversForSession(feedbackSession.getId()));
+    }
+
     /**
      * Checks whether a giver has responded a session.
      */
@@ -145,7 +185,25 @@ public final class FeedbackResponsesLogic {
      */
     public FeedbackResponse createFeedbackResponse(FeedbackResponse feedbackResponse)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return frDb.createFeedbackResponse(feedbackResponse);
+        FeedbackResponse createdResponse = frDb.createFeedbackResponse(feedbackResponse);
+        updateQuestionStatistics(createdResponse, 1);
+        return createdResponse;
+    }
+
+    /**
+     * Creates feedback responses in JDBC batches.
+     * @return the created responses
+     * @throws InvalidParametersException if any of the responses is not valid
+     * @throws EntityAlreadyExistsException if a response from the same giver to the same recipient
+     *         for the same question already exists
+     */
+    public List<FeedbackResponse> createFeedbackResponses(List<FeedbackResponse> feedbackResponses)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        List<FeedbackResponse> createdResponses = frDb.createFeedbackResponses(feedbackResponses);
+        for (FeedbackResponse createdResponse : createdResponses) {
+            updateQuestionStatistics(createdResponse, 1);
+        }
+        return createdResponses;
     }
 
     /**
@@ -170,6 +228,51 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesFromGiverForQuestion(question.getId(), student.getEmail());
     }
 
+    /**
+     * Gets the existing feedback responses from an instructor to the questions of a session,
+     * grouped by the ID of the question.
+     */
+    public Map<UUID, List<FeedbackResponse>> getFeedbackResponsesFromInstructorForSession(
+            FeedbackSession feedbackSession, Instructor instructor) {
+        List<FeedbackResponse> responses = frDb.getFeedbackResponsesFromGiversForSession(
+                feedbackSession.getId(), Collections.singletonList(instructor.getEmail()));
+        return groupFeedbackResponsesByQuestion(responses);
+    }
+
+    /**
+     * Gets the existing feedback responses from a student or their team to the questions of a session,
+     * grouped by the ID of the question.
+     *
+     * <p>This fetches the same responses as calling {@link #getFeedbackResponsesFromStudentOrTeamForQuestion}
+     * for every question of the session, but in a single query.
+     */
+    public Map<UUID, List<FeedbackResponse>> getFeedbackResponsesFromStudentOrTeamForSession(
+            FeedbackSession feedbackSession, Student student, SqlCourseRoster courseRoster) {
+        Set<String> teamGivers = new HashSet<>();
+        teamGivers.add(student.getTeamName());
+        List<Student> studentsInTeam = courseRoster.getTeamToMembersTable().get(student.getTeamName());
+        if (studentsInTeam != null) {
+            studentsInTeam.forEach(teamMember -> teamGivers.add(teamMember.getEmail()));
+        }
+        teamGivers.add(student.getEmail());
+
+        List<FeedbackResponse> responses = frDb.getFeedbackResponsesFromGiversForSession(
+                feedbackSession.getId(), teamGivers);
+        // responses from team members only count for questions answered on behalf of the team
+        responses.removeIf(response -> response.getFeedbackQuestion().getGiverType() != FeedbackParticipantType.TEAMS
+                && !response.getGiver().equals(student.getEmail()));
+        return groupFeedbackResponsesByQuestion(responses);
+    }
+
+    private Map<UUID, List<FeedbackResponse>> groupFeedbackResponsesByQuestion(List<FeedbackResponse> responses) {
+        Map<UUID, List<FeedbackResponse>> responsesPerQuestion = new HashMap<>();
+        for (FeedbackResponse response : responses) {
+            responsesPerQuestion.computeIfAbsent(response.getFeedbackQuestion().getId(), id -> new ArrayList<>())
+                    .add(response);
+        }
+        return responsesPerQuestion;
+    }
+
     private List<FeedbackResponse> getFeedbackResponsesFromTeamForQuestion(
             UUID feedbackQuestionId, String courseId, String teamName, @Nullable SqlCourseRoster courseRoster) {
 
@@ -204,7 +307,13 @@ public final class FeedbackResponsesLogic {
             throws InvalidParametersException, EntityDoesNotExistException {
 
         FeedbackResponse oldResponse = frDb.getFeedbackResponse(feedbackResponse.getId());
+        // the old response is the managed instance, which takes the new values once the update is merged
+        String oldRecipient = oldResponse == null ? null : oldResponse.getRecipient();
+        FeedbackResponseDetails oldResponseDetails =
+                oldResponse == null ? null : oldResponse.getFeedbackResponseDetailsCopy();
         FeedbackResponse newResponse = frDb.updateFeedbackResponse(feedbackResponse);
+        updateQuestionStatistics(newResponse.getFeedbackQuestion().getId(), oldRecipient, oldResponseDetails, -1);
+        updateQuestionStatistics(newResponse, 1);
 
         boolean isGiverSectionChanged = !oldResponse.getGiverSection().equals(newResponse.getGiverSection());
         boolean isRecipientSectionChanged = !oldResponse.getRecipientSection().equals(newResponse.getRecipientSection());
@@ -229,11 +338,67 @@ public final class FeedbackResponsesLogic {
         return newResponse;
     }
 
+    /**
+     * Updates feedback responses in JDBC batches, cascading section changes to their comments
+     * in the same way as {@link #updateFeedbackResponseCascade(FeedbackResponse)}.
+     *
+     * @return updated feedback responses
+     * @throws InvalidParametersException if any of the responses is not valid
+     * @throws EntityDoesNotExistException if any of the responses cannot be found
+     */
+    public List<FeedbackResponse> updateFeedbackResponsesCascade(List<FeedbackResponse> feedbackResponses)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        List<FeedbackResponse> oldResponses = new ArrayList<>();
+        List<FeedbackResponseDetails> oldResponsesDetails = new ArrayList<>();
+        List<String> oldRecipients = new ArrayList<>();
+        for (FeedbackResponse feedbackResponse : feedbackResponses) {
+            FeedbackResponse oldResponse = frDb.getFeedbackResponse(feedbackResponse.getId());
+            if (oldResponse == null) {
+                continue;
+            }
+            oldResponses.add(oldResponse);
+            oldResponsesDetails.add(oldResponse.getFeedbackResponseDetailsCopy());
+            oldRecipients.add(oldResponse.getRecipient());
+
+            // the sections are compared before merging, as the old response is the managed instance
+            boolean isGiverSectionChanged = !oldResponse.getGiverSection().equals(feedbackResponse.getGiverSection());
+            boolean isRecipientSectionChanged =
+                    !oldResponse.getRecipientSection().equals(feedbackResponse.getRecipientSection());
+
+            if (isGiverSectionChanged || isRecipientSectionChanged) {
+                List<FeedbackResponseComment> oldResponseComments =
+                        frcLogic.getFeedbackResponseCommentForResponse(oldResponse.getId());
+                for (FeedbackResponseComment oldResponseComment : oldResponseComments) {
+                    if (isGiverSectionChanged) {
+                        oldResponseComment.setGiverSection(feedbackResponse.getGiverSection());
+                    }
+
+                    if (isRecipientSectionChanged) {
+                        oldResponseComment.setRecipientSection(feedbackResponse.getRecipientSection());
+                    }
+
+                    frcLogic.updateFeedbackResponseComment(oldResponseComment);
+                }
+            }
+        }
+
+        List<FeedbackResponse> updatedResponses = frDb.updateFeedbackResponses(feedbackResponses);
+        for (int i = 0; i < oldResponses.size(); i++) {
+            updateQuestionStatistics(oldResponses.get(i).getFeedbackQuestion().getId(),
+                    oldRecipients.get(i), oldResponsesDetails.get(i), -1);
+        }
+        for (FeedbackResponse updatedResponse : updatedResponses) {
+            updateQuestionStatistics(updatedResponse, 1);
+        }
+        return updatedResponses;
+    }
+
     /**
      * Deletes a feedback response cascade its associated feedback response comments.
      * Implicitly makes use of CascadeType.REMOVE.
      */
     public void deleteFeedbackResponsesAndCommentsCascade(FeedbackResponse feedbackResponse) {
+        updateQuestionStatistics(feedbackResponse, -1);
         frDb.deleteFeedbackResponse(feedbackResponse);
     }
 
@@ -243,6 +408,7 @@ public final class FeedbackResponsesLogic {
     public void deleteFeedbackResponsesForQuestionCascade(UUID feedbackQuestionId) {
         // delete all responses, comments of the question
         frDb.deleteFeedbackResponsesForQuestionCascade(feedbackQuestionId);
+        invalidateQuestionStatistics(feedbackQuestionId);
     }
 
     /**
@@ -270,6 +436,7 @@ public final class FeedbackResponsesLogic {
         List<FeedbackResponse> responsesFromStudent =
                 getFeedbackResponsesFromGiverForCourse(courseId, entityEmail);
         for (FeedbackResponse response : responsesFromStudent) {
+            updateQuestionStatistics(response, -1);
             frDb.deleteFeedbackResponse(response);
         }
 
@@ -277,6 +444,7 @@ public final class FeedbackResponsesLogic {
         List<FeedbackResponse> responsesToStudent =
                 getFeedbackResponsesForRecipientForCourse(courseId, entityEmail);
         for (FeedbackResponse response : responsesToStudent) {
+            updateQuestionStatistics(response, -1);
             frDb.deleteFeedbackResponse(response);
         }
     }
@@ -318,6 +486,118 @@ public final class FeedbackResponsesLogic {
         return frDb.getResponsesForQuestion(feedbackQuestionId);
     }
 
+    /**
+     * Gets the aggregated statistics of all the responses to a question as JSON string.
+     *
+     * <p>The statistics are kept in memory and updated as responses are created, updated and deleted
+     * through this class and the changes are committed, so that they do not need to be computed
+     * from all the responses every time.
+     * They are computed again once the question is updated, and at least once a minute
+     * so that changes made through other instances of the application are picked up.
+     *
+     * @param isRecipientVisible whether the statistics of individual recipients can be included
+     * @return the statistics, or an empty string if the statistics of the question type are not aggregated
+     * @see teammates.common.datatransfer.questions.FeedbackQuestionDetails#createQuestionStatistics()
+     */
+    public String getQuestionStatisticsJson(FeedbackQuestion question, boolean isRecipientVisible) {
+        assert question != null;
+
+        Instant now = Instant.now();
+        questionStatisticsSnapshots.values().removeIf(snapshot -> snapshot.isExpired(now));
+
+        QuestionStatisticsSnapshot snapshot = questionStatisticsSnapshots.get(question.getId());
+        if (snapshot != null && snapshot.isUpToDate(question, now)) {
+            return snapshot.toJson(isRecipientVisible);
+        }
+
+        // loaded outside of the map, so that the query does not hold the lock of the map entry
+        long generation = questionStatisticsGeneration.get();
+        boolean hadPendingChanges = pendingQuestionStatisticsChanges.containsKey(question.getId());
+        QuestionStatisticsSnapshot loadedSnapshot = loadQuestionStatistics(question);
+        if (loadedSnapshot == null) {
+            return "";
+        }
+
+        // the loaded statistics are not kept if changes to them were pending or completed while loading them,
+        // as they may or may not include the changes, which are applied to the kept statistics once committed
+        QuestionStatisticsSnapshot keptSnapshot = questionStatisticsSnapshots.compute(question.getId(),
+                (questionId, existingSnapshot) -> {
+                    if (existingSnapshot != null && existingSnapshot.isUpToDate(question, now)) {
+                        return existingSnapshot;
+                    }
+                    boolean isUnchanged = !hadPendingChanges && !pendingQuestionStatisticsChanges.containsKey(questionId)
+                            && questionStatisticsGeneration.get() == generation;
+                    return isUnchanged ? loadedSnapshot : null;
+                });
+
+        return (keptSnapshot == null ? loadedSnapshot : keptSnapshot).toJson(isRecipientVisible);
+    }
+
+    @Nullable
+    private QuestionStatisticsSnapshot loadQuestionStatistics(FeedbackQuestion question) {
+        FeedbackQuestionStatistics statistics = question.getQuestionDetailsCopy().createQuestionStatistics();
+        if (statistics == null) {
+            return null;
+        }
+
+        for (FeedbackResponse response : frDb.getResponsesForQuestion(question.getId())) {
+            statistics.addResponse(response.getRecipient(), response.getFeedbackResponseDetailsCopy());
+        }
+        return new QuestionStatisticsSnapshot(question.getUpdatedAt(), statistics);
+    }
+
+    /**
+     * Adds a response to the statistics of its question kept in memory if {@code delta} is 1,
+     * or removes it if {@code delta} is -1, once the current transaction is committed.
+     *
+     * <p>Until the transaction is completed, the statistics of the question are not loaded into memory,
+     * so that statistics already including the change do not have the change applied again.
+     */
+    private void updateQuestionStatistics(FeedbackResponse response, int delta) {
+        updateQuestionStatistics(response.getFeedbackQuestion().getId(), response.getRecipient(),
+                response.getFeedbackResponseDetailsCopy(), delta);
+    }
+
+    private void updateQuestionStatistics(
+            UUID questionId, String recipient, @Nullable FeedbackResponseDetails responseDetails, int delta) {
+        if (responseDetails == null) {
+            return;
+        }
+        beginQuestionStatisticsChange(questionId);
+        HibernateUtil.runAfterCompletion(isCommitted -> {
+            if (isCommitted) {
+                questionStatisticsSnapshots.computeIfPresent(questionId, (id, snapshot) -> {
+                    snapshot.updateResponse(recipient, responseDetails, delta);
+                    return snapshot;
+                });
+            }
+            endQuestionStatisticsChange(questionId);
+        });
+    }
+
+    /**
+     * Discards the statistics of a question kept in memory, both now and once the current transaction
+     * is completed, so that statistics loaded before the commit are not kept either.
+     */
+    private void invalidateQuestionStatistics(UUID questionId) {
+        beginQuestionStatisticsChange(questionId);
+        questionStatisticsSnapshots.remove(questionId);
+        HibernateUtil.runAfterCompletion(isCommitted -> {
+            questionStatisticsSnapshots.remove(questionId);
+            endQuestionStatisticsChange(questionId);
+        });
+    }
+
+    private void beginQuestionStatisticsChange(UUID questionId) {
+        pendingQuestionStatisticsChanges.merge(questionId, 1, Integer::sum);
+    }
+
+    private void endQuestionStatisticsChange(UUID questionId) {
+        questionStatisticsGeneration.incrementAndGet();
+        pendingQuestionStatisticsChanges.computeIfPresent(questionId,
+                (id, numPendingChanges) -> numPendingChanges == 1 ? null : numPendingChanges - 1);
+    }
+
     /**
      * Updates the relevant responses before the deletion of a student.
      * This method takes care of the following:
@@ -332,6 +612,7 @@ public final class FeedbackResponsesLogic {
 
         for (FeedbackQuestion question : filteredQuestions) {
             makeRankRecipientQuestionResponsesConsistent(question, roster);
+            invalidateQuestionStatistics(question.getId());
         }
     }
 
@@ -538,8 +819,10 @@ public final class FeedbackResponsesLogic {
                 getFeedbackResponsesForRecipientForCourse(courseId, oldEmail);
 
         for (FeedbackResponse response : responsesToUser) {
+            updateQuestionStatistics(response, -1);
             response.setRecipient(newEmail);
             frDb.updateFeedbackResponse(response);
+            updateQuestionStatistics(response, 1);
         }
     }
 
@@ -674,16 +957,15 @@ public final class FeedbackResponsesLogic {
         RequestTracer.checkRemainingTime();
 
         List<FeedbackResponse> existingResponses = new ArrayList<>(relatedResponses);
-        List<FeedbackResponse> missingResponses = Collections.emptyList();
+        Map<FeedbackQuestion, List<FeedbackResponse>> questionMissingResponseMap = Collections.emptyMap();
         if (isCourseWide) {
-            missingResponses = buildMissingResponses(
-                    instructor, responseGiverVisibilityTable, responseRecipientVisibilityTable, relatedQuestions,
-                    existingResponses, roster, sectionName);
+            questionMissingResponseMap = buildMissingResponses(
+                    instructor, relatedQuestions, existingResponses, roster, sectionName);
         }
         RequestTracer.checkRemainingTime();
 
         return new SqlSessionResultsBundle(relatedQuestions, relatedQuestionsNotVisibleForPreviewSet,
-                relatedQuestionsWithCommentNotVisibleForPreview, existingResponses, missingResponses,
+                relatedQuestionsWithCommentNotVisibleForPreview, existingResponses, questionMissingResponseMap,
                 responseGiverVisibilityTable, responseRecipientVisibilityTable, relatedCommentsMap,
                 commentVisibilityTable, roster);
     }
@@ -771,92 +1053,98 @@ public final class FeedbackResponsesLogic {
     /**
      * Builds viewable missing responses for the session for instructor.
      *
+     * <p>The possible giver recipient pairs are processed one giver at a time, and the missing pairs
+     * are kept in a compact {@link SqlMissingResponseList} for each question.
+     *
      * @param instructor the instructor
-     * @param responseGiverVisibilityTable
-     *         the giver visibility table which will be updated with the visibility of missing responses
-     * @param responseRecipientVisibilityTable
-     *         the recipient visibility table which will be updated with the visibility of missing responses
      * @param relatedQuestions the relevant questions
      * @param existingResponses existing responses
      * @param courseRoster the course roster
      * @param sectionName if not null, will only build missing responses for the section
-     * @return a list of missing responses for the session.
+     * @return a map of question to its missing responses for the session.
      */
-    private List<FeedbackResponse> buildMissingResponses(
-            Instructor instructor, Map<FeedbackResponse, Boolean> responseGiverVisibilityTable,
-            Map<FeedbackResponse, Boolean> responseRecipientVisibilityTable, List<FeedbackQuestion> relatedQuestions,
+    private Map<FeedbackQuestion, List<FeedbackResponse>> buildMissingResponses(
+            Instructor instructor, List<FeedbackQuestion> relatedQuestions,
             List<FeedbackResponse> existingResponses, SqlCourseRoster courseRoster, @Nullable String sectionName) {
 
-        // first get all possible giver recipient pairs
-        Map<FeedbackQuestion, Map<String, Set<String>>> questionCompleteGiverRecipientMap = new HashMap<>();
-        for (FeedbackQuestion feedbackQuestion : relatedQuestions) {
-            if (feedbackQuestion.getQuestionDetailsCopy().shouldGenerateMissingResponses(feedbackQuestion)) {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion,
-                        fqLogic.buildCompleteGiverRecipientMap(feedbackQuestion, courseRoster));
-            } else {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion, new HashMap<>());
-            }
+        // participants are referred to by their ordinals, which are shared by all questions
+        Map<String, Integer> participantOrdinals = new HashMap<>();
+        List<String> participants = new ArrayList<>();
+        List<String> participantSectionNames = new ArrayList<>();
+        ToIntFunction<String> getOrdinal = identifier -> participantOrdinals.computeIfAbsent(identifier, key -> {
+            participants.add(key);
+            participantSectionNames.add(courseRoster.getInfoForIdentifier(key).getSectionName());
+            return participants.size() - 1;
+        });
+
+        // index the recipients of the existing responses of each giver
+        Map<FeedbackQuestion, Map<String, BitSet>> existingGiverRecipientMap = new HashMap<>();
+        for (FeedbackResponse existingResponse : existingResponses) {
+            existingGiverRecipientMap
+                    .computeIfAbsent(existingResponse.getFeedbackQuestion(), key -> new HashMap<>())
+                    .computeIfAbsent(existingResponse.getGiver(), key -> new BitSet())
+                    .set(getOrdinal.applyAsInt(existingResponse.getRecipient()));
         }
 
-        // remove the existing responses in those pairs
-        for (FeedbackResponse existingResponse : existingResponses) {
-            Map<String, Set<String>> currGiverRecipientMap =
-                    questionCompleteGiverRecipientMap.get(existingResponse.getFeedbackQuestion());
-            if (!currGiverRecipientMap.containsKey(existingResponse.getGiver())) {
+        Map<FeedbackQuestion, List<FeedbackResponse>> questionMissingResponseMap = new HashMap<>();
+        for (FeedbackQuestion question : relatedQuestions) {
+            if (questionMissingResponseMap.containsKey(question)) {
+                // a question is related once for every viewable response to it
+                continue;
+            }
+            SqlMissingResponseList missingResponses =
+                    new SqlMissingResponseList(question, participants, participantSectionNames);
+            questionMissingResponseMap.put(question, missingResponses);
+            if (!question.getQuestionDetailsCopy().shouldGenerateMissingResponses(question)) {
                 continue;
             }
-            currGiverRecipientMap.get(existingResponse.getGiver()).remove(existingResponse.getRecipient());
-        }
-
-        List<FeedbackResponse> missingResponses = new ArrayList<>();
-        // build dummy responses
-        for (Map.Entry<FeedbackQuestion, Map<String, Set<String>>> currGiverRecipientMapEntry
-                : questionCompleteGiverRecipientMap.entrySet()) {
-            FeedbackQuestion correspondingQuestion = currGiverRecipientMapEntry.getKey();
 
-            for (Map.Entry<String, Set<String>> giverRecipientEntry
-                    : currGiverRecipientMapEntry.getValue().entrySet()) {
-                // giver
-                String giverIdentifier = giverRecipientEntry.getKey();
-                SqlCourseRoster.ParticipantInfo giverInfo = courseRoster.getInfoForIdentifier(giverIdentifier);
+            Map<String, BitSet> existingRecipientsOfGivers =
+                    existingGiverRecipientMap.getOrDefault(question, Collections.emptyMap());
+            for (String giverIdentifier : fqLogic.getPossibleGivers(question, courseRoster)) {
+                Set<String> possibleRecipients =
+                        fqLogic.getPossibleRecipientsForGiver(question, giverIdentifier, courseRoster);
+                if (possibleRecipients == null) {
+                    continue;
+                }
+                int giverOrdinal = getOrdinal.applyAsInt(giverIdentifier);
+                String giverSectionName = participantSectionNames.get(giverOrdinal);
+                BitSet existingRecipients = existingRecipientsOfGivers.get(giverIdentifier);
 
-                for (String recipientIdentifier : giverRecipientEntry.getValue()) {
-                    // recipient
-                    SqlCourseRoster.ParticipantInfo recipientInfo = courseRoster.getInfoForIdentifier(recipientIdentifier);
+                for (String recipientIdentifier : possibleRecipients) {
+                    int recipientOrdinal = getOrdinal.applyAsInt(recipientIdentifier);
+                    if (existingRecipients != null && existingRecipients.get(recipientOrdinal)) {
+                        continue;
+                    }
+                    String recipientSectionName = participantSectionNames.get(recipientOrdinal);
 
                     // skip responses not in current section
                     if (sectionName != null
-                            && !giverInfo.getSectionName().equals(sectionName)
-                            && !recipientInfo.getSectionName().equals(sectionName)) {
+                            && !giverSectionName.equals(sectionName)
+                            && !recipientSectionName.equals(sectionName)) {
                         continue;
                     }
 
-                    FeedbackResponse missingResponse = new FeedbackMissingResponse(
-                            correspondingQuestion,
-                            giverIdentifier, giverInfo.getSectionName(),
-                            recipientIdentifier, recipientInfo.getSectionName());
-
                     // check visibility of the missing response
                     boolean isVisibleResponse = isResponseVisibleForUser(
                             instructor.getEmail(), true, null, Collections.emptySet(),
-                            missingResponse, correspondingQuestion, instructor);
+                            giverIdentifier, giverSectionName, recipientIdentifier, recipientSectionName,
+                            question, instructor);
                     if (!isVisibleResponse) {
                         continue;
                     }
 
-                    // generate giver/recipient name visibility table
-                    responseGiverVisibilityTable.put(missingResponse,
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
-                                    instructor.getEmail(), true, true, courseRoster));
-                    responseRecipientVisibilityTable.put(missingResponse,
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
+                    // record giver/recipient name visibility with the missing response
+                    missingResponses.add(giverOrdinal, recipientOrdinal,
+                            isNameVisibleToUser(question, giverIdentifier, recipientIdentifier,
+                                    instructor.getEmail(), true, true, courseRoster),
+                            isNameVisibleToUser(question, giverIdentifier, recipientIdentifier,
                                     instructor.getEmail(), true, false, courseRoster));
-                    missingResponses.add(missingResponse);
                 }
             }
         }
 
-        return missingResponses;
+        return questionMissingResponseMap;
     }
 
     /**
@@ -867,6 +1155,13 @@ public final class FeedbackResponsesLogic {
             FeedbackResponse response,
             String userEmail,
             boolean isInstructor, boolean isGiverName, SqlCourseRoster roster) {
+        return isNameVisibleToUser(question, response.getGiver(), response.getRecipient(),
+                userEmail, isInstructor, isGiverName, roster);
+    }
+
+    private boolean isNameVisibleToUser(
+            FeedbackQuestion question, String giver, String recipient,
+            String userEmail, boolean isInstructor, boolean isGiverName, SqlCourseRoster roster) {
 
         if (question == null) {
             return false;
@@ -875,21 +1170,21 @@ public final class FeedbackResponsesLogic {
         // Early return if user is giver
         if (question.getGiverType() == FeedbackParticipantType.TEAMS) {
             // if response is given by team, then anyone in the team can see the response
-            if (roster.isStudentInTeam(userEmail, response.getGiver())) {
+            if (roster.isStudentInTeam(userEmail, giver)) {
                 return true;
             }
         } else {
-            if (response.getGiver().equals(userEmail)) {
+            if (giver.equals(userEmail)) {
                 return true;
             }
         }
 
-        return isFeedbackParticipantNameVisibleToUser(question, response,
+        return isFeedbackParticipantNameVisibleToUser(question, giver, recipient,
                 userEmail, isInstructor, isGiverName, roster);
     }
 
     private boolean isFeedbackParticipantNameVisibleToUser(
-            FeedbackQuestion question, FeedbackResponse response,
+            FeedbackQuestion question, String giver, String recipient,
             String userEmail, boolean isInstructor, boolean isGiverName, SqlCourseRoster roster) {
         List<FeedbackParticipantType> showNameTo = isGiverName
                                                  ? question.getShowGiverNameTo()
@@ -904,20 +1199,20 @@ public final class FeedbackResponsesLogic {
             case OWN_TEAM_MEMBERS:
             case OWN_TEAM_MEMBERS_INCLUDING_SELF:
                 // Refers to Giver's Team Members
-                if (roster.isStudentsInSameTeam(response.getGiver(), userEmail)) {
+                if (roster.isStudentsInSameTeam(giver, userEmail)) {
                     return true;
                 }
                 break;
             case RECEIVER:
                 // Response to team
                 if (question.getRecipientType().isTeam()) {
-                    if (roster.isStudentInTeam(userEmail, response.getRecipient())) {
+                    if (roster.isStudentInTeam(userEmail, recipient)) {
                         // this is a team name
                         return true;
                     }
                     break;
                     // Response to individual
-                } else if (response.getRecipient().equals(userEmail)) {
+                } else if (recipient.equals(userEmail)) {
                     return true;
                 } else {
                     break;
@@ -925,12 +1220,12 @@ public final class FeedbackResponsesLogic {
             case RECEIVER_TEAM_MEMBERS:
                 // Response to team; recipient = teamName
                 if (question.getRecipientType().isTeam()) {
-                    if (roster.isStudentInTeam(userEmail, response.getRecipient())) {
+                    if (roster.isStudentInTeam(userEmail, recipient)) {
                         // this is a team name
                         return true;
                     }
                     break;
-                } else if (roster.isStudentsInSameTeam(response.getRecipient(), userEmail)) {
+                } else if (roster.isStudentsInSameTeam(recipient, userEmail)) {
                     // Response to individual
                     return true;
                 }
@@ -953,12 +1248,21 @@ public final class FeedbackResponsesLogic {
             String userEmail, boolean isInstructor, Student student,
             Set<String> studentsEmailInTeam, FeedbackResponse response,
             FeedbackQuestion relatedQuestion, Instructor instructor) {
+        return isResponseVisibleForUser(userEmail, isInstructor, student, studentsEmailInTeam,
+                response.getGiver(), response.getGiverSectionName(),
+                response.getRecipient(), response.getRecipientSectionName(), relatedQuestion, instructor);
+    }
+
+    private boolean isResponseVisibleForUser(
+            String userEmail, boolean isInstructor, Student student, Set<String> studentsEmailInTeam,
+            String giver, String giverSectionName, String recipient, String recipientSectionName,
+            FeedbackQuestion relatedQuestion, Instructor instructor) {
 
         boolean isVisibleResponse = false;
         if (isInstructor && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
-                || response.getRecipient().equals(userEmail)
+                || recipient.equals(userEmail)
                 && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                || response.getGiver().equals(userEmail)
+                || giver.equals(userEmail)
                 || !isInstructor && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
             isVisibleResponse = true;
         } else if (studentsEmailInTeam != null && !isInstructor) {
@@ -966,30 +1270,30 @@ public final class FeedbackResponsesLogic {
                     || relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS_IN_SAME_SECTION
                     || relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS_EXCLUDING_SELF)
                     && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                    && response.getRecipient().equals(student.getTeamName())) {
+                    && recipient.equals(student.getTeamName())) {
                 isVisibleResponse = true;
             } else if (relatedQuestion.getGiverType() == FeedbackParticipantType.TEAMS
-                    && response.getGiver().equals(student.getTeamName())) {
+                    && giver.equals(student.getTeamName())) {
                 isVisibleResponse = true;
             } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
-                    && studentsEmailInTeam.contains(response.getGiver())) {
+                    && studentsEmailInTeam.contains(giver)) {
                 isVisibleResponse = true;
             } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
-                    && studentsEmailInTeam.contains(response.getRecipient())) {
+                    && studentsEmailInTeam.contains(recipient)) {
                 isVisibleResponse = true;
             }
         }
         if (isVisibleResponse && instructor != null) {
             boolean isGiverSectionRestricted =
-                    !instructor.isAllowedForPrivilege(response.getGiverSectionName(),
-                            response.getFeedbackQuestion().getFeedbackSession().getName(),
+                    !instructor.isAllowedForPrivilege(giverSectionName,
+                            relatedQuestion.getFeedbackSession().getName(),
                             Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
             // If instructors are not restricted to view the giver's section,
             // they are allowed to view responses to GENERAL, subject to visibility options
             boolean isRecipientSectionRestricted =
                     relatedQuestion.getRecipientType() != FeedbackParticipantType.NONE
-                            && !instructor.isAllowedForPrivilege(response.getRecipientSectionName(),
-                            response.getFeedbackQuestion().getFeedbackSession().getName(),
+                            && !instructor.isAllowedForPrivilege(recipientSectionName,
+                            relatedQuestion.getFeedbackSession().getName(),
                             Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
 
             boolean isNotAllowedForInstructor = isGiverSectionRestricted || isRecipientSectionRestricted;
@@ -1157,4 +1461,38 @@ public final class FeedbackResponsesLogic {
         return isCommentVisibleToInstructor && isGiverVisibleToInstructor;
     }
 
+    /**
+     * Statistics of the responses to a question, as of the version of the question they were computed for.
+     */
+    private static final class QuestionStatisticsSnapshot {
+        private final Instant questionUpdatedAt;
+        private final Instant loadedAt = Instant.now();
+        private final FeedbackQuestionStatistics statistics;
+
+        private QuestionStatisticsSnapshot(Instant questionUpdatedAt, FeedbackQuestionStatistics statistics) {
+            this.questionUpdatedAt = questionUpdatedAt;
+            this.statistics = statistics;
+        }
+
+        private boolean isExpired(Instant now) {
+            return loadedAt.plus(QUESTION_STATISTICS_MAX_AGE).isBefore(now);
+        }
+
+        private boolean isUpToDate(FeedbackQuestion question, Instant now) {
+            return !isExpired(now) && Objects.equals(questionUpdatedAt, question.getUpdatedAt());
+        }
+
+        private synchronized void updateResponse(String recipient, FeedbackResponseDetails responseDetails, int delta) {
+            if (delta > 0) {
+                statistics.addResponse(recipient, responseDetails);
+            } else {
+                statistics.removeResponse(recipient, responseDetails);
+            }
+        }
+
+        private synchronized String toJson(boolean isRecipientVisible) {
+            return statistics.toJson(isRecipientVisible);
+        }
+    }
+
 }
@@ -2,7 +2,6 @@ package teammates.sqllogic.core;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -13,6 +12,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.EmailType;
 import teammates.common.util.Logger;
 import teammates.common.util.TimeHelper;
 import teammates.storage.sqlapi.FeedbackSessionsDb;
@@ -45,7 +45,6 @@ public final class FeedbackSessionsLogic {
     private FeedbackSessionsDb fsDb;
     private FeedbackQuestionsLogic fqLogic;
     private FeedbackResponsesLogic frLogic;
-    private CoursesLogic coursesLogic;
     private UsersLogic usersLogic;
 
     private FeedbackSessionsLogic() {
@@ -56,12 +55,11 @@ public final class FeedbackSessionsLogic {
         return instance;
     }
 
-    void initLogicDependencies(FeedbackSessionsDb fsDb, CoursesLogic coursesLogic,
+    void initLogicDependencies(FeedbackSessionsDb fsDb,
             FeedbackResponsesLogic frLogic, FeedbackQuestionsLogic fqLogic, UsersLogic usersLogic) {
         this.fsDb = fsDb;
         this.frLogic = frLogic;
         this.fqLogic = fqLogic;
-        this.coursesLogic = coursesLogic;
         this.usersLogic = usersLogic;
     }
 
@@ -87,6 +85,17 @@ public final class FeedbackSessionsLogic {
         return fsDb.getFeedbackSession(feedbackSessionName, courseId);
     }
 
+    /**
+     * Gets the version of the results of a feedback session, which changes whenever the results may have changed.
+     *
+     * @see FeedbackSessionsDb#getSessionResultsVersion(FeedbackSession)
+     */
+    public String getSessionResultsVersion(FeedbackSession feedbackSession) {
+        assert feedbackSession != null;
+
+        return fsDb.getSessionResultsVersion(feedbackSession);
+    }
+
     /**
      * Gets all feedback sessions of a course, except those that are soft-deleted.
      */
@@ -114,23 +123,22 @@ public final class FeedbackSessionsLogic {
         return fsDb.getSoftDeletedFeedbackSession(courseId, feedbackSessionName);
     }
 
+    /**
+     * Gets the feedback sessions of the given courses that are visible to students,
+     * except those that are soft-deleted.
+     */
+    public List<FeedbackSession> getVisibleFeedbackSessionsForCourses(List<String> courseIds) {
+        return fsDb.getVisibleFeedbackSessionsForCourses(courseIds, Instant.now());
+    }
+
     /**
      * Gets a list of feedback sessions for instructors.
+     * <br>
+     * Omits sessions if the corresponding courses are in Recycle Bin
      */
     public List<FeedbackSession> getFeedbackSessionsForInstructors(
             List<Instructor> instructorList) {
-
-        List<Instructor> courseNotDeletedInstructorList = instructorList.stream()
-                .filter(instructor -> coursesLogic.getCourse(instructor.getCourseId()).getDeletedAt() == null)
-                .collect(Collectors.toList());
-
-        List<FeedbackSession> fsList = new ArrayList<>();
-
-        for (Instructor instructor : courseNotDeletedInstructorList) {
-            fsList.addAll(getFeedbackSessionsForCourse(instructor.getCourseId()));
-        }
-
-        return fsList;
+        return fsDb.getFeedbackSessionsForCourses(getCourseIds(instructorList), false);
     }
 
     /**
@@ -140,18 +148,14 @@ public final class FeedbackSessionsLogic {
      */
     public List<FeedbackSession> getSoftDeletedFeedbackSessionsForInstructors(
             List<Instructor> instructorList) {
+        return fsDb.getFeedbackSessionsForCourses(getCourseIds(instructorList), true);
+    }
 
-        List<Instructor> courseNotDeletedInstructorList = instructorList.stream()
-                .filter(instructor -> coursesLogic.getCourse(instructor.getCourseId()).getDeletedAt() == null)
+    private List<String> getCourseIds(List<Instructor> instructorList) {
+        return instructorList.stream()
+                .map(Instructor::getCourseId)
+                .distinct()
                 .collect(Collectors.toList());
-
-        List<FeedbackSession> fsList = new ArrayList<>();
-
-        for (Instructor instructor : courseNotDeletedInstructorList) {
-            fsList.addAll(fsDb.getSoftDeletedFeedbackSessionsForCourse(instructor.getCourseId()));
-        }
-
-        return fsList;
     }
 
     /**
@@ -170,15 +174,7 @@ public final class FeedbackSessionsLogic {
 
         FeedbackSession feedbackSession = fsDb.getFeedbackSession(feedbackSessionName, courseId);
 
-        Set<String> giverSet = new HashSet<>();
-
-        fqLogic.getFeedbackQuestionsForSession(feedbackSession).forEach(question -> {
-            frLogic.getFeedbackResponsesForQuestion(question.getId()).forEach(response -> {
-                giverSet.add(response.getGiver());
-            });
-        });
-
-        return giverSet;
+        return getGiverSetThatAnsweredFeedbackSession(feedbackSession);
     }
 
     /**
@@ -187,15 +183,7 @@ public final class FeedbackSessionsLogic {
     public Set<String> getGiverSetThatAnsweredFeedbackSession(FeedbackSession fs) {
         assert fs != null;
 
-        Set<String> giverSet = new HashSet<>();
-
-        fqLogic.getFeedbackQuestionsForSession(fs).forEach(question -> {
-            frLogic.getFeedbackResponsesForQuestion(question.getId()).forEach(response -> {
-                giverSet.add(response.getGiver());
-            });
-        });
-
-        return giverSet;
+        return frLogic.getGiversForSession(fs);
     }
 
     /**
@@ -223,6 +211,37 @@ public final class FeedbackSessionsLogic {
         return fsDb.updateFeedbackSession(session);
     }
 
+    /**
+     * Claims the chunk of opening or closing email recipients of the session that starts after
+     * {@code lastRecipientKey} and ends at {@code chunkEndRecipientKey}, by moving the email checkpoint of the
+     * session from the former to the latter.
+     *
+     * <p>Only one of several concurrent callers claiming the same chunk succeeds, so the emails of the chunk are
+     * sent once only if they are sent after a successful claim.
+     *
+     * @param emailType either {@link EmailType#FEEDBACK_OPENING} or {@link EmailType#FEEDBACK_CLOSING}
+     * @return true if the chunk is claimed, false if the checkpoint of the session is no longer {@code lastRecipientKey}
+     */
+    public boolean claimOpeningOrClosingEmailsChunk(FeedbackSession session, EmailType emailType,
+            String lastRecipientKey, String chunkEndRecipientKey) {
+        assert emailType == EmailType.FEEDBACK_OPENING || emailType == EmailType.FEEDBACK_CLOSING;
+
+        boolean isClaimed;
+        if (emailType == EmailType.FEEDBACK_OPENING) {
+            isClaimed = fsDb.updateOpenEmailCheckpoint(session.getId(), lastRecipientKey, chunkEndRecipientKey);
+            if (isClaimed) {
+                // keeps the loaded session in line with the updated row
+                session.setOpenEmailCheckpoint(chunkEndRecipientKey);
+            }
+        } else {
+            isClaimed = fsDb.updateClosingSoonEmailCheckpoint(session.getId(), lastRecipientKey, chunkEndRecipientKey);
+            if (isClaimed) {
+                session.setClosingSoonEmailCheckpoint(chunkEndRecipientKey);
+            }
+        }
+        return isClaimed;
+    }
+
     /**
      * Unpublishes a feedback session.
      *
@@ -519,30 +538,18 @@ public final class FeedbackSessionsLogic {
      */
     public int getExpectedTotalSubmission(FeedbackSession fs) {
         int expectedTotal = 0;
-        List<FeedbackQuestion> questions = fqLogic.getFeedbackQuestionsForSession(fs);
-        if (fqLogic.hasFeedbackQuestionsForStudents(questions)) {
-            expectedTotal += usersLogic.getStudentsForCourse(fs.getCourse().getId()).size();
+        String courseId = fs.getCourse().getId();
+        Set<FeedbackParticipantType> giverTypes = fqLogic.getGiverTypesForSession(fs);
+        if (giverTypes.contains(FeedbackParticipantType.STUDENTS)
+                || giverTypes.contains(FeedbackParticipantType.TEAMS)) {
+            expectedTotal += usersLogic.getNumStudentsForCourse(courseId);
         }
 
-        // Pre-flight check to ensure there are questions for instructors.
-        if (!fqLogic.hasFeedbackQuestionsForInstructors(questions, true)) {
-            return expectedTotal;
-        }
-
-        List<Instructor> instructors = usersLogic.getInstructorsForCourse(fs.getCourse().getId());
-        if (instructors.isEmpty()) {
-            return expectedTotal;
-        }
-
-        // Check presence of questions for instructors.
-        if (fqLogic.hasFeedbackQuestionsForInstructors(fqLogic.getFeedbackQuestionsForSession(fs), false)) {
-            expectedTotal += instructors.size();
-        } else {
+        if (giverTypes.contains(FeedbackParticipantType.INSTRUCTORS)) {
+            expectedTotal += usersLogic.getNumInstructorsForCourse(courseId);
+        } else if (giverTypes.contains(FeedbackParticipantType.SELF)) {
             // No questions for instructors. There must be questions for creator.
-            List<Instructor> creators = instructors.stream()
-                    .filter(instructor -> fs.getCreatorEmail().equals(instructor.getEmail()))
-                    .collect(Collectors.toList());
-            expectedTotal += creators.size();
+            expectedTotal += usersLogic.getNumInstructorsForEmail(courseId, fs.getCreatorEmail());
         }
         return expectedTotal;
     }
@@ -551,6 +558,6 @@ public final class FeedbackSessionsLogic {
      * Gets the actual number of submissions for a feedback session.
      */
     public int getActualTotalSubmission(FeedbackSession fs) {
-        return getGiverSetThatAnsweredFeedbackSession(fs).size();
+        return frLogic.getNumGiversForSession(fs);
     }
 }
@@ -2,15 +2,22 @@ package teammates.sqllogic.core;
 
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import teammates.common.datatransfer.NotificationStyle;
 import teammates.common.datatransfer.NotificationTargetUser;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.HibernateUtil;
 import teammates.storage.sqlapi.NotificationsDb;
 import teammates.storage.sqlentity.Notification;
 
@@ -21,6 +28,14 @@ public final class NotificationsLogic {
 
     private static final NotificationsLogic instance = new NotificationsLogic();
 
+    // notifications may also be changed through other instances of the application
+    private static final Duration ACTIVE_NOTIFICATIONS_SNAPSHOT_MAX_AGE = Duration.ofMinutes(1);
+
+    private final Map<NotificationTargetUser, ActiveNotificationsSnapshot> activeNotificationsSnapshots =
+            new ConcurrentHashMap<>();
+    // incremented whenever notifications change, so that a snapshot loaded before a change is not kept after it
+    private final AtomicLong activeNotificationsVersion = new AtomicLong();
+
     private NotificationsDb notificationsDb;
 
     private NotificationsLogic() {
@@ -36,6 +51,7 @@ public final class NotificationsLogic {
      */
     public void initLogicDependencies(NotificationsDb notificationsDb) {
         this.notificationsDb = notificationsDb;
+        invalidateActiveNotificationsSnapshots();
     }
 
     /**
@@ -47,7 +63,9 @@ public final class NotificationsLogic {
      */
     public Notification createNotification(Notification notification)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return notificationsDb.createNotification(notification);
+        Notification createdNotification = notificationsDb.createNotification(notification);
+        invalidateActiveNotificationsSnapshots();
+        return createdNotification;
     }
 
     /**
@@ -89,6 +107,7 @@ public final class NotificationsLogic {
             throw new InvalidParametersException(notification.getInvalidityInfo());
         }
 
+        invalidateActiveNotificationsSnapshots();
         return notification;
     }
 
@@ -102,6 +121,7 @@ public final class NotificationsLogic {
 
         Notification notification = getNotification(notificationId);
         notificationsDb.deleteNotification(notification);
+        invalidateActiveNotificationsSnapshots();
     }
 
     /**
@@ -120,4 +140,77 @@ public final class NotificationsLogic {
         assert targetUser != null;
         return notificationsDb.getActiveNotificationsByTargetUser(targetUser);
     }
+
+    /**
+     * Gets the same notifications as {@link #getActiveNotificationsByTargetUser(NotificationTargetUser)},
+     * from a snapshot kept in memory.
+     *
+     * <p>The snapshot is reloaded after notifications are created, updated or deleted, once any of its notifications
+     * expires, and at least once a minute otherwise.
+     * The notifications returned are shared between requests and must not be modified.
+     */
+    public List<Notification> getActiveNotificationsSnapshot(NotificationTargetUser targetUser) {
+        assert targetUser != null;
+
+        Instant now = Instant.now();
+        ActiveNotificationsSnapshot snapshot = activeNotificationsSnapshots.get(targetUser);
+        if (snapshot != null && now.isBefore(snapshot.expiryTime)) {
+            return snapshot.notifications;
+        }
+
+        long version = activeNotificationsVersion.get();
+        List<Notification> notifications = notificationsDb.getActiveNotificationsByTargetUser(targetUser);
+        notificationsDb.detachNotifications(notifications);
+        snapshot = new ActiveNotificationsSnapshot(notifications, now);
+
+        activeNotificationsSnapshots.put(targetUser, snapshot);
+        if (version != activeNotificationsVersion.get()) {
+            // notifications have changed while the snapshot was being loaded
+            activeNotificationsSnapshots.remove(targetUser, snapshot);
+        }
+        return snapshot.notifications;
+    }
+
+    /**
+     * Marks the notifications with the given IDs as shown to users.
+     */
+    public void markNotificationsShown(Collection<UUID> notificationIds) {
+        assert notificationIds != null;
+
+        for (UUID notificationId : notificationIds) {
+            Notification notification = notificationsDb.getNotification(notificationId);
+            if (notification != null) {
+                notification.setShown();
+            }
+        }
+        invalidateActiveNotificationsSnapshots();
+    }
+
+    private void invalidateActiveNotificationsSnapshots() {
+        clearActiveNotificationsSnapshots();
+        // snapshots may be loaded from the notifications as they were before the change until it is committed
+        HibernateUtil.runAfterCommit(this::clearActiveNotificationsSnapshots);
+    }
+
+    private void clearActiveNotificationsSnapshots() {
+        activeNotificationsVersion.incrementAndGet();
+        activeNotificationsSnapshots.clear();
+    }
+
+    private static final class ActiveNotificationsSnapshot {
+        private final List<Notification> notifications;
+        private final Instant expiryTime;
+
+        private ActiveNotificationsSnapshot(List<Notification> notifications, Instant loadTime) {
+            this.notifications = Collections.unmodifiableList(notifications);
+
+            Instant earliestExpiryTime = loadTime.plus(ACTIVE_NOTIFICATIONS_SNAPSHOT_MAX_AGE);
+            for (Notification notification : notifications) {
+                if (notification.getEndTime().isBefore(earliestExpiryTime)) {
+                    earliestExpiryTime = notification.getEndTime();
+                }
+            }
+            this.expiryTime = earliestExpiryTime;
+        }
+    }
 }
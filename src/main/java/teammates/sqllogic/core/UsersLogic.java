@@ -4,16 +4,21 @@ import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringJoiner;
 import java.util.UUID;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.InstructorPermissionRole;
 import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.StudentEnrollmentResults;
 import teammates.common.exception.EnrollException;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -22,10 +27,14 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.exception.StudentUpdateException;
 import teammates.common.util.Const;
+import teammates.common.util.FieldValidator;
 import teammates.common.util.RequestTracer;
 import teammates.common.util.SanitizationHelper;
+import teammates.common.util.StringHelper;
+import teammates.common.util.UserRolesCache;
 import teammates.storage.sqlapi.UsersDb;
 import teammates.storage.sqlentity.Account;
+import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.Instructor;
@@ -108,6 +117,13 @@ public final class UsersLogic {
         getStudentSearchManager().putDocument(student);
     }
 
+    /**
+     * Creates or updates search documents for the given students.
+     */
+    public void putStudentDocuments(List<Student> students) throws SearchServiceException {
+        getStudentSearchManager().putDocuments(students);
+    }
+
     /**
      * Create an instructor.
      *
@@ -121,6 +137,7 @@ public final class UsersLogic {
         if (getInstructorForEmail(instructor.getCourseId(), instructor.getEmail()) != null) {
             throw new EntityAlreadyExistsException("Instructor already exists.");
         }
+        UserRolesCache.inst().invalidateOnCommit(instructor.getGoogleId());
         return usersDb.createInstructor(instructor);
     }
 
@@ -228,6 +245,7 @@ public final class UsersLogic {
      *                                      database.
      */
     public Student createStudent(Student student) throws InvalidParametersException, EntityAlreadyExistsException {
+        UserRolesCache.inst().invalidateOnCommit(student.getGoogleId());
         return usersDb.createStudent(student);
     }
 
@@ -290,6 +308,9 @@ public final class UsersLogic {
      * Deletes an instructor or student.
      */
     public <T extends User> void deleteUser(T user) {
+        if (user != null) {
+            UserRolesCache.inst().invalidateOnCommit(user.getGoogleId());
+        }
         usersDb.deleteUser(user);
     }
 
@@ -335,6 +356,20 @@ public final class UsersLogic {
         return instructorReturnList;
     }
 
+    /**
+     * Gets the number of instructors in the specified course.
+     */
+    public int getNumInstructorsForCourse(String courseId) {
+        return Math.toIntExact(usersDb.getNumInstructorsForCourse(courseId));
+    }
+
+    /**
+     * Gets the number of instructors in the specified course with the specified email.
+     */
+    public int getNumInstructorsForEmail(String courseId, String userEmail) {
+        return Math.toIntExact(usersDb.getNumInstructorsForEmail(courseId, userEmail));
+    }
+
     /**
      * Check if the instructors with the provided emails exist in the course.
      */
@@ -401,6 +436,7 @@ public final class UsersLogic {
             }
             usersDb.updateUser(student);
         }
+        UserRolesCache.inst().invalidateOnCommit(googleId);
 
         return instructor;
     }
@@ -489,6 +525,13 @@ public final class UsersLogic {
         return usersDb.getStudentForEmail(courseId, userEmail);
     }
 
+    /**
+     * Gets students matching any of the specified emails.
+     */
+    public List<Student> getStudentsForEmails(String courseId, List<String> userEmails) {
+        return usersDb.getStudentsForEmails(courseId, userEmails);
+    }
+
     /**
      * Check if the students with the provided emails exist in the course.
      */
@@ -518,6 +561,13 @@ public final class UsersLogic {
         return usersDb.getAllStudentsByGoogleId(googleId);
     }
 
+    /**
+     * Gets the number of students in the specified course.
+     */
+    public int getNumStudentsForCourse(String courseId) {
+        return Math.toIntExact(usersDb.getNumStudentsForCourse(courseId));
+    }
+
     /**
      * Gets a list of students for the specified course.
      */
@@ -528,6 +578,28 @@ public final class UsersLogic {
         return studentReturnList;
     }
 
+    /**
+     * Gets at most {@code maxResults} students of the specified course ordered by email,
+     * starting after {@code afterEmail} and leaving out the students in {@code excludedUserIds}.
+     *
+     * @param afterEmail the email to start after, or null to start from the first student
+     */
+    public List<Student> getStudentsForCourseAfterEmail(String courseId, String afterEmail,
+            Collection<UUID> excludedUserIds, int maxResults) {
+        return usersDb.getStudentsForCourseAfterEmail(courseId, afterEmail, excludedUserIds, maxResults);
+    }
+
+    /**
+     * Gets at most {@code maxResults} instructors of the specified course ordered by email,
+     * starting after {@code afterEmail} and leaving out the instructors in {@code excludedUserIds}.
+     *
+     * @param afterEmail the email to start after, or null to start from the first instructor
+     */
+    public List<Instructor> getInstructorsForCourseAfterEmail(String courseId, String afterEmail,
+            Collection<UUID> excludedUserIds, int maxResults) {
+        return usersDb.getInstructorsForCourseAfterEmail(courseId, afterEmail, excludedUserIds, maxResults);
+    }
+
     /**
      * Gets a list of unregistered students for the specified course.
      */
@@ -748,8 +820,7 @@ public final class UsersLogic {
 
         String courseId = student.getCourseId();
         Student originalStudent = getStudent(student.getId());
-        String originalEmail = originalStudent.getEmail();
-        boolean changedEmail = isEmailChanged(originalEmail, student.getEmail());
+        boolean changedEmail = isEmailChanged(originalStudent.getEmail(), student.getEmail());
 
         // check for email conflict
         Student s = usersDb.getStudentForEmail(courseId, student.getEmail());
@@ -758,6 +829,19 @@ public final class UsersLogic {
             throw new EntityAlreadyExistsException(errorMessage);
         }
 
+        return updateStudentCascade(originalStudent, student);
+    }
+
+    /**
+     * Updates {@code originalStudent} to the values in {@code student}, which must not conflict with another student.
+     */
+    private Student updateStudentCascade(Student originalStudent, Student student)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+
+        String courseId = student.getCourseId();
+        String originalEmail = originalStudent.getEmail();
+        boolean changedEmail = isEmailChanged(originalEmail, student.getEmail());
+
         Team originalTeam = originalStudent.getTeam();
         Section originalSection = originalStudent.getSection();
         boolean changedTeam = isTeamChanged(originalTeam, student.getTeam());
@@ -791,6 +875,107 @@ public final class UsersLogic {
         return originalStudent;
     }
 
+    /**
+     * Enrolls students in a course in bulk.
+     *
+     * <p>Students who are not in the course are created, and the other students are updated
+     * in the same way as {@link #updateStudentCascade(Student)}.
+     * The sections and teams of all students are resolved at once, creating those that do not exist yet,
+     * and the new students are inserted in batches.
+     *
+     * <p>The students to enroll should have been checked with {@link #validateSectionsAndTeams(List, String)}.
+     *
+     * @param course the course to enroll the students in
+     * @param studentsToEnroll the students to enroll, whose sections and teams need not be persisted
+     * @return the enrolled students and the errors of the students who cannot be enrolled
+     */
+    public StudentEnrollmentResults enrollStudents(Course course, List<Student> studentsToEnroll) {
+        String courseId = course.getId();
+        Map<String, Student> existingStudents = new HashMap<>();
+        for (Student existingStudent : usersDb.getStudentsForCourse(courseId)) {
+            existingStudents.put(existingStudent.getEmail(), existingStudent);
+        }
+        Map<String, Map<String, Team>> sectionToTeamsMap = getOrCreateTeams(course, studentsToEnroll);
+
+        List<Student> students = new ArrayList<>();
+        for (Student studentToEnroll : studentsToEnroll) {
+            Team team = sectionToTeamsMap.get(studentToEnroll.getSectionName()).get(studentToEnroll.getTeamName());
+            students.add(new Student(course, studentToEnroll.getName(),
+                    studentToEnroll.getEmail(), studentToEnroll.getComments(), team));
+        }
+        // The existing students are validated when they are updated
+        Map<Integer, List<String>> newStudentsInvalidityInfo = FieldValidator.getInvalidityInfoForEach(students,
+                student -> {
+                    RequestTracer.checkRemainingTime();
+                    return existingStudents.containsKey(student.getEmail())
+                            ? Collections.emptyList()
+                            : student.getInvalidityInfo();
+                });
+
+        StudentEnrollmentResults results = new StudentEnrollmentResults();
+        List<Student> newStudents = new ArrayList<>();
+        for (int i = 0; i < students.size(); i++) {
+            RequestTracer.checkRemainingTime();
+            Student student = students.get(i);
+            Student existingStudent = existingStudents.get(student.getEmail());
+
+            if (existingStudent == null) {
+                // The student is new.
+                List<String> invalidityInfo = newStudentsInvalidityInfo.get(i);
+                if (invalidityInfo != null) {
+                    results.addEnrollmentError(student.getEmail(), StringHelper.toString(invalidityInfo));
+                    continue;
+                }
+                newStudents.add(student);
+                results.addEnrolledStudent(student);
+                continue;
+            }
+
+            // The student has been enrolled in the course.
+            try {
+                student.setId(existingStudent.getId());
+                results.addEnrolledStudent(updateStudentCascade(existingStudent, student));
+            } catch (InvalidParametersException | EntityDoesNotExistException
+                    | EntityAlreadyExistsException e) {
+                results.addEnrollmentError(student.getEmail(), e.getMessage());
+            }
+        }
+
+        usersDb.createStudents(newStudents);
+
+        return results;
+    }
+
+    /**
+     * Gets the teams of the students to enroll, keyed by section name and then team name,
+     * creating the sections and teams that do not exist yet.
+     */
+    private Map<String, Map<String, Team>> getOrCreateTeams(Course course, List<Student> studentsToEnroll) {
+        Set<String> sectionNames = new HashSet<>();
+        for (Student student : studentsToEnroll) {
+            sectionNames.add(student.getSectionName());
+        }
+
+        Map<String, Section> sections = new HashMap<>();
+        for (Section section : usersDb.getSectionsForNames(course.getId(), sectionNames)) {
+            sections.put(section.getName(), section);
+        }
+        Map<String, Map<String, Team>> sectionToTeamsMap = new HashMap<>();
+        for (Team team : usersDb.getTeamsForSections(sections.values())) {
+            sectionToTeamsMap.computeIfAbsent(team.getSection().getName(), key -> new HashMap<>())
+                    .put(team.getName(), team);
+        }
+
+        for (Student student : studentsToEnroll) {
+            Section section = sections.computeIfAbsent(student.getSectionName(),
+                    sectionName -> usersDb.createSection(new Section(course, sectionName)));
+            sectionToTeamsMap.computeIfAbsent(section.getName(), key -> new HashMap<>())
+                    .computeIfAbsent(student.getTeamName(), teamName -> usersDb.createTeam(new Team(section, teamName)));
+        }
+
+        return sectionToTeamsMap;
+    }
+
     /**
      * Resets the googleId associated with the instructor.
      */
@@ -808,6 +993,7 @@ public final class UsersLogic {
         }
 
         instructor.setAccount(null);
+        UserRolesCache.inst().invalidateOnCommit(googleId);
 
         if (usersDb.getAllUsersByGoogleId(googleId).isEmpty()) {
             accountsLogic.deleteAccountCascade(googleId);
@@ -947,6 +1133,7 @@ public final class UsersLogic {
         }
 
         student.setAccount(null);
+        UserRolesCache.inst().invalidateOnCommit(googleId);
 
         if (usersDb.getAllUsersByGoogleId(googleId).isEmpty()) {
             accountsLogic.deleteAccountCascade(googleId);
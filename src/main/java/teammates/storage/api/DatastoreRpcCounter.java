@@ -0,0 +1,52 @@
+package teammates.storage.api;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+import com.google.cloud.datastore.Datastore;
+
+import teammates.common.util.RequestMetrics;
+
+/**
+ * Wraps a {@link Datastore} client so that the calls made through it are recorded in {@link RequestMetrics}.
+ *
+ * <p>Only the calls made directly on the client are counted. Further pages fetched while iterating
+ * query results, and calls made on transactions, are not.
+ */
+final class DatastoreRpcCounter implements InvocationHandler {
+
+    private static final Set<String> RPC_METHOD_NAMES = Set.of(
+            "get", "fetch", "run", "runAggregation", "add", "put", "update", "delete",
+            "allocateId", "reserveIds", "newTransaction", "runInTransaction");
+
+    private final Datastore datastore;
+
+    private DatastoreRpcCounter(Datastore datastore) {
+        this.datastore = datastore;
+    }
+
+    /**
+     * Returns a client which counts the calls made through it before delegating them to {@code datastore}.
+     */
+    static Datastore wrap(Datastore datastore) {
+        return (Datastore) Proxy.newProxyInstance(Datastore.class.getClassLoader(),
+                new Class<?>[] { Datastore.class }, new DatastoreRpcCounter(datastore));
+    }
+
+    @Override
+    @SuppressWarnings("PMD.PreserveStackTrace") // the cause is the original exception thrown by the client
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (RPC_METHOD_NAMES.contains(method.getName())) {
+            RequestMetrics.recordDatastoreRpc();
+        }
+        try {
+            return method.invoke(datastore, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
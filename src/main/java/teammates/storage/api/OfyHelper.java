@@ -1,11 +1,14 @@
 package teammates.storage.api;
 
+import java.util.function.Supplier;
+
 import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
 
 import com.google.cloud.datastore.DatastoreOptions;
 import com.googlecode.objectify.ObjectifyFactory;
 import com.googlecode.objectify.ObjectifyService;
+import com.googlecode.objectify.util.Closeable;
 
 import teammates.common.util.Config;
 import teammates.storage.entity.Account;
@@ -32,7 +35,7 @@ public class OfyHelper implements ServletContextListener {
         if (Config.IS_DEV_SERVER) {
             builder.setHost("http://localhost:" + Config.APP_LOCALDATASTORE_PORT);
         }
-        ObjectifyService.init(new ObjectifyFactory(builder.build().getService()));
+        ObjectifyService.init(new ObjectifyFactory(DatastoreRpcCounter.wrap(builder.build().getService())));
     }
 
     /**
@@ -55,6 +58,15 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.factory().getTranslators().add(new BaseEntity.InstantTranslatorFactory());
     }
 
+    /**
+     * Runs the given work in a new Objectify session, for threads which do not serve a request.
+     */
+    public static <T> T runInSession(Supplier<T> work) {
+        try (Closeable session = ObjectifyService.begin()) {
+            return work.get();
+        }
+    }
+
     @Override
     public void contextInitialized(ServletContextEvent event) {
         // Invoked by Jetty at application startup.
@@ -21,6 +21,7 @@ import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestMetrics;
 import teammates.common.util.StringHelper;
 
 /**
@@ -75,7 +76,7 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
         }
 
         try {
-            return client.query(getCollectionName(), query);
+            return callSolr(() -> client.query(getCollectionName(), query));
         } catch (SolrServerException e) {
             Throwable rootCause = e.getRootCause();
             log.severe(String.format(ERROR_SEARCH_DOCUMENT, query.getQuery(), rootCause), e);
@@ -93,6 +94,18 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
         }
     }
 
+    /**
+     * Makes a call to Solr and records it in the metrics of the current request.
+     */
+    private <R> R callSolr(SolrCall<R> call) throws SolrServerException, IOException {
+        long startNanos = System.nanoTime();
+        try {
+            return call.call();
+        } finally {
+            RequestMetrics.recordSolrCall(System.nanoTime() - startNanos);
+        }
+    }
+
     abstract String getCollectionName();
 
     abstract SearchDocument<T> createDocument(T attribute);
@@ -115,8 +128,8 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
         searchableFields.forEach((key, value) -> document.addField(key, value));
 
         try {
-            client.add(getCollectionName(), Collections.singleton(document));
-            client.commit(getCollectionName());
+            callSolr(() -> client.add(getCollectionName(), Collections.singleton(document)));
+            callSolr(() -> client.commit(getCollectionName()));
         } catch (SolrServerException e) {
             log.severe(String.format(ERROR_PUT_DOCUMENT, document, e.getRootCause()), e);
             throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
@@ -140,8 +153,8 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
         }
 
         try {
-            client.deleteById(getCollectionName(), keys);
-            client.commit(getCollectionName());
+            callSolr(() -> client.deleteById(getCollectionName(), keys));
+            callSolr(() -> client.commit(getCollectionName()));
         } catch (SolrServerException e) {
             log.severe(String.format(ERROR_DELETE_DOCUMENT, keys, e.getRootCause()), e);
         } catch (IOException e) {
@@ -159,8 +172,8 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
         }
 
         try {
-            client.deleteByQuery(getCollectionName(), "*:*");
-            client.commit(getCollectionName());
+            callSolr(() -> client.deleteByQuery(getCollectionName(), "*:*"));
+            callSolr(() -> client.commit(getCollectionName()));
         } catch (SolrServerException e) {
             log.severe(String.format(ERROR_RESET_COLLECTION, e.getRootCause()), e);
         } catch (IOException e) {
@@ -237,4 +250,14 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
         return result;
     }
 
+    /**
+     * A call to Solr.
+     *
+     * @param <R> type of the response of the call
+     */
+    @FunctionalInterface
+    private interface SolrCall<R> {
+        R call() throws SolrServerException, IOException;
+    }
+
 }
@@ -21,6 +21,7 @@ import teammates.storage.sqlsearch.SearchManagerFactory;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
 /**
@@ -78,6 +79,29 @@ public final class AccountRequestsDb extends EntitiesDb {
         return query.getResultStream().findFirst().orElse(null);
     }
 
+    /**
+     * Get AccountRequests by {@code institute} and any of the {@code emails} from database.
+     */
+    public List<AccountRequest> getAccountRequestsForEmails(String institute, List<String> emails) {
+        assert institute != null;
+        assert emails != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<AccountRequest> cr = cb.createQuery(AccountRequest.class);
+        Root<AccountRequest> root = cr.from(AccountRequest.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        for (String email : emails) {
+            predicates.add(cb.equal(root.get("email"), email));
+        }
+
+        cr.select(root).where(cb.and(
+                cb.equal(root.get("institute"), institute),
+                cb.or(predicates.toArray(new Predicate[0]))));
+
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
     /**
      * Get AccountRequest by {@code registrationKey} from database.
      */
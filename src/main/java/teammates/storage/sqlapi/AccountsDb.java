@@ -3,7 +3,9 @@ package teammates.storage.sqlapi;
 import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -11,9 +13,11 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.HibernateUtil;
 import teammates.storage.sqlentity.Account;
+import teammates.storage.sqlentity.ReadNotification;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Root;
 
 /**
@@ -66,6 +70,24 @@ public final class AccountsDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultList();
     }
 
+    /**
+     * Gets the IDs of the notifications read by the account with the {@code googleId},
+     * without loading the account or the notifications themselves.
+     */
+    public Set<UUID> getReadNotificationIds(String googleId) {
+        assert googleId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<UUID> cr = cb.createQuery(UUID.class);
+        Root<ReadNotification> readNotificationRoot = cr.from(ReadNotification.class);
+        Join<ReadNotification, Account> accountJoin = readNotificationRoot.join("account");
+
+        cr.select(readNotificationRoot.get("notification").get("id"))
+                .where(cb.equal(accountJoin.get("googleId"), googleId));
+
+        return new HashSet<>(HibernateUtil.createQuery(cr).getResultList());
+    }
+
     /**
      * Creates an Account.
      */
@@ -162,6 +162,9 @@ public final class CoursesDb extends EntitiesDb {
         subquery.where(cb.equal(sqJoin.get("id"), courseId));
         cd.where(cb.in(sRoot.get("id")).value(subquery));
         HibernateUtil.createMutationQuery(cd).executeUpdate();
+
+        // Teams of the sections are removed by the database-level cascade, which Hibernate is not aware of
+        HibernateUtil.evictCachedEntities(Team.class);
     }
 
     /**
@@ -158,4 +158,22 @@ public final class DeadlineExtensionsDb extends EntitiesDb {
 
         return HibernateUtil.createQuery(cr).getResultStream().findFirst().orElse(null);
     }
+
+    /**
+     * Gets all deadline extensions of the feedback session with the specified {@code feedbackSessionId},
+     * together with their users.
+     */
+    public List<DeadlineExtension> getDeadlineExtensionsForFeedbackSession(UUID feedbackSessionId) {
+        assert feedbackSessionId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<DeadlineExtension> cr = cb.createQuery(DeadlineExtension.class);
+        Root<DeadlineExtension> deadlineExtensionRoot = cr.from(DeadlineExtension.class);
+        Join<DeadlineExtension, FeedbackSession> sessionJoin = deadlineExtensionRoot.join("feedbackSession");
+        deadlineExtensionRoot.fetch("user");
+
+        cr.select(deadlineExtensionRoot).where(cb.equal(sessionJoin.get("id"), feedbackSessionId));
+
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
 }
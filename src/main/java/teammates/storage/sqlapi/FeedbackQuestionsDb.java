@@ -8,6 +8,7 @@ import java.util.UUID;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
 import teammates.common.util.HibernateUtil;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackQuestion;
@@ -79,7 +80,7 @@ public final class FeedbackQuestionsDb extends EntitiesDb {
         Root<FeedbackQuestion> fqRoot = cq.from(FeedbackQuestion.class);
         Join<FeedbackQuestion, FeedbackSession> fqJoin = fqRoot.join("feedbackSession");
         cq.select(fqRoot).where(cb.equal(fqJoin.get("id"), fdId));
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createCacheableQuery(cq, Const.CacheRegions.FEEDBACK_QUESTIONS_FOR_SESSION).getResultList();
     }
 
     /**
@@ -103,6 +104,24 @@ public final class FeedbackQuestionsDb extends EntitiesDb {
         return HibernateUtil.createQuery(cq).getResultList();
     }
 
+    /**
+     * Gets the distinct giver types of the feedback questions of a session.
+     */
+    public List<FeedbackParticipantType> getGiverTypesForSession(UUID fsId) {
+        assert fsId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackParticipantType> cq = cb.createQuery(FeedbackParticipantType.class);
+        Root<FeedbackQuestion> root = cq.from(FeedbackQuestion.class);
+        Join<FeedbackQuestion, FeedbackSession> fsJoin = root.join("feedbackSession");
+
+        cq.select(root.get("giverType"))
+                .distinct(true)
+                .where(cb.equal(fsJoin.get("id"), fsId));
+
+        return HibernateUtil.createQuery(cq).getResultList();
+    }
+
     /**
      * Deletes a feedback question.
      */
@@ -3,9 +3,13 @@ package teammates.storage.sqlapi;
 import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.exception.ConstraintViolationException;
+
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -17,6 +21,7 @@ import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Section;
 
+import jakarta.persistence.PersistenceException;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -34,6 +39,8 @@ public final class FeedbackResponsesDb extends EntitiesDb {
 
     private static final FeedbackResponsesDb instance = new FeedbackResponsesDb();
 
+    private static final int RESPONSE_WRITE_BATCH_SIZE = 50;
+
     private FeedbackResponsesDb() {
         // prevent initialization
     }
@@ -110,6 +117,61 @@ public final class FeedbackResponsesDb extends EntitiesDb {
         return feedbackResponse;
     }
 
+    /**
+     * Creates feedback responses, sending the inserts to the database in JDBC batches.
+     *
+     * <p>Unlike {@link #createFeedbackResponse(FeedbackResponse)}, the responses are not checked for existence
+     * one by one, as new responses always come with freshly generated IDs. The responses are flushed right away,
+     * so that a concurrent submission of the same responses is reported here rather than when committing.
+     *
+     * @throws InvalidParametersException if any of the responses is not valid, in which case none is created
+     * @throws EntityAlreadyExistsException if the giver of any of the responses already has a response
+     *         to the same recipient for the same question, e.g. from a concurrent submission
+     */
+    public List<FeedbackResponse> createFeedbackResponses(List<FeedbackResponse> feedbackResponses)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        assert feedbackResponses != null;
+
+        for (FeedbackResponse feedbackResponse : feedbackResponses) {
+            if (!feedbackResponse.isValid()) {
+                throw new InvalidParametersException(feedbackResponse.getInvalidityInfo());
+            }
+        }
+
+        HibernateUtil.setJdbcBatchSize(RESPONSE_WRITE_BATCH_SIZE);
+        try {
+            for (FeedbackResponse feedbackResponse : feedbackResponses) {
+                persist(feedbackResponse);
+            }
+            flushNewResponses(feedbackResponses);
+        } finally {
+            HibernateUtil.setJdbcBatchSize(null);
+        }
+        return feedbackResponses;
+    }
+
+    /**
+     * Flushes the newly persisted responses to the database, so that a response violating the uniqueness of
+     * the giver and recipient of a question is reported as {@link EntityAlreadyExistsException}
+     * instead of failing the commit of the transaction.
+     */
+    @SuppressWarnings("PMD.PreserveStackTrace") // the existing response is what the creation failed on
+    private void flushNewResponses(List<FeedbackResponse> feedbackResponses) throws EntityAlreadyExistsException {
+        try {
+            HibernateUtil.flushSession();
+        } catch (PersistenceException e) {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof ConstraintViolationException
+                        && FeedbackResponse.UNIQUE_GIVER_AND_RECIPIENT_CONSTRAINT.equalsIgnoreCase(
+                                ((ConstraintViolationException) cause).getConstraintName())) {
+                    throw new EntityAlreadyExistsException(String.format(ERROR_CREATE_ENTITY_ALREADY_EXISTS,
+                            feedbackResponses.size() == 1 ? feedbackResponses.get(0) : feedbackResponses));
+                }
+            }
+            throw e;
+        }
+    }
+
     /**
      * Deletes a feedbackResponse.
      */
@@ -137,6 +199,32 @@ public final class FeedbackResponsesDb extends EntitiesDb {
         return HibernateUtil.createQuery(cq).getResultList();
     }
 
+    /**
+     * Gets the feedback responses given by any of {@code givers} to the questions of a session.
+     */
+    public List<FeedbackResponse> getFeedbackResponsesFromGiversForSession(
+            UUID feedbackSessionId, Collection<String> givers) {
+        assert feedbackSessionId != null;
+        assert givers != null;
+
+        if (givers.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackResponse> cq = cb.createQuery(FeedbackResponse.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
+
+        cq.select(root)
+                .where(cb.and(
+                        cb.equal(fsJoin.get("id"), feedbackSessionId),
+                        root.get("giver").in(givers)));
+
+        return HibernateUtil.createQuery(cq).getResultList();
+    }
+
     /**
      * Deletes all feedback responses of a question cascade its associated comments.
      */
@@ -181,6 +269,43 @@ public final class FeedbackResponsesDb extends EntitiesDb {
         return HibernateUtil.createQuery(cq).getResultList();
     }
 
+    /**
+     * Gets the distinct givers that have at least one response in a session.
+     */
+    public List<String> getGiversForSession(UUID feedbackSessionId) {
+        assert feedbackSessionId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<String> cq = cb.createQuery(String.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
+
+        cq.select(root.get("giver"))
+                .distinct(true)
+                .where(cb.equal(fsJoin.get("id"), feedbackSessionId));
+
+        return HibernateUtil.createQuery(cq).getResultList();
+    }
+
+    /**
+     * Gets the number of distinct givers that have at least one response in a session.
+     */
+    public long getNumGiversForSession(UUID feedbackSessionId) {
+        assert feedbackSessionId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
+
+        cq.select(cb.countDistinct(root.get("giver")))
+                .where(cb.equal(fsJoin.get("id"), feedbackSessionId));
+
+        return HibernateUtil.createQuery(cq).getSingleResult();
+    }
+
     /**
      * Checks whether a user has responses in a session.
      */
@@ -240,6 +365,39 @@ public final class FeedbackResponsesDb extends EntitiesDb {
         return merge(feedbackResponse);
     }
 
+    /**
+     * Updates feedback responses, sending the updates to the database in JDBC batches.
+     *
+     * @throws InvalidParametersException if any of the responses is not valid, in which case none is updated
+     * @throws EntityDoesNotExistException if any of the responses does not exist, in which case none is updated
+     */
+    public List<FeedbackResponse> updateFeedbackResponses(List<FeedbackResponse> feedbackResponses)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        assert feedbackResponses != null;
+
+        for (FeedbackResponse feedbackResponse : feedbackResponses) {
+            if (!feedbackResponse.isValid()) {
+                throw new InvalidParametersException(feedbackResponse.getInvalidityInfo());
+            }
+
+            if (getFeedbackResponse(feedbackResponse.getId()) == null) {
+                throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT);
+            }
+        }
+
+        List<FeedbackResponse> updatedResponses = new ArrayList<>();
+        HibernateUtil.setJdbcBatchSize(RESPONSE_WRITE_BATCH_SIZE);
+        try {
+            for (FeedbackResponse feedbackResponse : feedbackResponses) {
+                updatedResponses.add(merge(feedbackResponse));
+            }
+            HibernateUtil.flushSession();
+        } finally {
+            HibernateUtil.setJdbcBatchSize(null);
+        }
+        return updatedResponses;
+    }
+
     /**
      * Gets all responses received by a user for a question.
      */
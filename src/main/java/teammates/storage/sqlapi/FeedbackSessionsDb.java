@@ -4,6 +4,8 @@ import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -11,14 +13,24 @@ import java.util.stream.Collectors;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
 import teammates.common.util.HibernateUtil;
 import teammates.common.util.TimeHelper;
 import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackResponse;
+import teammates.storage.sqlentity.FeedbackResponseComment;
 import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.User;
 
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
 /**
@@ -173,6 +185,47 @@ public final class FeedbackSessionsDb extends EntitiesDb {
         return merge(feedbackSession);
     }
 
+    /**
+     * Moves the open email checkpoint of the feedback session from {@code expectedCheckpoint} to
+     * {@code newCheckpoint} in a single conditional update, so that only one of several concurrent callers
+     * expecting the same checkpoint succeeds.
+     *
+     * @return true if the checkpoint was moved, false if it was not {@code expectedCheckpoint}
+     */
+    public boolean updateOpenEmailCheckpoint(UUID feedbackSessionId, String expectedCheckpoint, String newCheckpoint) {
+        return updateEmailCheckpoint("openEmailCheckpoint", feedbackSessionId, expectedCheckpoint, newCheckpoint);
+    }
+
+    /**
+     * Moves the closing soon email checkpoint of the feedback session from {@code expectedCheckpoint} to
+     * {@code newCheckpoint} in a single conditional update, so that only one of several concurrent callers
+     * expecting the same checkpoint succeeds.
+     *
+     * @return true if the checkpoint was moved, false if it was not {@code expectedCheckpoint}
+     */
+    public boolean updateClosingSoonEmailCheckpoint(UUID feedbackSessionId, String expectedCheckpoint,
+            String newCheckpoint) {
+        return updateEmailCheckpoint("closingSoonEmailCheckpoint", feedbackSessionId, expectedCheckpoint,
+                newCheckpoint);
+    }
+
+    private boolean updateEmailCheckpoint(String checkpointAttribute, UUID feedbackSessionId,
+            String expectedCheckpoint, String newCheckpoint) {
+        assert feedbackSessionId != null;
+        assert expectedCheckpoint != null;
+        assert newCheckpoint != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaUpdate<FeedbackSession> cu = cb.createCriteriaUpdate(FeedbackSession.class);
+        Root<FeedbackSession> root = cu.from(FeedbackSession.class);
+        cu.set(root.<String>get(checkpointAttribute), newCheckpoint)
+                .where(cb.and(
+                        cb.equal(root.get("id"), feedbackSessionId),
+                        cb.equal(root.get(checkpointAttribute), expectedCheckpoint)));
+
+        return HibernateUtil.executeUpdate(cu) == 1;
+    }
+
     /**
      * Deletes a feedback session.
      */
@@ -220,6 +273,65 @@ public final class FeedbackSessionsDb extends EntitiesDb {
         return HibernateUtil.createQuery(cq).getResultList();
     }
 
+    /**
+     * Gets the feedback sessions of the given courses in a single query, omitting the courses in the Recycle Bin.
+     *
+     * @param isInRecycleBin whether to get only the sessions in the Recycle Bin instead of only the other sessions
+     */
+    public List<FeedbackSession> getFeedbackSessionsForCourses(Collection<String> courseIds, boolean isInRecycleBin) {
+        assert courseIds != null;
+
+        if (courseIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackSession> cq = cb.createQuery(FeedbackSession.class);
+        Root<FeedbackSession> root = cq.from(FeedbackSession.class);
+        Join<FeedbackSession, Course> courseJoin = root.join("course");
+
+        cq.select(root).where(cb.and(
+                courseJoin.get("id").in(courseIds),
+                cb.isNull(courseJoin.get("deletedAt")),
+                isInRecycleBin ? cb.isNotNull(root.get("deletedAt")) : cb.isNull(root.get("deletedAt"))));
+
+        return HibernateUtil.createQuery(cq).getResultList();
+    }
+
+    /**
+     * Gets the feedback sessions of the given courses that are visible at {@code now} in a single query,
+     * omitting the sessions in the Recycle Bin.
+     *
+     * @see FeedbackSession#isVisible()
+     */
+    public List<FeedbackSession> getVisibleFeedbackSessionsForCourses(Collection<String> courseIds, Instant now) {
+        assert courseIds != null;
+        assert now != null;
+
+        if (courseIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackSession> cq = cb.createQuery(FeedbackSession.class);
+        Root<FeedbackSession> root = cq.from(FeedbackSession.class);
+        Join<FeedbackSession, Course> courseJoin = root.join("course");
+        Path<Instant> sessionVisibleFromTime = root.get("sessionVisibleFromTime");
+
+        Predicate isVisibleFollowingOpening = cb.and(
+                cb.equal(sessionVisibleFromTime, Const.TIME_REPRESENTS_FOLLOW_OPENING),
+                cb.lessThanOrEqualTo(root.get("startTime"), now));
+        Predicate isVisibleFromCustomTime = cb.and(
+                cb.notEqual(sessionVisibleFromTime, Const.TIME_REPRESENTS_FOLLOW_OPENING),
+                cb.lessThanOrEqualTo(sessionVisibleFromTime, now));
+        cq.select(root).where(cb.and(
+                courseJoin.get("id").in(courseIds),
+                cb.isNull(root.get("deletedAt")),
+                cb.or(isVisibleFollowingOpening, isVisibleFromCustomTime)));
+
+        return HibernateUtil.createQuery(cq).getResultList();
+    }
+
     /**
      * Gets feedback sessions for a given {@code courseId} that start after {@code after}.
      */
@@ -352,4 +464,58 @@ public final class FeedbackSessionsDb extends EntitiesDb {
 
         return HibernateUtil.createQuery(cr).getResultList();
     }
+
+    /**
+     * Gets the version of the results of a feedback session.
+     *
+     * <p>The version changes whenever any of the entities the results are built from is created, updated or deleted,
+     * i.e. the session itself, its questions, responses and response comments, and the users of its course.
+     * It is made up of the number of such entities and their latest update timestamp.
+     */
+    public String getSessionResultsVersion(FeedbackSession feedbackSession) {
+        assert feedbackSession != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        UUID feedbackSessionId = feedbackSession.getId();
+
+        CriteriaQuery<Tuple> questionsCq = cb.createTupleQuery();
+        Root<FeedbackQuestion> fqRoot = questionsCq.from(FeedbackQuestion.class);
+        Join<FeedbackQuestion, FeedbackSession> fqSessionJoin = fqRoot.join("feedbackSession");
+        questionsCq.where(cb.equal(fqSessionJoin.get("id"), feedbackSessionId));
+
+        CriteriaQuery<Tuple> responsesCq = cb.createTupleQuery();
+        Root<FeedbackResponse> frRoot = responsesCq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> frQuestionJoin = frRoot.join("feedbackQuestion");
+        Join<FeedbackQuestion, FeedbackSession> frSessionJoin = frQuestionJoin.join("feedbackSession");
+        responsesCq.where(cb.equal(frSessionJoin.get("id"), feedbackSessionId));
+
+        CriteriaQuery<Tuple> commentsCq = cb.createTupleQuery();
+        Root<FeedbackResponseComment> frcRoot = commentsCq.from(FeedbackResponseComment.class);
+        Join<FeedbackResponseComment, FeedbackResponse> frcResponseJoin = frcRoot.join("feedbackResponse");
+        Join<FeedbackResponse, FeedbackQuestion> frcQuestionJoin = frcResponseJoin.join("feedbackQuestion");
+        Join<FeedbackQuestion, FeedbackSession> frcSessionJoin = frcQuestionJoin.join("feedbackSession");
+        commentsCq.where(cb.equal(frcSessionJoin.get("id"), feedbackSessionId));
+
+        CriteriaQuery<Tuple> usersCq = cb.createTupleQuery();
+        Root<User> userRoot = usersCq.from(User.class);
+        Join<User, Course> userCourseJoin = userRoot.join("course");
+        usersCq.where(cb.equal(userCourseJoin.get("id"), feedbackSession.getCourse().getId()));
+
+        return String.join("|",
+                String.valueOf(feedbackSession.getUpdatedAt()),
+                getCountAndLatestUpdate(cb, questionsCq, fqRoot),
+                getCountAndLatestUpdate(cb, responsesCq, frRoot),
+                getCountAndLatestUpdate(cb, commentsCq, frcRoot),
+                getCountAndLatestUpdate(cb, usersCq, userRoot));
+    }
+
+    private String getCountAndLatestUpdate(CriteriaBuilder cb, CriteriaQuery<Tuple> cq, Root<?> root) {
+        Path<Instant> updatedAt = root.get("updatedAt");
+        Expression<Long> count = cb.count(root);
+        Expression<Instant> latestUpdate = cb.greatest(updatedAt);
+        cq.multiselect(count, latestUpdate);
+
+        Tuple result = HibernateUtil.createQuery(cq).getSingleResult();
+        return result.get(count) + "@" + result.get(latestUpdate);
+    }
 }
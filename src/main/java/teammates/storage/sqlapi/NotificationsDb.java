@@ -1,6 +1,7 @@
 package teammates.storage.sqlapi;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -98,4 +99,12 @@ public final class NotificationsDb extends EntitiesDb {
         TypedQuery<Notification> query = HibernateUtil.createQuery(cq);
         return query.getResultList();
     }
+
+    /**
+     * Detaches {@code notifications} from the current session, so that they can be kept beyond the session
+     * without picking up changes made to them later in the session.
+     */
+    public void detachNotifications(Collection<Notification> notifications) {
+        notifications.forEach(HibernateUtil::detach);
+    }
 }
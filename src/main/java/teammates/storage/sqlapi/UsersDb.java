@@ -4,6 +4,7 @@ import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -38,6 +39,8 @@ public final class UsersDb extends EntitiesDb {
 
     private static final UsersDb instance = new UsersDb();
 
+    private static final int STUDENT_INSERT_BATCH_SIZE = 100;
+
     private UsersDb() {
         // prevent initialization
     }
@@ -137,6 +140,29 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultList();
     }
 
+    /**
+     * Creates students in bulk.
+     *
+     * <p>The students are inserted in JDBC batches, and must all be valid.
+     */
+    public List<Student> createStudents(List<Student> students) {
+        assert students != null;
+
+        HibernateUtil.setJdbcBatchSize(STUDENT_INSERT_BATCH_SIZE);
+        try {
+            for (Student student : students) {
+                assert student.isValid() : student.getInvalidityInfo();
+
+                HibernateUtil.persist(student);
+            }
+            HibernateUtil.flushSession();
+        } finally {
+            HibernateUtil.setJdbcBatchSize(null);
+        }
+        log.info("Students persisted: " + students.size());
+        return students;
+    }
+
     /**
      * Gets a student by its {@code id}.
      */
@@ -344,6 +370,54 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getSingleResult();
     }
 
+    /**
+     * Gets the number of instructors of the specified {@code courseId}.
+     */
+    public long getNumInstructorsForCourse(String courseId) {
+        assert courseId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cr = cb.createQuery(Long.class);
+        Root<Instructor> root = cr.from(Instructor.class);
+
+        cr.select(cb.count(root.get("id"))).where(cb.equal(root.get("courseId"), courseId));
+
+        return HibernateUtil.createQuery(cr).getSingleResult();
+    }
+
+    /**
+     * Gets the number of students of the specified {@code courseId}.
+     */
+    public long getNumStudentsForCourse(String courseId) {
+        assert courseId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cr = cb.createQuery(Long.class);
+        Root<Student> root = cr.from(Student.class);
+
+        cr.select(cb.count(root.get("id"))).where(cb.equal(root.get("courseId"), courseId));
+
+        return HibernateUtil.createQuery(cr).getSingleResult();
+    }
+
+    /**
+     * Gets the number of instructors of the specified {@code courseId} with the specified {@code userEmail}.
+     */
+    public long getNumInstructorsForEmail(String courseId, String userEmail) {
+        assert courseId != null;
+        assert userEmail != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cr = cb.createQuery(Long.class);
+        Root<Instructor> root = cr.from(Instructor.class);
+
+        cr.select(cb.count(root.get("id"))).where(cb.and(
+                cb.equal(root.get("courseId"), courseId),
+                cb.equal(root.get("email"), userEmail)));
+
+        return HibernateUtil.createQuery(cr).getSingleResult();
+    }
+
     /**
      * Gets the list of instructors for the specified {@code courseId}.
      */
@@ -389,6 +463,50 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).setMaxResults(batchSize).getResultList();
     }
 
+    /**
+     * Gets at most {@code maxResults} students of the specified {@code courseId} ordered by email,
+     * starting after {@code afterEmail} and leaving out the students in {@code excludedUserIds}.
+     *
+     * @param afterEmail the email to start after, or null to start from the first student
+     */
+    public List<Student> getStudentsForCourseAfterEmail(String courseId, String afterEmail,
+            Collection<UUID> excludedUserIds, int maxResults) {
+        return getUsersForCourseAfterEmail(Student.class, courseId, afterEmail, excludedUserIds, maxResults);
+    }
+
+    /**
+     * Gets at most {@code maxResults} instructors of the specified {@code courseId} ordered by email,
+     * starting after {@code afterEmail} and leaving out the instructors in {@code excludedUserIds}.
+     *
+     * @param afterEmail the email to start after, or null to start from the first instructor
+     */
+    public List<Instructor> getInstructorsForCourseAfterEmail(String courseId, String afterEmail,
+            Collection<UUID> excludedUserIds, int maxResults) {
+        return getUsersForCourseAfterEmail(Instructor.class, courseId, afterEmail, excludedUserIds, maxResults);
+    }
+
+    private <T extends User> List<T> getUsersForCourseAfterEmail(Class<T> userClass, String courseId,
+            String afterEmail, Collection<UUID> excludedUserIds, int maxResults) {
+        assert courseId != null;
+        assert excludedUserIds != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<T> cr = cb.createQuery(userClass);
+        Root<T> root = cr.from(userClass);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("courseId"), courseId));
+        if (afterEmail != null) {
+            predicates.add(cb.greaterThan(root.get("email"), afterEmail));
+        }
+        if (!excludedUserIds.isEmpty()) {
+            predicates.add(cb.not(root.get("id").in(excludedUserIds)));
+        }
+        cr.select(root).where(predicates.toArray(new Predicate[0])).orderBy(cb.asc(root.get("email")));
+
+        return HibernateUtil.createQuery(cr).setMaxResults(maxResults).getResultList();
+    }
+
     /**
      * Gets the instructor with the specified {@code userEmail}.
      */
@@ -590,6 +708,40 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultStream().findFirst().orElse(null);
     }
 
+    /**
+     * Gets the sections with any of the specified {@code sectionNames} in the course.
+     */
+    public List<Section> getSectionsForNames(String courseId, Collection<String> sectionNames) {
+        assert courseId != null;
+        assert sectionNames != null;
+
+        if (sectionNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Section> cr = cb.createQuery(Section.class);
+        Root<Section> sectionRoot = cr.from(Section.class);
+        Join<Section, Course> courseJoin = sectionRoot.join("course");
+
+        cr.select(sectionRoot)
+                .where(cb.and(
+                        cb.equal(courseJoin.get("id"), courseId),
+                        sectionRoot.get("name").in(sectionNames)));
+
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
+    /**
+     * Creates a section.
+     */
+    public Section createSection(Section section) {
+        assert section != null;
+
+        persist(section);
+        return section;
+    }
+
     /**
      * Gets a section by its {@code courseId} and {@code sectionName}.
      */
@@ -628,6 +780,35 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultStream().findFirst().orElse(null);
     }
 
+    /**
+     * Gets all teams in the specified {@code sections}.
+     */
+    public List<Team> getTeamsForSections(Collection<Section> sections) {
+        assert sections != null;
+
+        if (sections.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Team> cr = cb.createQuery(Team.class);
+        Root<Team> teamRoot = cr.from(Team.class);
+
+        cr.select(teamRoot).where(teamRoot.get("section").in(sections));
+
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
+    /**
+     * Creates a team.
+     */
+    public Team createTeam(Team team) {
+        assert team != null;
+
+        persist(team);
+        return team;
+    }
+
     /**
      * Gets a team by its {@code section} and {@code teamName}.
      */
@@ -29,14 +29,19 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 /**
  * Represents a Feedback Response.
  */
 @Entity
-@Table(name = "FeedbackResponses")
+@Table(name = "FeedbackResponses", uniqueConstraints = @UniqueConstraint(
+        name = FeedbackResponse.UNIQUE_GIVER_AND_RECIPIENT_CONSTRAINT, columnNames = { "questionId", "giver", "recipient" }))
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 public abstract class FeedbackResponse extends BaseEntity {
+    /** Name of the constraint allowing only one response from a giver to a recipient for each question. */
+    public static final String UNIQUE_GIVER_AND_RECIPIENT_CONSTRAINT = "Unique giver and recipient per question";
+
     @Id
     private UUID id;
 
@@ -91,6 +91,12 @@ public class FeedbackSession extends BaseEntity {
     @Column(nullable = false)
     private boolean isPublishedEmailSent;
 
+    // the key of the last recipient sent the open email; null if the open emails have never been sent in chunks
+    private String openEmailCheckpoint;
+
+    // the key of the last recipient sent the closing soon email
+    private String closingSoonEmailCheckpoint;
+
     @OneToMany(mappedBy = "feedbackSession", cascade = CascadeType.REMOVE)
     @Fetch(FetchMode.JOIN)
     @OnDelete(action = OnDeleteAction.CASCADE)
@@ -378,6 +384,22 @@ public class FeedbackSession extends BaseEntity {
         this.isPublishedEmailSent = isPublishedEmailSent;
     }
 
+    public String getOpenEmailCheckpoint() {
+        return openEmailCheckpoint;
+    }
+
+    public void setOpenEmailCheckpoint(String openEmailCheckpoint) {
+        this.openEmailCheckpoint = openEmailCheckpoint;
+    }
+
+    public String getClosingSoonEmailCheckpoint() {
+        return closingSoonEmailCheckpoint;
+    }
+
+    public void setClosingSoonEmailCheckpoint(String closingSoonEmailCheckpoint) {
+        this.closingSoonEmailCheckpoint = closingSoonEmailCheckpoint;
+    }
+
     public Instant getUpdatedAt() {
         return updatedAt;
     }
@@ -405,7 +427,8 @@ public class FeedbackSession extends BaseEntity {
                 + ", isPublishedEmailEnabled=" + isPublishedEmailEnabled
                 + ", isOpeningSoonEmailSent=" + isOpeningSoonEmailSent + ", isOpenEmailSent=" + isOpenEmailSent
                 + ", isClosingSoonEmailSent=" + isClosingSoonEmailSent + ", isClosedEmailSent=" + isClosedEmailSent
-                + ", isPublishedEmailSent=" + isPublishedEmailSent + ", deadlineExtensions=" + deadlineExtensions
+                + ", isPublishedEmailSent=" + isPublishedEmailSent + ", openEmailCheckpoint=" + openEmailCheckpoint
+                + ", closingSoonEmailCheckpoint=" + closingSoonEmailCheckpoint + ", deadlineExtensions=" + deadlineExtensions
                 + ", feedbackQuestions=" + feedbackQuestions + ", createdAt=" + getCreatedAt()
                 + ", updatedAt=" + updatedAt + ", deletedAt=" + deletedAt + "]";
     }
@@ -166,4 +166,11 @@ public class Instructor extends User {
     public boolean isAllowedForPrivilegeAnySection(String sessionName, String privilegeName) {
         return privileges.isAllowedForPrivilegeAnySection(sessionName, privilegeName);
     }
+
+    /**
+     * Returns true if privilege for session is present for every section.
+     */
+    public boolean isAllowedForPrivilegeAllSections(String sessionName, String privilegeName) {
+        return privileges.isAllowedForPrivilegeAllSections(sessionName, privilegeName);
+    }
 }
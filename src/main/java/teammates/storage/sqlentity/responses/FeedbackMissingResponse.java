@@ -1,16 +1,24 @@
 package teammates.storage.sqlentity.responses;
 
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.util.Const;
 import teammates.storage.sqlentity.FeedbackQuestion;
 
 /**
  * Represents a missing response.
+ *
+ * <p>Missing responses are never persisted, so the visibility of the giver and recipient names
+ * to the current user is kept in the response itself.
  */
 public class FeedbackMissingResponse extends FeedbackTextResponse {
 
     private String giverSectionName;
     private String recipientSectionName;
+    private boolean isGiverNameVisible;
+    private boolean isRecipientNameVisible;
 
     protected FeedbackMissingResponse() {
         // required by Hibernate
@@ -18,11 +26,21 @@ public class FeedbackMissingResponse extends FeedbackTextResponse {
 
     public FeedbackMissingResponse(
             FeedbackQuestion feedbackQuestion, String giver,
-            String giverSectionName, String recipient, String recipientSectionName
+            String giverSectionName, String recipient, String recipientSectionName,
+            boolean isGiverNameVisible, boolean isRecipientNameVisible
     ) {
-        super(feedbackQuestion, giver, null, recipient, null, new FeedbackTextResponseDetails(Const.MISSING_RESPONSE_TEXT));
+        // there is at most one missing response per giver and recipient of a question, so the ID is derived from them
+        // for the same missing response to be equal however many times it is created
+        this.setId(UUID.nameUUIDFromBytes(String.join("\0", String.valueOf(feedbackQuestion.getId()), giver, recipient)
+                .getBytes(StandardCharsets.UTF_8)));
+        this.setFeedbackQuestion(feedbackQuestion);
+        this.setGiver(giver);
+        this.setRecipient(recipient);
+        this.setAnswer(new FeedbackTextResponseDetails(Const.MISSING_RESPONSE_TEXT));
         this.giverSectionName = giverSectionName;
         this.recipientSectionName = recipientSectionName;
+        this.isGiverNameVisible = isGiverNameVisible;
+        this.isRecipientNameVisible = isRecipientNameVisible;
     }
 
     @Override
@@ -34,4 +52,12 @@ public class FeedbackMissingResponse extends FeedbackTextResponse {
     public String getRecipientSectionName() {
         return recipientSectionName;
     }
+
+    public boolean isGiverNameVisible() {
+        return isGiverNameVisible;
+    }
+
+    public boolean isRecipientNameVisible() {
+        return isRecipientNameVisible;
+    }
 }
@@ -1,5 +1,6 @@
 package teammates.storage.sqlsearch;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
@@ -34,10 +35,11 @@ public class AccountRequestSearchManager extends SearchManager<AccountRequest> {
     }
 
     @Override
-    AccountRequest getEntityFromDocument(SolrDocument document) {
-        String email = (String) document.getFirstValue("email");
-        String institute = (String) document.getFirstValue("institute");
-        return accountRequestsDb.getAccountRequest(email, institute);
+    List<AccountRequest> getEntitiesFromDocuments(List<SolrDocument> documents) {
+        List<AccountRequest> accountRequests = new ArrayList<>();
+        groupDocumentKeys(documents, "institute", "email").forEach((institute, emails) ->
+                accountRequests.addAll(accountRequestsDb.getAccountRequestsForEmails(institute, emails)));
+        return accountRequests;
     }
 
     @Override
@@ -1,5 +1,6 @@
 package teammates.storage.sqlsearch;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
@@ -37,10 +38,11 @@ public class InstructorSearchManager extends SearchManager<Instructor> {
     }
 
     @Override
-    Instructor getEntityFromDocument(SolrDocument document) {
-        String courseId = (String) document.getFirstValue("courseId");
-        String email = (String) document.getFirstValue("email");
-        return instructorsDb.getInstructorForEmail(courseId, email);
+    List<Instructor> getEntitiesFromDocuments(List<SolrDocument> documents) {
+        List<Instructor> instructors = new ArrayList<>();
+        groupDocumentKeys(documents, "courseId", "email").forEach((courseId, emails) ->
+                instructors.addAll(instructorsDb.getInstructorsForEmails(courseId, emails)));
+        return instructors;
     }
 
     @Override
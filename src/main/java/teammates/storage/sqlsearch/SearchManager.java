@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -20,6 +21,7 @@ import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestMetrics;
 import teammates.common.util.StringHelper;
 import teammates.storage.sqlentity.BaseEntity;
 
@@ -43,9 +45,12 @@ abstract class SearchManager<T extends BaseEntity> {
 
     private final HttpSolrClient client;
     private final boolean isResetAllowed;
+    private final int commitWithin;
 
     SearchManager(String searchServiceHost, boolean isResetAllowed) {
         this.isResetAllowed = Config.IS_DEV_SERVER && isResetAllowed;
+        // tests search for documents right after putting them, so changes are committed immediately on dev servers
+        this.commitWithin = Config.IS_DEV_SERVER ? 0 : Config.SEARCH_COMMIT_WITHIN;
 
         if (StringHelper.isEmpty(searchServiceHost)) {
             this.client = null;
@@ -75,7 +80,7 @@ abstract class SearchManager<T extends BaseEntity> {
         }
 
         try {
-            return client.query(getCollectionName(), query);
+            return callSolr(() -> client.query(getCollectionName(), query));
         } catch (SolrServerException e) {
             Throwable rootCause = e.getRootCause();
             log.severe(String.format(ERROR_SEARCH_DOCUMENT, query.getQuery(), rootCause), e);
@@ -93,6 +98,18 @@ abstract class SearchManager<T extends BaseEntity> {
         }
     }
 
+    /**
+     * Makes a call to Solr and records it in the metrics of the current request.
+     */
+    private <R> R callSolr(SolrCall<R> call) throws SolrServerException, IOException {
+        long startNanos = System.nanoTime();
+        try {
+            return call.call();
+        } finally {
+            RequestMetrics.recordSolrCall(System.nanoTime() - startNanos);
+        }
+    }
+
     abstract String getCollectionName();
 
     abstract SearchDocument<T> createDocument(T entity);
@@ -101,27 +118,43 @@ abstract class SearchManager<T extends BaseEntity> {
      * Creates or updates search document for the given entity.
      */
     public void putDocument(T entity) throws SearchServiceException {
+        putDocuments(Collections.singletonList(entity));
+    }
+
+    /**
+     * Creates or updates search documents for the given entities in a single request.
+     *
+     * <p>The documents are committed as specified by {@link Config#SEARCH_COMMIT_WITHIN}.
+     */
+    public void putDocuments(List<T> entities) throws SearchServiceException {
         if (client == null) {
             log.warning(ERROR_SEARCH_NOT_IMPLEMENTED);
             return;
         }
 
-        if (entity == null) {
-            return;
+        List<SolrInputDocument> documents = new ArrayList<>();
+        for (T entity : entities) {
+            if (entity == null) {
+                continue;
+            }
+            Map<String, Object> searchableFields = createDocument(entity).getSearchableFields();
+            SolrInputDocument document = new SolrInputDocument();
+            searchableFields.forEach((key, value) -> document.addField(key, value));
+            documents.add(document);
         }
 
-        Map<String, Object> searchableFields = createDocument(entity).getSearchableFields();
-        SolrInputDocument document = new SolrInputDocument();
-        searchableFields.forEach((key, value) -> document.addField(key, value));
+        if (documents.isEmpty()) {
+            return;
+        }
 
         try {
-            client.add(getCollectionName(), Collections.singleton(document));
-            client.commit(getCollectionName());
+            callSolr(() -> client.add(getCollectionName(), documents, getCommitWithin()));
+            softCommitIfRequired();
         } catch (SolrServerException e) {
-            log.severe(String.format(ERROR_PUT_DOCUMENT, document, e.getRootCause()), e);
+            log.severe(String.format(ERROR_PUT_DOCUMENT, documents, e.getRootCause()), e);
             throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
         } catch (IOException e) {
-            log.severe(String.format(ERROR_PUT_DOCUMENT, document, e.getCause()), e);
+            log.severe(String.format(ERROR_PUT_DOCUMENT, documents, e.getCause()), e);
             throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
         }
     }
@@ -140,8 +173,8 @@ abstract class SearchManager<T extends BaseEntity> {
         }
 
         try {
-            client.deleteById(getCollectionName(), keys);
-            client.commit(getCollectionName());
+            callSolr(() -> client.deleteById(getCollectionName(), keys, getCommitWithin()));
+            softCommitIfRequired();
         } catch (SolrServerException e) {
             log.severe(String.format(ERROR_DELETE_DOCUMENT, keys, e.getRootCause()), e);
         } catch (IOException e) {
@@ -159,8 +192,8 @@ abstract class SearchManager<T extends BaseEntity> {
         }
 
         try {
-            client.deleteByQuery(getCollectionName(), "*:*");
-            client.commit(getCollectionName());
+            callSolr(() -> client.deleteByQuery(getCollectionName(), "*:*"));
+            callSolr(() -> client.commit(getCollectionName()));
         } catch (SolrServerException e) {
             log.severe(String.format(ERROR_RESET_COLLECTION, e.getRootCause()), e);
         } catch (IOException e) {
@@ -168,6 +201,24 @@ abstract class SearchManager<T extends BaseEntity> {
         }
     }
 
+    /**
+     * Returns the time in milliseconds within which Solr should commit changes, or -1 if they are committed explicitly.
+     */
+    private int getCommitWithin() {
+        return commitWithin > 0 ? commitWithin : -1;
+    }
+
+    /**
+     * Makes the changes visible to searches immediately if Solr is not left to commit them by itself.
+     *
+     * <p>A soft commit is used, as durability is already ensured by the Solr update log.
+     */
+    private void softCommitIfRequired() throws SolrServerException, IOException {
+        if (commitWithin <= 0) {
+            callSolr(() -> client.commit(getCollectionName(), true, true, true));
+        }
+    }
+
     private String cleanSpecialChars(String queryString) {
         String htmlTagStripPattern = "<[^>]*>";
 
@@ -205,38 +256,58 @@ abstract class SearchManager<T extends BaseEntity> {
         }
     }
 
-    abstract T getEntityFromDocument(SolrDocument document);
+    /**
+     * Loads the entities corresponding to the given documents.
+     *
+     * <p>Implementations should load the entities in as few database round trips as possible.
+     * Documents without a corresponding entity (e.g. documents of entities in datastore) are skipped.
+     */
+    abstract List<T> getEntitiesFromDocuments(List<SolrDocument> documents);
 
     abstract void sortResult(List<T> result);
 
+    /**
+     * Groups the values of {@code keyField} of the given documents by the values of {@code groupField}.
+     */
+    Map<String, List<String>> groupDocumentKeys(List<SolrDocument> documents, String groupField, String keyField) {
+        Map<String, List<String>> keysByGroup = new LinkedHashMap<>();
+        for (SolrDocument document : documents) {
+            String group = (String) document.getFirstValue(groupField);
+            String key = (String) document.getFirstValue(keyField);
+            if (group == null || key == null) {
+                continue;
+            }
+            keysByGroup.computeIfAbsent(group, k -> new ArrayList<>()).add(key);
+        }
+        return keysByGroup;
+    }
+
     List<T> convertDocumentToEntities(List<SolrDocument> documents) {
-        if (documents == null) {
+        if (documents == null || documents.isEmpty()) {
             return new ArrayList<>();
         }
 
-        List<T> result = new ArrayList<>();
+        // Documents without a corresponding entity in the database will not be part of the result.
+        // This happens for documents of entities in datastore, or when the search engine is out of sync
+        // as SearchManager may fail to delete documents; the chance is low and it is generally not a big problem.
 
-        for (SolrDocument document : documents) {
-            T entity = getEntityFromDocument(document);
-
-            // Entity will be null if document corresponds to entity in datastore
-            if (entity == null) {
-                // search engine out of sync as SearchManager may fail to delete documents
-                // the chance is low and it is generally not a big problem
-
-                // these lines below are commented out as they interfere with the dual db search,
-                // and cause unwanted deletions, please refer to the following PR for more details
-                // [PR](https://github.com/TEAMMATES/teammates/pull/12838)
-
-                // String id = (String) document.getFirstValue("id");
-                // deleteDocuments(Collections.singletonList(id));
-                continue;
-            }
-            result.add(entity);
-        }
+        // Such documents are not deleted here as this interferes with the dual db search,
+        // and cause unwanted deletions, please refer to the following PR for more details
+        // [PR](https://github.com/TEAMMATES/teammates/pull/12838)
+        List<T> result = new ArrayList<>(getEntitiesFromDocuments(documents));
         sortResult(result);
 
         return result;
     }
 
+    /**
+     * A call to Solr.
+     *
+     * @param <R> type of the response of the call
+     */
+    @FunctionalInterface
+    private interface SolrCall<R> {
+        R call() throws SolrServerException, IOException;
+    }
+
 }
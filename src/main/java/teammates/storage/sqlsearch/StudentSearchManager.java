@@ -41,10 +41,11 @@ public class StudentSearchManager extends SearchManager<Student> {
     }
 
     @Override
-    Student getEntityFromDocument(SolrDocument document) {
-        String courseId = (String) document.getFirstValue("courseId");
-        String email = (String) document.getFirstValue("email");
-        return studentsDb.getStudentForEmail(courseId, email);
+    List<Student> getEntitiesFromDocuments(List<SolrDocument> documents) {
+        List<Student> students = new ArrayList<>();
+        groupDocumentKeys(documents, "courseId", "email").forEach((courseId, emails) ->
+                students.addAll(studentsDb.getStudentsForEmails(courseId, emails)));
+        return students;
     }
 
     @Override
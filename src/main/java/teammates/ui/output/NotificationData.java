@@ -82,4 +82,8 @@ public class NotificationData extends ApiOutput {
     public boolean isShown() {
         return this.shown;
     }
+
+    public void setShown(boolean shown) {
+        this.shown = shown;
+    }
 }
@@ -22,6 +22,7 @@ import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttribute
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionStatistics;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
@@ -45,6 +46,15 @@ public class SessionResultsData extends ApiOutput {
         // use factory method instead
     }
 
+    /**
+     * Factory method to construct a copy of the API output, sharing the same question outputs.
+     */
+    public static SessionResultsData copyOf(SessionResultsData sessionResultsData) {
+        SessionResultsData copy = new SessionResultsData();
+        copy.questions.addAll(sessionResultsData.questions);
+        return copy;
+    }
+
     /**
      * Factory method to construct API output for instructor.
      */
@@ -100,6 +110,73 @@ public class SessionResultsData extends ApiOutput {
         return sessionResultsData;
     }
 
+    /**
+     * Factory method to construct API output for instructor containing only the statistics of each question.
+     */
+    public static SessionResultsData initForStatistics(Map<FeedbackQuestion, String> questionStatistics) {
+        SessionResultsData sessionResultsData = new SessionResultsData();
+
+        questionStatistics.forEach((question, statistics) ->
+                sessionResultsData.questions.add(new QuestionOutput(question, statistics, false, false)));
+
+        return sessionResultsData;
+    }
+
+    /**
+     * Factory method to construct API output for instructor containing only the statistics of each question,
+     * computed from the responses in the bundle.
+     */
+    public static SessionResultsData initForStatistics(SessionResultsBundle bundle) {
+        SessionResultsData sessionResultsData = new SessionResultsData();
+
+        bundle.getQuestionResponseMap().forEach((questionId, responses) -> {
+            FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
+            FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
+            FeedbackQuestionStatistics statistics = questionDetails.createQuestionStatistics();
+
+            String statisticsJson;
+            if (statistics == null) {
+                statisticsJson = questionDetails.getQuestionResultStatisticsJson(question, null, bundle);
+            } else {
+                for (FeedbackResponseAttributes response : responses) {
+                    statistics.addResponse(response.getRecipient(), response.getResponseDetailsCopy());
+                }
+                statisticsJson = statistics.toJson(
+                        question.getShowRecipientNameTo().contains(FeedbackParticipantType.INSTRUCTORS));
+            }
+            sessionResultsData.questions.add(new QuestionOutput(question, statisticsJson, false, false));
+        });
+
+        return sessionResultsData;
+    }
+
+    /**
+     * Factory method to construct API output for instructor containing only the statistics of each question,
+     * computed from the responses in the bundle.
+     */
+    public static SessionResultsData initForStatistics(SqlSessionResultsBundle bundle) {
+        SessionResultsData sessionResultsData = new SessionResultsData();
+
+        bundle.getQuestionResponseMap().forEach((question, responses) -> {
+            FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
+            FeedbackQuestionStatistics statistics = questionDetails.createQuestionStatistics();
+
+            String statisticsJson;
+            if (statistics == null) {
+                statisticsJson = questionDetails.getQuestionResultStatisticsJson(question, null, bundle);
+            } else {
+                for (FeedbackResponse response : responses) {
+                    statistics.addResponse(response.getRecipient(), response.getFeedbackResponseDetailsCopy());
+                }
+                statisticsJson = statistics.toJson(
+                        question.getShowRecipientNameTo().contains(FeedbackParticipantType.INSTRUCTORS));
+            }
+            sessionResultsData.questions.add(new QuestionOutput(question, statisticsJson, false, false));
+        });
+
+        return sessionResultsData;
+    }
+
     /**
      * Factory method to construct API output for student.
      */
@@ -0,0 +1,48 @@
+package teammates.ui.request;
+
+import teammates.common.util.EmailType;
+
+/**
+ * The request of sending the opening or closing emails of a feedback session to its next chunk of recipients.
+ */
+public class FeedbackSessionReminderEmailsChunkRequest extends BasicRequest {
+
+    private final String courseId;
+    private final String feedbackSessionName;
+    private final EmailType emailType;
+    private final String lastRecipientKey;
+
+    public FeedbackSessionReminderEmailsChunkRequest(String courseId, String feedbackSessionName, EmailType emailType,
+                                                     String lastRecipientKey) {
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.emailType = emailType;
+        this.lastRecipientKey = lastRecipientKey;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public EmailType getEmailType() {
+        return emailType;
+    }
+
+    public String getLastRecipientKey() {
+        return lastRecipientKey;
+    }
+
+    @Override
+    public void validate() throws InvalidHttpRequestBodyException {
+        assertTrue(courseId != null, "Course ID cannot be null");
+        assertTrue(feedbackSessionName != null, "Feedback session name cannot be null");
+        assertTrue(emailType == EmailType.FEEDBACK_OPENING || emailType == EmailType.FEEDBACK_CLOSING,
+                "Email type must be either opening or closing");
+        assertTrue(lastRecipientKey != null, "Last recipient key cannot be null");
+    }
+
+}
@@ -0,0 +1,33 @@
+package teammates.ui.request;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The request of submitting the feedback responses to all the questions of a feedback session at once.
+ */
+public class FeedbackSessionResponsesRequest extends BasicRequest {
+
+    /**
+     * The responses to submit, keyed by the ID of the question they are for.
+     */
+    private Map<String, FeedbackResponsesRequest> questionResponses = new LinkedHashMap<>();
+
+    public Map<String, FeedbackResponsesRequest> getQuestionResponses() {
+        return questionResponses;
+    }
+
+    public void setQuestionResponses(Map<String, FeedbackResponsesRequest> questionResponses) {
+        this.questionResponses = questionResponses;
+    }
+
+    @Override
+    public void validate() throws InvalidHttpRequestBodyException {
+        assertTrue(questionResponses != null, "Question responses cannot be null");
+        for (FeedbackResponsesRequest responsesRequest : questionResponses.values()) {
+            assertTrue(responsesRequest != null, "Responses to a question cannot be null");
+            responsesRequest.validate();
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package teammates.ui.servlets;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
+
+import teammates.common.datatransfer.UserInfoCookie;
+import teammates.common.util.ActionMetrics;
+import teammates.common.util.Config;
+import teammates.common.util.ConnectionPoolMetrics;
+import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
+import teammates.common.util.HttpRequestHelper;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.UserRolesCache;
+import teammates.logic.external.InProcessTaskQueueService;
+
+/**
+ * Servlet that exposes the usage statistics of the back-end, one kind per URI:
+ * <ul>
+ * <li>{@value #DATABASE_URI}: the SQL database connection pool and second-level cache.</li>
+ * <li>{@value #USER_ROLES_URI}: the cache of user roles which saves database lookups
+ * on every authenticated request.</li>
+ * <li>{@value #TASK_QUEUE_URI}: the queue depths and latencies of the in-process task queue, if it is used.</li>
+ * <li>{@value #REQUESTS_URI}: for each action, histograms of the latency of its requests and of the work
+ * they did in the SQL database, Datastore, Solr and task queue. {@code datastoreRpcs} is the number of calls
+ * made on the Datastore client; further pages fetched while iterating query results are not counted, so it is
+ * a lower bound of the RPCs actually made. The statistics can be cleared with a DELETE request.</li>
+ * </ul>
+ *
+ * <p>The statistics are only available to logged in admins and to requests bearing the backdoor key.
+ * As this servlet is not covered by the CSRF check, clearing them requires the backdoor key.
+ */
+public class MetricsServlet extends HttpServlet {
+
+    static final String URI_PREFIX = "/metrics";
+    static final String DATABASE_URI = URI_PREFIX + "/db";
+    static final String USER_ROLES_URI = URI_PREFIX + "/userroles";
+    static final String TASK_QUEUE_URI = URI_PREFIX + "/taskqueue";
+    static final String REQUESTS_URI = URI_PREFIX + "/requests";
+
+    @Override
+    protected void service(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        boolean isAllowed = hasBackdoorKey(req) || HttpGet.METHOD_NAME.equals(req.getMethod()) && isAdmin(req);
+        if (!isAllowed) {
+            resp.setStatus(HttpStatus.SC_FORBIDDEN);
+            return;
+        }
+        super.service(req, resp);
+    }
+
+    @Override
+    public void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        Object metrics;
+        switch (req.getRequestURI()) {
+        case DATABASE_URI:
+            Map<String, Object> databaseMetrics = new LinkedHashMap<>();
+            databaseMetrics.put("connectionPool", ConnectionPoolMetrics.inst().getSnapshot());
+            databaseMetrics.put("cache", HibernateUtil.getCacheStatistics());
+            metrics = databaseMetrics;
+            break;
+        case USER_ROLES_URI:
+            metrics = UserRolesCache.inst().getStatistics();
+            break;
+        case TASK_QUEUE_URI:
+            if (!Config.isUsingInProcessTaskQueue()) {
+                resp.setStatus(HttpStatus.SC_NOT_FOUND);
+                return;
+            }
+            metrics = InProcessTaskQueueService.inst().getStatistics();
+            break;
+        case REQUESTS_URI:
+            metrics = ActionMetrics.inst().getStatistics();
+            break;
+        default:
+            resp.setStatus(HttpStatus.SC_NOT_FOUND);
+            return;
+        }
+
+        resp.setStatus(HttpStatus.SC_OK);
+        resp.setContentType("application/json");
+        resp.getWriter().write(JsonUtils.toCompactJson(metrics));
+    }
+
+    @Override
+    public void doDelete(HttpServletRequest req, HttpServletResponse resp) {
+        if (!REQUESTS_URI.equals(req.getRequestURI())) {
+            resp.setStatus(HttpStatus.SC_NOT_FOUND);
+            return;
+        }
+
+        ActionMetrics.inst().reset();
+
+        resp.setStatus(HttpStatus.SC_NO_CONTENT);
+    }
+
+    private static boolean hasBackdoorKey(HttpServletRequest req) {
+        return Config.BACKDOOR_KEY.equals(req.getHeader(Const.HeaderNames.BACKDOOR_KEY));
+    }
+
+    private static boolean isAdmin(HttpServletRequest req) {
+        String cookie = HttpRequestHelper.getCookieValueFromRequest(req, Const.SecurityConfig.AUTH_COOKIE_NAME);
+        UserInfoCookie uic = UserInfoCookie.fromCookie(cookie);
+        return uic != null && uic.isValid() && Config.APP_ADMINS.contains(uic.getUserId());
+    }
+
+}
@@ -0,0 +1,29 @@
+package teammates.ui.servlets;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+
+import teammates.common.util.Config;
+import teammates.logic.external.InProcessTaskQueueService;
+import teammates.ui.webapi.TaskQueueActionDispatcher;
+
+/**
+ * Setup in web.xml to start the in-process task queue at application startup, if it is used.
+ */
+public class TaskQueueStarter implements ServletContextListener {
+
+    @Override
+    public void contextInitialized(ServletContextEvent event) {
+        // Invoked by Jetty at application startup.
+        if (Config.isUsingInProcessTaskQueue()) {
+            InProcessTaskQueueService.inst().setDispatcher(new TaskQueueActionDispatcher());
+        }
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent event) {
+        if (Config.isUsingInProcessTaskQueue()) {
+            InProcessTaskQueueService.inst().shutdown();
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package teammates.ui.webapi;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.servlet.http.HttpServletRequest;
@@ -9,8 +12,6 @@ import javax.servlet.http.HttpServletRequest;
 import teammates.common.datatransfer.InstructorPermissionSet;
 import teammates.common.datatransfer.UserInfo;
 import teammates.common.datatransfer.UserInfoCookie;
-import teammates.common.datatransfer.attributes.AccountAttributes;
-import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -21,6 +22,7 @@ import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.StringHelper;
 import teammates.logic.api.AuthProxy;
+import teammates.logic.api.DualStoreReader;
 import teammates.logic.api.EmailGenerator;
 import teammates.logic.api.EmailSender;
 import teammates.logic.api.LogsProcessor;
@@ -53,6 +55,7 @@ public abstract class Action {
     RecaptchaVerifier recaptchaVerifier = RecaptchaVerifier.inst();
     LogsProcessor logsProcessor = LogsProcessor.inst();
     AuthProxy authProxy = AuthProxy.inst();
+    DualStoreReader dualStoreReader = DualStoreReader.inst();
 
     HttpServletRequest req;
     UserInfo userInfo;
@@ -124,26 +127,39 @@ public abstract class Action {
         this.sqlEmailGenerator = sqlEmailGenerator;
     }
 
+    public void setDualStoreReader(DualStoreReader dualStoreReader) {
+        this.dualStoreReader = dualStoreReader;
+    }
+
     /**
      * Returns true if course has been migrated or does not exist in the datastore.
      */
     protected boolean isCourseMigrated(String courseId) {
-        if (isCourseMigrated == null) {
-            CourseAttributes course = logic.getCourse(courseId);
-            isCourseMigrated = course == null || course.isMigrated();
+        if (isCourseMigrated != null) {
+            return isCourseMigrated;
         }
-        return isCourseMigrated;
+        return logic.isCourseMigrated(courseId);
     }
 
     /**
-     * Returns true if course has been migrated or does not exist in the datastore.
+     * Returns the IDs among {@code courseIds} of the courses which have been migrated
+     * or do not exist in the datastore.
+     */
+    protected Set<String> getMigratedCourseIds(Collection<String> courseIds) {
+        if (isCourseMigrated != null) {
+            return isCourseMigrated ? new HashSet<>(courseIds) : new HashSet<>();
+        }
+        return logic.getMigratedCourseIds(courseIds);
+    }
+
+    /**
+     * Returns true if account has been migrated or does not exist in the datastore.
      */
     protected boolean isAccountMigrated(String googleId) {
-        if (isAccountMigrated == null) {
-            AccountAttributes account = logic.getAccount(googleId);
-            isAccountMigrated = account == null || account.isMigrated();
+        if (isAccountMigrated != null) {
+            return isAccountMigrated;
         }
-        return isAccountMigrated;
+        return logic.isAccountMigrated(googleId);
     }
 
     /**
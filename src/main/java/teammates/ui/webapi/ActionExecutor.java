@@ -0,0 +1,189 @@
+package teammates.ui.webapi;
+
+import java.io.IOException;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.http.HttpStatus;
+import org.hibernate.HibernateException;
+
+import com.google.cloud.datastore.DatastoreException;
+
+import teammates.common.datatransfer.logs.RequestLogUser;
+import teammates.common.exception.DeadlineExceededException;
+import teammates.common.util.ActionMetrics;
+import teammates.common.util.Config;
+import teammates.common.util.HibernateUtil;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.common.util.RequestMetrics;
+import teammates.common.util.RequestTracer;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+
+/**
+ * Executes the action mapped to a request, turning any exception thrown into an error response.
+ *
+ * <p>Requests from the web application and from task queues are all executed this way,
+ * whether they come through {@code WebApiServlet} or the {@link TaskQueueActionDispatcher}.
+ */
+public class ActionExecutor {
+
+    private static final Logger log = Logger.getLogger();
+
+    private final String executorName;
+
+    /**
+     * Creates an executor which names itself in the logs with {@code executorName}.
+     */
+    public ActionExecutor(String executorName) {
+        this.executorName = executorName;
+    }
+
+    /**
+     * Executes the action mapped to the request within a transaction, and sends its result with {@code sender}.
+     * If the action cannot be executed, an error result is sent instead.
+     *
+     * <p>The request is logged afterwards, and its metrics are recorded if {@link RequestMetrics} was started.
+     *
+     * @return the status code of the result sent
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable") // used as fallback
+    public int execute(HttpServletRequest req, ResultSender sender) throws IOException {
+        int statusCode = 0;
+        Action action = null;
+
+        try {
+            action = ActionFactory.getAction(req, req.getMethod());
+            ActionResult result = executeWithTransaction(action, req);
+            statusCode = result.getStatusCode();
+            sender.send(result);
+            return statusCode;
+        } catch (ActionMappingException e) {
+            statusCode = e.getStatusCode();
+            return sendErrorBasedOnRequester(req, sender, e, statusCode);
+        } catch (InvalidHttpRequestBodyException | InvalidHttpParameterException e) {
+            statusCode = HttpStatus.SC_BAD_REQUEST;
+            return sendErrorBasedOnRequester(req, sender, e, statusCode);
+        } catch (UnauthorizedAccessException uae) {
+            statusCode = HttpStatus.SC_FORBIDDEN;
+            log.warning(uae.getClass().getSimpleName() + " caught by " + executorName + ": " + uae.getMessage(), uae);
+            return sendError(sender, statusCode,
+                    uae.isShowErrorMessage() ? uae.getMessage() : "You are not authorized to access this resource.");
+        } catch (EntityNotFoundException enfe) {
+            statusCode = HttpStatus.SC_NOT_FOUND;
+            log.warning(enfe.getClass().getSimpleName() + " caught by " + executorName + ": " + enfe.getMessage(), enfe);
+            return sendError(sender, statusCode, enfe.getMessage());
+        } catch (InvalidOperationException ioe) {
+            statusCode = HttpStatus.SC_CONFLICT;
+            log.warning(ioe.getClass().getSimpleName() + " caught by " + executorName + ": " + ioe.getMessage(), ioe);
+            return sendError(sender, statusCode, ioe.getMessage());
+        } catch (DeadlineExceededException dee) {
+            statusCode = HttpStatus.SC_GATEWAY_TIMEOUT;
+            log.severe(dee.getClass().getSimpleName() + " caught by " + executorName, dee);
+            return sendError(sender, statusCode,
+                    "The request exceeded the server timeout limit. Please try again later.");
+        } catch (DatastoreException | HibernateException e) {
+            statusCode = HttpStatus.SC_INTERNAL_SERVER_ERROR;
+            log.severe(e.getClass().getSimpleName() + " caught by " + executorName + ": " + e.getMessage(), e);
+            return sendError(sender, statusCode, e.getMessage());
+        } catch (Throwable t) {
+            statusCode = HttpStatus.SC_INTERNAL_SERVER_ERROR;
+            log.severe(t.getClass().getSimpleName() + " caught by " + executorName + ": " + t.getMessage(), t);
+            return sendError(sender, statusCode,
+                    "The server encountered an error when processing your request.");
+        } finally {
+            RequestLogUser userInfo = new RequestLogUser();
+            String requestBody = null;
+            String actionClass = null;
+            if (action != null) {
+                if (action.hasDefinedRequestBody()) {
+                    requestBody = action.getRequestBody();
+                }
+                actionClass = action.getClass().getSimpleName();
+                userInfo = action.getUserInfoForLogging();
+            }
+
+            log.request(req, statusCode, actionClass, userInfo, requestBody, actionClass);
+            recordMetrics(req, statusCode, actionClass);
+        }
+    }
+
+    /**
+     * Adds the measurements of the request to the statistics of its action,
+     * and logs them if the request is slow.
+     */
+    private void recordMetrics(HttpServletRequest req, int statusCode, String actionClass) {
+        RequestMetrics metrics = RequestMetrics.finish();
+        if (metrics == null || actionClass == null) {
+            return;
+        }
+
+        long latency = RequestTracer.getTimeElapsedMillis();
+        ActionMetrics.inst().record(actionClass, statusCode, latency, metrics);
+
+        if (Config.SLOW_REQUEST_THRESHOLD > 0 && latency >= Config.SLOW_REQUEST_THRESHOLD) {
+            Map<String, Object> breakdown = metrics.toMap();
+            breakdown.put("otherTimeMillis", latency - metrics.getSqlTimeMillis() - metrics.getSolrTimeMillis()
+                    - metrics.getSerializationTimeMillis() - metrics.getResponseWriteTimeMillis());
+            log.warning(String.format("Slow request: %s %s handled by %s took %d ms with status %d, breakdown: %s",
+                    req.getMethod(), req.getRequestURI(), actionClass, latency, statusCode,
+                    JsonUtils.toCompactJson(breakdown)));
+        }
+    }
+
+    private ActionResult executeWithTransaction(Action action, HttpServletRequest req)
+            throws InvalidOperationException, InvalidHttpRequestBodyException, UnauthorizedAccessException {
+        try {
+            HibernateUtil.beginTransaction();
+            action.init(req);
+            action.checkAccessControl();
+
+            ActionResult result = action.execute();
+            HibernateUtil.commitTransaction();
+            return result;
+        } catch (Exception e) {
+            HibernateUtil.rollbackTransaction();
+            throw e;
+        }
+    }
+
+    private int sendErrorBasedOnRequester(HttpServletRequest req, ResultSender sender, Exception e, int statusCode)
+            throws IOException {
+        // The header X-AppEngine-QueueName cannot be spoofed as GAE will strip any user-sent X-AppEngine-QueueName headers.
+        // Reference: https://cloud.google.com/tasks/docs/creating-appengine-handlers#reading_app_engine_task_request_headers
+        boolean isRequestFromAppEngineQueue = req.getHeader("X-AppEngine-QueueName") != null;
+
+        if (isRequestFromAppEngineQueue) {
+            log.severe(e.getClass().getSimpleName() + " caught by " + executorName + ": " + e.getMessage(), e);
+
+            // Response status is not set to 4XX to 5XX to prevent the task queue retry mechanism because
+            // if the cause of the exception is improper request URL, no amount of retry is going to help.
+            // The action will be inaccurately marked as "success", but the severe log can be used
+            // to trace the origin of the problem.
+            return sendError(sender, HttpStatus.SC_ACCEPTED, e.getMessage());
+        } else {
+            log.warning(e.getClass().getSimpleName() + " caught by " + executorName + ": " + e.getMessage(), e);
+            return sendError(sender, statusCode, e.getMessage());
+        }
+    }
+
+    private int sendError(ResultSender sender, int statusCode, String message) throws IOException {
+        sender.send(new JsonResult(message, statusCode));
+        return statusCode;
+    }
+
+    /**
+     * Sends the result of an action as the response to its request.
+     */
+    @FunctionalInterface
+    public interface ResultSender {
+
+        /**
+         * Sends the given result.
+         */
+        void send(ActionResult result) throws IOException;
+
+    }
+
+}
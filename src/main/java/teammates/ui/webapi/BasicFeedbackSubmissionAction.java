@@ -1,17 +1,34 @@
 package teammates.ui.webapi;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionRecipient;
+import teammates.common.datatransfer.SqlCourseRoster;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
 import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
+import teammates.ui.request.FeedbackResponsesRequest;
+import teammates.ui.request.InvalidHttpRequestBodyException;
 
 /**
  * The basic action for feedback submission.
@@ -421,6 +438,15 @@ abstract class BasicFeedbackSubmissionAction extends Action {
     Section getRecipientSection(
             String courseId, FeedbackParticipantType giverType, FeedbackParticipantType recipientType,
             String recipientIdentifier) {
+        return getRecipientSection(courseId, giverType, recipientType, recipientIdentifier, null);
+    }
+
+    /**
+     * Gets the section of a recipient, looking it up in {@code courseRoster} instead of the database if given.
+     */
+    Section getRecipientSection(
+            String courseId, FeedbackParticipantType giverType, FeedbackParticipantType recipientType,
+            String recipientIdentifier, @Nullable SqlCourseRoster courseRoster) {
 
         switch (recipientType) {
         case SELF:
@@ -430,12 +456,10 @@ abstract class BasicFeedbackSubmissionAction extends Action {
                 return Const.DEFAULT_SQL_SECTION;
             case TEAMS:
             case TEAMS_IN_SAME_SECTION:
-                Section section = sqlLogic.getSectionByCourseIdAndTeam(courseId, recipientIdentifier);
-                return section == null ? Const.DEFAULT_SQL_SECTION : section;
+                return getSectionOfTeam(courseId, recipientIdentifier, courseRoster);
             case STUDENTS:
             case STUDENTS_IN_SAME_SECTION:
-                Student student = sqlLogic.getStudentForEmail(courseId, recipientIdentifier);
-                return student == null ? Const.DEFAULT_SQL_SECTION : student.getSection();
+                return getSectionOfStudent(courseId, recipientIdentifier, courseRoster);
             default:
                 assert false : "Invalid giver type " + giverType + " for recipient type " + recipientType;
                 return null;
@@ -447,27 +471,51 @@ abstract class BasicFeedbackSubmissionAction extends Action {
         case TEAMS_EXCLUDING_SELF:
         case TEAMS_IN_SAME_SECTION:
         case OWN_TEAM:
-            Section section = sqlLogic.getSectionByCourseIdAndTeam(courseId, recipientIdentifier);
-            return section == null ? Const.DEFAULT_SQL_SECTION : section;
+            return getSectionOfTeam(courseId, recipientIdentifier, courseRoster);
         case STUDENTS:
         case STUDENTS_EXCLUDING_SELF:
         case STUDENTS_IN_SAME_SECTION:
         case OWN_TEAM_MEMBERS:
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            Student student = sqlLogic.getStudentForEmail(courseId, recipientIdentifier);
-            return student == null ? Const.DEFAULT_SQL_SECTION : student.getSection();
+            return getSectionOfStudent(courseId, recipientIdentifier, courseRoster);
         default:
             assert false : "Unknown recipient type " + recipientType;
             return null;
         }
     }
 
+    private Section getSectionOfTeam(String courseId, String teamName, @Nullable SqlCourseRoster courseRoster) {
+        Section section;
+        if (courseRoster == null) {
+            section = sqlLogic.getSectionByCourseIdAndTeam(courseId, teamName);
+        } else {
+            List<Student> teamMembers = courseRoster.getTeamToMembersTable().get(teamName);
+            section = teamMembers == null || teamMembers.isEmpty() ? null : teamMembers.get(0).getSection();
+        }
+        return section == null ? Const.DEFAULT_SQL_SECTION : section;
+    }
+
+    private Section getSectionOfStudent(String courseId, String email, @Nullable SqlCourseRoster courseRoster) {
+        Student student = courseRoster == null
+                ? sqlLogic.getStudentForEmail(courseId, email) : courseRoster.getStudentForEmail(email);
+        return student == null ? Const.DEFAULT_SQL_SECTION : student.getSection();
+    }
+
     /**
      * Gets the section of a recipient.
      */
     String getDatastoreRecipientSection(
             String courseId, FeedbackParticipantType giverType, FeedbackParticipantType recipientType,
             String recipientIdentifier) {
+        return getDatastoreRecipientSection(courseId, giverType, recipientType, recipientIdentifier, null);
+    }
+
+    /**
+     * Gets the section of a recipient, looking it up in {@code courseRoster} instead of the database if given.
+     */
+    String getDatastoreRecipientSection(
+            String courseId, FeedbackParticipantType giverType, FeedbackParticipantType recipientType,
+            String recipientIdentifier, @Nullable CourseRoster courseRoster) {
         switch (recipientType) {
         case SELF:
             switch (giverType) {
@@ -476,11 +524,10 @@ abstract class BasicFeedbackSubmissionAction extends Action {
                 return Const.DEFAULT_SECTION;
             case TEAMS:
             case TEAMS_IN_SAME_SECTION:
-                return logic.getSectionForTeam(courseId, recipientIdentifier);
+                return getDatastoreSectionOfTeam(courseId, recipientIdentifier, courseRoster);
             case STUDENTS:
             case STUDENTS_IN_SAME_SECTION:
-                StudentAttributes student = logic.getStudentForEmail(courseId, recipientIdentifier);
-                return student == null ? Const.DEFAULT_SECTION : student.getSection();
+                return getDatastoreSectionOfStudent(courseId, recipientIdentifier, courseRoster);
             default:
                 assert false : "Invalid giver type " + giverType + " for recipient type " + recipientType;
                 return null;
@@ -492,18 +539,208 @@ abstract class BasicFeedbackSubmissionAction extends Action {
         case TEAMS_EXCLUDING_SELF:
         case TEAMS_IN_SAME_SECTION:
         case OWN_TEAM:
-            return logic.getSectionForTeam(courseId, recipientIdentifier);
+            return getDatastoreSectionOfTeam(courseId, recipientIdentifier, courseRoster);
         case STUDENTS:
         case STUDENTS_EXCLUDING_SELF:
         case STUDENTS_IN_SAME_SECTION:
         case OWN_TEAM_MEMBERS:
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            StudentAttributes student = logic.getStudentForEmail(courseId, recipientIdentifier);
-            return student == null ? Const.DEFAULT_SECTION : student.getSection();
+            return getDatastoreSectionOfStudent(courseId, recipientIdentifier, courseRoster);
         default:
             assert false : "Unknown recipient type " + recipientType;
             return null;
         }
     }
 
+    private String getDatastoreSectionOfTeam(String courseId, String teamName, @Nullable CourseRoster courseRoster) {
+        if (courseRoster == null) {
+            return logic.getSectionForTeam(courseId, teamName);
+        }
+        List<StudentAttributes> teamMembers = courseRoster.getTeamToMembersTable().get(teamName);
+        return teamMembers == null || teamMembers.isEmpty() ? Const.DEFAULT_SECTION : teamMembers.get(0).getSection();
+    }
+
+    private String getDatastoreSectionOfStudent(String courseId, String email, @Nullable CourseRoster courseRoster) {
+        StudentAttributes student = courseRoster == null
+                ? logic.getStudentForEmail(courseId, email) : courseRoster.getStudentForEmail(email);
+        return student == null ? Const.DEFAULT_SECTION : student.getSection();
+    }
+
+    /**
+     * Prepares the responses submitted by a giver to a question, which completely overwrite the responses
+     * previously given by the giver to the question.
+     *
+     * <p>The submitted responses are validated against the question, and the responses to create, update and delete
+     * are added to {@code changes}. Nothing is written to the database.
+     *
+     * @throws InvalidOperationException if a response is given to someone who is not a recipient of the question
+     * @throws InvalidHttpRequestBodyException if the responses are not valid for the question
+     */
+    void prepareResponsesToQuestion(
+            FeedbackQuestion feedbackQuestion, String giverIdentifier, Section giverSection,
+            List<FeedbackResponse> existingResponses, Map<String, FeedbackQuestionRecipient> recipientsOfTheQuestion,
+            FeedbackResponsesRequest responsesRequest, @Nullable SqlCourseRoster courseRoster,
+            ResponseChanges<FeedbackResponse, FeedbackResponse> changes)
+            throws InvalidOperationException, InvalidHttpRequestBodyException {
+        Map<String, FeedbackResponse> existingResponsesPerRecipient = new HashMap<>();
+        existingResponses.forEach(response -> existingResponsesPerRecipient.put(response.getRecipient(), response));
+
+        verifyRecipientsOfQuestion(responsesRequest, recipientsOfTheQuestion);
+
+        List<FeedbackResponseDetails> responseDetails = new ArrayList<>();
+        for (FeedbackResponsesRequest.FeedbackResponseRequest responseRequest : responsesRequest.getResponses()) {
+            String recipient = responseRequest.getRecipient();
+            Section recipientSection = getRecipientSection(feedbackQuestion.getCourseId(),
+                    feedbackQuestion.getGiverType(), feedbackQuestion.getRecipientType(), recipient, courseRoster);
+
+            FeedbackResponse feedbackResponse;
+            if (existingResponsesPerRecipient.containsKey(recipient)) {
+                feedbackResponse = FeedbackResponse.updateResponse(
+                        existingResponsesPerRecipient.get(recipient),
+                        feedbackQuestion,
+                        giverIdentifier,
+                        giverSection,
+                        recipient,
+                        recipientSection,
+                        responseRequest.getResponseDetails());
+                changes.responsesToUpdate.add(feedbackResponse);
+            } else {
+                feedbackResponse = FeedbackResponse.makeResponse(
+                        feedbackQuestion,
+                        giverIdentifier,
+                        giverSection,
+                        recipient,
+                        recipientSection,
+                        responseRequest.getResponseDetails());
+                changes.responsesToCreate.add(feedbackResponse);
+            }
+            responseDetails.add(feedbackResponse.getFeedbackResponseDetailsCopy());
+        }
+
+        validateResponseDetails(feedbackQuestion.getQuestionDetailsCopy(),
+                feedbackQuestion.getNumOfEntitiesToGiveFeedbackTo(), recipientsOfTheQuestion.size(), responseDetails);
+
+        List<String> recipients = responsesRequest.getRecipients();
+        existingResponsesPerRecipient.entrySet().stream()
+                .filter(entry -> !recipients.contains(entry.getKey()))
+                .forEach(entry -> changes.responsesToDelete.add(entry.getValue()));
+    }
+
+    /**
+     * Prepares the responses submitted by a giver to a question, which completely overwrite the responses
+     * previously given by the giver to the question.
+     *
+     * @see #prepareResponsesToQuestion
+     */
+    void prepareDatastoreResponsesToQuestion(
+            FeedbackQuestionAttributes feedbackQuestion, String giverIdentifier, String giverSection,
+            List<FeedbackResponseAttributes> existingResponses,
+            Map<String, FeedbackQuestionRecipient> recipientsOfTheQuestion,
+            FeedbackResponsesRequest responsesRequest, @Nullable CourseRoster courseRoster,
+            ResponseChanges<FeedbackResponseAttributes, FeedbackResponseAttributes.UpdateOptions> changes)
+            throws InvalidOperationException, InvalidHttpRequestBodyException {
+        Map<String, FeedbackResponseAttributes> existingResponsesPerRecipient = new HashMap<>();
+        existingResponses.forEach(response -> existingResponsesPerRecipient.put(response.getRecipient(), response));
+
+        verifyRecipientsOfQuestion(responsesRequest, recipientsOfTheQuestion);
+
+        List<FeedbackResponseAttributes> feedbackResponsesToValidate = new ArrayList<>();
+        for (FeedbackResponsesRequest.FeedbackResponseRequest responseRequest : responsesRequest.getResponses()) {
+            String recipient = responseRequest.getRecipient();
+            FeedbackResponseDetails responseDetails = responseRequest.getResponseDetails();
+            String recipientSection = getDatastoreRecipientSection(feedbackQuestion.getCourseId(),
+                    feedbackQuestion.getGiverType(), feedbackQuestion.getRecipientType(), recipient, courseRoster);
+
+            if (existingResponsesPerRecipient.containsKey(recipient)) {
+                FeedbackResponseAttributes updatedResponse =
+                        new FeedbackResponseAttributes(existingResponsesPerRecipient.get(recipient));
+                FeedbackResponseAttributes.UpdateOptions updateOptions =
+                        FeedbackResponseAttributes.updateOptionsBuilder(updatedResponse.getId())
+                                .withGiver(giverIdentifier)
+                                .withGiverSection(giverSection)
+                                .withRecipient(recipient)
+                                .withRecipientSection(recipientSection)
+                                .withResponseDetails(responseDetails)
+                                .build();
+                updatedResponse.update(updateOptions);
+
+                feedbackResponsesToValidate.add(updatedResponse);
+                changes.responsesToUpdate.add(updateOptions);
+            } else {
+                FeedbackResponseAttributes feedbackResponse = FeedbackResponseAttributes
+                        .builder(feedbackQuestion.getId(), giverIdentifier, recipient)
+                        .withGiverSection(giverSection)
+                        .withRecipientSection(recipientSection)
+                        .withCourseId(feedbackQuestion.getCourseId())
+                        .withFeedbackSessionName(feedbackQuestion.getFeedbackSessionName())
+                        .withResponseDetails(responseDetails)
+                        .build();
+
+                feedbackResponsesToValidate.add(feedbackResponse);
+                changes.responsesToCreate.add(feedbackResponse);
+            }
+        }
+
+        List<FeedbackResponseDetails> responseDetails = feedbackResponsesToValidate.stream()
+                .map(FeedbackResponseAttributes::getResponseDetailsCopy)
+                .collect(Collectors.toList());
+        validateResponseDetails(feedbackQuestion.getQuestionDetailsCopy(),
+                feedbackQuestion.getNumberOfEntitiesToGiveFeedbackTo(), recipientsOfTheQuestion.size(), responseDetails);
+
+        List<String> recipients = responsesRequest.getRecipients();
+        existingResponsesPerRecipient.entrySet().stream()
+                .filter(entry -> !recipients.contains(entry.getKey()))
+                .forEach(entry -> changes.responsesToDelete.add(entry.getValue()));
+    }
+
+    private void verifyRecipientsOfQuestion(FeedbackResponsesRequest responsesRequest,
+            Map<String, FeedbackQuestionRecipient> recipientsOfTheQuestion) throws InvalidOperationException {
+        for (String recipient : responsesRequest.getRecipients()) {
+            if (!recipientsOfTheQuestion.containsKey(recipient)) {
+                throw new InvalidOperationException(
+                        "The recipient " + recipient + " is not a valid recipient of the question");
+            }
+        }
+    }
+
+    private void validateResponseDetails(FeedbackQuestionDetails questionDetails, int numOfEntitiesToGiveFeedbackTo,
+            int numRecipientsOfTheQuestion, List<FeedbackResponseDetails> responseDetails)
+            throws InvalidHttpRequestBodyException {
+        int numRecipients = numOfEntitiesToGiveFeedbackTo;
+        if (numRecipients == Const.MAX_POSSIBLE_RECIPIENTS
+                || numRecipients > numRecipientsOfTheQuestion) {
+            numRecipients = numRecipientsOfTheQuestion;
+        }
+
+        List<String> questionSpecificErrors = questionDetails.validateResponsesDetails(responseDetails, numRecipients);
+
+        if (!questionSpecificErrors.isEmpty()) {
+            throw new InvalidHttpRequestBodyException(questionSpecificErrors.toString());
+        }
+    }
+
+    /**
+     * Represents the changes to the responses of a giver prepared from a submission, to be written together.
+     *
+     * @param <R> the type of the responses
+     * @param <U> the type of the updates to the responses
+     */
+    static final class ResponseChanges<R, U> {
+        private final List<R> responsesToCreate = new ArrayList<>();
+        private final List<U> responsesToUpdate = new ArrayList<>();
+        private final List<R> responsesToDelete = new ArrayList<>();
+
+        List<R> getResponsesToCreate() {
+            return responsesToCreate;
+        }
+
+        List<U> getResponsesToUpdate() {
+            return responsesToUpdate;
+        }
+
+        List<R> getResponsesToDelete() {
+            return responsesToDelete;
+        }
+    }
+
 }
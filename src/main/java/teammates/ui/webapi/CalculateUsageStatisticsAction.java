@@ -2,6 +2,7 @@ package teammates.ui.webapi;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
 
 import teammates.common.datatransfer.attributes.UsageStatisticsAttributes;
 import teammates.common.datatransfer.logs.LogEvent;
@@ -24,12 +25,14 @@ public class CalculateUsageStatisticsAction extends AdminOnlyAction {
         Instant endTime = TimeHelper.getInstantNearestHourBefore(Instant.now());
         Instant startTime = endTime.minus(COLLECTION_TIME_PERIOD, ChronoUnit.MINUTES);
 
-        UsageStatisticsAttributes entitiesStats = logic.calculateEntitiesStatisticsForTimeRange(startTime, endTime);
+        Supplier<UsageStatisticsAttributes> entitiesStatsRead = dualStoreReader.startDatastoreRead(
+                () -> logic.calculateEntitiesStatisticsForTimeRange(startTime, endTime));
         UsageStatistics sqlEntitiesStats = sqlLogic.calculateEntitiesStatisticsForTimeRange(startTime, endTime);
 
         int numEmailsSent = logsProcessor.getNumberOfLogsForEvent(startTime, endTime, LogEvent.EMAIL_SENT, "");
         int numSubmissions = logsProcessor.getNumberOfLogsForEvent(startTime, endTime, LogEvent.FEEDBACK_SESSION_AUDIT,
                 "jsonPayload.accessType=\"submission\"");
+        UsageStatisticsAttributes entitiesStats = entitiesStatsRead.get();
 
         UsageStatistics overallUsageStats = new UsageStatistics(
                 startTime, COLLECTION_TIME_PERIOD,
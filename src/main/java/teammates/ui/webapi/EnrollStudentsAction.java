@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.StudentEnrollmentResults;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EnrollException;
@@ -84,55 +85,18 @@ public class EnrollStudentsAction extends Action {
                 throw new InvalidOperationException(e);
             }
 
-            List<Student> enrolledStudents = new ArrayList<>();
-            List<EnrollStudentsData.EnrollErrorResults> failToEnrollStudents = new ArrayList<>();
-            Set<String> existingStudentsEmail;
-
-            List<Student> existingStudents = sqlLogic.getStudentsForCourse(courseId);
-            existingStudentsEmail =
-                    existingStudents.stream().map(Student::getEmail).collect(Collectors.toSet());
-
-            for (StudentsEnrollRequest.StudentEnrollRequest enrollRequest : studentEnrollRequests) {
-                RequestTracer.checkRemainingTime();
-                if (existingStudentsEmail.contains(enrollRequest.getEmail())) {
-                    // The student has been enrolled in the course.
-                    try {
-                        Section section = sqlLogic.getSectionOrCreate(courseId, enrollRequest.getSection());
-                        Team team = sqlLogic.getTeamOrCreate(section, enrollRequest.getTeam());
-                        Student newStudent = new Student(
-                                course, enrollRequest.getName(),
-                                enrollRequest.getEmail(), enrollRequest.getComments(), team);
-                        newStudent.setId(sqlLogic.getStudentForEmail(courseId, enrollRequest.getEmail()).getId());
-                        Student updatedStudent = sqlLogic.updateStudentCascade(newStudent);
-                        taskQueuer.scheduleStudentForSearchIndexing(
-                                updatedStudent.getCourseId(), updatedStudent.getEmail());
-                        enrolledStudents.add(updatedStudent);
-                    } catch (InvalidParametersException | EntityDoesNotExistException
-                            | EntityAlreadyExistsException exception) {
-                        // Unsuccessfully enrolled students will not be returned.
-                        failToEnrollStudents.add(new EnrollStudentsData.EnrollErrorResults(enrollRequest.getEmail(),
-                                exception.getMessage()));
-                    }
-                } else {
-                    // The student is new.
-                    try {
-                        Section section = sqlLogic.getSectionOrCreate(courseId, enrollRequest.getSection());
-                        Team team = sqlLogic.getTeamOrCreate(section, enrollRequest.getTeam());
-                        Student newStudent = new Student(
-                                course, enrollRequest.getName(),
-                                enrollRequest.getEmail(), enrollRequest.getComments(), team);
-                        newStudent = sqlLogic.createStudent(newStudent);
-                        taskQueuer.scheduleStudentForSearchIndexing(
-                                newStudent.getCourseId(), newStudent.getEmail());
-                        enrolledStudents.add(newStudent);
-                    } catch (InvalidParametersException | EntityAlreadyExistsException exception) {
-                        // Unsuccessfully enrolled students will not be returned.
-                        failToEnrollStudents.add(new EnrollStudentsData.EnrollErrorResults(enrollRequest.getEmail(),
-                                exception.getMessage()));
-                    }
-                }
+            StudentEnrollmentResults enrollmentResults = sqlLogic.enrollStudents(course, studentsToEnroll);
+            List<Student> enrolledStudents = enrollmentResults.getEnrolledStudents();
+            if (!enrolledStudents.isEmpty()) {
+                taskQueuer.scheduleStudentsForSearchIndexing(courseId,
+                        enrolledStudents.stream().map(Student::getEmail).collect(Collectors.toList()));
             }
 
+            // Unsuccessfully enrolled students will not be returned.
+            List<EnrollStudentsData.EnrollErrorResults> failToEnrollStudents = new ArrayList<>();
+            enrollmentResults.getEnrollmentErrors().forEach((email, errorMessage) ->
+                    failToEnrollStudents.add(new EnrollStudentsData.EnrollErrorResults(email, errorMessage)));
+
             List<StudentData> studentDataList = enrolledStudents
                     .stream()
                     .map(StudentData::new)
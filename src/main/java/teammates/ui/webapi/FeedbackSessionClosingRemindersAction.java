@@ -4,12 +4,14 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.DeadlineExtensionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
@@ -31,9 +33,11 @@ public class FeedbackSessionClosingRemindersAction extends AdminOnlyAction {
 
         for (FeedbackSession session : sessions) {
             RequestTracer.checkRemainingTime();
-            List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionClosingEmails(session);
             try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+                // the emails are generated and sent by the chunk workers, a chunk of recipients at a time
+                session.setClosingSoonEmailCheckpoint("");
+                taskQueuer.scheduleFeedbackSessionReminderEmailsChunk(session.getCourse().getId(), session.getName(),
+                        EmailType.FEEDBACK_CLOSING, "");
                 session.setClosingSoonEmailSent(true);
             } catch (Exception e) {
                 log.severe("Unexpected error", e);
@@ -72,8 +76,11 @@ public class FeedbackSessionClosingRemindersAction extends AdminOnlyAction {
     private void executeForDatastoreFeedbackSessions() {
         List<FeedbackSessionAttributes> sessions = logic.getFeedbackSessionsClosingWithinTimeLimit();
 
+        Set<String> migratedCourseIds = getMigratedCourseIds(sessions.stream()
+                .map(FeedbackSessionAttributes::getCourseId)
+                .collect(Collectors.toSet()));
         for (FeedbackSessionAttributes session : sessions) {
-            if (isCourseMigrated(session.getCourseId())) {
+            if (migratedCourseIds.contains(session.getCourseId())) {
                 continue;
             }
 
@@ -100,9 +107,12 @@ public class FeedbackSessionClosingRemindersAction extends AdminOnlyAction {
                         .collect(Collectors.groupingBy(de -> de.getCourseId() + "%" + de.getFeedbackSessionName()))
                         .values();
 
+        Set<String> migratedCourseIds = getMigratedCourseIds(groupedDeadlineExtensionsAttributes.stream()
+                .map(deadlineExtensions -> deadlineExtensions.get(0).getCourseId())
+                .collect(Collectors.toSet()));
         for (var deadlineExtensions : groupedDeadlineExtensionsAttributes) {
             String courseId = deadlineExtensions.get(0).getCourseId();
-            if (isCourseMigrated(courseId)) {
+            if (migratedCourseIds.contains(courseId)) {
                 continue;
             }
 
@@ -1,8 +1,11 @@
 package teammates.ui.webapi;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
@@ -19,9 +22,12 @@ public class FeedbackSessionOpeningRemindersAction extends AdminOnlyAction {
     public JsonResult execute() {
         List<FeedbackSessionAttributes> sessionAttributes = logic.getFeedbackSessionsWhichNeedOpenEmailsToBeSent();
 
+        Set<String> migratedCourseIds = getMigratedCourseIds(sessionAttributes.stream()
+                .map(FeedbackSessionAttributes::getCourseId)
+                .collect(Collectors.toSet()));
         for (FeedbackSessionAttributes session : sessionAttributes) {
             // If course has been migrated, use sql email logic instead.
-            if (isCourseMigrated(session.getCourseId())) {
+            if (migratedCourseIds.contains(session.getCourseId())) {
                 continue;
             }
 
@@ -43,9 +49,11 @@ public class FeedbackSessionOpeningRemindersAction extends AdminOnlyAction {
 
         for (FeedbackSession session : sessions) {
             RequestTracer.checkRemainingTime();
-            List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionOpeningEmails(session);
             try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+                // the emails are generated and sent by the chunk workers, a chunk of recipients at a time
+                session.setOpenEmailCheckpoint("");
+                taskQueuer.scheduleFeedbackSessionReminderEmailsChunk(session.getCourse().getId(), session.getName(),
+                        EmailType.FEEDBACK_OPENING, "");
                 session.setOpenEmailSent(true);
             } catch (Exception e) {
                 log.severe("Unexpected error", e);
@@ -1,6 +1,8 @@
 package teammates.ui.webapi;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.RequestTracer;
@@ -15,9 +17,12 @@ public class FeedbackSessionPublishedRemindersAction extends AdminOnlyAction {
     public JsonResult execute() {
         List<FeedbackSessionAttributes> sessionAttributes =
                 logic.getFeedbackSessionsWhichNeedAutomatedPublishedEmailsToBeSent();
+        Set<String> migratedCourseIds = getMigratedCourseIds(sessionAttributes.stream()
+                .map(FeedbackSessionAttributes::getCourseId)
+                .collect(Collectors.toSet()));
         for (FeedbackSessionAttributes session : sessionAttributes) {
             // If course has been migrated, use sql email logic instead.
-            if (isCourseMigrated(session.getCourseId())) {
+            if (migratedCourseIds.contains(session.getCourseId())) {
                 continue;
             }
 
@@ -0,0 +1,109 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.util.EmailSendingStatus;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.ui.request.FeedbackSessionReminderEmailsChunkRequest;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+
+/**
+ * Task queue worker action: generates and sends the opening or closing emails of a feedback session
+ * to the next chunk of its recipients, then schedules the chunk after it.
+ *
+ * <p>The key of the last recipient of a chunk is checkpointed on the session before the emails of the chunk
+ * are sent. The checkpoint is moved with a conditional update that only succeeds if it is still at the start
+ * of the chunk, so that a retried or duplicated task does not send the same emails again.
+ */
+public class FeedbackSessionReminderEmailsChunkWorkerAction extends AdminOnlyAction {
+
+    static final int CHUNK_SIZE = 100;
+
+    private static final Logger log = Logger.getLogger();
+
+    // leaves enough time to schedule the unsent emails of the chunk before the request times out
+    private static final long MIN_REMAINING_TIME_MILLIS = 30 * 1000;
+
+    @Override
+    public JsonResult execute() throws InvalidHttpRequestBodyException {
+        FeedbackSessionReminderEmailsChunkRequest chunkRequest =
+                getAndValidateRequestBody(FeedbackSessionReminderEmailsChunkRequest.class);
+        String courseId = chunkRequest.getCourseId();
+        String feedbackSessionName = chunkRequest.getFeedbackSessionName();
+        EmailType emailType = chunkRequest.getEmailType();
+
+        FeedbackSession session = sqlLogic.getFeedbackSession(feedbackSessionName, courseId);
+        if (session == null) {
+            log.severe("Feedback session object for feedback session name: " + feedbackSessionName
+                    + " for course: " + courseId + " could not be fetched.");
+            return new JsonResult("Failure");
+        }
+
+        String lastRecipientKey = chunkRequest.getLastRecipientKey();
+        String checkpoint = getCheckpoint(session, emailType);
+        if (checkpoint == null) {
+            // the transaction scheduling the first chunk has not been committed yet; retry the task later
+            return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
+        }
+        if (!lastRecipientKey.equals(checkpoint)) {
+            // the chunk has already been sent by an earlier attempt, or the sending has been restarted since
+            log.info("Skipping outdated " + emailType + " emails chunk for feedback session: " + feedbackSessionName
+                    + " for course: " + courseId);
+            return new JsonResult("Successful");
+        }
+
+        Map<String, EmailWrapper> emailsByRecipientKey = sqlEmailGenerator
+                .generateFeedbackSessionOpeningOrClosingEmails(session, emailType, lastRecipientKey, CHUNK_SIZE);
+        if (emailsByRecipientKey.isEmpty()) {
+            return new JsonResult("Successful");
+        }
+
+        List<String> recipientKeys = new ArrayList<>(emailsByRecipientKey.keySet());
+        String chunkEndRecipientKey = recipientKeys.get(recipientKeys.size() - 1);
+        // a concurrent task for the same chunk waits for this claim to be committed, then fails to claim the chunk
+        if (!sqlLogic.claimOpeningOrClosingEmailsChunk(session, emailType, lastRecipientKey, chunkEndRecipientKey)) {
+            log.info("Skipping " + emailType + " emails chunk claimed by another task for feedback session: "
+                    + feedbackSessionName + " for course: " + courseId);
+            return new JsonResult("Successful");
+        }
+        if (emailsByRecipientKey.size() == CHUNK_SIZE) {
+            taskQueuer.scheduleFeedbackSessionReminderEmailsChunk(courseId, feedbackSessionName, emailType,
+                    chunkEndRecipientKey);
+        }
+
+        List<EmailWrapper> emails = new ArrayList<>(emailsByRecipientKey.values());
+        for (int i = 0; i < emails.size(); i++) {
+            if (!RequestTracer.hasRemainingTimeMillis(MIN_REMAINING_TIME_MILLIS)) {
+                // the chunk has been claimed, so the rest of its emails are sent through the email queue instead
+                taskQueuer.scheduleEmailsForSending(emails.subList(i, emails.size()));
+                break;
+            }
+            sendEmail(emails.get(i));
+        }
+        return new JsonResult("Successful");
+    }
+
+    private void sendEmail(EmailWrapper email) {
+        EmailSendingStatus status = emailSender.sendEmail(email);
+        if (!status.isSuccess()) {
+            // retry the email on its own so that the rest of the chunk is not held up
+            taskQueuer.scheduleEmailsForSending(Collections.singletonList(email));
+        }
+    }
+
+    private String getCheckpoint(FeedbackSession session, EmailType emailType) {
+        return emailType == EmailType.FEEDBACK_OPENING
+                ? session.getOpenEmailCheckpoint()
+                : session.getClosingSoonEmailCheckpoint();
+    }
+
+}
@@ -120,8 +120,11 @@ public class GetCoursesAction extends Action {
             throw new InvalidHttpParameterException("Error: invalid course status");
         }
 
+        Set<String> migratedCourseIds = getMigratedCourseIds(courses.stream()
+                .map(CourseAttributes::getId)
+                .collect(Collectors.toSet()));
         courses = courses.stream()
-                .filter(course -> !isCourseMigrated(course.getId()))
+                .filter(course -> !migratedCourseIds.contains(course.getId()))
                 .collect(Collectors.toList());
 
         Map<String, InstructorAttributes> courseIdToInstructor = new HashMap<>();
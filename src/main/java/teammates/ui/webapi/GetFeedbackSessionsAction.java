@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.InstructorPermissionSet;
@@ -91,30 +92,23 @@ public class GetFeedbackSessionsAction extends Action {
 
         if (courseId == null) {
             if (entityType.equals(Const.EntityType.STUDENT)) {
+                Supplier<DataStoreFeedbackSessions> dataStoreSessionsRead =
+                        dualStoreReader.startDatastoreRead(this::getDataStoreFeedbackSessionsForStudent);
                 List<Student> students = sqlLogic.getStudentsByGoogleId(userInfo.getId());
+                List<String> studentCourseIds = new ArrayList<>();
                 for (Student student : students) {
-                    String studentCourseId = student.getCourse().getId();
-                    String emailAddress = student.getEmail();
-
-                    studentEmails.add(emailAddress);
-                    List<FeedbackSession> sessions = sqlLogic.getFeedbackSessionsForCourse(studentCourseId);
-                    feedbackSessions.addAll(sessions);
+                    studentCourseIds.add(student.getCourse().getId());
+                    studentEmails.add(student.getEmail());
                 }
-                List<StudentAttributes> dataStoreStudents = logic.getStudentsForGoogleId(userInfo.getId());
-                for (StudentAttributes student : dataStoreStudents) {
-                    String studentCourseId = student.getCourse();
-                    String emailAddress = student.getEmail();
-
-                    studentEmails.add(emailAddress);
-                    List<FeedbackSessionAttributes> sessions = logic.getFeedbackSessionsForCourse(studentCourseId);
-                    sessions = sessions.stream()
-                            .map(session -> session.getCopyForStudent(emailAddress))
-                            .collect(Collectors.toList());
+                feedbackSessions = sqlLogic.getVisibleFeedbackSessionsForCourses(studentCourseIds);
 
-                    feedbackSessionAttributes.addAll(sessions);
-                }
+                DataStoreFeedbackSessions dataStoreSessions = dataStoreSessionsRead.get();
+                studentEmails.addAll(dataStoreSessions.studentEmails);
+                feedbackSessionAttributes = dataStoreSessions.sessions;
             } else if (entityType.equals(Const.EntityType.INSTRUCTOR)) {
                 boolean isInRecycleBin = getBooleanRequestParamValue(Const.ParamsNames.IS_IN_RECYCLE_BIN);
+                Supplier<DataStoreFeedbackSessions> dataStoreSessionsRead = dualStoreReader.startDatastoreRead(
+                        () -> getDataStoreFeedbackSessionsForInstructor(isInRecycleBin));
 
                 instructors = sqlLogic.getInstructorsForGoogleId(userInfo.getId());
 
@@ -124,13 +118,9 @@ public class GetFeedbackSessionsAction extends Action {
                     feedbackSessions = sqlLogic.getFeedbackSessionsForInstructors(instructors);
                 }
 
-                dataStoreInstructors = logic.getInstructorsForGoogleId(userInfo.getId(), true);
-
-                if (isInRecycleBin) {
-                    feedbackSessionAttributes = logic.getSoftDeletedFeedbackSessionsListForInstructors(dataStoreInstructors);
-                } else {
-                    feedbackSessionAttributes = logic.getFeedbackSessionsListForInstructor(dataStoreInstructors);
-                }
+                DataStoreFeedbackSessions dataStoreSessions = dataStoreSessionsRead.get();
+                dataStoreInstructors = dataStoreSessions.instructors;
+                feedbackSessionAttributes = dataStoreSessions.sessions;
             }
         } else {
             if (isCourseMigrated(courseId)) {
@@ -206,4 +196,44 @@ public class GetFeedbackSessionsAction extends Action {
         }
         return new JsonResult(responseData);
     }
+
+    private DataStoreFeedbackSessions getDataStoreFeedbackSessionsForStudent() {
+        DataStoreFeedbackSessions dataStoreSessions = new DataStoreFeedbackSessions();
+        List<StudentAttributes> dataStoreStudents = logic.getStudentsForGoogleId(userInfo.getId());
+        for (StudentAttributes student : dataStoreStudents) {
+            String studentCourseId = student.getCourse();
+            String emailAddress = student.getEmail();
+
+            dataStoreSessions.studentEmails.add(emailAddress);
+            List<FeedbackSessionAttributes> sessions = logic.getFeedbackSessionsForCourse(studentCourseId);
+            sessions = sessions.stream()
+                    .map(session -> session.getCopyForStudent(emailAddress))
+                    .collect(Collectors.toList());
+
+            dataStoreSessions.sessions.addAll(sessions);
+        }
+        return dataStoreSessions;
+    }
+
+    private DataStoreFeedbackSessions getDataStoreFeedbackSessionsForInstructor(boolean isInRecycleBin) {
+        DataStoreFeedbackSessions dataStoreSessions = new DataStoreFeedbackSessions();
+        dataStoreSessions.instructors = logic.getInstructorsForGoogleId(userInfo.getId(), true);
+
+        if (isInRecycleBin) {
+            dataStoreSessions.sessions =
+                    logic.getSoftDeletedFeedbackSessionsListForInstructors(dataStoreSessions.instructors);
+        } else {
+            dataStoreSessions.sessions = logic.getFeedbackSessionsListForInstructor(dataStoreSessions.instructors);
+        }
+        return dataStoreSessions;
+    }
+
+    /**
+     * The feedback sessions read from the datastore, along with the users they are read for.
+     */
+    private static class DataStoreFeedbackSessions {
+        private List<FeedbackSessionAttributes> sessions = new ArrayList<>();
+        private List<InstructorAttributes> instructors = new ArrayList<>();
+        private final List<String> studentEmails = new ArrayList<>();
+    }
 }
@@ -1,12 +1,17 @@
 package teammates.ui.webapi;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.http.HttpHeaders;
+
 import teammates.common.datatransfer.NotificationTargetUser;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
 import teammates.storage.sqlentity.Notification;
 import teammates.ui.output.NotificationsData;
 
@@ -41,7 +46,7 @@ public class GetNotificationsAction extends Action {
     }
 
     @Override
-    public JsonResult execute() {
+    public ActionResult execute() {
         String targetUserString = getRequestParamValue(Const.ParamsNames.NOTIFICATION_TARGET_USER);
         List<Notification> notifications;
 
@@ -60,7 +65,7 @@ public class GetNotificationsAction extends Action {
                 throw new InvalidHttpParameterException(INVALID_TARGET_USER);
             }
             notifications =
-                    sqlLogic.getActiveNotificationsByTargetUser(targetUser);
+                    sqlLogic.getActiveNotificationsSnapshot(targetUser);
         }
 
         boolean isFetchingAll = false;
@@ -69,27 +74,43 @@ public class GetNotificationsAction extends Action {
         }
 
         if (isFetchingAll) {
-            return new JsonResult(new NotificationsData(notifications));
+            return createResultWithEntityTag(new NotificationsData(notifications));
         }
 
         // Filter unread notifications
-        List<UUID> readNotifications = sqlLogic.getReadNotificationsId(userInfo.getId());
+        Set<UUID> readNotificationIds = sqlLogic.getReadNotificationIds(userInfo.getId());
         notifications = notifications
                 .stream()
-                .filter(n -> !readNotifications.contains(n.getId()))
+                .filter(n -> !readNotificationIds.contains(n.getId()))
                 .collect(Collectors.toList());
+        NotificationsData output = new NotificationsData(notifications);
 
         if (userInfo.isAdmin) {
-            return new JsonResult(new NotificationsData(notifications));
+            return createResultWithEntityTag(output);
         }
 
         // Update shown attribute once a non-admin user fetches unread notifications
-        for (Notification n : notifications) {
-            if (n.isShown()) {
-                continue;
-            }
-            n.setShown();
+        List<UUID> notShownNotificationIds = notifications
+                .stream()
+                .filter(n -> !n.isShown())
+                .map(Notification::getId)
+                .collect(Collectors.toList());
+        if (!notShownNotificationIds.isEmpty()) {
+            sqlLogic.markNotificationsShown(notShownNotificationIds);
+            output.getNotifications().forEach(n -> n.setShown(true));
+        }
+        return createResultWithEntityTag(output);
+    }
+
+    /**
+     * Returns the output tagged with a hash of its content,
+     * or a {@link NotModifiedResult} if the client already has the same output.
+     */
+    private ActionResult createResultWithEntityTag(NotificationsData output) {
+        String entityTag = "\"" + DigestUtils.md5Hex(JsonUtils.toCompactJson(output)) + "\"";
+        if (NotModifiedResult.isMatching(req.getHeader(HttpHeaders.IF_NONE_MATCH), entityTag)) {
+            return new NotModifiedResult(entityTag);
         }
-        return new JsonResult(new NotificationsData(notifications));
+        return new JsonResult(output, entityTag);
     }
 }
@@ -5,6 +5,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -33,10 +35,12 @@ public class GetOngoingSessionsAction extends AdminOnlyAction {
         validateTimeParameters(startTime, endTime);
         Instant rangeStart = Instant.ofEpochMilli(startTime);
         Instant rangeEnd = Instant.ofEpochMilli(endTime);
+        Supplier<List<FeedbackSessionAttributes>> allOngoingSessionsRead =
+                dualStoreReader.startDatastoreRead(() -> logic.getAllOngoingSessions(rangeStart, rangeEnd));
         List<FeedbackSession> ongoingSqlSessions = sqlLogic.getOngoingSessions(rangeStart, rangeEnd);
         Map<String, List<FeedbackSession>> courseIdToFeedbackSessionsSqlMap =
                 createCourseIdToFeedbackSessionsSqlMap(ongoingSqlSessions);
-        List<FeedbackSessionAttributes> allOngoingSessions = logic.getAllOngoingSessions(rangeStart, rangeEnd);
+        List<FeedbackSessionAttributes> allOngoingSessions = allOngoingSessionsRead.get();
         Map<String, List<FeedbackSessionAttributes>> courseIdToFeedbackSessionsMap =
                 createCourseIdToFeedbackSessionsMap(allOngoingSessions, courseIdToFeedbackSessionsSqlMap);
         Map<String, List<OngoingSession>> instituteToFeedbackSessionsSqlMap =
@@ -85,9 +89,12 @@ public class GetOngoingSessionsAction extends AdminOnlyAction {
     private Map<String, List<FeedbackSession>> createCourseIdToFeedbackSessionsSqlMap(
             List<FeedbackSession> ongoingSqlSessions) {
         Map<String, List<FeedbackSession>> courseIdToFeedbackSessionsSqlMap = new HashMap<>();
+        Set<String> migratedCourseIds = getMigratedCourseIds(ongoingSqlSessions.stream()
+                .map(fs -> fs.getCourse().getId())
+                .collect(Collectors.toSet()));
         for (FeedbackSession fs : ongoingSqlSessions) {
             String courseId = fs.getCourse().getId();
-            if (!isCourseMigrated(courseId)) {
+            if (!migratedCourseIds.contains(courseId)) {
                 continue;
             }
             courseIdToFeedbackSessionsSqlMap.computeIfAbsent(courseId, k -> new ArrayList<>()).add(fs);
@@ -1,15 +1,23 @@
 package teammates.ui.webapi;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.SqlSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
+import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Student;
@@ -123,20 +131,87 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
 
         Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
 
+        boolean isStatisticsOnly = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_STATISTICS_ONLY) != null
+                && getBooleanRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_STATISTICS_ONLY);
+        if (isStatisticsOnly && intent != Intent.FULL_DETAIL) {
+            throw new InvalidHttpParameterException("Statistics only results are only available for intent "
+                    + Intent.FULL_DETAIL);
+        }
+
         if (isCourseMigrated(courseId)) {
-            if (questionId != null) {
-                UUID questionUuid = getUuidRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
-                executeWithSql(courseId, feedbackSessionName, questionUuid,
-                        selectedSection, fetchType, intent, isPreviewResults);
+            if (isStatisticsOnly) {
+                UUID questionUuid = questionId == null
+                        ? null : getUuidRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
+                return executeStatisticsOnlyWithSql(courseId, feedbackSessionName, questionUuid,
+                        selectedSection, fetchType);
             }
-            return executeWithSql(courseId, feedbackSessionName, null, selectedSection,
+            UUID questionUuid = questionId == null
+                    ? null : getUuidRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
+            return executeWithSql(courseId, feedbackSessionName, questionUuid, selectedSection,
                     fetchType, intent, isPreviewResults);
         } else {
+            if (isStatisticsOnly) {
+                InstructorAttributes instructor = logic.getInstructorForGoogleId(courseId, userInfo.id);
+                SessionResultsBundle bundle = logic.getSessionResultsForCourse(feedbackSessionName, courseId,
+                        instructor.getEmail(), questionId, selectedSection, fetchType);
+                return new JsonResult(SessionResultsData.initForStatistics(bundle));
+            }
             return executeWithDatastore(courseId, feedbackSessionName, questionId, selectedSection,
                     fetchType, intent, isPreviewResults);
         }
     }
 
+    /**
+     * Gets the statistics of the questions of a session without the individual responses.
+     *
+     * <p>If the instructor can view the responses in all sections and no section filter is applied,
+     * the statistics of each question are aggregated over all its responses, and are maintained in memory
+     * as responses are submitted. Otherwise, they are computed from the responses viewable by the instructor.
+     */
+    private JsonResult executeStatisticsOnlyWithSql(String courseId, String feedbackSessionName,
+            UUID questionUuid, String selectedSection, FeedbackResultFetchType fetchType) {
+        FeedbackSession feedbackSession = getNonNullSqlFeedbackSession(feedbackSessionName, courseId);
+        Instructor instructor = getSqlInstructorOfCourseFromRequest(courseId);
+
+        if (selectedSection != null || !instructor.isAllowedForPrivilegeAllSections(feedbackSessionName,
+                Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS)) {
+            SqlSessionResultsBundle bundle = sqlLogic.getSessionResultsForCourse(feedbackSession, courseId,
+                    instructor.getEmail(), questionUuid, selectedSection, fetchType);
+            return new JsonResult(SessionResultsData.initForStatistics(bundle));
+        }
+
+        List<FeedbackQuestion> questions;
+        if (questionUuid == null) {
+            questions = sqlLogic.getFeedbackQuestionsForSession(feedbackSession);
+        } else {
+            FeedbackQuestion question = sqlLogic.getFeedbackQuestion(questionUuid);
+            if (question == null || !question.getFeedbackSession().equals(feedbackSession)) {
+                throw new EntityNotFoundException("Feedback Question not found");
+            }
+            questions = Collections.singletonList(question);
+        }
+
+        Map<FeedbackQuestion, String> questionStatistics = new LinkedHashMap<>();
+        for (FeedbackQuestion question : questions) {
+            String statistics;
+            if (!question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)) {
+                // only the responses given or received by the instructor would be viewable
+                statistics = "";
+            } else if (question.getQuestionDetailsCopy().getQuestionType() == FeedbackQuestionType.CONTRIB) {
+                // contribution statistics depend on the teams of the course, so they are not aggregated
+                SqlSessionResultsBundle bundle = sqlLogic.getSessionResultsForCourse(feedbackSession, courseId,
+                        instructor.getEmail(), question.getId(), null, null);
+                statistics = question.getQuestionDetailsCopy().getQuestionResultStatisticsJson(question, null, bundle);
+            } else {
+                statistics = sqlLogic.getQuestionStatisticsJson(question,
+                        question.getShowRecipientNameTo().contains(FeedbackParticipantType.INSTRUCTORS));
+            }
+            questionStatistics.put(question, statistics);
+        }
+
+        return new JsonResult(SessionResultsData.initForStatistics(questionStatistics));
+    }
+
     private JsonResult executeWithDatastore(
             String courseId, String feedbackSessionName, String questionId, String selectedSection,
             FeedbackResultFetchType fetchType, Intent intent, boolean isPreviewResults) {
@@ -190,9 +265,10 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
         case FULL_DETAIL:
             instructor = getSqlInstructorOfCourseFromRequest(courseId);
 
-            bundle = sqlLogic.getSessionResultsForCourse(feedbackSession, courseId, instructor.getEmail(),
-                    questionUuid, selectedSection, fetchType);
-            return new JsonResult(SessionResultsData.initForInstructor(bundle));
+            String instructorEmail = instructor.getEmail();
+            return new JsonResult(getCourseResults(feedbackSession, instructorEmail, questionUuid, selectedSection,
+                    fetchType, () -> SessionResultsData.initForInstructor(sqlLogic.getSessionResultsForCourse(
+                            feedbackSession, courseId, instructorEmail, questionUuid, selectedSection, fetchType))));
         case INSTRUCTOR_RESULT:
             // Section name filter is not applicable here
             instructor = getPossiblyUnregisteredSqlInstructor(courseId);
@@ -221,4 +297,26 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
         }
     }
 
+    /**
+     * Gets the course-wide results of a published session from its snapshot if the snapshot is still up to date,
+     * or builds them otherwise.
+     *
+     * <p>The names shown depend on the viewing instructor, e.g. whether they gave or received the response,
+     * so the snapshots are kept per instructor. Instructors tend to view the results of their sessions repeatedly,
+     * e.g. section by section, unlike students who mostly view their results once;
+     * results of students are thus always built, as are results of unpublished sessions and previewed results.
+     */
+    private SessionResultsData getCourseResults(
+            FeedbackSession feedbackSession, String instructorEmail, UUID questionUuid,
+            String selectedSection, FeedbackResultFetchType fetchType, Supplier<SessionResultsData> resultsBuilder) {
+        if (!feedbackSession.isPublished()) {
+            return resultsBuilder.get();
+        }
+
+        String snapshotKey = String.join("|", feedbackSession.getId().toString(), instructorEmail,
+                String.valueOf(questionUuid), String.valueOf(selectedSection), String.valueOf(fetchType));
+        String version = sqlLogic.getSessionResultsVersion(feedbackSession);
+        return SessionResultsSnapshots.inst().getOrBuild(snapshotKey, version, resultsBuilder);
+    }
+
 }
@@ -1,17 +1,24 @@
 package teammates.ui.webapi;
 
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletResponse;
 
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
 
 import teammates.common.util.Config;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.RequestMetrics;
 import teammates.common.util.RequestTracer;
 import teammates.ui.output.ApiOutput;
 import teammates.ui.output.MessageOutput;
@@ -23,8 +30,15 @@ import teammates.ui.output.MessageOutput;
  */
 public class JsonResult extends ActionResult {
 
+    /**
+     * Size of the buffer used when streaming the JSON output to the response.
+     * Large enough so that most outputs are written in a handful of chunks.
+     */
+    private static final int OUTPUT_BUFFER_SIZE = 16 * 1024;
+
     private final ApiOutput output;
     private List<Cookie> cookies;
+    private String entityTag;
 
     JsonResult(ApiOutput output) {
         super(HttpStatus.SC_OK);
@@ -37,6 +51,17 @@ public class JsonResult extends ActionResult {
         this.cookies = cookies;
     }
 
+    /**
+     * Creates a result whose output is identified by {@code entityTag}, so that clients can revalidate it
+     * with {@code If-None-Match} instead of downloading it again.
+     *
+     * @see NotModifiedResult
+     */
+    JsonResult(ApiOutput output, String entityTag) {
+        this(output);
+        this.entityTag = entityTag;
+    }
+
     JsonResult(String message) {
         this(message, HttpStatus.SC_OK);
     }
@@ -58,14 +83,69 @@ public class JsonResult extends ActionResult {
             cookie.setSecure(!Config.IS_DEV_SERVER);
             resp.addCookie(cookie);
         }
+        if (entityTag != null) {
+            resp.setHeader(HttpHeaders.ETAG, entityTag);
+            resp.setHeader(HttpHeaders.CACHE_CONTROL, NotModifiedResult.REVALIDATE_CACHE_CONTROL);
+        }
         resp.setStatus(getStatusCode());
         resp.setContentType("application/json");
-        PrintWriter pw = resp.getWriter();
-        JsonUtils.toCompactJson(output, pw);
+        resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resp.setBufferSize(OUTPUT_BUFFER_SIZE);
+
+        // Stream the output directly instead of building the whole JSON string in memory first
+        long sendStartNanos = System.nanoTime();
+        TimedOutputStream outputStream = new TimedOutputStream(resp.getOutputStream());
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), OUTPUT_BUFFER_SIZE);
+        JsonUtils.toCompactJson(output, writer);
+        writer.flush();
+        // the time spent writing to the client is kept apart, as it depends on the client rather than the output
+        long sendNanos = System.nanoTime() - sendStartNanos;
+        RequestMetrics.recordResponse(outputStream.byteCount, sendNanos - outputStream.writeNanos,
+                outputStream.writeNanos);
     }
 
     List<Cookie> getCookies() {
         return cookies;
     }
 
+    String getEntityTag() {
+        return entityTag;
+    }
+
+    /**
+     * Counts the bytes written to the response and the time spent writing them.
+     */
+    private static final class TimedOutputStream extends FilterOutputStream {
+        private long byteCount;
+        private long writeNanos;
+
+        private TimedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            long startNanos = System.nanoTime();
+            out.write(b);
+            writeNanos += System.nanoTime() - startNanos;
+            byteCount++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            long startNanos = System.nanoTime();
+            out.write(b, off, len);
+            writeNanos += System.nanoTime() - startNanos;
+            byteCount += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            long startNanos = System.nanoTime();
+            out.flush();
+            writeNanos += System.nanoTime() - startNanos;
+        }
+    }
+
 }
@@ -0,0 +1,59 @@
+package teammates.ui.webapi;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+
+/**
+ * Action result telling the client that the output it already has, identified by an entity tag, is still current.
+ *
+ * @see JsonResult#JsonResult(teammates.ui.output.ApiOutput, String)
+ */
+public class NotModifiedResult extends ActionResult {
+
+    /**
+     * Lets browsers keep the output, but only reuse it after revalidating it with the back-end.
+     */
+    static final String REVALIDATE_CACHE_CONTROL = "private, no-cache";
+
+    private final String entityTag;
+
+    NotModifiedResult(String entityTag) {
+        super(HttpStatus.SC_NOT_MODIFIED);
+        this.entityTag = entityTag;
+    }
+
+    /**
+     * Returns true if {@code ifNoneMatch}, the value of an {@code If-None-Match} request header,
+     * matches {@code entityTag}.
+     */
+    static boolean isMatching(String ifNoneMatch, String entityTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmedTag = tag.trim();
+            // weak comparison, as the tag may have been weakened by a compressing proxy
+            if (trimmedTag.startsWith("W/")) {
+                trimmedTag = trimmedTag.substring(2);
+            }
+            if ("*".equals(trimmedTag) || trimmedTag.equals(entityTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String getEntityTag() {
+        return entityTag;
+    }
+
+    @Override
+    public void send(HttpServletResponse resp) {
+        resp.setStatus(getStatusCode());
+        resp.setHeader(HttpHeaders.ETAG, entityTag);
+        resp.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL);
+    }
+
+}
@@ -0,0 +1,42 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.util.EmailSendingStatus;
+import teammates.common.util.EmailWrapper;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+import teammates.ui.request.SendEmailsRequest;
+
+/**
+ * Task queue worker action: sends a batch of queued emails.
+ */
+class SendEmailsWorkerAction extends AdminOnlyAction {
+
+    @Override
+    public JsonResult execute() throws InvalidHttpRequestBodyException {
+        SendEmailsRequest emailsRequest = getAndValidateRequestBody(SendEmailsRequest.class);
+        List<EmailWrapper> emails = Arrays.asList(emailsRequest.getEmails());
+        List<EmailSendingStatus> statuses = emailSender.sendEmails(emails);
+
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            if (!statuses.get(i).isSuccess()) {
+                failedEmails.add(emails.get(i));
+            }
+        }
+        if (failedEmails.size() == emails.size()) {
+            // Set an arbitrary retry code outside of the range 200-299 so Cloud Tasks will automatically retry upon failure
+            return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
+        }
+        if (!failedEmails.isEmpty()) {
+            // only the failed emails are retried so that the others are not sent twice
+            taskQueuer.scheduleEmailsForSending(failedEmails);
+        }
+        return new JsonResult("Successful");
+    }
+
+}
@@ -0,0 +1,86 @@
+package teammates.ui.webapi;
+
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import teammates.common.util.Config;
+import teammates.common.util.JsonUtils;
+import teammates.ui.output.SessionResultsData;
+
+/**
+ * Keeps materialized results of feedback sessions in memory, so that repeated views do not need to rebuild them.
+ *
+ * <p>A snapshot is tied to a version of the session results, and is rebuilt once the version changes,
+ * e.g. when a response or comment is added, updated or deleted.
+ * The least recently used snapshots are discarded once their total size, estimated by the length of their
+ * JSON output, exceeds {@link Config#SESSION_RESULTS_SNAPSHOT_MAX_SIZE_MB} megabytes.
+ */
+final class SessionResultsSnapshots {
+
+    private static final SessionResultsSnapshots instance =
+            new SessionResultsSnapshots(Config.SESSION_RESULTS_SNAPSHOT_MAX_SIZE_MB * 1024L * 1024L);
+
+    private final Cache<String, Snapshot> snapshots;
+
+    SessionResultsSnapshots(long maxSizeInBytes) {
+        if (maxSizeInBytes <= 0) {
+            this.snapshots = null;
+            return;
+        }
+        this.snapshots = CacheBuilder.newBuilder()
+                // a single segment, so that the size limit applies to all snapshots together
+                .concurrencyLevel(1)
+                .maximumWeight(maxSizeInBytes)
+                .weigher((String key, Snapshot snapshot) -> snapshot.sizeInBytes)
+                .build();
+    }
+
+    static SessionResultsSnapshots inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the snapshot of the results for the given key and version,
+     * building and storing it with {@code resultsBuilder} if there is no such snapshot.
+     *
+     * <p>The key must identify everything the results depend on other than the stored data,
+     * e.g. the session, the viewer and any filter applied.
+     */
+    SessionResultsData getOrBuild(String key, String version, Supplier<SessionResultsData> resultsBuilder) {
+        if (snapshots == null || version == null) {
+            return resultsBuilder.get();
+        }
+
+        Snapshot snapshot = snapshots.getIfPresent(key);
+        if (snapshot != null && snapshot.version.equals(version)) {
+            // The stored output is shared, so a shallow copy is returned as the request ID will be set on it
+            return SessionResultsData.copyOf(snapshot.results);
+        }
+
+        SessionResultsData results = resultsBuilder.get();
+        snapshots.put(key, new Snapshot(version, results));
+        return SessionResultsData.copyOf(results);
+    }
+
+    /**
+     * Returns the number of snapshots stored.
+     */
+    int size() {
+        return snapshots == null ? 0 : Math.toIntExact(snapshots.size());
+    }
+
+    private static final class Snapshot {
+        private final String version;
+        private final SessionResultsData results;
+        private final int sizeInBytes;
+
+        private Snapshot(String version, SessionResultsData results) {
+            this.version = version;
+            this.results = results;
+            this.sizeInBytes = JsonUtils.toCompactJson(results).length();
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package teammates.ui.webapi;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.SearchServiceException;
+import teammates.storage.sqlentity.Student;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+import teammates.ui.request.StudentsSearchIndexingRequest;
+
+/**
+ * Task queue worker action: performs search indexing for a batch of students in a course.
+ */
+public class StudentsSearchIndexingWorkerAction extends AdminOnlyAction {
+
+    @Override
+    public ActionResult execute() throws InvalidHttpRequestBodyException {
+        StudentsSearchIndexingRequest indexingRequest =
+                getAndValidateRequestBody(StudentsSearchIndexingRequest.class);
+        String courseId = indexingRequest.getCourseId();
+        List<String> emails = Arrays.asList(indexingRequest.getStudentEmails());
+
+        if (isCourseMigrated(courseId)) {
+            return executeWithSql(courseId, emails);
+        } else {
+            return executeWithDataStore(courseId, emails);
+        }
+    }
+
+    private ActionResult executeWithDataStore(String courseId, List<String> emails) {
+        try {
+            for (String email : emails) {
+                StudentAttributes student = logic.getStudentForEmail(courseId, email);
+                logic.putStudentDocument(student);
+            }
+        } catch (SearchServiceException e) {
+            // Set an arbitrary retry code outside of the range 200-299 to trigger automatic retry
+            return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
+        }
+
+        return new JsonResult("Successful");
+    }
+
+    private ActionResult executeWithSql(String courseId, List<String> emails) {
+        List<Student> students = sqlLogic.getStudentsForEmails(courseId, emails);
+        try {
+            sqlLogic.putStudentDocuments(students);
+        } catch (SearchServiceException e) {
+            // Set an arbitrary retry code outside of the range 200-299 to trigger automatic retry
+            return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
+        }
+
+        return new JsonResult("Successful");
+    }
+}
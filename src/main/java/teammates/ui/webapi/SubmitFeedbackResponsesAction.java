@@ -1,11 +1,9 @@
 package teammates.ui.webapi;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackQuestionRecipient;
@@ -14,7 +12,6 @@ import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
-import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -215,101 +212,30 @@ public class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction
             throw new InvalidHttpParameterException("Unknown intent " + intent);
         }
 
-        Map<String, FeedbackResponse> existingResponsesPerRecipient = new HashMap<>();
-        existingResponses.forEach(response -> existingResponsesPerRecipient.put(response.getRecipient(), response));
-
         FeedbackResponsesRequest submitRequest = getAndValidateRequestBody(FeedbackResponsesRequest.class);
         log.info(JsonUtils.toCompactJson(submitRequest));
 
-        for (String recipient : submitRequest.getRecipients()) {
-            if (!recipientsOfTheQuestion.containsKey(recipient)) {
-                throw new InvalidOperationException(
-                        "The recipient " + recipient + " is not a valid recipient of the question");
-            }
-        }
-
-        List<FeedbackResponse> feedbackResponsesToValidate = new ArrayList<>();
-        List<FeedbackResponse> feedbackResponsesToAdd = new ArrayList<>();
-        List<FeedbackResponse> feedbackResponsesToUpdate = new ArrayList<>();
-
-        submitRequest.getResponses().forEach(responseRequest -> {
-            String recipient = responseRequest.getRecipient();
-            FeedbackResponseDetails responseDetails = responseRequest.getResponseDetails();
-
-            if (existingResponsesPerRecipient.containsKey(recipient)) {
-                Section recipientSection = getRecipientSection(feedbackQuestion.getCourseId(),
-                        feedbackQuestion.getGiverType(),
-                        feedbackQuestion.getRecipientType(), recipient);
-
-                FeedbackResponse existingFeedbackResponse = existingResponsesPerRecipient.get(recipient);
-                FeedbackResponse updatedFeedbackResponse = FeedbackResponse.updateResponse(
-                        existingFeedbackResponse,
-                        feedbackQuestion,
-                        giverIdentifier,
-                        giverSection,
-                        recipient,
-                        recipientSection,
-                        responseDetails);
-
-                feedbackResponsesToValidate.add(updatedFeedbackResponse);
-                feedbackResponsesToUpdate.add(updatedFeedbackResponse);
-            } else {
-                FeedbackResponse feedbackResponse = FeedbackResponse.makeResponse(
-                        feedbackQuestion,
-                        giverIdentifier,
-                        giverSection,
-                        recipient,
-                        getRecipientSection(feedbackQuestion.getCourseId(),
-                            feedbackQuestion.getGiverType(),
-                            feedbackQuestion.getRecipientType(), recipient),
-                        responseDetails
-                    );
-
-                feedbackResponsesToValidate.add(feedbackResponse);
-                feedbackResponsesToAdd.add(feedbackResponse);
-            }
-        });
-
-        List<FeedbackResponseDetails> responseDetails = feedbackResponsesToValidate.stream()
-                .map(FeedbackResponse::getFeedbackResponseDetailsCopy)
-                .collect(Collectors.toList());
-
-        int numRecipients = feedbackQuestion.getNumOfEntitiesToGiveFeedbackTo();
-        if (numRecipients == Const.MAX_POSSIBLE_RECIPIENTS
-                || numRecipients > recipientsOfTheQuestion.size()) {
-            numRecipients = recipientsOfTheQuestion.size();
-        }
+        ResponseChanges<FeedbackResponse, FeedbackResponse> changes = new ResponseChanges<>();
+        prepareResponsesToQuestion(feedbackQuestion, giverIdentifier, giverSection, existingResponses,
+                recipientsOfTheQuestion, submitRequest, null, changes);
 
-        List<String> questionSpecificErrors =
-                feedbackQuestion.getQuestionDetailsCopy()
-                        .validateResponsesDetails(responseDetails, numRecipients);
-
-        if (!questionSpecificErrors.isEmpty()) {
-            throw new InvalidHttpRequestBodyException(questionSpecificErrors.toString());
-        }
-
-        List<String> recipients = submitRequest.getRecipients();
-        List<FeedbackResponse> feedbackResponsesToDelete = existingResponsesPerRecipient.entrySet().stream()
-                .filter(entry -> !recipients.contains(entry.getKey()))
-                .map(entry -> entry.getValue())
-                .collect(Collectors.toList());
-
-        for (FeedbackResponse feedbackResponse : feedbackResponsesToDelete) {
+        for (FeedbackResponse feedbackResponse : changes.getResponsesToDelete()) {
             sqlLogic.deleteFeedbackResponsesAndCommentsCascade(feedbackResponse);
         }
 
         List<FeedbackResponse> output = new ArrayList<>();
 
-        for (FeedbackResponse feedbackResponse : feedbackResponsesToAdd) {
-            try {
-                output.add(sqlLogic.createFeedbackResponse(feedbackResponse));
-            } catch (InvalidParametersException | EntityAlreadyExistsException e) {
-                // None of the exceptions should be happening as the responses have been pre-validated
-                log.severe("Encountered exception when creating response: " + e.getMessage(), e);
-            }
+        try {
+            output.addAll(sqlLogic.createFeedbackResponses(changes.getResponsesToCreate()));
+        } catch (InvalidParametersException e) {
+            // None of the exceptions should be happening as the responses have been pre-validated
+            log.severe("Encountered exception when creating responses: " + e.getMessage(), e);
+        } catch (EntityAlreadyExistsException e) {
+            // another submission by the same giver created some of the responses first
+            throw new InvalidOperationException(e);
         }
 
-        for (FeedbackResponse feedbackResponse : feedbackResponsesToUpdate) {
+        for (FeedbackResponse feedbackResponse : changes.getResponsesToUpdate()) {
             try {
                 output.add(sqlLogic.updateFeedbackResponseCascade(feedbackResponse));
             } catch (InvalidParametersException | EntityDoesNotExistException e) {
@@ -354,93 +280,21 @@ public class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction
             throw new InvalidHttpParameterException("Unknown intent " + intent);
         }
 
-        Map<String, FeedbackResponseAttributes> existingResponsesPerRecipient = new HashMap<>();
-        existingResponses.forEach(response -> existingResponsesPerRecipient.put(response.getRecipient(), response));
-
         FeedbackResponsesRequest submitRequest = getAndValidateRequestBody(FeedbackResponsesRequest.class);
         log.info(JsonUtils.toCompactJson(submitRequest));
 
-        for (String recipient : submitRequest.getRecipients()) {
-            if (!recipientsOfTheQuestion.containsKey(recipient)) {
-                throw new InvalidOperationException(
-                        "The recipient " + recipient + " is not a valid recipient of the question");
-            }
-        }
-
-        List<FeedbackResponseAttributes> feedbackResponsesToValidate = new ArrayList<>();
-        List<FeedbackResponseAttributes> feedbackResponsesToAdd = new ArrayList<>();
-        List<FeedbackResponseAttributes.UpdateOptions> feedbackResponsesToUpdate = new ArrayList<>();
-
-        submitRequest.getResponses().forEach(responseRequest -> {
-            String recipient = responseRequest.getRecipient();
-            FeedbackResponseDetails responseDetails = responseRequest.getResponseDetails();
-
-            if (existingResponsesPerRecipient.containsKey(recipient)) {
-                String recipientSection = getDatastoreRecipientSection(feedbackQuestion.getCourseId(),
-                        feedbackQuestion.getGiverType(),
-                        feedbackQuestion.getRecipientType(), recipient);
-                FeedbackResponseAttributes updatedResponse =
-                        new FeedbackResponseAttributes(existingResponsesPerRecipient.get(recipient));
-                FeedbackResponseAttributes.UpdateOptions updateOptions =
-                        FeedbackResponseAttributes.updateOptionsBuilder(updatedResponse.getId())
-                                .withGiver(giverIdentifier)
-                                .withGiverSection(giverSection)
-                                .withRecipient(recipient)
-                                .withRecipientSection(recipientSection)
-                                .withResponseDetails(responseDetails)
-                                .build();
-                updatedResponse.update(updateOptions);
-
-                feedbackResponsesToValidate.add(updatedResponse);
-                feedbackResponsesToUpdate.add(updateOptions);
-            } else {
-                FeedbackResponseAttributes feedbackResponse = FeedbackResponseAttributes
-                        .builder(feedbackQuestion.getId(), giverIdentifier, recipient)
-                        .withGiverSection(giverSection)
-                        .withRecipientSection(getDatastoreRecipientSection(feedbackQuestion.getCourseId(),
-                                feedbackQuestion.getGiverType(),
-                                feedbackQuestion.getRecipientType(), recipient))
-                        .withCourseId(feedbackQuestion.getCourseId())
-                        .withFeedbackSessionName(feedbackQuestion.getFeedbackSessionName())
-                        .withResponseDetails(responseDetails)
-                        .build();
-
-                feedbackResponsesToValidate.add(feedbackResponse);
-                feedbackResponsesToAdd.add(feedbackResponse);
-            }
-        });
-
-        List<FeedbackResponseDetails> responseDetails = feedbackResponsesToValidate.stream()
-                .map(FeedbackResponseAttributes::getResponseDetailsCopy)
-                .collect(Collectors.toList());
-
-        int numRecipients = feedbackQuestion.getNumberOfEntitiesToGiveFeedbackTo();
-        if (numRecipients == Const.MAX_POSSIBLE_RECIPIENTS
-                || numRecipients > recipientsOfTheQuestion.size()) {
-            numRecipients = recipientsOfTheQuestion.size();
-        }
-
-        List<String> questionSpecificErrors =
-                feedbackQuestion.getQuestionDetailsCopy()
-                        .validateResponsesDetails(responseDetails, numRecipients);
-
-        if (!questionSpecificErrors.isEmpty()) {
-            throw new InvalidHttpRequestBodyException(questionSpecificErrors.toString());
-        }
-
-        List<String> recipients = submitRequest.getRecipients();
-        List<FeedbackResponseAttributes> feedbackResponsesToDelete = existingResponsesPerRecipient.entrySet().stream()
-                .filter(entry -> !recipients.contains(entry.getKey()))
-                .map(entry -> entry.getValue())
-                .collect(Collectors.toList());
+        ResponseChanges<FeedbackResponseAttributes, FeedbackResponseAttributes.UpdateOptions> changes =
+                new ResponseChanges<>();
+        prepareDatastoreResponsesToQuestion(feedbackQuestion, giverIdentifier, giverSection, existingResponses,
+                recipientsOfTheQuestion, submitRequest, null, changes);
 
-        for (FeedbackResponseAttributes feedbackResponse : feedbackResponsesToDelete) {
+        for (FeedbackResponseAttributes feedbackResponse : changes.getResponsesToDelete()) {
             logic.deleteFeedbackResponseCascade(feedbackResponse.getId());
         }
 
         List<FeedbackResponseAttributes> output = new ArrayList<>();
 
-        for (FeedbackResponseAttributes feedbackResponse : feedbackResponsesToAdd) {
+        for (FeedbackResponseAttributes feedbackResponse : changes.getResponsesToCreate()) {
             try {
                 output.add(logic.createFeedbackResponse(feedbackResponse));
             } catch (InvalidParametersException | EntityAlreadyExistsException e) {
@@ -449,7 +303,7 @@ public class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction
             }
         }
 
-        for (FeedbackResponseAttributes.UpdateOptions feedbackResponse : feedbackResponsesToUpdate) {
+        for (FeedbackResponseAttributes.UpdateOptions feedbackResponse : changes.getResponsesToUpdate()) {
             try {
                 output.add(logic.updateFeedbackResponseCascade(feedbackResponse));
             } catch (InvalidParametersException | EntityAlreadyExistsException | EntityDoesNotExistException e) {
@@ -0,0 +1,346 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionRecipient;
+import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.common.util.StringHelper;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackResponse;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.Student;
+import teammates.ui.output.FeedbackResponsesData;
+import teammates.ui.request.FeedbackResponsesRequest;
+import teammates.ui.request.FeedbackSessionResponsesRequest;
+import teammates.ui.request.Intent;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+
+/**
+ * Submits the feedback responses to all the questions of a feedback session in one request.
+ *
+ * <p>For every question in the request, this action overwrites the feedback responses previously attached to it
+ * in the same way as {@link SubmitFeedbackResponsesAction}. The responses to all questions are validated before
+ * any of them is written, so that an invalid response to one question does not leave the others half-submitted.
+ * The course roster and the existing responses of the giver are fetched once for the whole session.
+ */
+public class SubmitFeedbackSessionResponsesAction extends BasicFeedbackSubmissionAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    AuthType getMinAuthLevel() {
+        return AuthType.PUBLIC;
+    }
+
+    @Override
+    void checkSpecificAccessControl() throws UnauthorizedAccessException {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+
+        if (!isCourseMigrated(courseId)) {
+            handleDataStoreAccessControl(courseId, feedbackSessionName);
+            return;
+        }
+
+        FeedbackSession feedbackSession = getNonNullSqlFeedbackSession(feedbackSessionName, courseId);
+        verifyNotPreview();
+
+        Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
+        switch (intent) {
+        case STUDENT_SUBMISSION:
+            Student student = getSqlStudentOfCourseFromRequest(courseId);
+            if (student == null) {
+                throw new EntityNotFoundException("Student does not exist.");
+            }
+            feedbackSession = feedbackSession.getCopyForUser(student.getEmail());
+            verifySessionOpenExceptForModeration(feedbackSession);
+            checkAccessControlForStudentFeedbackSubmission(student, feedbackSession);
+            break;
+        case INSTRUCTOR_SUBMISSION:
+            Instructor instructor = getSqlInstructorOfCourseFromRequest(courseId);
+            if (instructor == null) {
+                throw new EntityNotFoundException("Instructor does not exist.");
+            }
+            feedbackSession = feedbackSession.getCopyForUser(instructor.getEmail());
+            verifySessionOpenExceptForModeration(feedbackSession);
+            checkAccessControlForInstructorFeedbackSubmission(instructor, feedbackSession);
+            break;
+        case INSTRUCTOR_RESULT:
+        case STUDENT_RESULT:
+            throw new InvalidHttpParameterException("Invalid intent for this action");
+        default:
+            throw new InvalidHttpParameterException("Unknown intent " + intent);
+        }
+    }
+
+    private void handleDataStoreAccessControl(String courseId, String feedbackSessionName)
+            throws UnauthorizedAccessException {
+        FeedbackSessionAttributes feedbackSession = getNonNullFeedbackSession(feedbackSessionName, courseId);
+        verifyNotPreview();
+
+        Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
+        switch (intent) {
+        case STUDENT_SUBMISSION:
+            StudentAttributes studentAttributes = getStudentOfCourseFromRequest(courseId);
+            if (studentAttributes == null) {
+                throw new EntityNotFoundException("Student does not exist.");
+            }
+            feedbackSession = feedbackSession.getCopyForStudent(studentAttributes.getEmail());
+            verifySessionOpenExceptForModeration(feedbackSession);
+            checkAccessControlForStudentFeedbackSubmission(studentAttributes, feedbackSession);
+            break;
+        case INSTRUCTOR_SUBMISSION:
+            InstructorAttributes instructorAttributes = getInstructorOfCourseFromRequest(courseId);
+            if (instructorAttributes == null) {
+                throw new EntityNotFoundException("Instructor does not exist.");
+            }
+            feedbackSession = feedbackSession.getCopyForInstructor(instructorAttributes.getEmail());
+            verifySessionOpenExceptForModeration(feedbackSession);
+            checkAccessControlForInstructorFeedbackSubmission(instructorAttributes, feedbackSession);
+            break;
+        case INSTRUCTOR_RESULT:
+        case STUDENT_RESULT:
+            throw new InvalidHttpParameterException("Invalid intent for this action");
+        default:
+            throw new InvalidHttpParameterException("Unknown intent " + intent);
+        }
+    }
+
+    /**
+     * Checks whether a question with the given giver type can be answered in a submission with the given intent.
+     *
+     * <p>This is the same check as the one made by {@link SubmitFeedbackResponsesAction} on a single question.
+     */
+    private boolean isAnswerable(FeedbackParticipantType giverType, Intent intent) {
+        if (intent == Intent.STUDENT_SUBMISSION) {
+            return giverType == FeedbackParticipantType.STUDENTS || giverType == FeedbackParticipantType.TEAMS;
+        }
+        return giverType == FeedbackParticipantType.INSTRUCTORS || giverType == FeedbackParticipantType.SELF;
+    }
+
+    private boolean isInModeration() {
+        return !StringHelper.isEmpty(getRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_MODERATED_PERSON));
+    }
+
+    @Override
+    public JsonResult execute() throws InvalidHttpRequestBodyException, InvalidOperationException {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+
+        if (!isCourseMigrated(courseId)) {
+            return handleDataStoreExecute(courseId, feedbackSessionName);
+        }
+
+        FeedbackSession feedbackSession = getNonNullSqlFeedbackSession(feedbackSessionName, courseId);
+        SqlCourseRoster courseRoster = sqlLogic.getCourseRoster(courseId);
+
+        Student student = null;
+        Instructor instructor = null;
+        Map<UUID, List<FeedbackResponse>> existingResponsesPerQuestion;
+        Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
+        switch (intent) {
+        case STUDENT_SUBMISSION:
+            student = getSqlStudentOfCourseFromRequest(courseId);
+            existingResponsesPerQuestion =
+                    sqlLogic.getFeedbackResponsesFromStudentOrTeamForSession(feedbackSession, student, courseRoster);
+            break;
+        case INSTRUCTOR_SUBMISSION:
+            instructor = getSqlInstructorOfCourseFromRequest(courseId);
+            existingResponsesPerQuestion =
+                    sqlLogic.getFeedbackResponsesFromInstructorForSession(feedbackSession, instructor);
+            break;
+        default:
+            throw new InvalidHttpParameterException("Unknown intent " + intent);
+        }
+
+        boolean isInModeration = isInModeration();
+        Map<UUID, FeedbackQuestion> answerableQuestions = new HashMap<>();
+        for (FeedbackQuestion feedbackQuestion : sqlLogic.getFeedbackQuestionsForSession(feedbackSession)) {
+            if (isAnswerable(feedbackQuestion.getGiverType(), intent)
+                    && (!isInModeration || canInstructorSeeQuestion(feedbackQuestion))) {
+                answerableQuestions.put(feedbackQuestion.getId(), feedbackQuestion);
+            }
+        }
+
+        FeedbackSessionResponsesRequest submitRequest = getAndValidateRequestBody(FeedbackSessionResponsesRequest.class);
+        log.info(JsonUtils.toCompactJson(submitRequest));
+
+        ResponseChanges<FeedbackResponse, FeedbackResponse> changes = new ResponseChanges<>();
+        for (Map.Entry<String, FeedbackResponsesRequest> questionResponses
+                : submitRequest.getQuestionResponses().entrySet()) {
+            UUID feedbackQuestionId = getUuidFromString(Const.ParamsNames.FEEDBACK_QUESTION_ID, questionResponses.getKey());
+            FeedbackQuestion feedbackQuestion = answerableQuestions.get(feedbackQuestionId);
+            if (feedbackQuestion == null) {
+                throw new InvalidOperationException(
+                        "The question " + feedbackQuestionId + " cannot be answered in this submission");
+            }
+
+            String giverIdentifier;
+            Section giverSection;
+            Map<String, FeedbackQuestionRecipient> recipientsOfTheQuestion;
+            if (student == null) {
+                giverIdentifier = instructor.getEmail();
+                giverSection = Const.DEFAULT_SQL_SECTION;
+                recipientsOfTheQuestion =
+                        sqlLogic.getRecipientsOfQuestion(feedbackQuestion, instructor, null, courseRoster);
+                sqlLogic.populateFieldsToGenerateInQuestion(feedbackQuestion,
+                        courseId, instructor.getEmail(), null);
+            } else {
+                giverIdentifier =
+                        feedbackQuestion.getGiverType() == FeedbackParticipantType.TEAMS
+                                ? student.getTeamName() : student.getEmail();
+                giverSection = student.getSection();
+                recipientsOfTheQuestion = sqlLogic.getRecipientsOfQuestion(feedbackQuestion, null, student, courseRoster);
+                sqlLogic.populateFieldsToGenerateInQuestion(feedbackQuestion,
+                        courseId, student.getEmail(), student.getTeamName());
+            }
+
+            prepareResponsesToQuestion(feedbackQuestion, giverIdentifier, giverSection,
+                    existingResponsesPerQuestion.getOrDefault(feedbackQuestionId, new ArrayList<>()),
+                    recipientsOfTheQuestion, questionResponses.getValue(), courseRoster, changes);
+        }
+
+        for (FeedbackResponse feedbackResponse : changes.getResponsesToDelete()) {
+            sqlLogic.deleteFeedbackResponsesAndCommentsCascade(feedbackResponse);
+        }
+
+        List<FeedbackResponse> output = new ArrayList<>();
+
+        try {
+            output.addAll(sqlLogic.createFeedbackResponses(changes.getResponsesToCreate()));
+        } catch (InvalidParametersException e) {
+            // None of the exceptions should be happening as the responses have been pre-validated
+            log.severe("Encountered exception when creating responses: " + e.getMessage(), e);
+        } catch (EntityAlreadyExistsException e) {
+            // another submission by the same giver created some of the responses first
+            throw new InvalidOperationException(e);
+        }
+
+        try {
+            output.addAll(sqlLogic.updateFeedbackResponsesCascade(changes.getResponsesToUpdate()));
+        } catch (InvalidParametersException | EntityDoesNotExistException e) {
+            // None of the exceptions should be happening as the responses have been pre-validated
+            log.severe("Encountered exception when updating responses: " + e.getMessage(), e);
+        }
+
+        return new JsonResult(FeedbackResponsesData.createFromEntity(output));
+    }
+
+    private JsonResult handleDataStoreExecute(String courseId, String feedbackSessionName)
+            throws InvalidHttpRequestBodyException, InvalidOperationException {
+        CourseRoster courseRoster = logic.getCourseRoster(courseId);
+
+        StudentAttributes studentAttributes = null;
+        InstructorAttributes instructorAttributes = null;
+        Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
+        switch (intent) {
+        case STUDENT_SUBMISSION:
+            studentAttributes = getStudentOfCourseFromRequest(courseId);
+            break;
+        case INSTRUCTOR_SUBMISSION:
+            instructorAttributes = getInstructorOfCourseFromRequest(courseId);
+            break;
+        default:
+            throw new InvalidHttpParameterException("Unknown intent " + intent);
+        }
+
+        boolean isInModeration = isInModeration();
+        Map<String, FeedbackQuestionAttributes> answerableQuestions = new HashMap<>();
+        for (FeedbackQuestionAttributes feedbackQuestion
+                : logic.getFeedbackQuestionsForSession(feedbackSessionName, courseId)) {
+            if (isAnswerable(feedbackQuestion.getGiverType(), intent)
+                    && (!isInModeration || canInstructorSeeQuestion(feedbackQuestion))) {
+                answerableQuestions.put(feedbackQuestion.getId(), feedbackQuestion);
+            }
+        }
+
+        FeedbackSessionResponsesRequest submitRequest = getAndValidateRequestBody(FeedbackSessionResponsesRequest.class);
+        log.info(JsonUtils.toCompactJson(submitRequest));
+
+        ResponseChanges<FeedbackResponseAttributes, FeedbackResponseAttributes.UpdateOptions> changes =
+                new ResponseChanges<>();
+        for (Map.Entry<String, FeedbackResponsesRequest> questionResponses
+                : submitRequest.getQuestionResponses().entrySet()) {
+            FeedbackQuestionAttributes feedbackQuestion = answerableQuestions.get(questionResponses.getKey());
+            if (feedbackQuestion == null) {
+                throw new InvalidOperationException(
+                        "The question " + questionResponses.getKey() + " cannot be answered in this submission");
+            }
+
+            String giverIdentifier;
+            String giverSection;
+            List<FeedbackResponseAttributes> existingResponses;
+            Map<String, FeedbackQuestionRecipient> recipientsOfTheQuestion;
+            if (studentAttributes == null) {
+                giverIdentifier = instructorAttributes.getEmail();
+                giverSection = Const.DEFAULT_SECTION;
+                existingResponses =
+                        logic.getFeedbackResponsesFromInstructorForQuestion(feedbackQuestion, instructorAttributes);
+                recipientsOfTheQuestion =
+                        logic.getRecipientsOfQuestion(feedbackQuestion, instructorAttributes, null, courseRoster);
+                logic.populateFieldsToGenerateInQuestion(feedbackQuestion,
+                        instructorAttributes.getEmail(), null);
+            } else {
+                giverIdentifier =
+                        feedbackQuestion.getGiverType() == FeedbackParticipantType.TEAMS
+                                ? studentAttributes.getTeam() : studentAttributes.getEmail();
+                giverSection = studentAttributes.getSection();
+                existingResponses =
+                        logic.getFeedbackResponsesFromStudentOrTeamForQuestion(feedbackQuestion, studentAttributes);
+                recipientsOfTheQuestion =
+                        logic.getRecipientsOfQuestion(feedbackQuestion, null, studentAttributes, courseRoster);
+                logic.populateFieldsToGenerateInQuestion(feedbackQuestion,
+                        studentAttributes.getEmail(), studentAttributes.getTeam());
+            }
+
+            prepareDatastoreResponsesToQuestion(feedbackQuestion, giverIdentifier, giverSection, existingResponses,
+                    recipientsOfTheQuestion, questionResponses.getValue(), courseRoster, changes);
+        }
+
+        for (FeedbackResponseAttributes feedbackResponse : changes.getResponsesToDelete()) {
+            logic.deleteFeedbackResponseCascade(feedbackResponse.getId());
+        }
+
+        List<FeedbackResponseAttributes> output = new ArrayList<>();
+
+        for (FeedbackResponseAttributes feedbackResponse : changes.getResponsesToCreate()) {
+            try {
+                output.add(logic.createFeedbackResponse(feedbackResponse));
+            } catch (InvalidParametersException | EntityAlreadyExistsException e) {
+                // None of the exceptions should be happening as the responses have been pre-validated
+                log.severe("Encountered exception when creating response: " + e.getMessage(), e);
+            }
+        }
+
+        for (FeedbackResponseAttributes.UpdateOptions feedbackResponse : changes.getResponsesToUpdate()) {
+            try {
+                output.add(logic.updateFeedbackResponseCascade(feedbackResponse));
+            } catch (InvalidParametersException | EntityAlreadyExistsException | EntityDoesNotExistException e) {
+                // None of the exceptions should be happening as the responses have been pre-validated
+                log.severe("Encountered exception when updating response: " + e.getMessage(), e);
+            }
+        }
+
+        return new JsonResult(FeedbackResponsesData.createFromAttributes(output));
+    }
+
+}
@@ -0,0 +1,51 @@
+package teammates.ui.webapi;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+
+import org.apache.commons.codec.binary.Hex;
+
+import teammates.common.util.JsonUtils;
+import teammates.common.util.RequestTracer;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.api.Logic;
+import teammates.logic.external.TaskDispatcher;
+
+/**
+ * Runs tasks from the in-process task queue by executing the worker actions directly,
+ * in the same way as {@code WebApiServlet} executes them for tasks coming from Cloud Tasks.
+ */
+public class TaskQueueActionDispatcher implements TaskDispatcher {
+
+    // same limit as the one given to requests from Cloud Tasks
+    private static final int TIMEOUT_IN_SECONDS = 10 * 60 - 5;
+
+    private static final ActionExecutor ACTION_EXECUTOR = new ActionExecutor("TaskQueueActionDispatcher");
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Override
+    public int dispatch(TaskWrapper task) {
+        byte[] traceIdBytes = new byte[16];
+        random.nextBytes(traceIdBytes);
+        RequestTracer.init(Hex.encodeHexString(traceIdBytes), null, TIMEOUT_IN_SECONDS);
+
+        String requestBody = task.getRequestBody() == null ? null : JsonUtils.toCompactJson(task.getRequestBody());
+        TaskHttpServletRequest req = new TaskHttpServletRequest(
+                task.getWorkerUrl(), task.getParamMap(), task.getQueueName(), requestBody);
+
+        return Logic.inst().runWithDatastoreSession(() -> execute(req));
+    }
+
+    private int execute(TaskHttpServletRequest req) {
+        try {
+            return ACTION_EXECUTOR.execute(req, result -> {
+                // there is no response to send, only its status code decides whether the task is retried
+            });
+        } catch (IOException e) {
+            // not thrown, as nothing is sent
+            throw new AssertionError(e);
+        }
+    }
+
+}
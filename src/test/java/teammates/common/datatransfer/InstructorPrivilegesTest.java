@@ -287,6 +287,28 @@ public class InstructorPrivilegesTest extends BaseTestCase {
                 sectionId, sessionId, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
     }
 
+    @Test
+    public void testIsAllowedForPrivilegeAllSections() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
+        String sectionId = "sectionId";
+        String sessionId = "sessionId";
+
+        assertTrue(privileges.isAllowedForPrivilegeAllSections(
+                sessionId, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
+
+        privileges.updatePrivilege(sectionId, sessionId, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS, false);
+        assertFalse(privileges.isAllowedForPrivilegeAllSections(
+                sessionId, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
+        assertTrue(privileges.isAllowedForPrivilegeAllSections(
+                "otherSessionId", Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
+
+        privileges = new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_CUSTOM);
+        privileges.updatePrivilege(sectionId, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS, true);
+        assertFalse(privileges.isAllowedForPrivilegeAllSections(
+                sessionId, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
+    }
+
     @Test
     public void testValidatePrivileges() {
         InstructorPrivileges privileges =
@@ -0,0 +1,131 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackResponse;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link SqlMissingResponseList}.
+ */
+public class SqlMissingResponseListTest extends BaseTestCase {
+
+    @Test
+    public void testGet_typicalCase_shouldCreateMissingResponses() {
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(getTypicalCourse());
+        FeedbackQuestion question = getTypicalFeedbackQuestionForSession(session);
+        List<String> participants = List.of("giver@teammates.tmt", "recipient@teammates.tmt");
+        List<String> participantSectionNames = List.of("Section 1", Const.DEFAULT_SECTION);
+
+        SqlMissingResponseList missingResponses =
+                new SqlMissingResponseList(question, participants, participantSectionNames);
+        assertEquals(0, missingResponses.size());
+
+        missingResponses.add(0, 1, true, false);
+        missingResponses.add(1, 1, false, true);
+        assertEquals(2, missingResponses.size());
+
+        FeedbackResponse first = missingResponses.get(0);
+        assertEquals(question, first.getFeedbackQuestion());
+        assertEquals("giver@teammates.tmt", first.getGiver());
+        assertEquals("Section 1", first.getGiverSectionName());
+        assertEquals("recipient@teammates.tmt", first.getRecipient());
+        assertEquals(Const.DEFAULT_SECTION, first.getRecipientSectionName());
+        assertEquals(Const.MISSING_RESPONSE_TEXT, first.getFeedbackResponseDetailsCopy().getAnswerString());
+
+        FeedbackResponse second = missingResponses.get(1);
+        assertEquals("recipient@teammates.tmt", second.getGiver());
+        assertNotEquals(first.getId(), second.getId());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> missingResponses.get(2));
+    }
+
+    @Test
+    public void testGet_sameResponseReadTwice_shouldBeEqual() {
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(getTypicalCourse());
+        FeedbackQuestion question = getTypicalFeedbackQuestionForSession(session);
+        List<String> participants = List.of("giver@teammates.tmt", "recipient@teammates.tmt");
+        List<String> participantSectionNames = List.of(Const.DEFAULT_SECTION, Const.DEFAULT_SECTION);
+
+        SqlMissingResponseList missingResponses =
+                new SqlMissingResponseList(question, participants, participantSectionNames);
+        missingResponses.add(0, 1, true, true);
+        missingResponses.add(1, 0, true, true);
+
+        FeedbackResponse response = missingResponses.get(1);
+        assertEquals(response, missingResponses.get(1));
+        assertEquals(response.hashCode(), missingResponses.get(1).hashCode());
+        assertNotEquals(missingResponses.get(0), response);
+        assertTrue(missingResponses.contains(response));
+        assertEquals(1, missingResponses.indexOf(response));
+    }
+
+    @Test
+    public void testAdd_manyResponses_shouldKeepAllResponses() {
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(getTypicalCourse());
+        FeedbackQuestion question = getTypicalFeedbackQuestionForSession(session);
+        List<String> participants = new ArrayList<>();
+        List<String> participantSectionNames = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            participants.add("student" + i + "@teammates.tmt");
+            participantSectionNames.add("Section " + i % 3);
+        }
+
+        SqlMissingResponseList missingResponses =
+                new SqlMissingResponseList(question, participants, participantSectionNames);
+        for (int i = 0; i < 100; i++) {
+            missingResponses.add(i, 99 - i, i % 2 == 0, i % 3 == 0);
+        }
+
+        assertEquals(100, missingResponses.size());
+        FeedbackResponse last = missingResponses.get(99);
+        assertEquals("student99@teammates.tmt", last.getGiver());
+        assertEquals("student0@teammates.tmt", last.getRecipient());
+        assertEquals("Section 0", last.getGiverSectionName());
+    }
+
+    @Test
+    public void testIsResponseGiverRecipientVisible_missingResponses_shouldUseVisibilityOfResponses() {
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(getTypicalCourse());
+        FeedbackQuestion question = getTypicalFeedbackQuestionForSession(session);
+        List<String> participants = List.of("giver@teammates.tmt", "recipient@teammates.tmt");
+        List<String> participantSectionNames = List.of(Const.DEFAULT_SECTION, Const.DEFAULT_SECTION);
+
+        SqlMissingResponseList missingResponses =
+                new SqlMissingResponseList(question, participants, participantSectionNames);
+        missingResponses.add(0, 1, true, false);
+        missingResponses.add(1, 0, false, true);
+
+        Map<FeedbackQuestion, List<FeedbackResponse>> questionMissingResponseMap = new HashMap<>();
+        questionMissingResponseMap.put(question, missingResponses);
+        SqlSessionResultsBundle bundle =
+                new SqlSessionResultsBundle(
+                        List.of(question),
+                        new HashSet<>(),
+                        new HashSet<>(),
+                        new ArrayList<>(),
+                        questionMissingResponseMap,
+                        new HashMap<>(),
+                        new HashMap<>(),
+                        new HashMap<>(),
+                        new HashMap<>(),
+                        new SqlCourseRoster(new ArrayList<>(), new ArrayList<>())
+                );
+
+        List<FeedbackResponse> bundledMissingResponses = bundle.getQuestionMissingResponseMap().get(question);
+        assertEquals(2, bundledMissingResponses.size());
+        assertTrue(bundle.isResponseGiverVisible(bundledMissingResponses.get(0)));
+        assertFalse(bundle.isResponseRecipientVisible(bundledMissingResponses.get(0)));
+        assertFalse(bundle.isResponseGiverVisible(bundledMissingResponses.get(1)));
+        assertTrue(bundle.isResponseRecipientVisible(bundledMissingResponses.get(1)));
+    }
+}
@@ -0,0 +1,97 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link TeamEvalResultsCalculator}.
+ */
+public class TeamEvalResultsCalculatorTest extends BaseTestCase {
+
+    @Test
+    public void testCalculate_sameVersion_shouldReuseResultsWithoutBuildingSubmissions() {
+        TeamEvalResultsCalculator calculator = new TeamEvalResultsCalculator(10);
+        List<String> builtTeams = new ArrayList<>();
+
+        Map<String, TeamEvalResult> firstResults = calculator.calculate("question", Map.of("team", "v1"), team -> {
+            builtTeams.add(team);
+            return new int[][] { { 100, 100 }, { 80, 120 } };
+        });
+        Map<String, TeamEvalResult> secondResults = calculator.calculate("question", Map.of("team", "v1"), team -> {
+            builtTeams.add(team);
+            return new int[][] { { 100, 100 }, { 80, 120 } };
+        });
+
+        assertSame(firstResults.get("team"), secondResults.get("team"));
+        assertEquals(List.of("team"), builtTeams);
+
+        ______TS("version changed: recalculated");
+
+        Map<String, TeamEvalResult> changedResults = calculator.calculate("question", Map.of("team", "v2"),
+                team -> new int[][] { { 100, 100 }, { 100, 100 } });
+
+        assertNotSame(firstResults.get("team"), changedResults.get("team"));
+        assertEquals(100, changedResults.get("team").normalizedAveragePerceived[0]);
+
+        ______TS("no question ID: not cached");
+
+        Map<String, String> teamResponsesVersions = Map.of("team", "v1");
+        assertNotSame(
+                calculator.calculate(null, teamResponsesVersions, team -> new int[][] { { 100, 100 }, { 80, 120 } })
+                        .get("team"),
+                calculator.calculate(null, teamResponsesVersions, team -> new int[][] { { 100, 100 }, { 80, 120 } })
+                        .get("team"));
+        assertEquals(1, calculator.size());
+    }
+
+    @Test
+    public void testCalculate_manyTeams_shouldMatchSequentialResultsInOrder() {
+        TeamEvalResultsCalculator calculator = new TeamEvalResultsCalculator(10);
+        Map<String, String> teamResponsesVersions = new LinkedHashMap<>();
+        Map<String, int[][]> teamSubmissions = new LinkedHashMap<>();
+        int numTeams = (TeamEvalResultsCalculator.MIN_TEAMS_FOR_PARALLEL_CALCULATION
+                + TeamEvalResultsCalculator.MAX_PENDING_TEAMS) * 2;
+        for (int i = 0; i < numTeams; i++) {
+            String team = "team" + i;
+            teamResponsesVersions.put(team, "v1");
+            teamSubmissions.put(team, new int[][] {
+                    { 100, 100 + i % 100, 100 - i % 100 },
+                    { 90, 110, 100 },
+                    { TeamEvalResult.NSB, TeamEvalResult.NSB, TeamEvalResult.NSB },
+            });
+        }
+
+        Map<String, TeamEvalResult> results = calculator.calculate("question", teamResponsesVersions,
+                teamSubmissions::get);
+
+        assertEquals(Arrays.asList(teamSubmissions.keySet().toArray()), Arrays.asList(results.keySet().toArray()));
+        teamSubmissions.forEach((team, submissions) -> {
+            TeamEvalResult expected = new TeamEvalResult(submissions);
+            assertEquals(expected.toString(), results.get(team).toString());
+        });
+    }
+
+    @Test
+    public void testCalculate_tooManyQuestions_shouldDiscardLeastRecentlyUsed() {
+        TeamEvalResultsCalculator calculator = new TeamEvalResultsCalculator(2);
+        Map<String, String> teamResponsesVersions = Map.of("team", "v1");
+
+        TeamEvalResult result = calculator.calculate("question1", teamResponsesVersions,
+                team -> new int[][] { { 100, 100 }, { 80, 120 } }).get("team");
+        calculator.calculate("question2", teamResponsesVersions, team -> new int[][] { { 100, 100 }, { 80, 120 } });
+        calculator.calculate("question1", teamResponsesVersions, team -> new int[][] { { 100, 100 }, { 80, 120 } });
+        calculator.calculate("question3", teamResponsesVersions, team -> new int[][] { { 100, 100 }, { 80, 120 } });
+
+        assertEquals(2, calculator.size());
+        assertSame(result, calculator.calculate("question1", teamResponsesVersions,
+                team -> new int[][] { { 100, 100 }, { 80, 120 } }).get("team"));
+    }
+
+}
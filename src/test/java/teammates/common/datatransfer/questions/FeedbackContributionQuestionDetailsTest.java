@@ -14,6 +14,7 @@ import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.test.BaseTestCase;
 
 /**
@@ -118,7 +119,7 @@ public class FeedbackContributionQuestionDetailsTest extends BaseTestCase {
 
         ______TS("(student email specified): all students have response");
         fqa = responseBundle.feedbackQuestions.get("qn1InSession1InCourse1");
-        assertEquals("{\n"
+        assertStatisticsJsonEquals("{\n"
                 + "  \"results\": {\n"
                 + "    \"student1InCourse1@gmail.tmt\": {\n"
                 + "      \"claimed\": 10,\n"
@@ -138,7 +139,7 @@ public class FeedbackContributionQuestionDetailsTest extends BaseTestCase {
 
         ______TS("(student email specified): mix of students with responses and students without responses");
         fqa = responseBundle.feedbackQuestions.get("qn2InSession1InCourse1");
-        assertEquals("{\n"
+        assertStatisticsJsonEquals("{\n"
                 + "  \"results\": {\n"
                 + "    \"student5InCourse1@gmail.tmt\": {\n"
                 + "      \"claimed\": 10,\n"
@@ -158,14 +159,14 @@ public class FeedbackContributionQuestionDetailsTest extends BaseTestCase {
 
         ______TS("(student email specified): all students do not have responses");
         fqa = responseBundle.feedbackQuestions.get("qn3InSession1InCourse1");
-        assertEquals("{\n"
+        assertStatisticsJsonEquals("{\n"
                 + "  \"results\": {}\n"
                 + "}", feedbackContributionQuestionDetails.getQuestionResultStatisticsJson(fqa,
                 "student8InCourse1@gmail.tmt", bundle));
 
         ______TS("(student email not specified): qn1");
         fqa = responseBundle.feedbackQuestions.get("qn1InSession1InCourse1");
-        assertEquals("{\n"
+        assertStatisticsJsonEquals("{\n"
                 + "  \"results\": {\n"
                 + "    \"student6InCourse1@gmail.tmt\": {\n"
                 + "      \"claimed\": -999,\n"
@@ -264,7 +265,7 @@ public class FeedbackContributionQuestionDetailsTest extends BaseTestCase {
 
         ______TS("(student email not specified): qn2");
         fqa = responseBundle.feedbackQuestions.get("qn2InSession1InCourse1");
-        assertEquals("{\n"
+        assertStatisticsJsonEquals("{\n"
                         + "  \"results\": {\n"
                         + "    \"student6InCourse1@gmail.tmt\": {\n"
                         + "      \"claimed\": 114,\n"
@@ -363,7 +364,7 @@ public class FeedbackContributionQuestionDetailsTest extends BaseTestCase {
 
         ______TS("(student email not specified): qn3");
         fqa = responseBundle.feedbackQuestions.get("qn3InSession1InCourse1");
-        assertEquals("{\n"
+        assertStatisticsJsonEquals("{\n"
                 + "  \"results\": {\n"
                 + "    \"student6InCourse1@gmail.tmt\": {\n"
                 + "      \"claimed\": -999,\n"
@@ -721,4 +722,9 @@ public class FeedbackContributionQuestionDetailsTest extends BaseTestCase {
 
     }
 
+    private void assertStatisticsJsonEquals(String expected, String actual) {
+        // the statistics are returned as compact JSON; the expected values are pretty-printed for readability
+        assertEquals(JsonUtils.toCompactJson(JsonUtils.parse(expected)), actual);
+    }
+
 }
@@ -0,0 +1,200 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import com.google.gson.JsonObject;
+
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackQuestionStatistics} and its subclasses.
+ */
+public class FeedbackQuestionStatisticsTest extends BaseTestCase {
+
+    @Test
+    public void testCreateQuestionStatistics_typeWithoutAggregatedStatistics_shouldReturnNull() {
+        assertNull(new FeedbackTextQuestionDetails().createQuestionStatistics());
+        assertNull(new FeedbackContributionQuestionDetails().createQuestionStatistics());
+    }
+
+    @Test
+    public void testMcqStatistics_addAndRemoveResponses_shouldCountChoices() {
+        FeedbackMcqQuestionDetails questionDetails = new FeedbackMcqQuestionDetails();
+        questionDetails.setMcqChoices(Arrays.asList("A", "B"));
+        FeedbackQuestionStatistics statistics = questionDetails.createQuestionStatistics();
+
+        statistics.addResponse("recipient1", getMcqResponse("A", false));
+        statistics.addResponse("recipient2", getMcqResponse("A", false));
+        statistics.addResponse("recipient3", getMcqResponse("Something else", true));
+        statistics.removeResponse("recipient2", getMcqResponse("A", false));
+
+        JsonObject output = toJsonObject(statistics, true);
+        assertEquals(2, output.get("numResponses").getAsInt());
+        JsonObject answerFrequency = output.getAsJsonObject("answerFrequency");
+        assertEquals(1, answerFrequency.get("A").getAsInt());
+        assertEquals(0, answerFrequency.get("B").getAsInt());
+        assertEquals(1, output.get("otherFrequency").getAsInt());
+    }
+
+    @Test
+    public void testMsqStatistics_addResponses_shouldCountEveryChoiceSelected() {
+        FeedbackMsqQuestionDetails questionDetails = new FeedbackMsqQuestionDetails();
+        questionDetails.setMsqChoices(Arrays.asList("A", "B"));
+        FeedbackQuestionStatistics statistics = questionDetails.createQuestionStatistics();
+
+        FeedbackMsqResponseDetails response = new FeedbackMsqResponseDetails();
+        response.setAnswers(Arrays.asList("A", "B", "Something else"));
+        response.setOther(true);
+        response.setOtherFieldContent("Something else");
+        statistics.addResponse("recipient1", response);
+
+        FeedbackMsqResponseDetails noneOfTheAboveResponse = new FeedbackMsqResponseDetails();
+        noneOfTheAboveResponse.setAnswers(Arrays.asList(""));
+        statistics.addResponse("recipient2", noneOfTheAboveResponse);
+
+        JsonObject output = toJsonObject(statistics, true);
+        JsonObject answerFrequency = output.getAsJsonObject("answerFrequency");
+        assertEquals(2, answerFrequency.size());
+        assertEquals(1, answerFrequency.get("A").getAsInt());
+        assertEquals(1, answerFrequency.get("B").getAsInt());
+        assertEquals(1, output.get("otherFrequency").getAsInt());
+    }
+
+    @Test
+    public void testRubricStatistics_addAndRemoveResponses_shouldTallyCells() {
+        FeedbackRubricQuestionDetails questionDetails = new FeedbackRubricQuestionDetails();
+        questionDetails.setRubricSubQuestions(Arrays.asList("a", "b"));
+        questionDetails.setRubricChoices(Arrays.asList("Yes", "No"));
+        FeedbackQuestionStatistics statistics = questionDetails.createQuestionStatistics();
+
+        statistics.addResponse("recipient1", getRubricResponse(0, 1));
+        statistics.addResponse("recipient2", getRubricResponse(0, -1));
+        statistics.addResponse("recipient3", getRubricResponse(1, 1));
+        statistics.removeResponse("recipient3", getRubricResponse(1, 1));
+
+        JsonObject output = toJsonObject(statistics, true);
+        assertEquals("[[2,0],[0,1]]", output.get("answerFrequency").toString());
+    }
+
+    @Test
+    public void testNumericalScaleStatistics_removeExtremeAnswer_shouldUpdateMinAndMax() {
+        FeedbackQuestionStatistics statistics = new FeedbackNumericalScaleQuestionDetails().createQuestionStatistics();
+
+        statistics.addResponse("recipient1", getNumericalScaleResponse(1));
+        statistics.addResponse("recipient1", getNumericalScaleResponse(3));
+        statistics.addResponse("recipient2", getNumericalScaleResponse(5));
+
+        JsonObject overall = toJsonObject(statistics, true).getAsJsonObject("overall");
+        assertEquals(3.0, overall.get("mean").getAsDouble());
+        assertEquals(1.0, overall.get("min").getAsDouble());
+        assertEquals(5.0, overall.get("max").getAsDouble());
+
+        statistics.removeResponse("recipient2", getNumericalScaleResponse(5));
+
+        JsonObject output = toJsonObject(statistics, true);
+        overall = output.getAsJsonObject("overall");
+        assertEquals(2.0, overall.get("mean").getAsDouble());
+        assertEquals(3.0, overall.get("max").getAsDouble());
+        JsonObject perRecipient = output.getAsJsonObject("perRecipient");
+        assertEquals(1, perRecipient.size());
+        assertEquals(2.0, perRecipient.getAsJsonObject("recipient1").get("mean").getAsDouble());
+
+        assertFalse(toJsonObject(statistics, false).has("perRecipient"));
+    }
+
+    @Test
+    public void testConstantSumStatistics_optionsAndRecipients_shouldSumPoints() {
+        FeedbackConstantSumQuestionDetails optionsQuestionDetails = new FeedbackConstantSumQuestionDetails();
+        optionsQuestionDetails.setConstSumOptions(Arrays.asList("A", "B"));
+        FeedbackQuestionStatistics statistics = optionsQuestionDetails.createQuestionStatistics();
+
+        statistics.addResponse("recipient1", getConstantSumResponse(70, 30));
+        statistics.addResponse("recipient2", getConstantSumResponse(50, 50));
+
+        JsonObject optionA = toJsonObject(statistics, false).getAsJsonObject("perOption").getAsJsonObject("A");
+        assertEquals(120, optionA.get("total").getAsInt());
+        assertEquals(60.0, optionA.get("average").getAsDouble());
+
+        FeedbackConstantSumQuestionDetails recipientsQuestionDetails = new FeedbackConstantSumQuestionDetails();
+        recipientsQuestionDetails.setDistributeToRecipients(true);
+        statistics = recipientsQuestionDetails.createQuestionStatistics();
+
+        statistics.addResponse("recipient1", getConstantSumResponse(40));
+        statistics.addResponse("recipient1", getConstantSumResponse(60));
+
+        JsonObject recipient1 = toJsonObject(statistics, true).getAsJsonObject("perRecipient").getAsJsonObject("recipient1");
+        assertEquals(100, recipient1.get("total").getAsInt());
+        assertEquals(50.0, recipient1.get("average").getAsDouble());
+        assertFalse(toJsonObject(statistics, false).has("perRecipient"));
+    }
+
+    @Test
+    public void testRankStatistics_optionsAndRecipients_shouldCountRanks() {
+        FeedbackRankOptionsQuestionDetails optionsQuestionDetails = new FeedbackRankOptionsQuestionDetails();
+        optionsQuestionDetails.setOptions(Arrays.asList("A", "B"));
+        FeedbackQuestionStatistics statistics = optionsQuestionDetails.createQuestionStatistics();
+
+        FeedbackRankOptionsResponseDetails optionsResponse = new FeedbackRankOptionsResponseDetails();
+        optionsResponse.setAnswers(Arrays.asList(1, 2));
+        statistics.addResponse("recipient1", optionsResponse);
+        optionsResponse = new FeedbackRankOptionsResponseDetails();
+        optionsResponse.setAnswers(Arrays.asList(2, Const.POINTS_NOT_SUBMITTED));
+        statistics.addResponse("recipient2", optionsResponse);
+
+        JsonObject perOption = toJsonObject(statistics, false).getAsJsonObject("perOption");
+        assertEquals(1.5, perOption.getAsJsonObject("A").get("averageRank").getAsDouble());
+        assertEquals(1, perOption.getAsJsonObject("B").getAsJsonObject("rankFrequency").size());
+
+        statistics = new FeedbackRankRecipientsQuestionDetails().createQuestionStatistics();
+
+        FeedbackRankRecipientsResponseDetails recipientsResponse = new FeedbackRankRecipientsResponseDetails();
+        recipientsResponse.setAnswer(2);
+        statistics.addResponse("recipient1", recipientsResponse);
+        statistics.addResponse("recipient1", recipientsResponse);
+
+        JsonObject recipient1 = toJsonObject(statistics, true).getAsJsonObject("perRecipient").getAsJsonObject("recipient1");
+        assertEquals(2, recipient1.getAsJsonObject("rankFrequency").get("2").getAsInt());
+
+        statistics.removeResponse("recipient1", recipientsResponse);
+        statistics.removeResponse("recipient1", recipientsResponse);
+
+        assertEquals(0, toJsonObject(statistics, true).getAsJsonObject("perRecipient").size());
+    }
+
+    private JsonObject toJsonObject(FeedbackQuestionStatistics statistics, boolean isRecipientVisible) {
+        return JsonUtils.parse(statistics.toJson(isRecipientVisible)).getAsJsonObject();
+    }
+
+    private FeedbackMcqResponseDetails getMcqResponse(String answer, boolean isOther) {
+        FeedbackMcqResponseDetails response = new FeedbackMcqResponseDetails();
+        response.setAnswer(answer);
+        response.setOther(isOther);
+        if (isOther) {
+            response.setOtherFieldContent(answer);
+        }
+        return response;
+    }
+
+    private FeedbackRubricResponseDetails getRubricResponse(Integer... answer) {
+        FeedbackRubricResponseDetails response = new FeedbackRubricResponseDetails();
+        response.setAnswer(Arrays.asList(answer));
+        return response;
+    }
+
+    private FeedbackNumericalScaleResponseDetails getNumericalScaleResponse(double answer) {
+        FeedbackNumericalScaleResponseDetails response = new FeedbackNumericalScaleResponseDetails();
+        response.setAnswer(answer);
+        return response;
+    }
+
+    private FeedbackConstantSumResponseDetails getConstantSumResponse(Integer... answers) {
+        FeedbackConstantSumResponseDetails response = new FeedbackConstantSumResponseDetails();
+        response.setAnswers(Arrays.asList(answers));
+        return response;
+    }
+
+}
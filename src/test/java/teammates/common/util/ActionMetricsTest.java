@@ -0,0 +1,78 @@
+package teammates.common.util;
+
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link ActionMetrics}, {@link RequestMetrics}.
+ */
+public class ActionMetricsTest extends BaseTestCase {
+
+    @AfterMethod
+    public void resetMetrics() {
+        ActionMetrics.inst().reset();
+    }
+
+    @Test
+    public void testRequestMetrics() {
+        ______TS("measurements outside of a request are ignored");
+
+        RequestMetrics.recordDatastoreRpc();
+        assertNull(RequestMetrics.finish());
+
+        ______TS("measurements within a request are accumulated");
+
+        RequestMetrics.start();
+        RequestMetrics.recordDatastoreRpc();
+        RequestMetrics.recordDatastoreRpc();
+        RequestMetrics.recordSolrCall(3_000_000L);
+        RequestMetrics.recordSolrCall(2_000_000L);
+        RequestMetrics.recordTaskEnqueued();
+        RequestMetrics.recordResponse(2048, 1_000_000L, 4_000_000L);
+        RequestMetrics metrics = RequestMetrics.finish();
+
+        assertEquals(0, metrics.getSqlStatements());
+        assertEquals(2, metrics.getDatastoreRpcs());
+        assertEquals(2, metrics.getSolrCalls());
+        assertEquals(5, metrics.getSolrTimeMillis());
+        assertEquals(1, metrics.getTasksEnqueued());
+        assertEquals(2048, metrics.getResponseBytes());
+        assertEquals(1, metrics.getSerializationTimeMillis());
+        assertEquals(4, metrics.getResponseWriteTimeMillis());
+        assertNull(RequestMetrics.finish());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRecord() {
+        RequestMetrics.start();
+        RequestMetrics.recordDatastoreRpc();
+        RequestMetrics metrics = RequestMetrics.finish();
+
+        ActionMetrics.inst().record("GetCourseAction", 200, 40, metrics);
+        ActionMetrics.inst().record("GetCourseAction", 500, 40_000, metrics);
+
+        Map<String, Object> statistics = ActionMetrics.inst().getStatistics().get("GetCourseAction");
+        assertEquals(2L, statistics.get("requests"));
+        assertEquals(1L, statistics.get("serverErrors"));
+
+        Map<String, Object> latency = (Map<String, Object>) statistics.get("latencyMillis");
+        assertEquals(20020.0, latency.get("mean"));
+        assertEquals(40_000L, latency.get("max"));
+        Map<String, Long> buckets = (Map<String, Long>) latency.get("buckets");
+        assertEquals(1L, (long) buckets.get("<=50"));
+        assertEquals(1L, (long) buckets.get(">30000"));
+        assertEquals(0L, (long) buckets.get("<=10"));
+
+        Map<String, Object> datastoreRpcs = (Map<String, Object>) statistics.get("datastoreRpcs");
+        assertEquals(1.0, datastoreRpcs.get("mean"));
+
+        ActionMetrics.inst().reset();
+        assertTrue(ActionMetrics.inst().getStatistics().isEmpty());
+    }
+
+}
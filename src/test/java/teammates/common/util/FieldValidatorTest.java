@@ -3,7 +3,10 @@ package teammates.common.util;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.testng.annotations.Test;
@@ -852,4 +855,24 @@ public class FieldValidatorTest extends BaseTestCase {
         assertFalse(StringHelper.isMatching(googleId, FieldValidator.REGEX_GOOGLE_ID_NON_EMAIL));
     }
 
+    @Test
+    public void testGetInvalidityInfoForEach() {
+        ______TS("all valid: no errors");
+        List<String> emails = Arrays.asList("valid1@email.tmt", "valid2@email.tmt");
+        assertTrue(FieldValidator.getInvalidityInfoForEach(emails, this::getInvalidityInfoForEmail).isEmpty());
+
+        ______TS("some invalid: errors keyed by index");
+        emails = Arrays.asList("valid1@email.tmt", "invalid", "valid2@email.tmt", "");
+        Map<Integer, List<String>> invalidityInfo =
+                FieldValidator.getInvalidityInfoForEach(emails, this::getInvalidityInfoForEmail);
+        assertEquals(Arrays.asList(1, 3), List.copyOf(invalidityInfo.keySet()));
+        assertEquals(Collections.singletonList(FieldValidator.getInvalidityInfoForEmail("invalid")),
+                invalidityInfo.get(1));
+    }
+
+    private List<String> getInvalidityInfoForEmail(String email) {
+        String error = FieldValidator.getInvalidityInfoForEmail(email);
+        return error.isEmpty() ? Collections.emptyList() : Collections.singletonList(error);
+    }
+
 }
@@ -2,6 +2,7 @@ package teammates.common.util;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import javax.crypto.Cipher;
 import javax.crypto.Mac;
@@ -37,6 +38,11 @@ public class StringHelperTest extends BaseTestCase {
         assertTrue(StringHelper.isMatching("\u00E0", "à"));
         assertTrue(StringHelper.isMatching("\u0061\u0300", "à"));
         assertFalse(StringHelper.isMatching("Héllo", "Hello"));
+
+        ______TS("precompiled pattern");
+        Pattern pattern = StringHelper.compileCanonicalPattern("à+");
+        assertTrue(StringHelper.isMatching("\u00E0\u0061\u0300", pattern));
+        assertFalse(StringHelper.isMatching("a", pattern));
     }
 
     @Test
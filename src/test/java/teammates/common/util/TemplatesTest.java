@@ -0,0 +1,147 @@
+package teammates.common.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Templates.CompiledTemplate;
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link Templates}.
+ */
+public class TemplatesTest extends BaseTestCase {
+
+    @Test
+    public void testPopulateTemplate() {
+        ______TS("all variables given");
+
+        assertEquals("Hello Alice, welcome to CS101!",
+                Templates.populateTemplate("Hello ${userName}, welcome to ${courseId}!",
+                        "${userName}", "Alice", "${courseId}", "CS101"));
+
+        ______TS("variable appearing multiple times");
+
+        assertEquals("CS101 and CS101",
+                Templates.populateTemplate("${courseId} and ${courseId}", "${courseId}", "CS101"));
+
+        ______TS("variables not given are kept for later population");
+
+        String partiallyPopulated = Templates.populateTemplate("${userName} joins ${courseId}", "${userName}", "Alice");
+        assertEquals("Alice joins ${courseId}", partiallyPopulated);
+        assertEquals("Alice joins CS101", Templates.populateTemplate(partiallyPopulated, "${courseId}", "CS101"));
+
+        ______TS("values containing variables are populated by later keys");
+
+        assertEquals("Join via http://join.url now",
+                Templates.populateTemplate("${joinFragment} now",
+                        "${joinFragment}", "Join via ${joinUrl}", "${joinUrl}", "http://join.url"));
+
+        ______TS("text that is not a complete variable is left untouched");
+
+        assertEquals("cost: $5 {a} ${ Alice",
+                Templates.populateTemplate("cost: $5 {a} ${ ${userName}", "${userName}", "Alice"));
+        assertEquals("no variables", Templates.populateTemplate("no variables", "${userName}", "Alice"));
+    }
+
+    @Test
+    public void testPopulateTemplate_emailTemplate_shouldMatchReplacingKeyByKey() {
+        String[] keyValuePairs = {
+                "${userName}", "Alice",
+                "${courseName}", "Software Engineering",
+                "${courseId}", "CS2103",
+                "${feedbackSessionName}", "Peer Review",
+                "${deadline}", "Sun, 01 Jan 2023, 11:59 PM",
+                "${instructorPreamble}", "",
+                "${sessionInstructions}", "<p>Please answer all questions.</p>",
+                "${submitUrl}", "http://submit.url",
+                "${reportUrl}", "http://report.url",
+                "${feedbackAction}", "submit",
+                "${additionalContactInformation}", "contact us",
+        };
+        String template = EmailTemplates.USER_FEEDBACK_SESSION;
+
+        String expected = template;
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            expected = expected.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+
+        assertEquals(expected, Templates.populateTemplate(template, keyValuePairs));
+        assertTrue(expected.contains("${status}"));
+    }
+
+    @Test
+    public void testPopulateTemplate_plainTextKeys_shouldReplaceKeyByKey() {
+        ______TS("keys which are not variables");
+
+        assertEquals("Hello Alice of CS101, see CS101.",
+                Templates.populateTemplate("Hello demo.name of demo.course, see demo.course.",
+                        "demo.name", "Alice", "demo.course", "CS101"));
+
+        ______TS("keys which are not variables mixed with variables");
+
+        assertEquals("Alice joins CS101",
+                Templates.populateTemplate("${userName} joins demo.course", "${userName}", "Alice", "demo.course", "CS101"));
+
+        ______TS("sample data for new instructors");
+
+        String[] keyValuePairs = {
+                "teammates.demo.instructor@demo.course", "instructor@university.tmt",
+                "Demo_Instructor", "Instructor Name",
+                "demo.course", "instructor.uni-demo",
+                "demo.institute", "University",
+                "demo.timezone", "Asia/Singapore",
+                "demo.date1", "2023-01-01T00:00:00Z",
+                "demo.date2", "2023-01-02T00:00:00Z",
+                "demo.date3", "2023-01-03T00:00:00Z",
+                "demo.date4", "2023-01-04T00:00:00Z",
+                "demo.date5", "2023-01-05T00:00:00Z",
+        };
+        String expected = Templates.INSTRUCTOR_SAMPLE_DATA;
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            expected = expected.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+
+        String populated = Templates.populateTemplate(Templates.INSTRUCTOR_SAMPLE_DATA, keyValuePairs);
+        assertEquals(expected, populated);
+        assertFalse(populated.contains("demo.course"));
+        assertFalse(populated.contains("demo.date1"));
+        assertTrue(populated.contains("instructor.uni-demo"));
+    }
+
+    @Test
+    public void testCompiledTemplateRender() {
+        CompiledTemplate template = Templates.compile("Hello ${userName}, ${courseId} starts at ${time}.");
+
+        ______TS("all variables given");
+
+        assertEquals("Hello Alice, CS101 starts at 9am.",
+                template.render("${userName}", "Alice", "${courseId}", "CS101", "${time}", "9am", "${unused}", "x"));
+
+        ______TS("values are inserted as-is");
+
+        assertEquals("Hello ${courseId}, CS101 starts at 9am.",
+                template.render("${userName}", "${courseId}", "${courseId}", "CS101", "${time}", "9am"));
+
+        ______TS("rendering can be repeated with different values");
+
+        assertEquals("Hello Bob, CS102 starts at 10am.",
+                template.render("${userName}", "Bob", "${courseId}", "CS102", "${time}", "10am"));
+
+        ______TS("missing variable");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> template.render("${userName}", "Alice", "${courseId}", "CS101"));
+        assertEquals("No value is given for ${time}", e.getMessage());
+
+        ______TS("template without variables");
+
+        assertEquals("plain text", Templates.compile("plain text").render());
+    }
+
+    @Test
+    public void testCompile_emailTemplate_shouldReusePrecompiledTemplate() {
+        assertSame(Templates.compile(EmailTemplates.USER_COURSE_JOIN), Templates.compile(EmailTemplates.USER_COURSE_JOIN));
+        assertNotSame(Templates.compile("${userName}"), Templates.compile("${userName}"));
+    }
+
+}
@@ -0,0 +1,124 @@
+package teammates.common.util;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.Test;
+
+import teammates.common.util.UserRolesCache.UserRoles;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link UserRolesCache}.
+ */
+public class UserRolesCacheTest extends BaseTestCase {
+
+    @Test
+    public void testGetOrLoad() {
+        UserRolesCache cache = new UserRolesCache(10, 60);
+        AtomicInteger numLoads = new AtomicInteger();
+        Supplier<UserRoles> loader = () -> {
+            numLoads.incrementAndGet();
+            return new UserRoles(true, false);
+        };
+
+        ______TS("roles are loaded once and then served from the cache");
+
+        UserRoles roles = cache.getOrLoad("user1", loader);
+        assertTrue(roles.isInstructor());
+        assertFalse(roles.isStudent());
+        assertSame(roles, cache.getOrLoad("user1", loader));
+        assertEquals(1, numLoads.get());
+
+        Map<String, Object> statistics = cache.getStatistics();
+        assertEquals(true, statistics.get("enabled"));
+        assertEquals(1L, statistics.get("hits"));
+        assertEquals(1L, statistics.get("misses"));
+        assertEquals(0.5, statistics.get("hitRate"));
+
+        ______TS("invalidated roles are loaded again");
+
+        cache.invalidate("user1");
+        cache.getOrLoad("user1", loader);
+        assertEquals(2, numLoads.get());
+
+        cache.getOrLoad("user2", loader);
+        cache.invalidateAll();
+        cache.getOrLoad("user1", loader);
+        cache.getOrLoad("user2", loader);
+        assertEquals(5, numLoads.get());
+    }
+
+    @Test
+    public void testGetOrLoad_invalidatedWhileLoading_shouldNotCacheStaleRoles() {
+        UserRolesCache cache = new UserRolesCache(10, 60);
+        AtomicInteger numLoads = new AtomicInteger();
+
+        cache.getOrLoad("user1", () -> {
+            numLoads.incrementAndGet();
+            // the roles change while they are being looked up
+            cache.invalidate("user1");
+            return new UserRoles(false, false);
+        });
+        UserRoles roles = cache.getOrLoad("user1", () -> {
+            numLoads.incrementAndGet();
+            return new UserRoles(false, true);
+        });
+
+        assertTrue(roles.isStudent());
+        assertEquals(2, numLoads.get());
+    }
+
+    @Test
+    public void testInvalidateOnCommit_rolesLoadedBeforeCommit_shouldBeEvictedAfterCommit() {
+        UserRolesCache cache = new UserRolesCache(10, 60);
+        AtomicInteger numLoads = new AtomicInteger();
+        Supplier<UserRoles> loader = () -> {
+            numLoads.incrementAndGet();
+            return new UserRoles(true, false);
+        };
+        List<Runnable> actionsAfterCommit = new ArrayList<>();
+
+        try (MockedStatic<HibernateUtil> mockHibernateUtil = mockStatic(HibernateUtil.class)) {
+            mockHibernateUtil.when(() -> HibernateUtil.runAfterCommit(any()))
+                    .thenAnswer(invocation -> actionsAfterCommit.add(invocation.getArgument(0)));
+
+            cache.getOrLoad("user1", loader);
+            cache.invalidateOnCommit("user1");
+            assertEquals(1, actionsAfterCommit.size());
+
+            // another request loads the roles before the change is committed
+            cache.getOrLoad("user1", loader);
+            assertEquals(2, numLoads.get());
+
+            actionsAfterCommit.forEach(Runnable::run);
+            cache.getOrLoad("user1", loader);
+            assertEquals(3, numLoads.get());
+        }
+    }
+
+    @Test
+    public void testGetOrLoad_disabled_shouldAlwaysLoad() {
+        UserRolesCache cache = new UserRolesCache(0, 60);
+        AtomicInteger numLoads = new AtomicInteger();
+        Supplier<UserRoles> loader = () -> {
+            numLoads.incrementAndGet();
+            return new UserRoles(false, true);
+        };
+
+        cache.getOrLoad("user1", loader);
+        cache.getOrLoad("user1", loader);
+        cache.invalidate("user1");
+
+        assertEquals(2, numLoads.get());
+        assertEquals(false, cache.getStatistics().get("enabled"));
+    }
+
+}
@@ -0,0 +1,65 @@
+package teammates.logic.api;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.exception.DeadlineExceededException;
+import teammates.common.util.RequestTracer;
+import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
+
+/**
+ * SUT: {@link DualStoreReader}.
+ */
+public class DualStoreReaderTest extends BaseTestCaseWithLocalDatabaseAccess {
+
+    private final DualStoreReader dualStoreReader = new DualStoreReader();
+
+    @AfterMethod
+    public void clearRequestTrace() {
+        RequestTracer.clear();
+    }
+
+    @Test
+    public void testStartDatastoreRead_shouldRunInWorkerThreadAsPartOfRequest() {
+        RequestTracer.init("trace-id", "span-id", 60);
+        Thread requestThread = Thread.currentThread();
+
+        Supplier<Thread> threadRead = dualStoreReader.startDatastoreRead(Thread::currentThread);
+        Supplier<String> traceIdRead = dualStoreReader.startDatastoreRead(RequestTracer::getTraceId);
+
+        assertNotSame(requestThread, threadRead.get());
+        assertEquals("trace-id", traceIdRead.get());
+    }
+
+    @Test
+    public void testStartDatastoreRead_readFails_shouldThrowSameException() {
+        Supplier<Object> read = dualStoreReader.startDatastoreRead(() -> {
+            throw new IllegalArgumentException("read failed");
+        });
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, read::get);
+        assertEquals("read failed", e.getMessage());
+    }
+
+    @Test
+    public void testStartDatastoreRead_requestTimesOut_shouldThrowDeadlineExceededException() {
+        RequestTracer.init("trace-id", "span-id", 0);
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Supplier<Boolean> read = dualStoreReader.startDatastoreRead(() -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        });
+
+        assertThrows(DeadlineExceededException.class, read::get);
+        latch.countDown();
+    }
+
+}
@@ -1,5 +1,10 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
@@ -10,13 +15,17 @@ import com.mailjet.client.resource.Email;
 import com.sendgrid.helpers.mail.Mail;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
+import teammates.common.util.Const;
+import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
+import teammates.logic.external.EmailSenderService;
 import teammates.logic.external.MailgunService;
 import teammates.logic.external.MailjetService;
 import teammates.logic.external.SendgridService;
 
 /**
- * SUT: {@link SendgridService},
+ * SUT: {@link EmailSender},
+ *      {@link SendgridService},
  *      {@link MailgunService},
  *      {@link MailjetService}.
  */
@@ -97,4 +106,89 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.get(Email.HTMLPART));
     }
 
+    @Test
+    public void testSendEmails_batchingService_shouldSendInBatchesOfMaxSize() {
+        StubEmailService service = new StubEmailService(2);
+        EmailSender emailSender = new EmailSender(service, 1000);
+
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            EmailWrapper email = getTypicalEmailWrapper();
+            email.setRecipient("recipient" + i + "@email.com");
+            emails.add(email);
+        }
+        service.failingRecipients.add("recipient3@email.com");
+
+        List<EmailSendingStatus> statuses = emailSender.sendEmails(emails);
+
+        assertEquals(Arrays.asList(2, 2, 1), service.batchSizes);
+        assertEquals(5, statuses.size());
+        for (int i = 0; i < statuses.size(); i++) {
+            assertEquals(i != 3, statuses.get(i).isSuccess());
+        }
+    }
+
+    @Test
+    public void testSendEmails_testingAccounts_shouldNotBeSent() {
+        StubEmailService service = new StubEmailService(10);
+        EmailSender emailSender = new EmailSender(service, 1000);
+
+        EmailWrapper testingAccountEmail = getTypicalEmailWrapper();
+        testingAccountEmail.setRecipient("student" + Const.TEST_EMAIL_DOMAIN);
+        EmailWrapper email = getTypicalEmailWrapper();
+        service.failingRecipients.add(email.getRecipient());
+
+        List<EmailSendingStatus> statuses = emailSender.sendEmails(Arrays.asList(testingAccountEmail, email));
+
+        assertEquals(List.of(1), service.batchSizes);
+        assertTrue(statuses.get(0).isSuccess());
+        assertFalse(statuses.get(1).isSuccess());
+
+        ______TS("only testing accounts");
+
+        service.batchSizes.clear();
+        statuses = emailSender.sendEmails(List.of(testingAccountEmail));
+
+        assertTrue(service.batchSizes.isEmpty());
+        assertTrue(statuses.get(0).isSuccess());
+    }
+
+    /**
+     * Email service which records the batches of emails it is given instead of sending them.
+     */
+    private static class StubEmailService implements EmailSenderService {
+
+        private final int maxBatchSize;
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private final List<String> failingRecipients = new ArrayList<>();
+
+        StubEmailService(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        @Override
+        public EmailWrapper parseToEmail(EmailWrapper wrapper) {
+            return wrapper;
+        }
+
+        @Override
+        public EmailSendingStatus sendEmail(EmailWrapper wrapper) {
+            return failingRecipients.contains(wrapper.getRecipient())
+                    ? new EmailSendingStatus(HttpStatus.SC_BAD_REQUEST, "Invalid recipient")
+                    : new EmailSendingStatus(HttpStatus.SC_OK, null);
+        }
+
+        @Override
+        public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+            batchSizes.add(wrappers.size());
+            return EmailSenderService.super.sendEmails(wrappers);
+        }
+
+        @Override
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+    }
+
 }
@@ -24,6 +24,15 @@ public class MockEmailSender extends EmailSender {
         return new EmailSendingStatus(HttpStatus.SC_OK, null);
     }
 
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> emails) {
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (EmailWrapper email : emails) {
+            statuses.add(sendEmail(email));
+        }
+        return statuses;
+    }
+
     /**
      * Gets the emails sent.
      */
@@ -1,11 +1,15 @@
 package teammates.logic.api;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import teammates.common.util.EmailWrapper;
 import teammates.common.util.TaskWrapper;
+import teammates.ui.request.SendEmailRequest;
+import teammates.ui.request.SendEmailsRequest;
 
 /**
  * Allows mocking of the {@link TaskQueuer} API used in production.
@@ -46,6 +50,21 @@ public class MockTaskQueuer extends TaskQueuer {
         return numberOfTasksAdded;
     }
 
+    /**
+     * Gets the emails scheduled for sending, whether individually or in batches.
+     */
+    public List<EmailWrapper> getEmailsScheduled() {
+        List<EmailWrapper> emailsScheduled = new ArrayList<>();
+        for (TaskWrapper task : tasksAdded) {
+            if (task.getRequestBody() instanceof SendEmailRequest) {
+                emailsScheduled.add(((SendEmailRequest) task.getRequestBody()).getEmail());
+            } else if (task.getRequestBody() instanceof SendEmailsRequest) {
+                emailsScheduled.addAll(Arrays.asList(((SendEmailsRequest) task.getRequestBody()).getEmails()));
+            }
+        }
+        return emailsScheduled;
+    }
+
     /**
      * Clears the list of tasks added.
      */
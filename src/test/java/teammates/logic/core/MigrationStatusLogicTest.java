@@ -0,0 +1,135 @@
+package teammates.logic.core;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.storage.api.AccountsDb;
+
+/**
+ * SUT: {@link MigrationStatusLogic}.
+ */
+public class MigrationStatusLogicTest extends BaseLogicTest {
+
+    private final MigrationStatusLogic migrationStatusLogic = MigrationStatusLogic.inst();
+    private final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private final AccountsLogic accountsLogic = AccountsLogic.inst();
+    private final AccountsDb accountsDb = AccountsDb.inst();
+
+    @Override
+    protected void prepareTestData() {
+        // test data is refreshed before each test case
+    }
+
+    @BeforeMethod
+    public void refreshTestData() {
+        dataBundle = getTypicalDataBundle();
+        removeAndRestoreTypicalDataBundle();
+    }
+
+    @Test
+    public void testIsCourseMigrated() throws Exception {
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+
+        ______TS("course not migrated");
+
+        assertFalse(migrationStatusLogic.isCourseMigrated(courseId));
+
+        ______TS("course not in datastore");
+
+        assertTrue(migrationStatusLogic.isCourseMigrated("non-existent-course"));
+
+        ______TS("course marked as migrated");
+
+        coursesLogic.updateCourseCascade(
+                CourseAttributes.updateOptionsBuilder(courseId)
+                        .withMigrate(true)
+                        .build());
+
+        assertTrue(migrationStatusLogic.isCourseMigrated(courseId));
+
+        ______TS("course deleted");
+
+        String otherCourseId = dataBundle.courses.get("typicalCourse2").getId();
+        assertFalse(migrationStatusLogic.isCourseMigrated(otherCourseId));
+
+        coursesLogic.deleteCourseCascade(otherCourseId);
+
+        assertTrue(migrationStatusLogic.isCourseMigrated(otherCourseId));
+
+        ______TS("course created");
+
+        String newCourseId = "new-course-for-migration-status";
+        assertTrue(migrationStatusLogic.isCourseMigrated(newCourseId));
+
+        coursesLogic.createCourse(CourseAttributes.builder(newCourseId)
+                .withName("New Course")
+                .withTimezone("UTC")
+                .withInstitute("Test Institute")
+                .build());
+
+        assertFalse(migrationStatusLogic.isCourseMigrated(newCourseId));
+
+        coursesLogic.deleteCourseCascade(newCourseId);
+    }
+
+    @Test
+    public void testGetMigratedCourseIds() throws Exception {
+        String courseId1 = dataBundle.courses.get("typicalCourse1").getId();
+        String courseId2 = dataBundle.courses.get("typicalCourse2").getId();
+
+        coursesLogic.updateCourseCascade(
+                CourseAttributes.updateOptionsBuilder(courseId1)
+                        .withMigrate(true)
+                        .build());
+
+        Set<String> migratedCourseIds = migrationStatusLogic.getMigratedCourseIds(
+                Arrays.asList(courseId1, courseId2, "non-existent-course"));
+
+        assertEquals(2, migratedCourseIds.size());
+        assertTrue(migratedCourseIds.contains(courseId1));
+        assertFalse(migratedCourseIds.contains(courseId2));
+        assertTrue(migratedCourseIds.contains("non-existent-course"));
+    }
+
+    @Test
+    public void testIsAccountMigrated() throws Exception {
+        String googleId = dataBundle.accounts.get("instructor1OfCourse1").getGoogleId();
+
+        ______TS("account not migrated");
+
+        assertFalse(migrationStatusLogic.isAccountMigrated(googleId));
+
+        ______TS("account not in datastore");
+
+        assertTrue(migrationStatusLogic.isAccountMigrated("non-existent-account"));
+
+        ______TS("account marked as migrated outside of the logic layer");
+
+        accountsDb.updateAccount(
+                AccountAttributes.updateOptionsBuilder(googleId)
+                        .withMigrated(true)
+                        .build());
+
+        // the change is only seen after the snapshot is refreshed or invalidated
+        assertFalse(migrationStatusLogic.isAccountMigrated(googleId));
+
+        migrationStatusLogic.invalidate();
+
+        assertTrue(migrationStatusLogic.isAccountMigrated(googleId));
+
+        ______TS("account deleted");
+
+        String otherGoogleId = dataBundle.accounts.get("instructor2OfCourse1").getGoogleId();
+        assertFalse(migrationStatusLogic.isAccountMigrated(otherGoogleId));
+
+        accountsLogic.deleteAccountCascade(otherGoogleId);
+
+        assertTrue(migrationStatusLogic.isAccountMigrated(otherGoogleId));
+    }
+
+}
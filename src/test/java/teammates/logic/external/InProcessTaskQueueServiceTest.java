@@ -0,0 +1,246 @@
+package teammates.logic.external;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.exception.DeadlineExceededException;
+import teammates.common.util.RequestTracer;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.external.InProcessTaskQueueService.QueueSettings;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link InProcessTaskQueueService}.
+ */
+public class InProcessTaskQueueServiceTest extends BaseTestCase {
+
+    private static final String QUEUE_NAME = "test-queue";
+
+    private InProcessTaskQueueService service;
+
+    @BeforeMethod
+    public void setUp() {
+        Map<String, QueueSettings> queueSettings = new HashMap<>();
+        queueSettings.put(QUEUE_NAME, new QueueSettings(2, 3, 10, 20));
+        service = new InProcessTaskQueueService(10, queueSettings, new QueueSettings(1, 1, 10, 20));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    public void testAddDeferredTask_successfulTask_shouldBeDispatchedOnce() throws Exception {
+        CountDownLatch dispatched = new CountDownLatch(1);
+        AtomicInteger numDispatches = new AtomicInteger();
+        service.setDispatcher(task -> {
+            numDispatches.incrementAndGet();
+            dispatched.countDown();
+            return HttpStatus.SC_OK;
+        });
+
+        service.addDeferredTask(new TaskWrapper(QUEUE_NAME, "/worker/test", new HashMap<>(), null), 0);
+
+        assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+        waitForQueueToBeIdle();
+        assertEquals(1, numDispatches.get());
+        Map<String, Object> statistics = service.getStatistics().get(QUEUE_NAME);
+        assertEquals(1L, statistics.get("addedTasks"));
+        assertEquals(1L, statistics.get("succeededTasks"));
+        assertEquals(0L, statistics.get("retries"));
+    }
+
+    @Test
+    public void testAddDeferredTask_failingTask_shouldBeRetriedUntilMaxAttempts() throws Exception {
+        CountDownLatch dispatched = new CountDownLatch(3);
+        service.setDispatcher(task -> {
+            dispatched.countDown();
+            return HttpStatus.SC_BAD_GATEWAY;
+        });
+
+        service.addDeferredTask(new TaskWrapper(QUEUE_NAME, "/worker/test", new HashMap<>(), null), 0);
+
+        assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+        waitForQueueToBeIdle();
+        Map<String, Object> statistics = service.getStatistics().get(QUEUE_NAME);
+        assertEquals(0L, statistics.get("succeededTasks"));
+        assertEquals(1L, statistics.get("failedTasks"));
+        assertEquals(2L, statistics.get("retries"));
+    }
+
+    @Test
+    public void testAddDeferredTask_withCountdown_shouldNotBeDispatchedEarly() throws Exception {
+        CountDownLatch dispatched = new CountDownLatch(1);
+        service.setDispatcher(task -> {
+            dispatched.countDown();
+            return HttpStatus.SC_OK;
+        });
+
+        long startTime = System.currentTimeMillis();
+        service.addDeferredTask(new TaskWrapper(QUEUE_NAME, "/worker/test", new HashMap<>(), null), 300);
+
+        assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+        assertTrue(System.currentTimeMillis() - startTime >= 300);
+    }
+
+    @Test
+    public void testAddDeferredTask_manyTasks_shouldNotExceedConcurrencyLimit() throws Exception {
+        CountDownLatch dispatched = new CountDownLatch(10);
+        AtomicInteger numRunning = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        service.setDispatcher(task -> {
+            maxRunning.accumulateAndGet(numRunning.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            numRunning.decrementAndGet();
+            dispatched.countDown();
+            return HttpStatus.SC_OK;
+        });
+
+        for (int i = 0; i < 10; i++) {
+            service.addDeferredTask(new TaskWrapper(QUEUE_NAME, "/worker/test", new HashMap<>(), null), 0);
+        }
+
+        assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void testAddDeferredTask_noDispatcher_shouldFailTask() throws Exception {
+        service.addDeferredTask(new TaskWrapper("unknown-queue", "/worker/test", new HashMap<>(), null), 0);
+
+        waitForQueueToBeIdle();
+        Map<String, Object> statistics = service.getStatistics().get("unknown-queue");
+        assertEquals(1L, statistics.get("failedTasks"));
+        assertEquals(1, statistics.get("maxConcurrentTasks"));
+    }
+
+    @Test
+    public void testAddDeferredTask_fullQueue_shouldWaitForSpaceInsteadOfDroppingTask() throws Exception {
+        service.shutdown();
+        Map<String, QueueSettings> queueSettings = new HashMap<>();
+        queueSettings.put(QUEUE_NAME, new QueueSettings(1, 1, 10, 20));
+        service = new InProcessTaskQueueService(1, queueSettings, new QueueSettings(1, 1, 10, 20));
+
+        CountDownLatch canFinish = new CountDownLatch(1);
+        service.setDispatcher(task -> {
+            try {
+                canFinish.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return HttpStatus.SC_OK;
+        });
+
+        service.addDeferredTask(new TaskWrapper(QUEUE_NAME, "/worker/test", new HashMap<>(), null), 0);
+        CountDownLatch added = new CountDownLatch(1);
+        Thread adder = new Thread(() -> {
+            service.addDeferredTask(new TaskWrapper(QUEUE_NAME, "/worker/test", new HashMap<>(), null), 0);
+            added.countDown();
+        });
+        adder.start();
+
+        assertFalse(added.await(200, TimeUnit.MILLISECONDS));
+        assertEquals(1L, service.getStatistics().get(QUEUE_NAME).get("blockedAdds"));
+
+        canFinish.countDown();
+        assertTrue(added.await(5, TimeUnit.SECONDS));
+        waitForQueueToBeIdle();
+        Map<String, Object> statistics = service.getStatistics().get(QUEUE_NAME);
+        assertEquals(2L, statistics.get("addedTasks"));
+        assertEquals(2L, statistics.get("succeededTasks"));
+    }
+
+    @Test
+    public void testAddDeferredTask_fullQueueUntilRequestTimesOut_shouldFailWithoutAddingTask() throws Exception {
+        service.shutdown();
+        Map<String, QueueSettings> queueSettings = new HashMap<>();
+        queueSettings.put(QUEUE_NAME, new QueueSettings(1, 1, 10, 20));
+        service = new InProcessTaskQueueService(1, queueSettings, new QueueSettings(1, 1, 10, 20));
+
+        CountDownLatch canFinish = new CountDownLatch(1);
+        service.setDispatcher(task -> {
+            try {
+                canFinish.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return HttpStatus.SC_OK;
+        });
+
+        service.addDeferredTask(new TaskWrapper(QUEUE_NAME, "/worker/test", new HashMap<>(), null), 0);
+        AtomicReference<RuntimeException> addFailure = new AtomicReference<>();
+        Thread adder = new Thread(() -> {
+            // the trace is dropped together with the thread
+            RequestTracer.init("trace-id", "span-id", 1);
+            try {
+                service.addDeferredTask(new TaskWrapper(QUEUE_NAME, "/worker/test", new HashMap<>(), null), 0);
+            } catch (RuntimeException e) {
+                addFailure.set(e);
+            }
+        });
+        adder.start();
+        adder.join(5000);
+
+        assertFalse(adder.isAlive());
+        assertTrue(addFailure.get() instanceof DeadlineExceededException);
+
+        canFinish.countDown();
+        waitForQueueToBeIdle();
+        Map<String, Object> statistics = service.getStatistics().get(QUEUE_NAME);
+        assertEquals(1L, statistics.get("addedTasks"));
+        assertEquals(1L, statistics.get("blockedAdds"));
+    }
+
+    @Test
+    public void testAddDeferredTask_fullQueueFromOwnTask_shouldNotWait() throws Exception {
+        service.shutdown();
+        Map<String, QueueSettings> queueSettings = new HashMap<>();
+        queueSettings.put(QUEUE_NAME, new QueueSettings(1, 1, 10, 20));
+        service = new InProcessTaskQueueService(1, queueSettings, new QueueSettings(1, 1, 10, 20));
+
+        CountDownLatch dispatched = new CountDownLatch(2);
+        service.setDispatcher(task -> {
+            if (dispatched.getCount() == 2) {
+                service.addDeferredTask(new TaskWrapper(QUEUE_NAME, "/worker/test", new HashMap<>(), null), 0);
+            }
+            dispatched.countDown();
+            return HttpStatus.SC_OK;
+        });
+
+        service.addDeferredTask(new TaskWrapper(QUEUE_NAME, "/worker/test", new HashMap<>(), null), 0);
+
+        assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+        waitForQueueToBeIdle();
+        Map<String, Object> statistics = service.getStatistics().get(QUEUE_NAME);
+        assertEquals(2L, statistics.get("succeededTasks"));
+        assertEquals(0L, statistics.get("blockedAdds"));
+    }
+
+    private void waitForQueueToBeIdle() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            boolean isIdle = service.getStatistics().values().stream()
+                    .allMatch(statistics -> (long) statistics.get("addedTasks")
+                            == (long) statistics.get("succeededTasks") + (long) statistics.get("failedTasks"));
+            if (isIdle) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("Task queue is not idle");
+    }
+
+}
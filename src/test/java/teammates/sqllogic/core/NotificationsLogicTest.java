@@ -1,13 +1,19 @@
 package teammates.sqllogic.core;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -15,6 +21,7 @@ import teammates.common.datatransfer.NotificationStyle;
 import teammates.common.datatransfer.NotificationTargetUser;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.HibernateUtil;
 import teammates.storage.sqlapi.NotificationsDb;
 import teammates.storage.sqlentity.Notification;
 import teammates.test.BaseTestCase;
@@ -28,10 +35,24 @@ public class NotificationsLogicTest extends BaseTestCase {
 
     private NotificationsDb notificationsDb;
 
+    private MockedStatic<HibernateUtil> mockHibernateUtil;
+
+    private final List<Runnable> actionsAfterCommit = new ArrayList<>();
+
     @BeforeMethod
     public void setUpMethod() {
         notificationsDb = mock(NotificationsDb.class);
         notificationsLogic.initLogicDependencies(notificationsDb);
+
+        actionsAfterCommit.clear();
+        mockHibernateUtil = mockStatic(HibernateUtil.class);
+        mockHibernateUtil.when(() -> HibernateUtil.runAfterCommit(any()))
+                .thenAnswer(invocation -> actionsAfterCommit.add(invocation.getArgument(0)));
+    }
+
+    @AfterMethod
+    public void tearDownMethod() {
+        mockHibernateUtil.close();
     }
 
     @Test
@@ -126,4 +147,58 @@ public class NotificationsLogicTest extends BaseTestCase {
 
         assertEquals("Trying to update non-existent Entity: " + Notification.class, ex.getMessage());
     }
+
+    @Test
+    public void testGetActiveNotificationsSnapshot() throws Exception {
+        Notification notification = getTypicalNotificationWithId();
+        List<Notification> activeNotifications = List.of(notification);
+        when(notificationsDb.getActiveNotificationsByTargetUser(NotificationTargetUser.STUDENT))
+                .thenReturn(activeNotifications);
+
+        ______TS("snapshot is loaded once and reused");
+
+        assertEquals(activeNotifications, notificationsLogic.getActiveNotificationsSnapshot(NotificationTargetUser.STUDENT));
+        assertEquals(activeNotifications, notificationsLogic.getActiveNotificationsSnapshot(NotificationTargetUser.STUDENT));
+
+        verify(notificationsDb, times(1)).getActiveNotificationsByTargetUser(NotificationTargetUser.STUDENT);
+        verify(notificationsDb, times(1)).detachNotifications(activeNotifications);
+
+        ______TS("snapshot is reloaded after a notification is created");
+
+        Notification newNotification = getTypicalNotificationWithId();
+        when(notificationsDb.createNotification(newNotification)).thenReturn(newNotification);
+        notificationsLogic.createNotification(newNotification);
+        notificationsLogic.getActiveNotificationsSnapshot(NotificationTargetUser.STUDENT);
+
+        verify(notificationsDb, times(2)).getActiveNotificationsByTargetUser(NotificationTargetUser.STUDENT);
+
+        ______TS("snapshot is reloaded after notifications are marked as shown");
+
+        when(notificationsDb.getNotification(notification.getId())).thenReturn(notification);
+        notificationsLogic.markNotificationsShown(List.of(notification.getId()));
+        notificationsLogic.getActiveNotificationsSnapshot(NotificationTargetUser.STUDENT);
+
+        assertTrue(notification.isShown());
+        verify(notificationsDb, times(3)).getActiveNotificationsByTargetUser(NotificationTargetUser.STUDENT);
+
+        ______TS("snapshot loaded before the change is committed is reloaded after the commit");
+
+        actionsAfterCommit.forEach(Runnable::run);
+        notificationsLogic.getActiveNotificationsSnapshot(NotificationTargetUser.STUDENT);
+
+        verify(notificationsDb, times(4)).getActiveNotificationsByTargetUser(NotificationTargetUser.STUDENT);
+    }
+
+    @Test
+    public void testGetActiveNotificationsSnapshot_notificationExpired_shouldReload() {
+        Notification notification = getTypicalNotificationWithId();
+        notification.setEndTime(Instant.now().minusSeconds(1));
+        when(notificationsDb.getActiveNotificationsByTargetUser(NotificationTargetUser.INSTRUCTOR))
+                .thenReturn(List.of(notification));
+
+        notificationsLogic.getActiveNotificationsSnapshot(NotificationTargetUser.INSTRUCTOR);
+        notificationsLogic.getActiveNotificationsSnapshot(NotificationTargetUser.INSTRUCTOR);
+
+        verify(notificationsDb, times(2)).getActiveNotificationsByTargetUser(NotificationTargetUser.INSTRUCTOR);
+    }
 }
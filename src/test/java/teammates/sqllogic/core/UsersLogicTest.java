@@ -1,6 +1,7 @@
 package teammates.sqllogic.core;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -11,6 +12,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -18,6 +21,7 @@ import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Const;
 import teammates.common.util.Const.InstructorPermissions;
+import teammates.common.util.HibernateUtil;
 import teammates.storage.sqlapi.UsersDb;
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.Course;
@@ -44,8 +48,12 @@ public class UsersLogicTest extends BaseTestCase {
 
     private Course course;
 
+    private MockedStatic<HibernateUtil> mockHibernateUtil;
+
     @BeforeMethod
     public void setUpMethod() {
+        // the cached roles of users are evicted again after the transaction commits
+        mockHibernateUtil = mockStatic(HibernateUtil.class);
         usersDb = mock(UsersDb.class);
         accountsLogic = mock(AccountsLogic.class);
         FeedbackResponsesLogic feedbackResponsesLogic = mock(FeedbackResponsesLogic.class);
@@ -63,6 +71,11 @@ public class UsersLogicTest extends BaseTestCase {
         student.setAccount(account);
     }
 
+    @AfterMethod
+    public void tearDownMethod() {
+        mockHibernateUtil.close();
+    }
+
     @Test
     public void testResetInstructorGoogleId_instructorExistsWithEmptyUsersListFromGoogleId_success()
             throws EntityDoesNotExistException {
@@ -20,6 +20,7 @@ import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.JsonUtils;
+import teammates.logic.api.MockDualStoreReader;
 import teammates.logic.api.MockEmailSender;
 import teammates.logic.api.MockLogsProcessor;
 import teammates.logic.api.MockRecaptchaVerifier;
@@ -58,6 +59,7 @@ public abstract class BaseActionTest<T extends Action> extends BaseTestCase {
     Logic mockLogic = mock(Logic.class);
     teammates.logic.api.Logic mockDatastoreLogic = mock(teammates.logic.api.Logic.class);
     MockTaskQueuer mockTaskQueuer = new MockTaskQueuer();
+    MockDualStoreReader mockDualStoreReader = new MockDualStoreReader();
     MockEmailSender mockEmailSender = new MockEmailSender();
     MockLogsProcessor mockLogsProcessor = new MockLogsProcessor();
     MockUserProvision mockUserProvision = new MockUserProvision();
@@ -106,6 +108,7 @@ public abstract class BaseActionTest<T extends Action> extends BaseTestCase {
             action.setLogic(mockLogic);
             action.setLogic(mockDatastoreLogic);
             action.setTaskQueuer(mockTaskQueuer);
+            action.setDualStoreReader(mockDualStoreReader);
             action.setEmailSender(mockEmailSender);
             action.setLogsProcessor(mockLogsProcessor);
             action.setUserProvision(mockUserProvision);
@@ -1,13 +1,18 @@
 package teammates.test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletResponse;
 
@@ -25,6 +30,8 @@ public class MockHttpServletResponse implements HttpServletResponse {
     private int statusCode = HttpStatus.SC_OK;
     private String redirectUrl;
     private List<Cookie> cookies = new ArrayList<>();
+    private final Map<String, String> headers = new HashMap<>();
+    private final ByteArrayOutputStream outputContent = new ByteArrayOutputStream();
 
     @Override
     public void addCookie(Cookie cookie) {
@@ -33,7 +40,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public boolean containsHeader(String name) {
-        return false;
+        return headers.containsKey(name);
     }
 
     @Override
@@ -87,7 +94,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public void setHeader(String name, String value) {
-        // not used
+        headers.put(name, value);
     }
 
     @Override
@@ -122,7 +129,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public String getHeader(String s) {
-        return null;
+        return headers.get(s);
     }
 
     @Override
@@ -132,7 +139,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public Collection<String> getHeaderNames() {
-        return Collections.emptyList();
+        return headers.keySet();
     }
 
     @Override
@@ -147,7 +154,29 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public ServletOutputStream getOutputStream() {
-        return null;
+        return new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                outputContent.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                // not used
+            }
+        };
+    }
+
+    /**
+     * Returns the content written to the output stream of the response.
+     */
+    public String getOutputContent() {
+        return outputContent.toString(StandardCharsets.UTF_8);
     }
 
     @Override
@@ -0,0 +1,59 @@
+package teammates.ui.servlets;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.testng.annotations.Test;
+
+import teammates.common.util.Config;
+import teammates.common.util.Const;
+import teammates.test.BaseTestCase;
+import teammates.test.MockHttpServletRequest;
+import teammates.test.MockHttpServletResponse;
+
+/**
+ * SUT: {@link MetricsServlet}.
+ */
+public class MetricsServletTest extends BaseTestCase {
+
+    private static final MetricsServlet SERVLET = new MetricsServlet();
+
+    private MockHttpServletResponse send(String method, String requestUrl, boolean hasBackdoorKey) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, requestUrl);
+        if (hasBackdoorKey) {
+            request.addHeader(Const.HeaderNames.BACKDOOR_KEY, Config.BACKDOOR_KEY);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        SERVLET.service(request, response);
+        return response;
+    }
+
+    @Test
+    public void testService() throws Exception {
+        ______TS("Failure case: no backdoor key nor admin login");
+
+        assertEquals(HttpStatus.SC_FORBIDDEN,
+                send(HttpGet.METHOD_NAME, MetricsServlet.REQUESTS_URI, false).getStatus());
+        assertEquals(HttpStatus.SC_FORBIDDEN,
+                send(HttpGet.METHOD_NAME, MetricsServlet.USER_ROLES_URI, false).getStatus());
+        assertEquals(HttpStatus.SC_FORBIDDEN,
+                send(HttpDelete.METHOD_NAME, MetricsServlet.REQUESTS_URI, false).getStatus());
+
+        ______TS("Typical case: backdoor key");
+
+        assertEquals(HttpStatus.SC_OK,
+                send(HttpGet.METHOD_NAME, MetricsServlet.REQUESTS_URI, true).getStatus());
+        assertEquals(HttpStatus.SC_OK,
+                send(HttpGet.METHOD_NAME, MetricsServlet.USER_ROLES_URI, true).getStatus());
+        assertEquals(HttpStatus.SC_NO_CONTENT,
+                send(HttpDelete.METHOD_NAME, MetricsServlet.REQUESTS_URI, true).getStatus());
+
+        ______TS("Failure case: unknown metrics");
+
+        assertEquals(HttpStatus.SC_NOT_FOUND,
+                send(HttpGet.METHOD_NAME, MetricsServlet.URI_PREFIX + "/unknown", true).getStatus());
+        assertEquals(HttpStatus.SC_NOT_FOUND,
+                send(HttpDelete.METHOD_NAME, MetricsServlet.USER_ROLES_URI, true).getStatus());
+    }
+
+}
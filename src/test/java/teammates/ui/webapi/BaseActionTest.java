@@ -26,6 +26,7 @@ import teammates.common.util.EmailWrapper;
 import teammates.common.util.JsonUtils;
 import teammates.logic.api.LogicExtension;
 import teammates.logic.api.MockAuthProxy;
+import teammates.logic.api.MockDualStoreReader;
 import teammates.logic.api.MockEmailSender;
 import teammates.logic.api.MockLogsProcessor;
 import teammates.logic.api.MockRecaptchaVerifier;
@@ -53,6 +54,7 @@ public abstract class BaseActionTest<T extends Action> extends BaseTestCaseWithL
     DataBundle typicalBundle = getTypicalDataBundle();
     LogicExtension logic = new LogicExtension();
     MockTaskQueuer mockTaskQueuer = new MockTaskQueuer();
+    MockDualStoreReader mockDualStoreReader = new MockDualStoreReader();
     MockEmailSender mockEmailSender = new MockEmailSender();
     MockLogsProcessor mockLogsProcessor = new MockLogsProcessor();
     MockUserProvision mockUserProvision = new MockUserProvision();
@@ -99,6 +101,7 @@ public abstract class BaseActionTest<T extends Action> extends BaseTestCaseWithL
             @SuppressWarnings("unchecked")
             T action = (T) ActionFactory.getAction(req, getRequestMethod());
             action.setTaskQueuer(mockTaskQueuer);
+            action.setDualStoreReader(mockDualStoreReader);
             action.setEmailSender(mockEmailSender);
             action.setLogsProcessor(mockLogsProcessor);
             action.setUserProvision(mockUserProvision);
@@ -11,11 +11,9 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.TimeHelperExtension;
 import teammates.test.ThreadHelper;
-import teammates.ui.request.SendEmailRequest;
 
 /**
  * SUT: {@link FeedbackSessionClosingRemindersAction}.
@@ -114,13 +112,10 @@ public class FeedbackSessionClosingRemindersActionTest
 
         // 5 students, 5 instructors, and 3 co-owner instructors in course1
         // 3 students and 2 instructors in session have deadline extensions and should not receive email
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 8);
+        assertEquals(8, mockTaskQueuer.getEmailsScheduled().size());
 
         String courseName = logic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : mockTaskQueuer.getEmailsScheduled()) {
             String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
                     + String.format(EmailType.FEEDBACK_CLOSING.getSubject(),
                     courseName, session1.getFeedbackSessionName());
@@ -213,12 +208,9 @@ public class FeedbackSessionClosingRemindersActionTest
         // 2 students, 1 instructor with valid deadline extensions within time period
         // 1 student in session with reminders disabled
         // 1 student with outdated deadline, 1 student with deleted deadline
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
+        assertEquals(3, mockTaskQueuer.getEmailsScheduled().size());
 
-        tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (var task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : mockTaskQueuer.getEmailsScheduled()) {
             String expectedSubjectSession1 = String.format(EmailType.FEEDBACK_CLOSING.getSubject(),
                     courseName, session1.getFeedbackSessionName());
             String expectedSubjectSession3 = String.format(EmailType.FEEDBACK_CLOSING.getSubject(),
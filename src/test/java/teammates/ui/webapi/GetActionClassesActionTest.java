@@ -70,6 +70,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 FeedbackSessionRemindParticularUsersEmailWorkerAction.class,
                 GetFeedbackResponsesAction.class,
                 SubmitFeedbackResponsesAction.class,
+                SubmitFeedbackSessionResponsesAction.class,
                 FeedbackSessionPublishedEmailWorkerAction.class,
                 FeedbackSessionClosedRemindersAction.class,
                 SendErrorReportAction.class,
@@ -107,7 +108,9 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 GetFeedbackQuestionRecipientsAction.class,
                 RemindFeedbackSessionSubmissionAction.class,
                 FeedbackSessionUnpublishedEmailWorkerAction.class,
+                FeedbackSessionReminderEmailsChunkWorkerAction.class,
                 SendEmailWorkerAction.class,
+                SendEmailsWorkerAction.class,
                 GetInstructorsAction.class,
                 PutDataBundleDocumentsAction.class,
                 FeedbackSessionResendPublishedEmailWorkerAction.class,
@@ -125,6 +128,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 UpdateFeedbackQuestionAction.class,
                 InstructorSearchIndexingWorkerAction.class,
                 StudentSearchIndexingWorkerAction.class,
+                StudentsSearchIndexingWorkerAction.class,
                 AccountRequestSearchIndexingWorkerAction.class,
                 SearchAccountRequestsAction.class,
                 ResetAccountRequestAction.class,
@@ -199,6 +199,45 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
         verifyHttpParameterFailure(submissionParams);
     }
 
+    @Test
+    public void testExecute_statisticsOnly_shouldReturnStatisticsWithoutResponses() {
+        InstructorAttributes instructorAttributes = typicalBundle.instructors.get("instructor1OfCourse1");
+        loginAsInstructor(instructorAttributes.getGoogleId());
+        FeedbackSessionAttributes feedbackSession = typicalBundle.feedbackSessions.get("session1InCourse1");
+
+        ______TS("typical: instructor gets the statistics of the questions of his/her course");
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, feedbackSession.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, feedbackSession.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_STATISTICS_ONLY, "true",
+        };
+
+        GetSessionResultsAction a = getAction(submissionParams);
+        JsonResult r = getJsonResult(a);
+
+        SessionResultsData output = (SessionResultsData) r.getOutput();
+        SessionResultsData expectedResults = SessionResultsData.initForStatistics(
+                logic.getSessionResultsForCourse(feedbackSession.getFeedbackSessionName(),
+                        feedbackSession.getCourseId(), instructorAttributes.getEmail(),
+                        null, null, FeedbackResultFetchType.BOTH));
+
+        assertFalse(output.getQuestions().isEmpty());
+        assertTrue(isSessionResultsDataEqual(expectedResults, output));
+        output.getQuestions().forEach(question -> assertTrue(question.getAllResponses().isEmpty()));
+
+        ______TS("failure: statistics only results for intent other than full detail");
+
+        submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, feedbackSession.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, feedbackSession.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.INSTRUCTOR_RESULT.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_STATISTICS_ONLY, "true",
+        };
+        verifyHttpParameterFailure(submissionParams);
+    }
+
     private boolean isSessionResultsDataEqual(SessionResultsData self, SessionResultsData other) {
         List<SessionResultsData.QuestionOutput> thisQuestions = self.getQuestions();
         List<SessionResultsData.QuestionOutput> otherQuestions = other.getQuestions();
@@ -5,6 +5,7 @@ import java.util.List;
 
 import javax.servlet.http.Cookie;
 
+import org.apache.http.HttpHeaders;
 import org.testng.annotations.Test;
 
 import teammates.test.BaseTestCase;
@@ -30,6 +31,7 @@ public class JsonResultTest extends BaseTestCase {
         MockHttpServletResponse resp = new MockHttpServletResponse();
         result.send(resp);
         assertEquals(0, resp.getCookies().size());
+        assertTrue(resp.getOutputContent().contains("\"message\":\"output message\""));
 
         ______TS("json result with output message and cookies");
 
@@ -44,5 +46,18 @@ public class JsonResultTest extends BaseTestCase {
         MockHttpServletResponse respWithCookie = new MockHttpServletResponse();
         result.send(respWithCookie);
         assertEquals(1, respWithCookie.getCookies().size());
+        assertNull(respWithCookie.getHeader(HttpHeaders.ETAG));
+
+        ______TS("json result with output message and entity tag");
+
+        result = new JsonResult(new MessageOutput("output message"), "\"tag\"");
+
+        assertEquals("\"tag\"", result.getEntityTag());
+
+        MockHttpServletResponse respWithEntityTag = new MockHttpServletResponse();
+        result.send(respWithEntityTag);
+        assertEquals("\"tag\"", respWithEntityTag.getHeader(HttpHeaders.ETAG));
+        assertEquals("private, no-cache", respWithEntityTag.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertTrue(respWithEntityTag.getOutputContent().contains("\"message\":\"output message\""));
     }
 }
@@ -0,0 +1,48 @@
+package teammates.ui.webapi;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+import teammates.test.MockHttpServletResponse;
+
+/**
+ * SUT: {@link NotModifiedResult}.
+ */
+public class NotModifiedResultTest extends BaseTestCase {
+
+    @Test
+    public void testSendResponse() {
+        NotModifiedResult result = new NotModifiedResult("\"tag\"");
+
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        result.send(resp);
+
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, resp.getStatus());
+        assertEquals("\"tag\"", resp.getHeader(HttpHeaders.ETAG));
+        assertEquals("", resp.getOutputContent());
+    }
+
+    @Test
+    public void testIsMatching() {
+        ______TS("no If-None-Match header");
+
+        assertFalse(NotModifiedResult.isMatching(null, "\"tag\""));
+
+        ______TS("single tag");
+
+        assertTrue(NotModifiedResult.isMatching("\"tag\"", "\"tag\""));
+        assertFalse(NotModifiedResult.isMatching("\"other\"", "\"tag\""));
+
+        ______TS("list of tags and weak tags");
+
+        assertTrue(NotModifiedResult.isMatching("\"other\", \"tag\"", "\"tag\""));
+        assertTrue(NotModifiedResult.isMatching("W/\"tag\"", "\"tag\""));
+
+        ______TS("wildcard");
+
+        assertTrue(NotModifiedResult.isMatching("*", "\"tag\""));
+    }
+
+}
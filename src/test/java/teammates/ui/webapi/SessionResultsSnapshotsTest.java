@@ -0,0 +1,84 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.util.JsonUtils;
+import teammates.test.BaseTestCase;
+import teammates.ui.output.SessionResultsData;
+
+/**
+ * SUT: {@link SessionResultsSnapshots}.
+ */
+public class SessionResultsSnapshotsTest extends BaseTestCase {
+
+    private final AtomicInteger numBuilds = new AtomicInteger();
+
+    private final Supplier<SessionResultsData> resultsBuilder = () -> {
+        numBuilds.incrementAndGet();
+        return SessionResultsData.initForInstructor(new SqlSessionResultsBundle(new ArrayList<>(), new HashSet<>(),
+                new HashSet<>(), new ArrayList<>(), new ArrayList<>(), new HashMap<>(), new HashMap<>(),
+                new HashMap<>(), new HashMap<>(), new SqlCourseRoster(new ArrayList<>(), new ArrayList<>())));
+    };
+
+    @Test
+    public void testGetOrBuild() {
+        // room for two snapshots of the results built
+        long snapshotSize = JsonUtils.toCompactJson(resultsBuilder.get()).length();
+        SessionResultsSnapshots snapshots = new SessionResultsSnapshots(2 * snapshotSize);
+        numBuilds.set(0);
+
+        ______TS("results are built once per version");
+
+        SessionResultsData first = snapshots.getOrBuild("session1|viewer1", "v1", resultsBuilder);
+        SessionResultsData second = snapshots.getOrBuild("session1|viewer1", "v1", resultsBuilder);
+        assertEquals(1, numBuilds.get());
+        assertNotSame(first, second);
+
+        ______TS("results are rebuilt when the version changes");
+
+        snapshots.getOrBuild("session1|viewer1", "v2", resultsBuilder);
+        assertEquals(2, numBuilds.get());
+        snapshots.getOrBuild("session1|viewer1", "v2", resultsBuilder);
+        assertEquals(2, numBuilds.get());
+
+        ______TS("results without version are always built");
+
+        snapshots.getOrBuild("session1|viewer2", null, resultsBuilder);
+        snapshots.getOrBuild("session1|viewer2", null, resultsBuilder);
+        assertEquals(4, numBuilds.get());
+        assertEquals(1, snapshots.size());
+
+        ______TS("least recently used snapshots are discarded when their total size exceeds the maximum");
+
+        snapshots.getOrBuild("session1|viewer3", "v1", resultsBuilder);
+        snapshots.getOrBuild("session1|viewer1", "v2", resultsBuilder);
+        snapshots.getOrBuild("session1|viewer4", "v1", resultsBuilder);
+        assertEquals(2, snapshots.size());
+        assertEquals(6, numBuilds.get());
+
+        snapshots.getOrBuild("session1|viewer1", "v2", resultsBuilder);
+        assertEquals(6, numBuilds.get());
+        snapshots.getOrBuild("session1|viewer3", "v1", resultsBuilder);
+        assertEquals(7, numBuilds.get());
+    }
+
+    @Test
+    public void testGetOrBuild_disabled_alwaysBuilds() {
+        SessionResultsSnapshots snapshots = new SessionResultsSnapshots(0);
+        numBuilds.set(0);
+
+        snapshots.getOrBuild("session1|viewer1", "v1", resultsBuilder);
+        snapshots.getOrBuild("session1|viewer1", "v1", resultsBuilder);
+        assertEquals(2, numBuilds.get());
+        assertEquals(0, snapshots.size());
+    }
+
+}
@@ -0,0 +1,245 @@
+package teammates.ui.webapi;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang.StringEscapeUtils;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
+import teammates.common.util.SanitizationHelper;
+import teammates.common.util.TimeHelper;
+import teammates.ui.output.FeedbackResponsesData;
+import teammates.ui.request.FeedbackResponsesRequest;
+import teammates.ui.request.FeedbackSessionResponsesRequest;
+import teammates.ui.request.Intent;
+
+/**
+ * SUT: {@link SubmitFeedbackSessionResponsesAction}.
+ */
+public class SubmitFeedbackSessionResponsesActionTest extends BaseActionTest<SubmitFeedbackSessionResponsesAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.SESSION_RESPONSES;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return PUT;
+    }
+
+    private FeedbackQuestionAttributes getQuestion(FeedbackSessionAttributes session, int questionNumber) {
+        return logic.getFeedbackQuestion(session.getFeedbackSessionName(), session.getCourseId(), questionNumber);
+    }
+
+    private String[] buildSubmissionParams(FeedbackSessionAttributes session, Intent intent) {
+        return new String[] {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.INTENT, intent.toString(),
+        };
+    }
+
+    private FeedbackResponsesRequest buildResponsesRequest(String... recipients) {
+        List<FeedbackResponsesRequest.FeedbackResponseRequest> responses = new ArrayList<>();
+        for (String recipient : recipients) {
+            responses.add(new FeedbackResponsesRequest.FeedbackResponseRequest(
+                    recipient, new FeedbackTextResponseDetails("Response for " + recipient)));
+        }
+
+        FeedbackResponsesRequest responsesRequest = new FeedbackResponsesRequest();
+        responsesRequest.setResponses(responses);
+        return responsesRequest;
+    }
+
+    private void setEndTime(FeedbackSessionAttributes session, int days)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Instant endTime = TimeHelper.getInstantDaysOffsetFromNow(days);
+
+        logic.updateFeedbackSession(
+                FeedbackSessionAttributes.updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
+                        .withEndTime(endTime)
+                        .build());
+    }
+
+    private void verifyResponseInDatabase(FeedbackQuestionAttributes question, String giver, String recipient) {
+        FeedbackResponseAttributes response = logic.getFeedbackResponse(question.getId(), giver, recipient);
+
+        assertNotNull(response);
+        assertEquals(
+                StringEscapeUtils.unescapeHtml(SanitizationHelper.sanitizeForRichText("Response for " + recipient)),
+                StringEscapeUtils.unescapeHtml(response.getResponseDetails().getAnswerString()));
+    }
+
+    @Override
+    @Test
+    protected void testExecute() {
+        // See each independent test case.
+    }
+
+    @Test
+    public void testExecute_studentSubmissionToAllQuestions_shouldPass() {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session2InCourse1");
+        StudentAttributes giver = typicalBundle.students.get("student4InCourse1");
+        StudentAttributes teammate = typicalBundle.students.get("student3InCourse1");
+        StudentAttributes previousRecipient = typicalBundle.students.get("student2InCourse1");
+        String otherTeam = typicalBundle.students.get("student5InCourse1").getTeam();
+        loginAsStudent(giver.getGoogleId());
+
+        FeedbackQuestionAttributes teamQuestion = getQuestion(session, 1);
+        FeedbackQuestionAttributes teamMembersQuestion = getQuestion(session, 2);
+
+        FeedbackSessionResponsesRequest requestBody = new FeedbackSessionResponsesRequest();
+        requestBody.setQuestionResponses(Map.of(
+                teamQuestion.getId(), buildResponsesRequest(otherTeam),
+                teamMembersQuestion.getId(), buildResponsesRequest(teammate.getEmail())));
+
+        SubmitFeedbackSessionResponsesAction action =
+                getAction(requestBody, buildSubmissionParams(session, Intent.STUDENT_SUBMISSION));
+        FeedbackResponsesData output = (FeedbackResponsesData) getJsonResult(action).getOutput();
+
+        assertEquals(2, output.getResponses().size());
+
+        ______TS("existing response of the team is updated");
+
+        verifyResponseInDatabase(teamQuestion, giver.getTeam(), otherTeam);
+
+        ______TS("new response is created");
+
+        verifyResponseInDatabase(teamMembersQuestion, giver.getEmail(), teammate.getEmail());
+
+        ______TS("existing response to a recipient not in the request is deleted");
+
+        assertNull(logic.getFeedbackResponse(teamMembersQuestion.getId(), giver.getEmail(), previousRecipient.getEmail()));
+    }
+
+    @Test
+    public void testExecute_instructorSubmission_shouldPass() {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session2InCourse1");
+        InstructorAttributes giver = typicalBundle.instructors.get("instructor1OfCourse1");
+        String team1 = typicalBundle.students.get("student2InCourse1").getTeam();
+        String team2 = typicalBundle.students.get("student5InCourse1").getTeam();
+        loginAsInstructor(giver.getGoogleId());
+
+        FeedbackQuestionAttributes question = getQuestion(session, 3);
+
+        FeedbackSessionResponsesRequest requestBody = new FeedbackSessionResponsesRequest();
+        requestBody.setQuestionResponses(Map.of(question.getId(), buildResponsesRequest(team1, team2)));
+
+        SubmitFeedbackSessionResponsesAction action =
+                getAction(requestBody, buildSubmissionParams(session, Intent.INSTRUCTOR_SUBMISSION));
+        FeedbackResponsesData output = (FeedbackResponsesData) getJsonResult(action).getOutput();
+
+        assertEquals(2, output.getResponses().size());
+        verifyResponseInDatabase(question, giver.getEmail(), team1);
+        verifyResponseInDatabase(question, giver.getEmail(), team2);
+    }
+
+    @Test
+    public void testExecute_invalidQuestion_shouldFailWithoutWritingAnyResponse() {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session2InCourse1");
+        StudentAttributes giver = typicalBundle.students.get("student4InCourse1");
+        StudentAttributes teammate = typicalBundle.students.get("student3InCourse1");
+        loginAsStudent(giver.getGoogleId());
+
+        FeedbackQuestionAttributes teamMembersQuestion = getQuestion(session, 2);
+        FeedbackQuestionAttributes instructorQuestion = getQuestion(session, 3);
+        String otherTeam = typicalBundle.students.get("student5InCourse1").getTeam();
+
+        ______TS("question not answerable by students");
+
+        FeedbackSessionResponsesRequest requestBody = new FeedbackSessionResponsesRequest();
+        requestBody.getQuestionResponses().put(teamMembersQuestion.getId(), buildResponsesRequest(teammate.getEmail()));
+        requestBody.getQuestionResponses().put(instructorQuestion.getId(), buildResponsesRequest(otherTeam));
+
+        verifyInvalidOperation(requestBody, buildSubmissionParams(session, Intent.STUDENT_SUBMISSION));
+        assertNull(logic.getFeedbackResponse(teamMembersQuestion.getId(), giver.getEmail(), teammate.getEmail()));
+
+        ______TS("question not in the session");
+
+        FeedbackQuestionAttributes otherSessionQuestion = logic.getFeedbackQuestion(
+                "First feedback session", session.getCourseId(), 1);
+        requestBody = new FeedbackSessionResponsesRequest();
+        requestBody.getQuestionResponses().put(teamMembersQuestion.getId(), buildResponsesRequest(teammate.getEmail()));
+        requestBody.getQuestionResponses().put(otherSessionQuestion.getId(), buildResponsesRequest(giver.getEmail()));
+
+        verifyInvalidOperation(requestBody, buildSubmissionParams(session, Intent.STUDENT_SUBMISSION));
+        assertNull(logic.getFeedbackResponse(teamMembersQuestion.getId(), giver.getEmail(), teammate.getEmail()));
+
+        ______TS("invalid recipient of a question");
+
+        requestBody = new FeedbackSessionResponsesRequest();
+        requestBody.getQuestionResponses().put(teamMembersQuestion.getId(), buildResponsesRequest(teammate.getEmail()));
+        requestBody.getQuestionResponses().put(getQuestion(session, 1).getId(), buildResponsesRequest(giver.getTeam()));
+
+        verifyInvalidOperation(requestBody, buildSubmissionParams(session, Intent.STUDENT_SUBMISSION));
+        assertNull(logic.getFeedbackResponse(teamMembersQuestion.getId(), giver.getEmail(), teammate.getEmail()));
+    }
+
+    @Test
+    public void testExecute_invalidIntent_shouldFail() {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session2InCourse1");
+        loginAsInstructor(typicalBundle.instructors.get("instructor1OfCourse1").getGoogleId());
+
+        verifyHttpParameterFailure(new FeedbackSessionResponsesRequest(),
+                buildSubmissionParams(session, Intent.STUDENT_RESULT));
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session2InCourse1");
+        // student without deadline extension for the session
+        StudentAttributes student = typicalBundle.students.get("student3InCourse1");
+        InstructorAttributes instructor = typicalBundle.instructors.get("instructor1OfCourse1");
+
+        ______TS("session not open");
+
+        setEndTime(session, -1);
+        loginAsStudent(student.getGoogleId());
+        verifyCannotAccess(buildSubmissionParams(session, Intent.STUDENT_SUBMISSION));
+
+        setEndTime(session, 1);
+
+        ______TS("student of the course");
+
+        verifyCanAccess(buildSubmissionParams(session, Intent.STUDENT_SUBMISSION));
+
+        ______TS("instructor of the course");
+
+        loginAsInstructor(instructor.getGoogleId());
+        verifyCanAccess(buildSubmissionParams(session, Intent.INSTRUCTOR_SUBMISSION));
+
+        ______TS("instructor submitting as student");
+
+        verifyCannotAccess(buildSubmissionParams(session, Intent.STUDENT_SUBMISSION));
+
+        ______TS("logged out");
+
+        logoutUser();
+        verifyCannotAccess(buildSubmissionParams(session, Intent.STUDENT_SUBMISSION));
+
+        ______TS("invalid intent");
+
+        loginAsStudent(student.getGoogleId());
+        verifyHttpParameterFailureAcl(buildSubmissionParams(session, Intent.STUDENT_RESULT));
+
+        ______TS("session does not exist");
+
+        verifyEntityNotFoundAcl(Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, "non-existent session",
+                Const.ParamsNames.INTENT, Intent.STUDENT_SUBMISSION.toString());
+    }
+
+}
@@ -2,7 +2,6 @@ package teammates.ui.webapi;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -14,7 +13,6 @@ import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.TimeHelperExtension;
 import teammates.ui.output.FeedbackSessionData;
@@ -22,7 +20,6 @@ import teammates.ui.output.ResponseVisibleSetting;
 import teammates.ui.output.SessionVisibleSetting;
 import teammates.ui.request.FeedbackSessionUpdateRequest;
 import teammates.ui.request.InvalidHttpRequestBodyException;
-import teammates.ui.request.SendEmailRequest;
 
 /**
  * SUT: {@link UpdateFeedbackSessionAction}.
@@ -260,13 +257,10 @@ public class UpdateFeedbackSessionActionTest extends BaseActionTest<UpdateFeedba
                 session.getFeedbackSessionName(), studentCEmailAddress, false));
 
         // Verify correct emails sent
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
+        assertEquals(3, mockTaskQueuer.getEmailsScheduled().size());
 
         CourseAttributes course = logic.getCourse(session.getCourseId());
-        for (var task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : mockTaskQueuer.getEmailsScheduled()) {
             String userEmail = email.getRecipient();
             String expectedSubject = "";
             String oldDeadline = "";
@@ -470,13 +464,10 @@ public class UpdateFeedbackSessionActionTest extends BaseActionTest<UpdateFeedba
                 session.getCourseId(), session.getFeedbackSessionName(), instructorCEmailAddress, true));
 
         // Verify correct emails sent
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
+        assertEquals(3, mockTaskQueuer.getEmailsScheduled().size());
 
         CourseAttributes course = logic.getCourse(session.getCourseId());
-        for (var task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : mockTaskQueuer.getEmailsScheduled()) {
             String userEmail = email.getRecipient();
             String expectedSubject = "";
             String oldDeadline = "";